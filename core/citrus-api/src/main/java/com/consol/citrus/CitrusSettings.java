@@ -157,6 +157,40 @@ public final class CitrusSettings {
     public static final String LOG_MASK_KEYWORDS_ENV = "CITRUS_LOG_MASK_KEYWORDS";
     public static final String LOG_MASK_KEYWORDS_DEFAULT = "password,secret,secretKey";
 
+    /** Maximum number of compiled dynamic content templates to cache */
+    public static final String TEMPLATE_CACHE_SIZE_PROPERTY = "citrus.template.cache.size";
+    public static final String TEMPLATE_CACHE_SIZE_ENV = "CITRUS_TEMPLATE_CACHE_SIZE";
+    public static final String TEMPLATE_CACHE_SIZE_DEFAULT = "1000";
+
+    /** Maximum number of compiled XPath expressions cached per thread */
+    public static final String XPATH_CACHE_SIZE_PROPERTY = "citrus.xpath.cache.size";
+    public static final String XPATH_CACHE_SIZE_ENV = "CITRUS_XPATH_CACHE_SIZE";
+    public static final String XPATH_CACHE_SIZE_DEFAULT = "500";
+
+    /** Minimum received XML payload length to use streaming XML tree validation, negative value disables streaming */
+    public static final String XML_STREAMING_VALIDATION_THRESHOLD_PROPERTY = "citrus.xml.streaming.validation.threshold";
+    public static final String XML_STREAMING_VALIDATION_THRESHOLD_ENV = "CITRUS_XML_STREAMING_VALIDATION_THRESHOLD";
+    public static final String XML_STREAMING_VALIDATION_THRESHOLD_DEFAULT = "1048576";
+
+    /** Compile XML schema validators when schema repositories are initialized */
+    public static final String XML_SCHEMA_VALIDATOR_WARMUP_PROPERTY = "citrus.xml.schema.validator.warmup";
+    public static final String XML_SCHEMA_VALIDATOR_WARMUP_ENV = "CITRUS_XML_SCHEMA_VALIDATOR_WARMUP";
+    public static final String XML_SCHEMA_VALIDATOR_WARMUP_DEFAULT = "true";
+
+    /** Maximum number of compiled XML schema validators kept in the validator cache */
+    public static final String XML_SCHEMA_VALIDATOR_CACHE_SIZE_PROPERTY = "citrus.xml.schema.validator.cache.size";
+    public static final String XML_SCHEMA_VALIDATOR_CACHE_SIZE_ENV = "CITRUS_XML_SCHEMA_VALIDATOR_CACHE_SIZE";
+    public static final String XML_SCHEMA_VALIDATOR_CACHE_SIZE_DEFAULT = "32";
+
+    /** Task executor used to run parallel and async test actions */
+    public static final String TASK_EXECUTOR_MODE_PROPERTY = "citrus.task.executor.mode";
+    public static final String TASK_EXECUTOR_MODE_ENV = "CITRUS_TASK_EXECUTOR_MODE";
+    public static final String TASK_EXECUTOR_MODE_DEFAULT = "cached";
+
+    public static final String TASK_EXECUTOR_MAX_PARALLELISM_PROPERTY = "citrus.task.executor.max.parallelism";
+    public static final String TASK_EXECUTOR_MAX_PARALLELISM_ENV = "CITRUS_TASK_EXECUTOR_MAX_PARALLELISM";
+    public static final String TASK_EXECUTOR_MAX_PARALLELISM_DEFAULT = "0";
+
     /**
      * Gets set of file name patterns for Groovy test files.
      * @return
@@ -228,6 +262,69 @@ public final class CitrusSettings {
                     .collect(Collectors.toSet());
     }
 
+    /**
+     * Gets the maximum number of compiled dynamic content templates to cache.
+     * @return
+     */
+    public static int getTemplateCacheSize() {
+        return Integer.parseInt(System.getProperty(TEMPLATE_CACHE_SIZE_PROPERTY,  System.getenv(TEMPLATE_CACHE_SIZE_ENV) != null ?
+                System.getenv(TEMPLATE_CACHE_SIZE_ENV) : TEMPLATE_CACHE_SIZE_DEFAULT));
+    }
+
+    /**
+     * Gets the maximum number of compiled XPath expressions cached per thread.
+     * @return
+     */
+    public static int getXPathCacheSize() {
+        return Integer.parseInt(System.getProperty(XPATH_CACHE_SIZE_PROPERTY,  System.getenv(XPATH_CACHE_SIZE_ENV) != null ?
+                System.getenv(XPATH_CACHE_SIZE_ENV) : XPATH_CACHE_SIZE_DEFAULT));
+    }
+
+    /**
+     * Gets the minimum received XML payload length that enables streaming XML tree validation.
+     * @return
+     */
+    public static int getXmlStreamingValidationThreshold() {
+        return Integer.parseInt(System.getProperty(XML_STREAMING_VALIDATION_THRESHOLD_PROPERTY,  System.getenv(XML_STREAMING_VALIDATION_THRESHOLD_ENV) != null ?
+                System.getenv(XML_STREAMING_VALIDATION_THRESHOLD_ENV) : XML_STREAMING_VALIDATION_THRESHOLD_DEFAULT));
+    }
+
+    /**
+     * Gets the XML schema validator warm-up setting.
+     * @return
+     */
+    public static boolean isXmlSchemaValidatorWarmup() {
+        return Boolean.parseBoolean(System.getProperty(XML_SCHEMA_VALIDATOR_WARMUP_PROPERTY,  System.getenv(XML_SCHEMA_VALIDATOR_WARMUP_ENV) != null ?
+                System.getenv(XML_SCHEMA_VALIDATOR_WARMUP_ENV) : XML_SCHEMA_VALIDATOR_WARMUP_DEFAULT));
+    }
+
+    /**
+     * Gets the maximum number of cached XML schema validators.
+     * @return
+     */
+    public static int getXmlSchemaValidatorCacheSize() {
+        return Integer.parseInt(System.getProperty(XML_SCHEMA_VALIDATOR_CACHE_SIZE_PROPERTY,  System.getenv(XML_SCHEMA_VALIDATOR_CACHE_SIZE_ENV) != null ?
+                System.getenv(XML_SCHEMA_VALIDATOR_CACHE_SIZE_ENV) : XML_SCHEMA_VALIDATOR_CACHE_SIZE_DEFAULT));
+    }
+
+    /**
+     * Gets the task executor mode.
+     * @return
+     */
+    public static String getTaskExecutorMode() {
+        return System.getProperty(TASK_EXECUTOR_MODE_PROPERTY,  System.getenv(TASK_EXECUTOR_MODE_ENV) != null ?
+                System.getenv(TASK_EXECUTOR_MODE_ENV) : TASK_EXECUTOR_MODE_DEFAULT);
+    }
+
+    /**
+     * Gets the maximum number of tasks running in parallel on the task executor.
+     * @return
+     */
+    public static int getTaskExecutorMaxParallelism() {
+        return Integer.parseInt(System.getProperty(TASK_EXECUTOR_MAX_PARALLELISM_PROPERTY,  System.getenv(TASK_EXECUTOR_MAX_PARALLELISM_ENV) != null ?
+                System.getenv(TASK_EXECUTOR_MAX_PARALLELISM_ENV) : TASK_EXECUTOR_MAX_PARALLELISM_DEFAULT));
+    }
+
     /**
      * Gets the test file name pattern for given type or empty patterns for unknown type.
      * @param type
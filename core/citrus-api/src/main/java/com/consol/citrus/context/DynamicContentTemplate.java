@@ -0,0 +1,462 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.exceptions.NoSuchVariableException;
+import com.consol.citrus.functions.FunctionLibrary;
+import com.consol.citrus.functions.FunctionRegistry;
+import com.consol.citrus.functions.FunctionUtils;
+
+/**
+ * Compiled representation of a string holding variable expressions and function calls. The source string is parsed
+ * once into a list of literal, variable and function segments. Resolving the template against a test context walks
+ * these segments instead of scanning the source string again.
+ *
+ * Compiled templates of source strings holding variable expressions or function calls are cached by source string in
+ * a bounded concurrent cache. When the cache exceeds its size a second chance sweep evicts templates that have not been
+ * used since the previous sweep, so the bound and the eviction order are approximate. Large source strings are not
+ * cached. Resolution results are the same as applying
+ * {@link com.consol.citrus.variable.VariableUtils#replaceVariablesInString(String, TestContext, boolean)} followed by
+ * {@link FunctionUtils#replaceFunctionsInString(String, TestContext, boolean)}. When variables resolve to a string
+ * that contains function calls the function part is delegated to {@link FunctionUtils}.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public final class DynamicContentTemplate {
+
+    /** Maximum number of cached templates */
+    private static final int TEMPLATE_CACHE_SIZE = CitrusSettings.getTemplateCacheSize();
+
+    /** Maximum length of source strings that get cached */
+    private static final int TEMPLATE_CACHE_MAX_SOURCE_LENGTH = 16 * 1024;
+
+    /** Cached templates by source string */
+    private static final Map<String, DynamicContentTemplate> TEMPLATE_CACHE = new ConcurrentHashMap<>();
+
+    /** Guards the eviction sweep so only one thread at a time evicts templates */
+    private static final AtomicBoolean EVICTION_RUNNING = new AtomicBoolean();
+
+    private final String source;
+
+    /** Literal and variable segments */
+    private final List<Segment> segments;
+
+    /** Source holds at least one variable expression */
+    private final boolean variables;
+
+    /** Source may hold function calls as it contains all characters of a function expression */
+    private final boolean functionCandidate;
+
+    /** Function segments computed for the most recently used function registry */
+    private volatile FunctionSegments functions;
+
+    /** Template has been used since the last eviction sweep */
+    private volatile boolean referenced;
+
+    /**
+     * Parses given source string.
+     * @param source
+     */
+    private DynamicContentTemplate(String source) {
+        this.source = source;
+        this.segments = parseVariables(source);
+        this.variables = segments.stream().anyMatch(segment -> segment.dynamic);
+        this.functionCandidate = isFunctionCandidate(source);
+    }
+
+    /**
+     * Gets compiled template for given source string. Uses cached template when available.
+     * @param source
+     * @return
+     */
+    public static DynamicContentTemplate compile(String source) {
+        if (!isCacheable(source)) {
+            return new DynamicContentTemplate(source);
+        }
+
+        DynamicContentTemplate template = TEMPLATE_CACHE.get(source);
+        if (template != null) {
+            template.referenced = true;
+            return template;
+        }
+
+        template = new DynamicContentTemplate(source);
+        template.referenced = true;
+        DynamicContentTemplate cached = TEMPLATE_CACHE.putIfAbsent(source, template);
+        if (cached != null) {
+            cached.referenced = true;
+            return cached;
+        }
+
+        if (TEMPLATE_CACHE.size() > TEMPLATE_CACHE_SIZE) {
+            evictTemplates();
+        }
+
+        return template;
+    }
+
+    /**
+     * Evicts cached templates until the cache is back to its size. Templates used since the previous sweep
+     * get a second chance, they are kept and marked as unused. When all templates have been used the cache
+     * stays above its size until the next sweep.
+     */
+    private static void evictTemplates() {
+        if (!EVICTION_RUNNING.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            Iterator<DynamicContentTemplate> templates = TEMPLATE_CACHE.values().iterator();
+            while (templates.hasNext() && TEMPLATE_CACHE.size() > TEMPLATE_CACHE_SIZE) {
+                DynamicContentTemplate template = templates.next();
+                if (template.referenced) {
+                    template.referenced = false;
+                } else {
+                    templates.remove();
+                }
+            }
+        } finally {
+            EVICTION_RUNNING.set(false);
+        }
+    }
+
+    /**
+     * Checks if compiled template of given source string should be cached. Static text is resolved without
+     * parsing effort and large source strings would bloat the cache.
+     * @param source
+     * @return
+     */
+    private static boolean isCacheable(String source) {
+        return source.length() <= TEMPLATE_CACHE_MAX_SOURCE_LENGTH &&
+                (source.contains(CitrusSettings.VARIABLE_PREFIX) || isFunctionCandidate(source));
+    }
+
+    /**
+     * Removes all cached templates.
+     */
+    public static void clearCache() {
+        TEMPLATE_CACHE.clear();
+    }
+
+    /**
+     * Gets the number of cached templates.
+     * @return
+     */
+    static int getCacheSize() {
+        return TEMPLATE_CACHE.size();
+    }
+
+    /**
+     * Resolves variables and functions in this template with given test context.
+     * @param context
+     * @return
+     */
+    public String resolve(TestContext context) {
+        return resolve(context, false);
+    }
+
+    /**
+     * Resolves variables and functions in this template with given test context. Optionally variable values and
+     * function results get surrounded with single quotes.
+     * @param context
+     * @param enableQuoting
+     * @return
+     */
+    public String resolve(TestContext context, boolean enableQuoting) {
+        if (!variables) {
+            return functionCandidate ? resolveFunctions(context, enableQuoting) : source;
+        }
+
+        StringBuilder result = new StringBuilder(source.length() + 16 * segments.size());
+        for (Segment segment : segments) {
+            if (segment.dynamic) {
+                final String value = context.getVariable(segment.text);
+                if (value == null) {
+                    throw new NoSuchVariableException("Variable: " + segment.text + " could not be found");
+                }
+
+                if (enableQuoting) {
+                    result.append('\'').append(value).append('\'');
+                } else {
+                    result.append(value);
+                }
+            } else {
+                result.append(segment.text);
+            }
+        }
+
+        String resolved = result.toString();
+        if (containsFunctionPrefix(resolved, context.getFunctionRegistry())) {
+            return FunctionUtils.replaceFunctionsInString(resolved, context, enableQuoting);
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Resolves function calls in variable free source string.
+     * @param context
+     * @param enableQuoting
+     * @return
+     */
+    private String resolveFunctions(TestContext context, boolean enableQuoting) {
+        FunctionRegistry functionRegistry = context.getFunctionRegistry();
+        FunctionSegments functionSegments = functions;
+        if (functionSegments == null || !functionSegments.isCompiledFor(functionRegistry)) {
+            functionSegments = new FunctionSegments(source, functionRegistry);
+            functions = functionSegments;
+        }
+
+        if (functionSegments.segments == null) {
+            return FunctionUtils.replaceFunctionsInString(source, context, enableQuoting);
+        }
+
+        if (functionSegments.segments.isEmpty()) {
+            return source;
+        }
+
+        String resolved = resolveFunctionSegments(functionSegments.segments, source.length(), context, enableQuoting);
+
+        // same as FunctionUtils continue with the following function libraries in registry order
+        List<FunctionLibrary> libraries = functionRegistry.getFunctionLibraries();
+        for (int i = functionSegments.libraryIndex + 1; i < libraries.size(); i++) {
+            String prefix = libraries.get(i).getPrefix();
+            if (resolved.contains(prefix)) {
+                resolved = resolveFunctionSegments(parseFunctions(resolved, prefix), resolved.length(), context, enableQuoting);
+            }
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Resolves given literal and function segments.
+     * @param segments
+     * @param length
+     * @param context
+     * @param enableQuoting
+     * @return
+     */
+    private static String resolveFunctionSegments(List<Segment> segments, int length, TestContext context, boolean enableQuoting) {
+        StringBuilder result = new StringBuilder(length);
+        for (Segment segment : segments) {
+            if (segment.dynamic) {
+                final String value = FunctionUtils.resolveFunction(segment.text, context);
+
+                if (enableQuoting) {
+                    result.append('\'').append(value).append('\'');
+                } else {
+                    result.append(value);
+                }
+            } else {
+                result.append(segment.text);
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Checks if given value contains the prefix of any function library in given registry.
+     * @param value
+     * @param functionRegistry
+     * @return
+     */
+    private static boolean containsFunctionPrefix(String value, FunctionRegistry functionRegistry) {
+        for (FunctionLibrary library : functionRegistry.getFunctionLibraries()) {
+            if (value.contains(library.getPrefix())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if given value meets the minimum requirements of holding a function expression
+     * in the form of 'prefix:methodName(arguments)'.
+     * @param value
+     * @return
+     */
+    private static boolean isFunctionCandidate(String value) {
+        return value.indexOf(':') >= 0 && value.indexOf('(') >= 0 && value.indexOf(')') >= 0;
+    }
+
+    /**
+     * Splits given source into literal and variable segments. Uses the same variable expression
+     * detection as {@link com.consol.citrus.variable.VariableUtils}.
+     * @param source
+     * @return
+     */
+    private static List<Segment> parseVariables(String source) {
+        List<Segment> segments = new ArrayList<>();
+
+        int startIndex = 0;
+        int searchIndex;
+        while ((searchIndex = source.indexOf(CitrusSettings.VARIABLE_PREFIX, startIndex)) != -1) {
+            int control = 0;
+            boolean isVarComplete = false;
+            StringBuilder variableName = new StringBuilder();
+
+            int curIndex = searchIndex + CitrusSettings.VARIABLE_PREFIX.length();
+            while (curIndex < source.length() && !isVarComplete) {
+                if (source.startsWith(CitrusSettings.VARIABLE_PREFIX, curIndex)) {
+                    control++;
+                }
+
+                char current = source.charAt(curIndex);
+                if ((!Character.isJavaIdentifierPart(current) && (current == CitrusSettings.VARIABLE_SUFFIX.charAt(0))) || (curIndex + 1 == source.length())) {
+                    if (control == 0) {
+                        isVarComplete = true;
+                    } else {
+                        control--;
+                    }
+                }
+
+                if (!isVarComplete) {
+                    variableName.append(current);
+                }
+                ++curIndex;
+            }
+
+            if (searchIndex > startIndex) {
+                segments.add(new Segment(source.substring(startIndex, searchIndex), false));
+            }
+            segments.add(new Segment(variableName.toString(), true));
+
+            startIndex = curIndex;
+        }
+
+        if (startIndex < source.length()) {
+            segments.add(new Segment(source.substring(startIndex), false));
+        }
+
+        return segments;
+    }
+
+    /**
+     * Splits given source into literal and function segments for the given function library prefix. Uses the same
+     * function expression detection as {@link FunctionUtils}.
+     * @param source
+     * @param prefix
+     * @return
+     */
+    private static List<Segment> parseFunctions(String source, String prefix) {
+        List<Segment> segments = new ArrayList<>();
+
+        int startIndex = 0;
+        int searchIndex;
+        while ((searchIndex = source.indexOf(prefix, startIndex)) != -1) {
+            int control = -1;
+            boolean isFunctionComplete = false;
+
+            int curIndex = searchIndex;
+            while (curIndex < source.length() && !isFunctionComplete) {
+                char current = source.charAt(curIndex);
+                if (current == '(') {
+                    control++;
+                }
+
+                if (current == ')' || curIndex == source.length() - 1) {
+                    if (control == 0) {
+                        isFunctionComplete = true;
+                    } else {
+                        control--;
+                    }
+                }
+
+                curIndex++;
+            }
+
+            if (searchIndex > startIndex) {
+                segments.add(new Segment(source.substring(startIndex, searchIndex), false));
+            }
+            segments.add(new Segment(source.substring(searchIndex, curIndex), true));
+
+            startIndex = curIndex;
+        }
+
+        if (startIndex < source.length()) {
+            segments.add(new Segment(source.substring(startIndex), false));
+        }
+
+        return segments;
+    }
+
+    /**
+     * Template segment either holding literal text or a variable name or function expression to resolve.
+     */
+    private static final class Segment {
+        private final String text;
+        private final boolean dynamic;
+
+        Segment(String text, boolean dynamic) {
+            this.text = text;
+            this.dynamic = dynamic;
+        }
+    }
+
+    /**
+     * Function segments of a source string compiled for a function registry. Segments are null when the source
+     * uses prefixes of several function libraries and empty when the source does not call any function. The library
+     * index points to the function library in registry order that the segments have been parsed for.
+     */
+    private static final class FunctionSegments {
+        private final FunctionRegistry functionRegistry;
+        private final int libraryCount;
+        private final List<Segment> segments;
+        private final int libraryIndex;
+
+        FunctionSegments(String source, FunctionRegistry functionRegistry) {
+            this.functionRegistry = functionRegistry;
+            this.libraryCount = functionRegistry.getFunctionLibraries().size();
+
+            int usedIndex = -1;
+            List<Segment> parsed = Collections.emptyList();
+            List<FunctionLibrary> libraries = functionRegistry.getFunctionLibraries();
+            for (int i = 0; i < libraries.size(); i++) {
+                if (source.contains(libraries.get(i).getPrefix())) {
+                    if (usedIndex >= 0) {
+                        parsed = null;
+                        break;
+                    }
+
+                    usedIndex = i;
+                    parsed = parseFunctions(source, libraries.get(i).getPrefix());
+                }
+            }
+
+            this.libraryIndex = usedIndex;
+            this.segments = parsed;
+        }
+
+        boolean isCompiledFor(FunctionRegistry functionRegistry) {
+            return this.functionRegistry == functionRegistry &&
+                    libraryCount == functionRegistry.getFunctionLibraries().size();
+        }
+    }
+}
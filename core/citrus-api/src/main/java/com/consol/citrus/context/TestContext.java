@@ -25,6 +25,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.consol.citrus.CitrusSettings;
@@ -68,6 +70,8 @@ import com.consol.citrus.variable.VariableUtils;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -166,6 +170,11 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      */
     private final List<CitrusRuntimeException> exceptions = new ArrayList<>();
 
+    /**
+     * Callbacks completing pending asynchronous operations when the test finishes
+     */
+    private final List<Consumer<TestContext>> finishCallbacks = new CopyOnWriteArrayList<>();
+
     /**
      * Type converter.
      */
@@ -176,6 +185,11 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      */
     private LogModifier logModifier;
 
+    /**
+     * Task executor running parallel and async test actions.
+     */
+    private AsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
+
     /**
      * SegmentVariableExtractorRegistry
      */
@@ -401,8 +415,7 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
         String result = null;
 
         if (str != null) {
-            result = VariableUtils.replaceVariablesInString(str, this, enableQuoting);
-            result = FunctionUtils.replaceFunctionsInString(result, this, enableQuoting);
+            result = DynamicContentTemplate.compile(str).resolve(this, enableQuoting);
         }
 
         return result;
@@ -790,6 +803,22 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
         this.logModifier = logModifier;
     }
 
+    /**
+     * Gets the taskExecutor.
+     * @return
+     */
+    public AsyncTaskExecutor getTaskExecutor() {
+        return taskExecutor;
+    }
+
+    /**
+     * Sets the taskExecutor.
+     * @param taskExecutor
+     */
+    public void setTaskExecutor(AsyncTaskExecutor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
     /**
      * Informs message listeners if present that inbound message was received.
      *
@@ -871,6 +900,26 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
         this.exceptions.add(exception);
     }
 
+    /**
+     * Registers callback that is called on the test thread when the test finishes and before the test result is
+     * checked for context exceptions. Callbacks usually wait for pending asynchronous operations started with this
+     * context. Errors raised by the callback mark the test as failed.
+     *
+     * @param callback
+     */
+    public void addFinishCallback(Consumer<TestContext> callback) {
+        this.finishCallbacks.add(callback);
+    }
+
+    /**
+     * Gets the registered finish callbacks.
+     *
+     * @return
+     */
+    public List<Consumer<TestContext>> getFinishCallbacks() {
+        return finishCallbacks;
+    }
+
     /**
      * Gets the value of the exceptions property.
      *
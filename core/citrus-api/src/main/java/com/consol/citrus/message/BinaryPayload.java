@@ -0,0 +1,247 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+
+/**
+ * Binary message payload backed by a byte buffer or a file. Endpoints can use this payload type for large binary
+ * message bodies so content is not copied on each payload type conversion. Input streams and byte buffers read the
+ * content in place. Byte array and String representations are created lazily and only when required.
+ *
+ * Payload does not copy the content it wraps. Byte arrays and buffers given to this payload as well as the byte array
+ * returned by {@link #getBytes()} may be shared with the payload, so callers must not modify them. Input streams and
+ * buffers returned by this payload are independent read views on the same content.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public final class BinaryPayload {
+
+    /** Buffer holding the content, null when backed by a file that has not been loaded yet */
+    private volatile ByteBuffer buffer;
+
+    /** Optional file holding the content */
+    private final Path file;
+
+    /** Content length in bytes */
+    private final long length;
+
+    /** Lazily decoded String representation */
+    private volatile String text;
+
+    private BinaryPayload(ByteBuffer buffer, Path file, long length) {
+        this.buffer = buffer;
+        this.file = file;
+        this.length = length;
+    }
+
+    /**
+     * Creates payload wrapping given byte array without copying it.
+     * @param bytes
+     * @return
+     */
+    public static BinaryPayload of(byte[] bytes) {
+        return of(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Creates payload on the remaining content of given buffer without copying it.
+     * @param buffer
+     * @return
+     */
+    public static BinaryPayload of(ByteBuffer buffer) {
+        ByteBuffer content = buffer.slice();
+        return new BinaryPayload(content, null, content.remaining());
+    }
+
+    /**
+     * Creates payload backed by given file. File content is streamed from disk and only loaded into memory
+     * when a byte array, buffer or String representation is requested.
+     * @param file
+     * @return
+     */
+    public static BinaryPayload of(Path file) {
+        try {
+            return new BinaryPayload(null, file, Files.size(file));
+        } catch (IOException e) {
+            throw new CitrusRuntimeException(String.format("Failed to read binary payload file '%s'", file), e);
+        }
+    }
+
+    /**
+     * Gets the content length in bytes.
+     * @return
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Opens new input stream on the content. Buffer content is read in place, file content is streamed from disk.
+     * @return
+     */
+    public InputStream getInputStream() {
+        ByteBuffer content = buffer;
+        if (content != null) {
+            return new ByteBufferInputStream(content.duplicate());
+        }
+
+        try {
+            return Files.newInputStream(file);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException(String.format("Failed to read binary payload file '%s'", file), e);
+        }
+    }
+
+    /**
+     * Gets read only view on the content.
+     * @return
+     */
+    public ByteBuffer getByteBuffer() {
+        return load().asReadOnlyBuffer();
+    }
+
+    /**
+     * Gets the content as byte array. Returns the backing array when the payload wraps a complete byte array,
+     * otherwise the content is copied. The returned array must not be modified.
+     * @return
+     */
+    public byte[] getBytes() {
+        ByteBuffer content = load();
+        if (content.hasArray() && content.arrayOffset() == 0 && content.remaining() == content.array().length) {
+            return content.array();
+        }
+
+        byte[] bytes = new byte[content.remaining()];
+        content.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Decodes the content with given charset.
+     * @param charset
+     * @return
+     */
+    public String asString(Charset charset) {
+        return charset.decode(load().duplicate()).toString();
+    }
+
+    /**
+     * Loads the content into memory if necessary.
+     * @return
+     */
+    private ByteBuffer load() {
+        ByteBuffer content = buffer;
+        if (content == null) {
+            synchronized (this) {
+                content = buffer;
+                if (content == null) {
+                    try {
+                        content = ByteBuffer.wrap(Files.readAllBytes(file));
+                    } catch (IOException e) {
+                        throw new CitrusRuntimeException(String.format("Failed to read binary payload file '%s'", file), e);
+                    }
+                    buffer = content;
+                }
+            }
+        }
+
+        return content;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof BinaryPayload)) {
+            return false;
+        }
+
+        BinaryPayload that = (BinaryPayload) o;
+        return length == that.length && load().equals(that.load());
+    }
+
+    @Override
+    public int hashCode() {
+        return load().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        String result = text;
+        if (result == null) {
+            result = asString(Charset.forName(CitrusSettings.CITRUS_FILE_ENCODING));
+            text = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Input stream reading from a byte buffer in place.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.log.LogMessageModifier;
@@ -162,4 +163,17 @@ public interface Message extends Serializable {
      */
     Message setPayload(Object payload);
 
+    /**
+     * Gets parsed representation of the message payload such as a DOM document or a Json read context. Implementations may
+     * cache the parsed representation per type as long as the payload is not changed so validators and variable extractors
+     * working on the same message share a single parse result. Callers must not modify the parsed representation.
+     * @param type the parsed representation type used as cache key.
+     * @param parser parses the message payload when no cached representation is available.
+     * @param <T>
+     * @return
+     */
+    default <T> T getParsedPayload(Class<T> type, Function<Message, T> parser) {
+        return parser.apply(this);
+    }
+
 }
@@ -28,4 +28,14 @@ public interface TestReporter {
      * Test reporter generates a report for several test suite instances.
      */
     void generateReport(TestResults testResults);
+
+    /**
+     * Checks if this reporter needs the individual test results when generating the report. Reporters that only use
+     * the result counts or write each result as the test finishes may return false. When no registered reporter
+     * needs the test results these are not kept in memory.
+     * @return
+     */
+    default boolean requiresTestResults() {
+        return true;
+    }
 }
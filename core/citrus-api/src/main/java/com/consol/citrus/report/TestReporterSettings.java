@@ -19,6 +19,9 @@ public final class TestReporterSettings {
     private static final String REPORT_DIRECTORY_PROPERTY = "citrus.report.directory";
     private static final String REPORT_DIRECTORY_ENV = "CITRUS_REPORT_DIRECTORY";
 
+    private static final String REPORT_MAX_RESULTS_PROPERTY = "citrus.report.max.results";
+    private static final String REPORT_MAX_RESULTS_ENV = "CITRUS_REPORT_MAX_RESULTS";
+
     /**
      * Get setting if report should automatically clear all test results after finishing the test suite. Default value
      * is true.
@@ -46,4 +49,14 @@ public final class TestReporterSettings {
         return System.getProperty(REPORT_DIRECTORY_PROPERTY,  System.getenv(REPORT_DIRECTORY_ENV) != null ?
                 System.getenv(REPORT_DIRECTORY_ENV) : "target/citrus-reports");
     }
+
+    /**
+     * Get maximum number of test results kept in memory for report generation. Results exceeding this limit are
+     * still counted in the report summary. Default value is -1 which keeps all test results.
+     * @return
+     */
+    public static int getMaxResults() {
+        return Integer.parseInt(System.getProperty(REPORT_MAX_RESULTS_PROPERTY,  System.getenv(REPORT_MAX_RESULTS_ENV) != null ?
+                System.getenv(REPORT_MAX_RESULTS_ENV) : "-1"));
+    }
 }
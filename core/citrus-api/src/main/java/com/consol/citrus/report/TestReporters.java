@@ -18,8 +18,11 @@ public class TestReporters implements TestListener, TestSuiteListener, TestRepor
     /** List of test listeners **/
     private final List<TestReporter> testReporters = new ArrayList<>();
 
+    /** Maximum number of test results kept in memory */
+    private int maxResults = TestReporterSettings.getMaxResults();
+
     /** Collect test results for overall result overview at the very end of test execution */
-    private TestResults testResults = new TestResults();
+    private TestResults testResults = new TestResults(maxResults);
 
     /**
      * Call each reporter to generate its reports. Ignore errors according to global setting.
@@ -34,10 +37,23 @@ public class TestReporters implements TestListener, TestSuiteListener, TestRepor
     public void onStart() {
         if (autoClear) {
             // Dismiss previous test results for next test run
-            testResults = new TestResults();
+            testResults = new TestResults(getRetainedResults());
         }
     }
 
+    /**
+     * Gets the number of test results to keep in memory. When all registered reporters are able to generate
+     * their reports without the individual test results only the result counts are kept.
+     * @return
+     */
+    private int getRetainedResults() {
+        if (!testReporters.isEmpty() && testReporters.stream().noneMatch(TestReporter::requiresTestResults)) {
+            return 0;
+        }
+
+        return maxResults;
+    }
+
     @Override
     public void onFinishFailure(Throwable cause) {
         generateReports();
@@ -99,6 +115,7 @@ public class TestReporters implements TestListener, TestSuiteListener, TestRepor
     @Override
     public void addTestReporter(TestReporter testReporter) {
         this.testReporters.add(testReporter);
+        this.testResults.setMaxResults(getRetainedResults());
     }
 
     /**
@@ -124,4 +141,21 @@ public class TestReporters implements TestListener, TestSuiteListener, TestRepor
     public void setAutoClear(boolean autoClear) {
         this.autoClear = autoClear;
     }
+
+    /**
+     * Obtains the maxResults.
+     * @return
+     */
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    /**
+     * Specifies the maximum number of test results kept in memory. Negative value keeps all test results.
+     * @param maxResults
+     */
+    public void setMaxResults(int maxResults) {
+        this.maxResults = maxResults;
+        this.testResults.setMaxResults(getRetainedResults());
+    }
 }
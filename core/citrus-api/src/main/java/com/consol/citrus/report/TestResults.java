@@ -40,6 +40,31 @@ public class TestResults {
     /** Collected test results */
     private List<TestResult> results = Collections.synchronizedList(new ArrayList<TestResult>());
 
+    /** Maximum number of test results kept in memory, negative value keeps all results */
+    private int maxResults;
+
+    /** Result counts including test results that have not been kept in memory */
+    private int success;
+    private int failed;
+    private int skipped;
+    private int total;
+
+    /**
+     * Default constructor keeping all test results.
+     */
+    public TestResults() {
+        this(-1);
+    }
+
+    /**
+     * Constructor using maximum number of test results to keep in memory. Results exceeding this limit
+     * are still counted but are not available in iteration.
+     * @param maxResults
+     */
+    public TestResults(int maxResults) {
+        this.maxResults = maxResults;
+    }
+
     /**
      * Provides access to results as list generated from synchronized result list.
      * @return
@@ -57,12 +82,28 @@ public class TestResults {
     }
 
     /**
-     * Adds a test result to the result list.
+     * Adds a test result to the result list. The result is always counted but only kept in the
+     * result list as long as the maximum number of results has not been reached.
      * @param result
-     * @return
+     * @return true if the result has been kept in the result list
      */
     public boolean addResult(TestResult result) {
-        return results.add(result);
+        synchronized (results) {
+            total++;
+            if (result.isSuccess()) {
+                success++;
+            } else if (result.isFailed()) {
+                failed++;
+            } else if (result.isSkipped()) {
+                skipped++;
+            }
+
+            if (maxResults < 0 || results.size() < maxResults) {
+                return results.add(result);
+            }
+
+            return false;
+        }
     }
 
     /**
@@ -82,17 +123,9 @@ public class TestResults {
      * @return
      */
     public int getSuccess() {
-        int count = 0;
-
         synchronized (results) {
-            for (TestResult testResult : results) {
-                if (testResult.isSuccess()) {
-                    count++;
-                }
-            }
+            return success;
         }
-
-        return count;
     }
 
     /**
@@ -100,7 +133,7 @@ public class TestResults {
      * @return
      */
     public String getSuccessPercentage() {
-        return results.size() > 0 ? decFormat.format((double)getSuccess() / (getFailed() + getSuccess())*100) : ZERO_PERCENTAGE;
+        return getSize() > 0 ? decFormat.format((double)getSuccess() / (getFailed() + getSuccess())*100) : ZERO_PERCENTAGE;
     }
 
     /**
@@ -108,17 +141,9 @@ public class TestResults {
      * @return
      */
     public int getFailed() {
-        int count = 0;
-
         synchronized (results) {
-            for (TestResult testResult : results) {
-                if (testResult.isFailed()) {
-                    count++;
-                }
-            }
+            return failed;
         }
-
-        return count;
     }
 
     /**
@@ -126,7 +151,7 @@ public class TestResults {
      * @return
      */
     public String getFailedPercentage() {
-        return results.size() > 0 ? decFormat.format((double)getFailed() / (getFailed() + getSuccess())*100) : ZERO_PERCENTAGE;
+        return getSize() > 0 ? decFormat.format((double)getFailed() / (getFailed() + getSuccess())*100) : ZERO_PERCENTAGE;
     }
 
     /**
@@ -134,17 +159,9 @@ public class TestResults {
      * @return
      */
     public int getSkipped() {
-        int count = 0;
-
         synchronized (results) {
-            for (TestResult testResult : results) {
-                if (testResult.isSkipped()) {
-                    count++;
-                }
-            }
+            return skipped;
         }
-
-        return count;
     }
 
     /**
@@ -152,7 +169,7 @@ public class TestResults {
      * @return
      */
     public String getSkippedPercentage() {
-        return results.size() > 0 ? decFormat.format((double)getSkipped() / (results.size())*100) : ZERO_PERCENTAGE;
+        return getSize() > 0 ? decFormat.format((double)getSkipped() / (getSize())*100) : ZERO_PERCENTAGE;
     }
 
     /**
@@ -171,6 +188,34 @@ public class TestResults {
      * @return
      */
     public int getSize() {
+        synchronized (results) {
+            return total;
+        }
+    }
+
+    /**
+     * Gets the amount of test results kept in memory and available in iteration.
+     * @return
+     */
+    public int getRetainedSize() {
         return results.size();
     }
+
+    /**
+     * Specifies the maximum number of test results kept in memory. Negative value keeps all results.
+     * @param maxResults
+     */
+    public void setMaxResults(int maxResults) {
+        synchronized (results) {
+            this.maxResults = maxResults;
+        }
+    }
+
+    /**
+     * Gets the maximum number of test results kept in memory.
+     * @return
+     */
+    public int getMaxResults() {
+        return maxResults;
+    }
 }
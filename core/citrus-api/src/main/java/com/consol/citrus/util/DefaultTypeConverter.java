@@ -18,6 +18,7 @@ import java.util.Properties;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.BinaryPayload;
 import com.consol.citrus.xml.StringSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +48,29 @@ public class DefaultTypeConverter implements TypeConverter {
             return result;
         }
 
+        if (target instanceof BinaryPayload) {
+            BinaryPayload payload = (BinaryPayload) target;
+            if (type.equals(InputStream.class)) {
+                return (T) payload.getInputStream();
+            } else if (type.equals(byte[].class)) {
+                return (T) payload.getBytes();
+            } else if (type.equals(ByteBuffer.class)) {
+                return (T) payload.getByteBuffer();
+            } else if (type.equals(String.class)) {
+                return (T) payload.toString();
+            } else if (Source.class.isAssignableFrom(type)) {
+                return (T) new StreamSource(payload.getInputStream());
+            }
+        }
+
+        if (BinaryPayload.class.equals(type)) {
+            if (target instanceof byte[]) {
+                return (T) BinaryPayload.of((byte[]) target);
+            } else if (target instanceof ByteBuffer) {
+                return (T) BinaryPayload.of((ByteBuffer) target);
+            }
+        }
+
         if (Source.class.isAssignableFrom(type)) {
             if (target.getClass().isAssignableFrom(String.class)) {
                 return (T) new StringSource(String.valueOf(target));
@@ -111,6 +135,8 @@ public class DefaultTypeConverter implements TypeConverter {
                 return (T) target;
             } else if (target instanceof byte[]) {
                 return (T) new ByteArrayInputStream((byte[]) target);
+            } else if (target instanceof ByteBuffer) {
+                return (T) BinaryPayload.of((ByteBuffer) target).getInputStream();
             } else if (target instanceof String) {
                 try {
                     return (T) new ByteArrayInputStream(String.valueOf(target).getBytes(CitrusSettings.CITRUS_FILE_ENCODING));
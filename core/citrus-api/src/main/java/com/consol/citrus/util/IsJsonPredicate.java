@@ -20,11 +20,11 @@ public class IsJsonPredicate implements Predicate<String> {
 
     @Override
     public boolean test(String toTest) {
-
-        if (toTest != null) {
-            toTest = toTest.trim();
+        if (toTest == null) {
+            return false;
         }
 
-        return toTest != null && (toTest.length() == 0 || toTest.startsWith("{") || toTest.startsWith("["));
+        PayloadFormat format = PayloadFormat.sniff(toTest);
+        return format == PayloadFormat.EMPTY || format == PayloadFormat.JSON;
     }
 }
\ No newline at end of file
@@ -19,10 +19,11 @@ public class IsXmlPredicate implements Predicate<String> {
 
     @Override
     public boolean test(String toTest) {
-        
-        if (toTest != null) {
-            toTest = toTest.trim();
+        if (toTest == null) {
+            return false;
         }
-        return toTest!=null && (toTest.length() == 0 || toTest.startsWith("<"));
+
+        PayloadFormat format = PayloadFormat.sniff(toTest);
+        return format == PayloadFormat.EMPTY || format == PayloadFormat.XML;
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+/**
+ * Payload format sniffed from the first non whitespace character of a String payload. Sniffing only reads the
+ * leading whitespace and never copies or trims the payload.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public enum PayloadFormat {
+
+    EMPTY,
+    XML,
+    JSON,
+    PLAINTEXT;
+
+    /**
+     * Sniffs the format of given payload. Null payloads are considered to be empty. Whitespace is
+     * evaluated the same way as in {@link String#trim()}.
+     * @param payload
+     * @return
+     */
+    public static PayloadFormat sniff(String payload) {
+        if (payload == null) {
+            return EMPTY;
+        }
+
+        for (int i = 0; i < payload.length(); i++) {
+            char c = payload.charAt(i);
+            if (c <= ' ') {
+                continue;
+            }
+
+            if (c == '<') {
+                return XML;
+            } else if (c == '{' || c == '[') {
+                return JSON;
+            } else {
+                return PLAINTEXT;
+            }
+        }
+
+        return EMPTY;
+    }
+}
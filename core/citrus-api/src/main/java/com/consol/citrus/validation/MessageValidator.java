@@ -100,6 +100,9 @@ public interface MessageValidator<T extends ValidationContext> {
      * type while JSON message validator implementations do not and vice versa. This check is called by the {@link MessageValidatorRegistry}
      * in order to find a proper message validator for a message.
      *
+     * The registry caches the result by message type, payload class and payload format of String payloads. So implementations
+     * must not base their decision on other message content such as headers or individual payload values.
+     *
      * @param messageType the message type representation as String (e.g. xml, json, csv, plaintext).
      * @param message the message object
      * @return true if this message validator is capable of validating the message type.
@@ -20,8 +20,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.NoSuchMessageValidatorException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
-import com.consol.citrus.util.IsJsonPredicate;
-import com.consol.citrus.util.IsXmlPredicate;
+import com.consol.citrus.util.PayloadFormat;
 import com.consol.citrus.validation.context.SchemaValidationContext;
 import com.consol.citrus.validation.context.ValidationContext;
 import org.slf4j.Logger;
@@ -29,12 +28,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Simple registry holding all available message validator implementations. Test context can ask this registry for
  * matching validator implementation according to the message type (e.g. xml, json, csv, plaintext).
  *
- * Registry tries to find a matching validator for the message.
+ * Registry tries to find a matching validator for the message. Resolved validators are cached by message type, payload class
+ * and sniffed payload format so the registered validators are not asked on each message. The cache is bound to a snapshot
+ * of the registered validator names and instances and gets dropped as soon as the registered validators change, also when
+ * they are changed through the map returned by {@link #getMessageValidators()}.
  *
  * @author Christoph Deppisch
  */
@@ -58,6 +61,9 @@ public class MessageValidatorRegistry {
     /** Default empty message validator */
     private final DefaultEmptyMessageValidator defaultEmptyMessageValidator = new DefaultEmptyMessageValidator();
 
+    /** Cached message validator resolution results */
+    private volatile ResolutionCache messageValidatorCache = new ResolutionCache(messageValidators);
+
     /**
      * Finds matching message validators for this message type.
      *
@@ -66,6 +72,16 @@ public class MessageValidatorRegistry {
      * @return the list of matching message validators.
      */
     public List<MessageValidator<? extends ValidationContext>> findMessageValidators(String messageType, Message message) {
+        Object payload = message.getPayload();
+        PayloadFormat format = payload instanceof String ? PayloadFormat.sniff((String) payload) : null;
+        ResolutionKey key = new ResolutionKey(messageType, payload != null ? payload.getClass() : null, format);
+
+        ResolutionCache cache = getMessageValidatorCache();
+        List<MessageValidator<? extends ValidationContext>> cached = cache.validators.get(key);
+        if (cached != null) {
+            return new ArrayList<>(cached);
+        }
+
         List<MessageValidator<? extends ValidationContext>> matchingValidators = new ArrayList<>();
 
         for (MessageValidator<? extends ValidationContext> validator : messageValidators.values()) {
@@ -74,24 +90,31 @@ public class MessageValidatorRegistry {
             }
         }
 
-        if (isEmptyOrDefault(matchingValidators)) {
+        if (isEmptyOrDefault(matchingValidators) && format != null && format != PayloadFormat.EMPTY) {
             // try to find fallback message validator for given message payload
-            if (message.getPayload() instanceof String &&
-                    StringUtils.hasText(message.getPayload(String.class))) {
-                String payload = message.getPayload(String.class).trim();
-
-                if (payload.startsWith("<") && !messageType.equals(MessageType.XML.name())) {
-                    matchingValidators = findFallbackMessageValidators(MessageType.XML.name(), message);
-                } else if ((payload.startsWith("{") || payload.startsWith("[")) && !messageType.equals(MessageType.JSON.name())) {
-                    matchingValidators = findFallbackMessageValidators(MessageType.JSON.name(), message);
-                } else if (!messageType.equals(MessageType.PLAINTEXT.name())) {
-                    matchingValidators = findFallbackMessageValidators(MessageType.PLAINTEXT.name(), message);
-                }
+            if (format == PayloadFormat.XML && !messageType.equals(MessageType.XML.name())) {
+                matchingValidators = findFallbackMessageValidators(MessageType.XML.name(), message);
+            } else if (format == PayloadFormat.JSON && !messageType.equals(MessageType.JSON.name())) {
+                matchingValidators = findFallbackMessageValidators(MessageType.JSON.name(), message);
+            } else if (!messageType.equals(MessageType.PLAINTEXT.name())) {
+                matchingValidators = findFallbackMessageValidators(MessageType.PLAINTEXT.name(), message);
             }
         }
 
-        if (isEmptyOrDefault(matchingValidators) && !StringUtils.hasText(message.getPayload(String.class))) {
-            matchingValidators.add(defaultEmptyMessageValidator);
+        boolean cacheable = true;
+        if (isEmptyOrDefault(matchingValidators)) {
+            boolean empty;
+            if (format != null) {
+                empty = format == PayloadFormat.EMPTY;
+            } else {
+                // payloads other than String need to be converted for the empty check so the result is not cacheable
+                empty = !StringUtils.hasText(message.getPayload(String.class));
+                cacheable = payload == null;
+            }
+
+            if (empty) {
+                matchingValidators.add(defaultEmptyMessageValidator);
+            }
         }
 
         if (isEmptyOrDefault(matchingValidators)) {
@@ -103,9 +126,34 @@ public class MessageValidatorRegistry {
             LOG.debug(String.format("Found %s message validators for message", matchingValidators.size()));
         }
 
+        if (cacheable) {
+            cache.validators.put(key, Collections.unmodifiableList(new ArrayList<>(matchingValidators)));
+        }
+
         return matchingValidators;
     }
 
+    /**
+     * Gets the message validator cache. Creates new cache when registered message validators have changed.
+     * @return
+     */
+    private ResolutionCache getMessageValidatorCache() {
+        ResolutionCache cache = messageValidatorCache;
+        if (!cache.isValid(messageValidators)) {
+            cache = new ResolutionCache(messageValidators);
+            messageValidatorCache = cache;
+        }
+
+        return cache;
+    }
+
+    /**
+     * Removes all cached message validator resolution results.
+     */
+    public void clearCache() {
+        messageValidatorCache = new ResolutionCache(messageValidators);
+    }
+
     /**
      * Checks if matching list of validators is empty or just contains default message validators.
      * @param matchingValidators
@@ -190,6 +238,7 @@ public class MessageValidatorRegistry {
         }
 
         this.messageValidators.put(name, messageValidator);
+        clearCache();
     }
 
     /**
@@ -212,6 +261,7 @@ public class MessageValidatorRegistry {
     public void setMessageValidators(
             Map<String, MessageValidator<? extends ValidationContext>> messageValidators) {
         this.messageValidators = messageValidators;
+        clearCache();
     }
 
     /**
@@ -252,13 +302,12 @@ public class MessageValidatorRegistry {
 
         if (matchingSchemaValidators.isEmpty()) {
             // try to find fallback message validator for given message payload
-            if (message.getPayload() instanceof String &&
-                    StringUtils.hasText(message.getPayload(String.class))) {
-                String payload = message.getPayload(String.class).trim();
+            if (message.getPayload() instanceof String) {
+                PayloadFormat format = PayloadFormat.sniff(message.getPayload(String.class));
 
-                if (IsXmlPredicate.getInstance().test(payload) && !messageType.equals(MessageType.XML.name())) {
+                if (format == PayloadFormat.XML && !messageType.equals(MessageType.XML.name())) {
                     matchingSchemaValidators = findFallbackSchemaValidators(MessageType.XML.name(), message);
-                } else if (IsJsonPredicate.getInstance().test(payload) && !messageType.equals(MessageType.JSON.name())) {
+                } else if (format == PayloadFormat.JSON && !messageType.equals(MessageType.JSON.name())) {
                     matchingSchemaValidators = findFallbackSchemaValidators(MessageType.JSON.name(), message);
                 }
             }
@@ -287,4 +336,78 @@ public class MessageValidatorRegistry {
     public void setSchemaValidators(Map<String, SchemaValidator<? extends SchemaValidationContext>> schemaValidators) {
         this.schemaValidators = schemaValidators;
     }
+
+    /**
+     * Cache key holding all message properties that registered validators evaluate in order to support a message.
+     */
+    private static final class ResolutionKey {
+        private final String messageType;
+        private final Class<?> payloadType;
+        private final PayloadFormat format;
+
+        ResolutionKey(String messageType, Class<?> payloadType, PayloadFormat format) {
+            this.messageType = messageType;
+            this.payloadType = payloadType;
+            this.format = format;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            ResolutionKey that = (ResolutionKey) o;
+            return Objects.equals(messageType, that.messageType) &&
+                    payloadType == that.payloadType &&
+                    format == that.format;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(messageType, payloadType, format);
+        }
+    }
+
+    /**
+     * Resolution results bound to a snapshot of the message validators they have been resolved from.
+     */
+    private static final class ResolutionCache {
+        private final Map<String, MessageValidator<? extends ValidationContext>> source;
+        private final String[] names;
+        private final Object[] registered;
+        private final Map<ResolutionKey, List<MessageValidator<? extends ValidationContext>>> validators = new ConcurrentHashMap<>();
+
+        ResolutionCache(Map<String, MessageValidator<? extends ValidationContext>> source) {
+            this.source = source;
+            this.names = source.keySet().toArray(new String[0]);
+            this.registered = source.values().toArray();
+        }
+
+        /**
+         * Checks that given message validators are the same instances with the same names in the same order as the
+         * snapshot taken when this cache has been created.
+         * @param messageValidators
+         * @return
+         */
+        boolean isValid(Map<String, MessageValidator<? extends ValidationContext>> messageValidators) {
+            if (source != messageValidators || names.length != messageValidators.size()) {
+                return false;
+            }
+
+            int i = 0;
+            for (Map.Entry<String, MessageValidator<? extends ValidationContext>> entry : messageValidators.entrySet()) {
+                if (!Objects.equals(names[i], entry.getKey()) || registered[i] != entry.getValue()) {
+                    return false;
+                }
+                i++;
+            }
+
+            return true;
+        }
+    }
 }
@@ -20,12 +20,16 @@ import javax.xml.transform.Source;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import com.consol.citrus.message.BinaryPayload;
 import com.consol.citrus.xml.StringSource;
+import org.springframework.util.StreamUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -78,4 +82,36 @@ public class DefaultTypeConverterTest {
         Assert.assertEquals(converter.convertIfNecessary(ByteBuffer.wrap(payload.getBytes()), String.class), payload);
     }
 
+
+    @Test
+    public void testConvertBinaryPayload() throws Exception {
+        byte[] bytes = "Hello Citrus!".getBytes();
+        BinaryPayload payload = BinaryPayload.of(bytes);
+
+        Assert.assertSame(converter.convertIfNecessary(payload, byte[].class), bytes);
+        Assert.assertEquals(converter.convertIfNecessary(payload, String.class), "Hello Citrus!");
+        Assert.assertEquals(StreamUtils.copyToByteArray(converter.convertIfNecessary(payload, InputStream.class)), bytes);
+        Assert.assertSame(converter.convertIfNecessary(bytes, BinaryPayload.class).getBytes(), bytes);
+        Assert.assertTrue(converter.convertIfNecessary(payload, ByteBuffer.class).isReadOnly());
+        Assert.assertEquals(converter.convertIfNecessary(payload, ByteBuffer.class).remaining(), bytes.length);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+        buffer.put(bytes).flip();
+        payload = BinaryPayload.of(buffer);
+        Assert.assertEquals(payload.getLength(), bytes.length);
+        Assert.assertEquals(converter.convertIfNecessary(payload, byte[].class), bytes);
+        Assert.assertEquals(StreamUtils.copyToByteArray(converter.convertIfNecessary(buffer, InputStream.class)), bytes);
+
+        Path file = Files.createTempFile("citrus", ".bin");
+        try {
+            Files.write(file, bytes);
+            payload = BinaryPayload.of(file);
+            Assert.assertEquals(payload.getLength(), bytes.length);
+            Assert.assertEquals(StreamUtils.copyToByteArray(payload.getInputStream()), bytes);
+            Assert.assertEquals(converter.convertIfNecessary(payload, String.class), "Hello Citrus!");
+            Assert.assertEquals(payload, BinaryPayload.of(bytes));
+        } finally {
+            Files.delete(file);
+        }
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class PayloadFormatTest {
+
+    @Test
+    public void testSniff() {
+        Assert.assertEquals(PayloadFormat.sniff(null), PayloadFormat.EMPTY);
+        Assert.assertEquals(PayloadFormat.sniff(""), PayloadFormat.EMPTY);
+        Assert.assertEquals(PayloadFormat.sniff(" \n\t"), PayloadFormat.EMPTY);
+        Assert.assertEquals(PayloadFormat.sniff("<id>1</id>"), PayloadFormat.XML);
+        Assert.assertEquals(PayloadFormat.sniff("\n  <id>1</id>"), PayloadFormat.XML);
+        Assert.assertEquals(PayloadFormat.sniff("{ \"id\": 1 }"), PayloadFormat.JSON);
+        Assert.assertEquals(PayloadFormat.sniff("  [1, 2]"), PayloadFormat.JSON);
+        Assert.assertEquals(PayloadFormat.sniff("id=1"), PayloadFormat.PLAINTEXT);
+    }
+
+    @Test
+    public void testPredicates() {
+        Assert.assertTrue(IsXmlPredicate.getInstance().test(" <id>1</id>"));
+        Assert.assertTrue(IsXmlPredicate.getInstance().test(""));
+        Assert.assertFalse(IsXmlPredicate.getInstance().test(null));
+        Assert.assertFalse(IsXmlPredicate.getInstance().test("{}"));
+
+        Assert.assertTrue(IsJsonPredicate.getInstance().test(" {}"));
+        Assert.assertTrue(IsJsonPredicate.getInstance().test(""));
+        Assert.assertFalse(IsJsonPredicate.getInstance().test(null));
+        Assert.assertFalse(IsJsonPredicate.getInstance().test("<id>1</id>"));
+    }
+}
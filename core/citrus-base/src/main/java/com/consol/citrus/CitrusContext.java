@@ -4,9 +4,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.consol.citrus.annotations.CitrusAnnotations;
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.container.AfterSuite;
 import com.consol.citrus.container.BeforeSuite;
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestActionTaskExecutor;
 import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.endpoint.DefaultEndpointFactory;
 import com.consol.citrus.endpoint.EndpointFactory;
@@ -45,6 +47,7 @@ import com.consol.citrus.validation.matcher.DefaultValidationMatcherRegistry;
 import com.consol.citrus.validation.matcher.ValidationMatcherRegistry;
 import com.consol.citrus.variable.GlobalVariables;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.util.StringUtils;
 
 /**
@@ -76,6 +79,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
     private final NamespaceContextBuilder namespaceContextBuilder;
     private final TypeConverter typeConverter;
     private final LogModifier logModifier;
+    private final AsyncTaskExecutor taskExecutor;
 
     /**
      * Protected constructor using given builder to construct this instance.
@@ -101,6 +105,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         this.namespaceContextBuilder = builder.namespaceContextBuilder;
         this.typeConverter = builder.typeConverter;
         this.logModifier = builder.logModifier;
+        this.taskExecutor = builder.taskExecutor;
 
         this.testContextFactory = builder.testContextFactory;
     }
@@ -179,6 +184,9 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
      * Closes the context and all its components.
      */
     public void close() {
+        if (taskExecutor instanceof ShutdownPhase) {
+            ((ShutdownPhase) taskExecutor).destroy();
+        }
     }
 
     /**
@@ -310,6 +318,14 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         return logModifier;
     }
 
+    /**
+     * Gets the taskExecutor.
+     * @return
+     */
+    public AsyncTaskExecutor getTaskExecutor() {
+        return taskExecutor;
+    }
+
     /**
      * Obtains the testContextFactory.
      * @return
@@ -353,6 +369,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         private NamespaceContextBuilder namespaceContextBuilder = new NamespaceContextBuilder();
         private TypeConverter typeConverter = TypeConverter.lookupDefault();
         private LogModifier logModifier = new DefaultLogModifier();
+        private AsyncTaskExecutor taskExecutor = new TestActionTaskExecutor();
 
         public static Builder defaultContext() {
             Builder builder = new Builder();
@@ -515,6 +532,11 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
             return this;
         }
 
+        public Builder taskExecutor(AsyncTaskExecutor taskExecutor) {
+            this.taskExecutor = taskExecutor;
+            return this;
+        }
+
         public CitrusContext build() {
             if (testContextFactory == null) {
                 testContextFactory = TestContextFactory.newInstance();
@@ -532,6 +554,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
                 testContextFactory.setNamespaceContextBuilder(this.namespaceContextBuilder);
                 testContextFactory.setTypeConverter(this.typeConverter);
                 testContextFactory.setLogModifier(this.logModifier);
+                testContextFactory.setTaskExecutor(this.taskExecutor);
             }
 
             return new CitrusContext(this);
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.consol.citrus.container.AbstractActionContainer;
@@ -166,6 +167,8 @@ public class DefaultTestCase extends AbstractActionContainer implements TestCase
                 TestUtils.waitForCompletion(this, context, timeout);
             }
 
+            runFinishCallbacks(context);
+
             context.getTestListeners().onTestFinish(this);
             executeFinalActions(context);
 
@@ -190,6 +193,25 @@ public class DefaultTestCase extends AbstractActionContainer implements TestCase
         }
     }
 
+    /**
+     * Run finish callbacks registered in test context. Callback errors are added to the context exceptions
+     * so they mark the test as failed.
+     * @param context
+     */
+    private void runFinishCallbacks(TestContext context) {
+        for (Consumer<TestContext> callback : context.getFinishCallbacks()) {
+            try {
+                callback.accept(context);
+            } catch (final CitrusRuntimeException e) {
+                context.addException(e);
+            } catch (final Exception e) {
+                context.addException(new CitrusRuntimeException(e));
+            }
+        }
+
+        context.getFinishCallbacks().clear();
+    }
+
     /**
      * Run final test actions.
      * @param context
@@ -17,8 +17,10 @@
 package com.consol.citrus.container;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Stack;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
 import com.consol.citrus.AbstractTestContainerBuilder;
@@ -31,19 +33,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Test action will execute nested actions in parallel. Each action is executed in a
- * separate thread. Container joins all threads and waiting for them to end successfully.
+ * Test action will execute nested actions in parallel. Each action is executed as separate task on the
+ * task executor of the test context. Container waits for all tasks to end successfully.
  *
  * @author Christoph Deppisch
  */
 public class Parallel extends AbstractActionContainer {
 
-    /** Store created threads in stack */
-    private final Stack<Thread> threads = new Stack<>();
-
-    /** Collect exceptions in list */
-    private final List<CitrusRuntimeException> exceptions = new ArrayList<>();
-
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(Parallel.class);
 
@@ -56,18 +52,23 @@ public class Parallel extends AbstractActionContainer {
 
     @Override
     public void doExecute(TestContext context) {
+        final List<CitrusRuntimeException> exceptions = Collections.synchronizedList(new ArrayList<>());
+        final List<Future<?>> tasks = new ArrayList<>();
+
         for (TestActionBuilder<?> actionBuilder : actions) {
             final TestAction action = actionBuilder.build();
-            Thread t = new Thread(new ActionRunner(ctx -> executeAction(action, ctx), context, exceptions::add));
-            threads.push(t);
-            t.start();
+            tasks.add(context.getTaskExecutor().submit(new ActionRunner(ctx -> executeAction(action, ctx), context, exceptions::add)));
         }
 
-        while (!threads.isEmpty()) {
+        for (Future<?> task : tasks) {
             try {
-                threads.pop().join();
+                task.get();
             } catch (InterruptedException e) {
-                LOG.error("Unable to join thread", e);
+                LOG.error("Interrupted while waiting for parallel test action", e);
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                LOG.error("Parallel test action raised error", e.getCause());
+                exceptions.add(new CitrusRuntimeException(e.getCause()));
             }
         }
 
@@ -81,7 +82,7 @@ public class Parallel extends AbstractActionContainer {
     }
 
     /**
-     * Runnable wrapper for executing an action in separate Thread.
+     * Runnable wrapper for executing an action as separate task.
      */
     private static class ActionRunner implements Runnable {
         /** Test action to execute */
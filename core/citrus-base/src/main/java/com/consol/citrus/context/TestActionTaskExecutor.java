@@ -0,0 +1,311 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.common.ShutdownPhase;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * Shared task executor used by test action containers such as parallel and async to run nested actions. Executor
+ * mode and maximum parallelism are read from Citrus settings by default.
+ *
+ * Tasks submitted from within a running task of this executor (e.g. nested parallel containers) are not bound to the
+ * maximum parallelism. Otherwise outer tasks waiting for their nested tasks could occupy all available slots and block forever.
+ *
+ * Tasks submitted from the test thread are bound to the maximum parallelism in fixed, fork join and limited virtual mode.
+ * Tasks exceeding the limit are started as soon as running tasks have finished. So the maximum parallelism must not be
+ * lower than the number of actions in a parallel container that wait for each other (e.g. send and receive on the same
+ * endpoint). A warning is logged the first time tasks have to wait for a free slot.
+ *
+ * The executor is shut down when the Citrus context is closed.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class TestActionTaskExecutor implements AsyncTaskExecutor, ShutdownPhase {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(TestActionTaskExecutor.class);
+
+    /** Executor mode */
+    private final Mode mode;
+
+    /** Maximum number of tasks running at the same time, zero or less means unbounded */
+    private final int maxParallelism;
+
+    /** Marks threads currently running a task of this executor */
+    private final ThreadLocal<Boolean> runningTask = ThreadLocal.withInitial(() -> false);
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    /** Number of tasks submitted from outside of this executor that have not finished yet */
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private final AtomicBoolean limitWarningLogged = new AtomicBoolean();
+
+    private volatile ExecutorService executorService;
+    private volatile ExecutorService nestedExecutorService;
+
+    /** Limits running virtual threads to max parallelism */
+    private final Semaphore permits;
+
+    /**
+     * Executor modes.
+     */
+    public enum Mode {
+        /** Reuses idle threads and creates new threads on demand */
+        CACHED,
+        /** Fixed number of threads as given by max parallelism, tasks exceeding the limit are queued */
+        FIXED,
+        /** Fork join pool with max parallelism */
+        FORK_JOIN,
+        /** New virtual thread per task when supported by the runtime, otherwise falls back to cached mode */
+        VIRTUAL
+    }
+
+    /**
+     * Default constructor using settings.
+     */
+    public TestActionTaskExecutor() {
+        this(Mode.valueOf(CitrusSettings.getTaskExecutorMode().toUpperCase(Locale.US)), CitrusSettings.getTaskExecutorMaxParallelism());
+    }
+
+    /**
+     * Constructor using executor mode and max parallelism.
+     * @param mode
+     * @param maxParallelism
+     */
+    public TestActionTaskExecutor(Mode mode, int maxParallelism) {
+        this.mode = mode;
+        this.maxParallelism = maxParallelism;
+        this.permits = mode == Mode.VIRTUAL && maxParallelism > 0 ? new Semaphore(maxParallelism) : null;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        submit(task);
+    }
+
+    @Override
+    @Deprecated
+    public void execute(Runnable task, long startTimeout) {
+        submit(task);
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return submit(Executors.callable(task));
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        if (runningTask.get()) {
+            return getNestedExecutorService().submit(wrap(task, false, false));
+        }
+
+        checkParallelismLimit();
+        try {
+            return getExecutorService().submit(wrap(task, permits != null, true));
+        } catch (RejectedExecutionException e) {
+            pendingTasks.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        shutdown();
+    }
+
+    /**
+     * Shuts down this executor. Running tasks are completed, but no new tasks are accepted.
+     */
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+
+        if (nestedExecutorService != null && nestedExecutorService != executorService) {
+            nestedExecutorService.shutdown();
+        }
+    }
+
+    /**
+     * Logs a warning the first time tasks submitted from outside of this executor exceed the maximum parallelism.
+     * These tasks have to wait until running tasks have finished.
+     */
+    private void checkParallelismLimit() {
+        int pending = pendingTasks.incrementAndGet();
+        if (mode != Mode.CACHED && maxParallelism > 0 && pending > maxParallelism
+                && limitWarningLogged.compareAndSet(false, true)) {
+            LOG.warn(String.format("More than %s tasks submitted to %s task executor - tasks exceeding the max parallelism " +
+                    "wait for running tasks to finish, actions waiting on each other may block", maxParallelism, mode));
+        }
+    }
+
+    /**
+     * Wraps given task marking the running thread and acquiring a permit when parallelism is limited.
+     * @param task
+     * @param acquirePermit
+     * @param pending
+     * @return
+     */
+    private <T> Callable<T> wrap(Callable<T> task, boolean acquirePermit, boolean pending) {
+        return () -> {
+            try {
+                if (acquirePermit) {
+                    permits.acquire();
+                }
+
+                runningTask.set(true);
+                try {
+                    return task.call();
+                } finally {
+                    runningTask.remove();
+
+                    if (acquirePermit) {
+                        permits.release();
+                    }
+                }
+            } finally {
+                if (pending) {
+                    pendingTasks.decrementAndGet();
+                }
+            }
+        };
+    }
+
+    /**
+     * Lazy initialize executor service according to executor mode.
+     * @return
+     */
+    private ExecutorService getExecutorService() {
+        if (executorService == null) {
+            synchronized (this) {
+                if (executorService == null) {
+                    executorService = createExecutorService();
+                }
+            }
+        }
+
+        return executorService;
+    }
+
+    /**
+     * Lazy initialize executor service for nested tasks that are not bound to max parallelism.
+     * @return
+     */
+    private ExecutorService getNestedExecutorService() {
+        if (nestedExecutorService == null) {
+            synchronized (this) {
+                if (nestedExecutorService == null) {
+                    if (mode == Mode.CACHED || (mode == Mode.VIRTUAL && permits == null)) {
+                        nestedExecutorService = getExecutorService();
+                    } else if (mode == Mode.VIRTUAL) {
+                        nestedExecutorService = createVirtualThreadExecutor();
+                    } else {
+                        nestedExecutorService = createCachedThreadPool();
+                    }
+                }
+            }
+        }
+
+        return nestedExecutorService;
+    }
+
+    private ExecutorService createExecutorService() {
+        switch (mode) {
+            case FIXED:
+                if (maxParallelism <= 0) {
+                    throw new CitrusRuntimeException("Fixed task executor mode requires max parallelism setting greater than zero");
+                }
+
+                ThreadPoolExecutor fixedPool = new ThreadPoolExecutor(maxParallelism, maxParallelism,
+                        60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory());
+                fixedPool.allowCoreThreadTimeOut(true);
+                return fixedPool;
+            case FORK_JOIN:
+                return new ForkJoinPool(maxParallelism > 0 ? maxParallelism : Runtime.getRuntime().availableProcessors(),
+                        ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+            case VIRTUAL:
+                return createVirtualThreadExecutor();
+            case CACHED:
+            default:
+                return createCachedThreadPool();
+        }
+    }
+
+    private ExecutorService createCachedThreadPool() {
+        return Executors.newCachedThreadPool(threadFactory());
+    }
+
+    /**
+     * Creates virtual thread per task executor when running on a Java runtime that supports virtual threads.
+     * Falls back to cached thread pool otherwise.
+     * @return
+     */
+    private ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOG.warn("Virtual threads not supported by this Java runtime - using cached thread pool instead");
+            return createCachedThreadPool();
+        }
+    }
+
+    private ThreadFactory threadFactory() {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "citrus-executor-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Gets the executor mode.
+     * @return
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the maxParallelism.
+     * @return
+     */
+    public int getMaxParallelism() {
+        return maxParallelism;
+    }
+}
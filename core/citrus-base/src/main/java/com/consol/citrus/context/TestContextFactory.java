@@ -42,6 +42,7 @@ import com.consol.citrus.validation.matcher.ValidationMatcherRegistry;
 import com.consol.citrus.variable.GlobalVariables;
 import com.consol.citrus.variable.SegmentVariableExtractorRegistry;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
+import org.springframework.core.task.AsyncTaskExecutor;
 
 /**
  * Factory bean implementation constructs test context instances. Takes care of adding proper default components
@@ -83,6 +84,8 @@ public class TestContextFactory implements ReferenceResolverAware {
 
     private SegmentVariableExtractorRegistry segmentVariableExtractorRegistry;
 
+    private AsyncTaskExecutor taskExecutor;
+
     /**
      * Create new empty instance with default components set.
      * @return
@@ -104,6 +107,7 @@ public class TestContextFactory implements ReferenceResolverAware {
         factory.setTypeConverter(TypeConverter.lookupDefault());
         factory.setLogModifier(new DefaultLogModifier());
         factory.setSegmentVariableExtractorRegistry(new SegmentVariableExtractorRegistry());
+        factory.setTaskExecutor(new TestActionTaskExecutor());
 
         return factory;
     }
@@ -140,6 +144,10 @@ public class TestContextFactory implements ReferenceResolverAware {
             context.setLogModifier(logModifier);
         }
 
+        if (taskExecutor != null) {
+            context.setTaskExecutor(taskExecutor);
+        }
+
         return context;
     }
 
@@ -392,4 +400,19 @@ public class TestContextFactory implements ReferenceResolverAware {
         this.segmentVariableExtractorRegistry = segmentVariableExtractorRegistry;
     }
 
+    /**
+     * Gets the taskExecutor.
+     * @return
+     */
+    public AsyncTaskExecutor getTaskExecutor() {
+        return taskExecutor;
+    }
+
+    /**
+     * Sets the taskExecutor.
+     * @param taskExecutor
+     */
+    public void setTaskExecutor(AsyncTaskExecutor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
 }
@@ -9,7 +9,7 @@ import com.consol.citrus.message.DefaultMessageQueue;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageQueue;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.FutureCorrelationManager;
 import com.consol.citrus.messaging.ReplyConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,7 +37,7 @@ public class DirectSyncProducer extends DirectProducer implements ReplyConsumer
         super(name, endpointConfiguration);
         this.endpointConfiguration = endpointConfiguration;
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new FutureCorrelationManager<>(endpointConfiguration);
     }
 
     @Override
@@ -21,6 +21,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -54,6 +56,9 @@ public class DefaultMessage implements Message {
     /** Type of the message indicates the content type - also see {@link MessageType) */
     private String type;
 
+    /** Parsed payload representations cached by type */
+    private transient Map<Class<?>, ParsedPayload> parsedPayloads;
+
     /**
      * Empty constructor initializing with empty message payload.
      */
@@ -160,9 +165,36 @@ public class DefaultMessage implements Message {
     @Override
     public DefaultMessage setPayload(Object payload) {
         this.payload = payload;
+        this.parsedPayloads = null;
         return this;
     }
 
+    @Override
+    public <T> T getParsedPayload(Class<T> type, Function<Message, T> parser) {
+        Object source = getPayload();
+        if (source == null) {
+            return parser.apply(this);
+        }
+
+        Map<Class<?>, ParsedPayload> cache = parsedPayloads;
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>(4);
+            parsedPayloads = cache;
+        }
+
+        ParsedPayload cached = cache.get(type);
+        if (cached != null && cached.source == source) {
+            return type.cast(cached.parsed);
+        }
+
+        T parsed = parser.apply(this);
+        if (parsed != null) {
+            cache.put(type, new ParsedPayload(source, parsed));
+        }
+
+        return parsed;
+    }
+
     @Override
     public Map<String, Object> getHeaders() {
         return headers;
@@ -217,4 +249,17 @@ public class DefaultMessage implements Message {
 
         return type;
     }
+
+    /**
+     * Parsed payload representation bound to the payload instance it was created from.
+     */
+    private static final class ParsedPayload {
+        private final Object source;
+        private final Object parsed;
+
+        ParsedPayload(Object source, Object parsed) {
+            this.source = source;
+            this.parsed = parsed;
+        }
+    }
 }
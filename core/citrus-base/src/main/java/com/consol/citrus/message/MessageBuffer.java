@@ -0,0 +1,236 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffer holding inbound messages in arrival order. Receivers take the first message accepted by a filter and block
+ * until a matching message arrives or the timeout is reached.
+ *
+ * Filters are evaluated outside of the buffer lock, so expensive filters (e.g. converting the message before
+ * evaluating a message selector) do not block other receivers or the threads adding messages. Each receiver evaluates
+ * a buffered message at most once. When another receiver has taken an accepted message in the meantime the receiver
+ * continues with the next message.
+ *
+ * @param <T> the buffered message type
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class MessageBuffer<T> {
+
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(MessageBuffer.class);
+
+    /** Name used in log messages */
+    private final String name;
+
+    /** Buffered messages in arrival order */
+    private final Deque<Entry<T>> entries = new ArrayDeque<>();
+
+    /** Guards buffered messages and notifies receivers on message arrival */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition messageArrived = lock.newCondition();
+
+    /** Sequence number of the most recently added message */
+    private long sequence = 0L;
+
+    /**
+     * Constructor using name for log messages.
+     * @param name
+     */
+    public MessageBuffer(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Adds message to the buffer and notifies waiting receivers.
+     * @param message
+     */
+    public void add(T message) {
+        lock.lock();
+        try {
+            entries.add(new Entry<>(++sequence, message));
+            messageArrived.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Receives first buffered message accepted by given filter. Waits for new messages to arrive as long as the
+     * timeout has not been exceeded.
+     * @param filter optional message filter, may be null
+     * @param timeout time to wait in milliseconds, zero or negative value does not wait
+     * @return the received message or null when no matching message has arrived in time
+     */
+    public T receive(Predicate<T> filter, long timeout) {
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        try {
+            if (filter == null) {
+                lock.lock();
+                try {
+                    awaitNanos(messageArrived, () -> !entries.isEmpty(), nanosLeft);
+                    Entry<T> entry = entries.poll();
+                    return entry != null ? entry.message : null;
+                } finally {
+                    lock.unlock();
+                }
+            }
+
+            long evaluated = 0L;
+            while (true) {
+                List<Entry<T>> candidates;
+
+                lock.lock();
+                try {
+                    long seen = evaluated;
+                    nanosLeft = awaitNanos(messageArrived, () -> sequence > seen, nanosLeft);
+                    if (sequence <= seen) {
+                        return null;
+                    }
+
+                    candidates = newerThan(seen);
+                    evaluated = sequence;
+                } finally {
+                    lock.unlock();
+                }
+
+                long start = System.nanoTime();
+                for (Entry<T> candidate : candidates) {
+                    if (filter.test(candidate.message) && remove(candidate)) {
+                        return candidate.message;
+                    }
+                }
+                nanosLeft -= System.nanoTime() - start;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn(String.format("Thread interrupted while waiting for message on '%s'", name));
+            return null;
+        }
+    }
+
+    /**
+     * Gets buffered messages added after the given sequence number in arrival order.
+     * Must be called while holding the lock.
+     * @param seen
+     * @return
+     */
+    private List<Entry<T>> newerThan(long seen) {
+        List<Entry<T>> candidates = new ArrayList<>();
+        Iterator<Entry<T>> newestFirst = entries.descendingIterator();
+        while (newestFirst.hasNext()) {
+            Entry<T> entry = newestFirst.next();
+            if (entry.sequence <= seen) {
+                break;
+            }
+            candidates.add(entry);
+        }
+
+        Collections.reverse(candidates);
+        return candidates;
+    }
+
+    /**
+     * Removes given entry unless another receiver has taken it already.
+     * @param entry
+     * @return true if this call has removed the entry
+     */
+    private boolean remove(Entry<T> entry) {
+        lock.lock();
+        try {
+            return entries.remove(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all buffered messages.
+     * @return the removed messages in arrival order
+     */
+    public List<T> clear() {
+        lock.lock();
+        try {
+            List<T> removed = new ArrayList<>(entries.size());
+            entries.forEach(entry -> removed.add(entry.message));
+            entries.clear();
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of buffered messages.
+     * @return
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits on given condition until the state check is satisfied or the time is up. Must be called while holding
+     * the lock of the condition. Callers check the state again afterwards to see whether the wait has been satisfied.
+     * @param condition
+     * @param satisfied state check evaluated while holding the lock
+     * @param nanosTimeout
+     * @return the remaining time in nanoseconds
+     * @throws InterruptedException
+     */
+    static long awaitNanos(Condition condition, BooleanSupplier satisfied, long nanosTimeout) throws InterruptedException {
+        long nanosLeft = nanosTimeout;
+        while (!satisfied.getAsBoolean() && nanosLeft > 0) {
+            nanosLeft = condition.awaitNanos(nanosLeft);
+        }
+
+        return nanosLeft;
+    }
+
+    /**
+     * Buffered message with its sequence number.
+     */
+    private static final class Entry<T> {
+        private final long sequence;
+        private final T message;
+
+        Entry(long sequence, T message) {
+            this.sequence = sequence;
+            this.message = message;
+        }
+    }
+}
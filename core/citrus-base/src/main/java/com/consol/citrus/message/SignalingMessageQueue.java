@@ -0,0 +1,408 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.consol.citrus.message.selector.HeaderMatchingMessageSelector;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Message queue implementation that wakes up waiting receivers as soon as a matching message arrives instead of
+ * polling the queue in fixed intervals. Each blocking receive registers a waiter with its message selector. New messages
+ * are directly handed over to the first waiter that accepts the message. Only messages that no waiter accepts are stored.
+ *
+ * Optionally the queue keeps an index on a set of message header names. Header matching message selectors using one of
+ * these header names with a plain matching value are resolved with a constant time index lookup instead of scanning all
+ * stored messages.
+ *
+ * The number of stored messages can be limited with a capacity. Once the capacity is reached the drop policy decides
+ * whether the oldest stored message or the new message gets discarded.
+ *
+ * With logging enabled the queue logs each message that is handed over to a waiting receiver, stored, taken from the
+ * queue or purged.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class SignalingMessageQueue implements MessageQueue {
+
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(SignalingMessageQueue.class);
+
+    /** Guards stored messages, index and waiters */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Stored messages in arrival order */
+    private final Set<Entry> entries = new LinkedHashSet<>();
+
+    /** Index of stored messages per header name and header value */
+    private final Map<String, Map<String, Set<Entry>>> index = new HashMap<>();
+
+    /** Receivers currently waiting for a matching message in order of registration */
+    private final List<Waiter> waiters = new LinkedList<>();
+
+    /** Header names to index */
+    private List<String> indexedHeaders = Collections.emptyList();
+
+    /** Maximum number of stored messages, zero or negative value for unbounded queue */
+    private int capacity = 0;
+
+    /** Policy applied to new messages when capacity is reached */
+    private DropPolicy dropPolicy = DropPolicy.DROP_OLDEST;
+
+    /** Number of messages discarded because of capacity limit */
+    private long droppedMessages = 0L;
+
+    /** Flag to enable/disable message logging */
+    private boolean loggingEnabled = false;
+
+    private final String name;
+
+    public SignalingMessageQueue(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void send(Message message) {
+        lock.lock();
+        try {
+            Iterator<Waiter> it = waiters.iterator();
+            while (it.hasNext()) {
+                Waiter waiter = it.next();
+                if (waiter.selector.accept(message)) {
+                    it.remove();
+                    waiter.message = message;
+                    waiter.condition.signal();
+                    logMessage("Handed over message '%s' to waiting receiver", message);
+                    return;
+                }
+            }
+
+            if (capacity > 0 && entries.size() >= capacity) {
+                droppedMessages++;
+
+                if (dropPolicy == DropPolicy.DROP_NEWEST) {
+                    log.warn(String.format("Message queue '%s' reached capacity of %s messages - dropping new message '%s'", name, capacity, message.getId()));
+                    return;
+                }
+
+                Entry oldest = entries.iterator().next();
+                remove(oldest);
+                log.warn(String.format("Message queue '%s' reached capacity of %s messages - dropping oldest message '%s'", name, capacity, oldest.message.getId()));
+            }
+
+            Entry entry = new Entry(message);
+            entries.add(entry);
+            for (Map.Entry<String, String> key : entry.indexKeys.entrySet()) {
+                index.computeIfAbsent(key.getKey(), k -> new HashMap<>())
+                        .computeIfAbsent(key.getValue(), k -> new LinkedHashSet<>())
+                        .add(entry);
+            }
+            logMessage("Stored message '%s'", message);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Message receive(MessageSelector selector) {
+        lock.lock();
+        try {
+            return take(selector);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Message receive(MessageSelector selector, long timeout) {
+        lock.lock();
+        try {
+            Message message = take(selector);
+            if (message != null || timeout <= 0) {
+                return message;
+            }
+
+            Waiter waiter = new Waiter(selector, lock.newCondition());
+            waiters.add(waiter);
+
+            try {
+                MessageBuffer.awaitNanos(waiter.condition, () -> waiter.message != null, TimeUnit.MILLISECONDS.toNanos(timeout));
+            } catch (InterruptedException e) {
+                log.warn("Thread interrupted while waiting for message on queue '{}'", name);
+                Thread.currentThread().interrupt();
+            } finally {
+                if (waiter.message == null) {
+                    waiters.remove(waiter);
+                }
+            }
+
+            return waiter.message;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void purge(MessageSelector selector) {
+        lock.lock();
+        try {
+            for (Entry entry : new ArrayList<>(entries)) {
+                if (selector.accept(entry.message)) {
+                    remove(entry);
+                    if (loggingEnabled) {
+                        logMessage("Purged message '%s'", entry.message);
+                    } else if (log.isDebugEnabled()) {
+                        log.debug(String.format("Purged message '%s' from in memory queue", entry.message.getId()));
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of messages currently stored in this queue.
+     * @return
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of messages discarded because the queue capacity was reached.
+     * @return
+     */
+    public long getDroppedMessages() {
+        lock.lock();
+        try {
+            return droppedMessages;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finds and removes first stored message accepted by given selector. Uses the header index when possible.
+     * Must be called while holding the lock.
+     * @param selector
+     * @return matching message or null if no message is accepted.
+     */
+    private Message take(MessageSelector selector) {
+        Iterable<Entry> candidates = entries;
+
+        if (selector instanceof HeaderMatchingMessageSelector) {
+            HeaderMatchingMessageSelector indexed = (HeaderMatchingMessageSelector) selector;
+            if (indexedHeaders.contains(indexed.getSelectKey()) &&
+                    !ValidationMatcherUtils.isValidationMatcherExpression(indexed.getMatchingValue())) {
+                candidates = index.getOrDefault(indexed.getSelectKey(), Collections.emptyMap())
+                        .getOrDefault(indexed.getMatchingValue(), Collections.emptySet());
+            }
+        }
+
+        for (Entry entry : candidates) {
+            if (selector.accept(entry.message)) {
+                remove(entry);
+                logMessage("Took message '%s'", entry.message);
+                return entry.message;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Removes given entry from stored messages and from header index.
+     * Must be called while holding the lock.
+     * @param entry
+     */
+    private void remove(Entry entry) {
+        entries.remove(entry);
+        for (Map.Entry<String, String> key : entry.indexKeys.entrySet()) {
+            Map<String, Set<Entry>> values = index.get(key.getKey());
+            if (values != null) {
+                Set<Entry> bucket = values.get(key.getValue());
+                if (bucket != null) {
+                    bucket.remove(entry);
+                    if (bucket.isEmpty()) {
+                        values.remove(key.getValue());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Logs message event when logging is enabled on this queue.
+     * @param event event description with placeholder for the message id
+     * @param message
+     */
+    private void logMessage(String event, Message message) {
+        if (loggingEnabled) {
+            log.info(String.format(event + " on queue '%s':%n%s", message.getId(), name, message.print()));
+        }
+    }
+
+    /**
+     * Reads header value that header matching message selectors would evaluate. Nested message headers take precedence
+     * over the message headers.
+     * @param message
+     * @param headerName
+     * @return
+     */
+    private static Object getHeaderValue(Message message, String headerName) {
+        if (message.getPayload() instanceof Message) {
+            Map<String, Object> nestedHeaders = ((Message) message.getPayload()).getHeaders();
+            if (nestedHeaders.containsKey(headerName)) {
+                return nestedHeaders.get(headerName);
+            }
+        }
+
+        return message.getHeaders().get(headerName);
+    }
+
+    /**
+     * Gets the indexed header names.
+     * @return
+     */
+    public List<String> getIndexedHeaders() {
+        return indexedHeaders;
+    }
+
+    /**
+     * Sets the header names to index. Must be set before messages are sent to this queue.
+     * @param indexedHeaders
+     */
+    public void setIndexedHeaders(List<String> indexedHeaders) {
+        this.indexedHeaders = new ArrayList<>(indexedHeaders);
+    }
+
+    /**
+     * Gets the capacity.
+     * @return
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets the maximum number of stored messages. Zero or negative value for an unbounded queue.
+     * @param capacity
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets the dropPolicy.
+     * @return
+     */
+    public DropPolicy getDropPolicy() {
+        return dropPolicy;
+    }
+
+    /**
+     * Sets the policy applied when capacity is reached.
+     * @param dropPolicy
+     */
+    public void setDropPolicy(DropPolicy dropPolicy) {
+        this.dropPolicy = dropPolicy;
+    }
+
+    /**
+     * Obtains the loggingEnabled.
+     * @return
+     */
+    public boolean isLoggingEnabled() {
+        return loggingEnabled;
+    }
+
+    /**
+     * Specifies the loggingEnabled.
+     * @param loggingEnabled
+     */
+    public void setLoggingEnabled(boolean loggingEnabled) {
+        this.loggingEnabled = loggingEnabled;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Policy deciding which message to discard when the queue capacity is reached.
+     */
+    public enum DropPolicy {
+        DROP_OLDEST,
+        DROP_NEWEST
+    }
+
+    /**
+     * Stored message with its indexed header values.
+     */
+    private final class Entry {
+        private final Message message;
+        private final Map<String, String> indexKeys = new LinkedHashMap<>();
+
+        Entry(Message message) {
+            this.message = message;
+
+            for (String headerName : indexedHeaders) {
+                Object value = getHeaderValue(message, headerName);
+                if (value != null) {
+                    indexKeys.put(headerName, value.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Receiver waiting for a message accepted by its selector.
+     */
+    private static final class Waiter {
+        private final MessageSelector selector;
+        private final Condition condition;
+        private Message message;
+
+        Waiter(MessageSelector selector, Condition condition) {
+            this.selector = selector;
+            this.condition = condition;
+        }
+    }
+}
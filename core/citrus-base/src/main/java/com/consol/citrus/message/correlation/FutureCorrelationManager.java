@@ -0,0 +1,360 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message.correlation;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.EndpointConfiguration;
+import com.consol.citrus.endpoint.PollableEndpointConfiguration;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Correlation manager hands out a future per correlation key. Storing an object completes the future so that
+ * find operations waiting on the same correlation key return immediately instead of polling. The futures are the only
+ * storage for correlated objects, each find operation removes its correlation key exactly once. Stored objects that
+ * nobody asks for are evicted after a configurable timeout so pending correlations do not grow without bounds.
+ *
+ * When a custom object store is set objects may reach the store without passing this manager. In this case the
+ * manager stores objects in the custom store and find operations poll the store in the polling interval of the
+ * endpoint configuration just like {@link PollingCorrelationManager}.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class FutureCorrelationManager<T> extends DefaultCorrelationManager<T> {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(FutureCorrelationManager.class);
+
+    /** Retry logger */
+    private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
+
+    /** Default polling interval used with custom object stores when endpoint configuration is not pollable */
+    private static final long DEFAULT_POLLING_INTERVAL = 500L;
+
+    private final EndpointConfiguration endpointConfiguration;
+
+    /** Pending correlations by correlation key */
+    private final Map<String, Correlation<T>> correlations = new ConcurrentHashMap<>();
+
+    /** Monitor signaled when new correlation keys are saved */
+    private final Object correlationKeyMonitor = new Object();
+
+    /** Time in milliseconds after that stored objects that were never found get evicted */
+    private long evictionTimeout = 300000L;
+
+    /** Time to wait for correlation key to be saved in test context */
+    private long correlationKeyTimeout = 1000L;
+
+    /** Time of last eviction run */
+    private final AtomicLong lastEviction = new AtomicLong(System.currentTimeMillis());
+
+    /** Custom object store has been set so find operations poll the object store */
+    private volatile boolean pollObjectStore = false;
+
+    /**
+     * Constructor using endpoint configuration.
+     * @param endpointConfiguration
+     */
+    public FutureCorrelationManager(EndpointConfiguration endpointConfiguration) {
+        this.endpointConfiguration = endpointConfiguration;
+    }
+
+    /**
+     * Convenience method for using default timeout settings of endpoint configuration.
+     * @param correlationKey
+     * @return
+     */
+    public T find(String correlationKey) {
+        return find(correlationKey, endpointConfiguration.getTimeout());
+    }
+
+    @Override
+    public void saveCorrelationKey(String correlationKeyName, String correlationKey, TestContext context) {
+        super.saveCorrelationKey(correlationKeyName, correlationKey, context);
+
+        synchronized (correlationKeyMonitor) {
+            correlationKeyMonitor.notifyAll();
+        }
+    }
+
+    @Override
+    public String getCorrelationKey(String correlationKeyName, TestContext context) {
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Get correlation key for '%s'", correlationKeyName));
+        }
+
+        long deadline = System.currentTimeMillis() + correlationKeyTimeout;
+        synchronized (correlationKeyMonitor) {
+            long timeLeft = correlationKeyTimeout;
+            while (!context.getVariables().containsKey(correlationKeyName) && timeLeft > 0) {
+                try {
+                    correlationKeyMonitor.wait(timeLeft);
+                } catch (InterruptedException e) {
+                    log.warn("Thread interrupted while waiting for correlation key", e);
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                timeLeft = deadline - System.currentTimeMillis();
+            }
+        }
+
+        if (context.getVariables().containsKey(correlationKeyName)) {
+            return context.getVariable(correlationKeyName);
+        }
+
+        throw new CitrusRuntimeException(String.format("Failed to get correlation key for '%s'", correlationKeyName));
+    }
+
+    @Override
+    public void store(String correlationKey, T object) {
+        if (pollObjectStore || object == null) {
+            super.store(correlationKey, object);
+            return;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Saving correlated object for '%s'", correlationKey));
+        }
+
+        complete(correlationKey, future -> future.complete(object));
+        evictOrphans();
+    }
+
+    /**
+     * Completes the correlation with given error. Find operations waiting for the correlated object fail with this
+     * error instead of running into a timeout.
+     * @param correlationKey
+     * @param cause
+     */
+    public void fail(String correlationKey, Throwable cause) {
+        complete(correlationKey, future -> future.completeExceptionally(cause));
+        evictOrphans();
+    }
+
+    /**
+     * Completes the pending correlation for given key or a new correlation when there is no pending correlation.
+     * A completed correlation that has not been found yet is replaced. Completion takes place while the correlation
+     * is mapped so a find operation removing the correlation either sees the completion or leaves it to the next find.
+     * @param correlationKey
+     * @param completion
+     */
+    private void complete(String correlationKey, Consumer<CompletableFuture<T>> completion) {
+        correlations.compute(correlationKey, (key, pending) -> {
+            Correlation<T> correlation = pending == null || pending.future.isDone() ? new Correlation<>() : pending;
+            completion.accept(correlation.future);
+            return correlation;
+        });
+    }
+
+    @Override
+    public T find(String correlationKey, long timeout) {
+        evictOrphans();
+
+        if (pollObjectStore) {
+            return poll(correlationKey, timeout);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Finding correlated object for '%s'", correlationKey));
+        }
+
+        Correlation<T> correlation = correlations.computeIfAbsent(correlationKey, key -> new Correlation<>());
+        try {
+            if (timeout > 0 && !correlation.future.isDone()) {
+                correlation.future.get(timeout, TimeUnit.MILLISECONDS);
+            }
+        } catch (TimeoutException e) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Correlated object for '%s' did not arrive within %s ms", correlationKey, timeout));
+            }
+        } catch (InterruptedException e) {
+            log.warn("Thread interrupted while waiting for correlated object", e);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // failure is raised below after the correlation has been removed
+        }
+
+        correlations.remove(correlationKey, correlation);
+        return getNow(correlationKey, correlation);
+    }
+
+    /**
+     * Polls the custom object store until the correlated object is found or the timeout is reached.
+     * Correlations failed in the meantime raise their error.
+     * @param correlationKey
+     * @param timeout
+     * @return
+     */
+    private T poll(String correlationKey, long timeout) {
+        long timeLeft = timeout;
+        long pollingInterval = getPollingInterval();
+
+        T stored = super.find(correlationKey, timeLeft);
+
+        while (stored == null && timeLeft > 0) {
+            checkFailed(correlationKey);
+
+            timeLeft -= pollingInterval;
+
+            if (RETRY_LOG.isDebugEnabled()) {
+                RETRY_LOG.debug(String.format("Correlated object for '%s' not available yet - retrying in %s ms",
+                        correlationKey, timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft));
+            }
+
+            try {
+                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
+            } catch (InterruptedException e) {
+                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            stored = super.find(correlationKey, timeLeft);
+        }
+
+        if (stored == null) {
+            checkFailed(correlationKey);
+        }
+
+        return stored;
+    }
+
+    /**
+     * Raises the error of a failed correlation with given key.
+     * @param correlationKey
+     */
+    private void checkFailed(String correlationKey) {
+        Correlation<T> correlation = correlations.get(correlationKey);
+        if (correlation != null && correlation.future.isCompletedExceptionally() &&
+                correlations.remove(correlationKey, correlation)) {
+            getNow(correlationKey, correlation);
+        }
+    }
+
+    /**
+     * Gets the correlated object if the correlation has been completed.
+     * @param correlationKey
+     * @param correlation
+     * @return the correlated object or null when the correlation is still pending
+     */
+    private T getNow(String correlationKey, Correlation<T> correlation) {
+        try {
+            return correlation.future.getNow(null);
+        } catch (CompletionException e) {
+            throw new CitrusRuntimeException(String.format("Failed to get correlated object for '%s'", correlationKey), e.getCause());
+        }
+    }
+
+    /**
+     * Gets the polling interval used with custom object stores.
+     * @return
+     */
+    private long getPollingInterval() {
+        if (endpointConfiguration instanceof PollableEndpointConfiguration) {
+            return ((PollableEndpointConfiguration) endpointConfiguration).getPollingInterval();
+        }
+
+        return DEFAULT_POLLING_INTERVAL;
+    }
+
+    @Override
+    public void setObjectStore(ObjectStore<T> store) {
+        super.setObjectStore(store);
+        this.pollObjectStore = true;
+    }
+
+    /**
+     * Removes stored objects that have not been found within the eviction timeout. Eviction runs on store, fail and
+     * find operations but at most once per eviction timeout period.
+     */
+    private void evictOrphans() {
+        long now = System.currentTimeMillis();
+        long last = lastEviction.get();
+        if (now - last < evictionTimeout || !lastEviction.compareAndSet(last, now)) {
+            return;
+        }
+
+        correlations.forEach((correlationKey, correlation) -> {
+            if (correlation.future.isDone() && now - correlation.created >= evictionTimeout &&
+                    correlations.remove(correlationKey, correlation)) {
+                log.warn(String.format("Evicted orphaned correlated object for '%s'", correlationKey));
+            }
+        });
+    }
+
+    /**
+     * Gets the number of pending correlations. These are either stored objects not found yet, failed correlations or
+     * find operations waiting for the object to arrive.
+     * @return
+     */
+    public int getPendingCorrelations() {
+        return correlations.size();
+    }
+
+    /**
+     * Gets the evictionTimeout.
+     * @return
+     */
+    public long getEvictionTimeout() {
+        return evictionTimeout;
+    }
+
+    /**
+     * Sets the evictionTimeout.
+     * @param evictionTimeout
+     */
+    public void setEvictionTimeout(long evictionTimeout) {
+        this.evictionTimeout = evictionTimeout;
+    }
+
+    /**
+     * Gets the correlationKeyTimeout.
+     * @return
+     */
+    public long getCorrelationKeyTimeout() {
+        return correlationKeyTimeout;
+    }
+
+    /**
+     * Sets the correlationKeyTimeout.
+     * @param correlationKeyTimeout
+     */
+    public void setCorrelationKeyTimeout(long correlationKeyTimeout) {
+        this.correlationKeyTimeout = correlationKeyTimeout;
+    }
+
+    /**
+     * Future completed with the correlated object and its creation time.
+     */
+    private static class Correlation<T> {
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final long created = System.currentTimeMillis();
+    }
+}
@@ -77,4 +77,20 @@ public abstract class AbstractMessageSelector implements MessageSelector {
             return value.equals(matchingValue);
         }
     }
+
+    /**
+     * Gets the selectKey.
+     * @return
+     */
+    public String getSelectKey() {
+        return selectKey;
+    }
+
+    /**
+     * Gets the matchingValue.
+     * @return
+     */
+    public String getMatchingValue() {
+        return matchingValue;
+    }
 }
@@ -11,8 +11,8 @@ public class DefaultTestReporters extends TestReporters {
 
     public static final List<TestReporter> DEFAULT_REPORTERS = Arrays.asList(
             new LoggingReporter(),
-            new HtmlReporter(),
-            new JUnitReporter()
+            HtmlReporterSettings.isReportStreaming() ? new StreamingHtmlReporter() : new HtmlReporter(),
+            JUnitReporterSettings.isReportStreaming() ? new StreamingJUnitReporter() : new JUnitReporter()
     );
 
     public DefaultTestReporters() {
@@ -112,7 +112,7 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
             reportProps.put("success.test.cnt", Integer.toString(testResults.getSuccess()));
             reportProps.put("success.test.pct", testResults.getSuccessPercentage());
             reportProps.put("test.results", reportDetails.toString());
-            reportProps.put("logo.data", getLogoImageData());
+            reportProps.put("logo.data", getLogoImageData(logo));
             return PropertyUtils.replacePropertiesInString(FileUtils.readToString(FileUtils.getFileResource(reportTemplate)), reportProps);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to generate HTML test report", e);
@@ -121,10 +121,10 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
 
     /**
      * Reads citrus logo png image and converts to base64 encoded string for inline HTML image display.
+     * @param logo the logo image resource path.
      * @return
-     * @throws IOException
      */
-    private String getLogoImageData() {
+    static String getLogoImageData(String logo) {
         ByteArrayOutputStream os = new ByteArrayOutputStream();
         BufferedInputStream reader = null;
 
@@ -162,7 +162,7 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
      * @param cause the error cause.
      * @return
      */
-    private String getCodeSnippetHtml(Throwable cause) {
+    private static String getCodeSnippetHtml(Throwable cause) {
         StringBuilder codeSnippet = new StringBuilder();
         BufferedReader reader = null;
 
@@ -197,7 +197,7 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
 
                             if (StringUtils.hasText(codeStyle)) {
                                 codeSnippet.append("<pre class=\"" + codeStyle +"\"><span class=\"line-number\">" + lineIndex + ":</span>" +
-                                        line.replaceAll(">", "&gt;").replaceAll("<", "&lt;") + "</pre>");
+                                        escapeHtml(line) + "</pre>");
                             }
 
                             lineIndex++;
@@ -228,7 +228,7 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
      * @param cause the causing error.
      * @return
      */
-    private String getStackTraceHtml(Throwable cause) {
+    static String getStackTraceHtml(Throwable cause) {
         StringBuilder stackTraceBuilder = new StringBuilder();
         stackTraceBuilder.append(cause.getClass().getName())
                         .append(": ")
@@ -244,6 +244,28 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
         		"</pre>" + getCodeSnippetHtml(cause) + "</div></td></tr>";
     }
 
+    /**
+     * Escapes angle brackets in given code line in a single pass.
+     * @param line
+     * @return
+     */
+    private static String escapeHtml(String line) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '<' || c == '>') {
+                if (escaped == null) {
+                    escaped = new StringBuilder(line.length() + 16).append(line, 0, i);
+                }
+                escaped.append(c == '<' ? "&lt;" : "&gt;");
+            } else if (escaped != null) {
+                escaped.append(c);
+            }
+        }
+
+        return escaped != null ? escaped.toString() : line;
+    }
+
     @Override
     public void onTestStart(TestCase test) {
         // do nothing
@@ -32,6 +32,9 @@ public class HtmlReporterSettings {
     private static final String REPORT_ENABLED_PROPERTY = "citrus.html.report.enabled";
     private static final String REPORT_ENABLED_ENV = "CITRUS_HTML_REPORT_ENABLED";
 
+    private static final String REPORT_STREAMING_PROPERTY = "citrus.html.report.streaming";
+    private static final String REPORT_STREAMING_ENV = "CITRUS_HTML_REPORT_STREAMING";
+
     /**
      * Get default report template HTML file.
      * @return the path to the template file.
@@ -85,4 +88,13 @@ public class HtmlReporterSettings {
         return Boolean.parseBoolean(System.getProperty(REPORT_ENABLED_PROPERTY,  System.getenv(REPORT_ENABLED_ENV) != null ?
                 System.getenv(REPORT_ENABLED_ENV) : Boolean.TRUE.toString()));
     }
+
+    /**
+     * Get setting to determine if HTML report is written incrementally as tests finish.
+     * @return
+     */
+    public static boolean isReportStreaming() {
+        return Boolean.parseBoolean(System.getProperty(REPORT_STREAMING_PROPERTY,  System.getenv(REPORT_STREAMING_ENV) != null ?
+                System.getenv(REPORT_STREAMING_ENV) : Boolean.FALSE.toString()));
+    }
 }
@@ -37,6 +37,9 @@ public class JUnitReporterSettings {
     private static final String REPORT_ENABLED_PROPERTY = "citrus.junit.report.enabled";
     private static final String REPORT_ENABLED_ENV = "CITRUS_JUNIT_REPORT_ENABLED";
 
+    private static final String REPORT_STREAMING_PROPERTY = "citrus.junit.report.streaming";
+    private static final String REPORT_STREAMING_ENV = "CITRUS_JUNIT_REPORT_STREAMING";
+
     /**
      * Get default report template file.
      * @return the path to the template file.
@@ -99,4 +102,13 @@ public class JUnitReporterSettings {
         return Boolean.parseBoolean(System.getProperty(REPORT_ENABLED_PROPERTY,  System.getenv(REPORT_ENABLED_ENV) != null ?
                 System.getenv(REPORT_ENABLED_ENV) : Boolean.TRUE.toString()));
     }
+
+    /**
+     * Get setting to determine if JUnit report is written incrementally as tests finish.
+     * @return
+     */
+    public static boolean isReportStreaming() {
+        return Boolean.parseBoolean(System.getProperty(REPORT_STREAMING_PROPERTY,  System.getenv(REPORT_STREAMING_ENV) != null ?
+                System.getenv(REPORT_STREAMING_ENV) : Boolean.FALSE.toString()));
+    }
 }
@@ -63,6 +63,10 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
             }
         });
 
+        if (testResults.getRetainedSize() < testResults.getSize()) {
+            info(String.format("... %d more test results not kept in memory", testResults.getSize() - testResults.getRetainedSize()));
+        }
+
         newLine();
 
         info("TOTAL:\t" + (testResults.getFailed() + testResults.getSuccess()));
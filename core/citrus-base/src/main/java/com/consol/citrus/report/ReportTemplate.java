@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.FileUtils;
+
+/**
+ * Report template compiled once into literal text and property segments. Properties are marked with '@' as in
+ * {@link com.consol.citrus.util.PropertyUtils} and a marker escaped with '\' is kept as literal text. Rendering writes
+ * the segments directly to a writer without building intermediate strings.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+final class ReportTemplate {
+
+    /** Constant marking a property in template files */
+    private static final char PROPERTY_MARKER = '@';
+
+    /** Alternating literal text and property names, always starting and ending with literal text */
+    private final String[] segments;
+
+    private ReportTemplate(String[] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Loads and compiles template from given resource path.
+     * @param templatePath
+     * @return
+     * @throws IOException
+     */
+    static ReportTemplate load(String templatePath) throws IOException {
+        return compile(FileUtils.readToString(FileUtils.getFileResource(templatePath)));
+    }
+
+    /**
+     * Compiles given template text.
+     * @param template
+     * @return
+     */
+    static ReportTemplate compile(String template) {
+        List<String> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int index = 0;
+        while (index < template.length()) {
+            char c = template.charAt(index);
+            if (c == '\\' && index + 1 < template.length() && template.charAt(index + 1) == PROPERTY_MARKER) {
+                literal.append(PROPERTY_MARKER);
+                index += 2;
+            } else if (c == PROPERTY_MARKER) {
+                int end = template.indexOf(PROPERTY_MARKER, index + 1);
+                if (end < 0) {
+                    throw new CitrusRuntimeException("Missing property end marker in report template at position " + index);
+                }
+
+                segments.add(literal.toString());
+                segments.add(template.substring(index + 1, end));
+                literal.setLength(0);
+                index = end + 1;
+            } else {
+                literal.append(c);
+                index++;
+            }
+        }
+
+        segments.add(literal.toString());
+        return new ReportTemplate(segments.toArray(new String[0]));
+    }
+
+    /**
+     * Splits this template at the first occurrence of given property. The head contains everything before and
+     * the tail everything after the property.
+     * @param property
+     * @return array holding head and tail template
+     */
+    ReportTemplate[] split(String property) {
+        for (int i = 1; i < segments.length; i += 2) {
+            if (segments[i].equals(property)) {
+                return new ReportTemplate[] {
+                        new ReportTemplate(Arrays.copyOfRange(segments, 0, i)),
+                        new ReportTemplate(Arrays.copyOfRange(segments, i + 1, segments.length))
+                };
+            }
+        }
+
+        throw new CitrusRuntimeException("No such property '" + PROPERTY_MARKER + property + PROPERTY_MARKER + "' in report template");
+    }
+
+    /**
+     * Writes template with given property values to the writer.
+     * @param writer
+     * @param properties
+     * @throws IOException
+     */
+    void write(Writer writer, Map<String, String> properties) throws IOException {
+        for (int i = 0; i < segments.length; i++) {
+            if (i % 2 == 0) {
+                writer.write(segments[i]);
+            } else {
+                String value = properties.get(segments[i]);
+                if (value == null && !properties.containsKey(segments[i])) {
+                    throw new CitrusRuntimeException("No such property '" + PROPERTY_MARKER + segments[i] + PROPERTY_MARKER + "'");
+                }
+
+                if (value != null) {
+                    writer.write(value);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.text.DateFormat;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.TestCaseMetaInfo;
+import com.consol.citrus.TestResult;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+/**
+ * HTML reporter writing each test result to the report as the test finishes. Results are appended to a result file
+ * next to the report so memory usage does not grow with the number of tests. The report summary is written when the
+ * test suite has finished using the result counts collected while streaming. Creates the same report as {@link HtmlReporter}.
+ *
+ * This reporter does not need the individual test results when the test suite has finished. When all registered
+ * reporters stream their results the {@link TestReporters} listener only keeps the result counts, so memory stays flat
+ * across large test suites. The reporter must be registered as test listener for the results to be streamed.
+ *
+ * Test results are rendered outside of the reporter lock. Only appending the rendered result to the report file is
+ * synchronized on the report file.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class StreamingHtmlReporter extends AbstractTestReporter implements TestListener {
+
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(StreamingHtmlReporter.class);
+
+    /** Property holding the test results in the report template */
+    private static final String TEST_RESULTS_PROPERTY = "test.results";
+
+    /** Static resource for the HTML test report template */
+    private String reportTemplate = HtmlReporterSettings.getReportTemplate();
+
+    /** Test detail template */
+    private String testDetailTemplate = HtmlReporterSettings.getReportDetailTemplate();
+
+    /** Resulting HTML test report file name */
+    private String reportFileName = HtmlReporterSettings.getReportFile();
+
+    /** Format for creation and update date of TestCases */
+    private DateFormat dateFormat = DateFormat.getDateInstance(DateFormat.MEDIUM);
+
+    /** Default logo image resource */
+    private String logo = HtmlReporterSettings.getReportLogo();
+
+    /** Enables/disables report generation */
+    private boolean enabled = HtmlReporterSettings.isReportEnabled();
+
+    /** Compiled test detail template */
+    private ReportTemplate detailTemplate;
+
+    /** Report file of the running test suite */
+    private StreamingReportFile reportFile;
+
+    @Override
+    public boolean requiresTestResults() {
+        return false;
+    }
+
+    @Override
+    public void onTestSuccess(TestCase test) {
+        appendResult(TestResult.success(test.getName(), test.getTestClass().getName()), test.getMetaInfo(), test.getDescription());
+    }
+
+    @Override
+    public void onTestFailure(TestCase test, Throwable cause) {
+        if (cause instanceof CitrusRuntimeException && ((CitrusRuntimeException) cause).getFailureStack().isEmpty()) {
+            ((CitrusRuntimeException) cause).setFailureStack(FailureStackTestListener.getFailureStack(test));
+        }
+
+        appendResult(TestResult.failed(test.getName(), test.getTestClass().getName(), cause), test.getMetaInfo(), test.getDescription());
+    }
+
+    @Override
+    public void onTestSkipped(TestCase test) {
+        appendResult(TestResult.skipped(test.getName(), test.getTestClass().getName()), test.getMetaInfo(), test.getDescription());
+    }
+
+    @Override
+    public void onTestStart(TestCase test) {
+        // do nothing
+    }
+
+    @Override
+    public void onTestFinish(TestCase test) {
+        // do nothing
+    }
+
+    /**
+     * Writes test result details to the report.
+     * @param result
+     * @param metaInfo
+     * @param description
+     */
+    private void appendResult(TestResult result, TestCaseMetaInfo metaInfo, String description) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            StreamingReportFile file = getReportFile();
+
+            final String emptyString = "";
+            Map<String, String> detailProps = new HashMap<>();
+            detailProps.put("test.style.class", result.getResult().toLowerCase());
+            detailProps.put("test.case.name", result.getTestName());
+            detailProps.put("test.author", !StringUtils.hasText(metaInfo.getAuthor()) ? emptyString : metaInfo.getAuthor());
+            detailProps.put("test.status", metaInfo.getStatus().toString());
+            detailProps.put("test.updater", !StringUtils.hasText(metaInfo.getLastUpdatedBy()) ? emptyString : metaInfo.getLastUpdatedBy());
+            detailProps.put("test.description", !StringUtils.hasText(description) ? emptyString : description);
+            detailProps.put("test.result", result.getResult());
+
+            synchronized (dateFormat) {
+                detailProps.put("test.creation.date", metaInfo.getCreationDate() == null ? emptyString : dateFormat.format(metaInfo.getCreationDate()));
+                detailProps.put("test.update.date", metaInfo.getLastUpdatedOn() == null ? emptyString : dateFormat.format(metaInfo.getLastUpdatedOn()));
+            }
+
+            StringWriter writer = new StringWriter();
+            detailTemplate.write(writer, detailProps);
+
+            if (result.isFailed() && result.getCause() != null) {
+                writer.write(HtmlReporter.getStackTraceHtml(result.getCause()));
+            }
+
+            file.append(result, writer.toString());
+        } catch (IOException e) {
+            log.error("Failed to write test result to HTML test report", e);
+        }
+    }
+
+    /**
+     * Gets report file of the running test suite. Creates the report file and compiles the detail template on first access.
+     * @return
+     * @throws IOException
+     */
+    private synchronized StreamingReportFile getReportFile() throws IOException {
+        if (reportFile == null) {
+            detailTemplate = ReportTemplate.load(testDetailTemplate);
+            reportFile = new StreamingReportFile(new File(getReportDirectory()), reportFileName);
+        }
+
+        return reportFile;
+    }
+
+    @Override
+    protected synchronized void generate(TestResults testResults) {
+        if (!enabled) {
+            return;
+        }
+
+        if (reportFile == null) {
+            // no test results streamed so far - reporter has not been registered as test listener
+            testResults.doWithResults(result -> appendResult(result, new TestCaseMetaInfo(), null));
+        }
+
+        try {
+            if (reportFile == null) {
+                reportFile = new StreamingReportFile(new File(getReportDirectory()), reportFileName);
+            }
+
+            ReportTemplate[] templates = ReportTemplate.load(reportTemplate).split(TEST_RESULTS_PROPERTY);
+
+            Map<String, String> reportProps = new HashMap<>();
+            reportProps.put("test.cnt", Integer.toString(reportFile.getTests()));
+            reportProps.put("skipped.test.cnt", Integer.toString(reportFile.getSkipped()));
+            reportProps.put("skipped.test.pct", getPercentage(reportFile.getSkipped(), reportFile.getTests()));
+            reportProps.put("failed.test.cnt", Integer.toString(reportFile.getFailed()));
+            reportProps.put("failed.test.pct", getPercentage(reportFile.getFailed(), reportFile.getFailed() + reportFile.getSuccess()));
+            reportProps.put("success.test.cnt", Integer.toString(reportFile.getSuccess()));
+            reportProps.put("success.test.pct", getPercentage(reportFile.getSuccess(), reportFile.getFailed() + reportFile.getSuccess()));
+            reportProps.put("logo.data", HtmlReporter.getLogoImageData(logo));
+
+            reportFile.finish(templates[0], templates[1], reportProps);
+            log.info("Generated test report: " + reportFile.getReportFile());
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to generate HTML test report", e);
+        } finally {
+            reportFile = null;
+        }
+    }
+
+    /**
+     * Calculates percentage in the same format as {@link TestResults}.
+     * @param count
+     * @param total
+     * @return
+     */
+    private String getPercentage(int count, int total) {
+        if (reportFile.getTests() == 0) {
+            return "0.0";
+        }
+
+        DecimalFormatSymbols symbol = new DecimalFormatSymbols();
+        symbol.setDecimalSeparator('.');
+        return new DecimalFormat("0.0", symbol).format((double) count / total * 100);
+    }
+
+    /**
+     * Sets the logo.
+     * @param logo the logo to set
+     */
+    public void setLogo(String logo) {
+        this.logo = logo;
+    }
+
+    /**
+     * Sets the reportFileName property.
+     *
+     * @param reportFileName
+     */
+    public void setReportFileName(String reportFileName) {
+        this.reportFileName = reportFileName;
+    }
+
+    /**
+     * Gets the reportFileName.
+     *
+     * @return
+     */
+    public String getReportFileName() {
+        return reportFileName;
+    }
+
+    /**
+     * Sets the dateFormat property.
+     *
+     * @param dateFormat
+     */
+    public void setDateFormat(DateFormat dateFormat) {
+        this.dateFormat = dateFormat;
+    }
+
+    /**
+     * Sets the reportTemplate property.
+     *
+     * @param reportTemplate
+     */
+    public void setReportTemplate(String reportTemplate) {
+        this.reportTemplate = reportTemplate;
+    }
+
+    /**
+     * Sets the testDetailTemplate property.
+     *
+     * @param testDetailTemplate
+     */
+    public void setTestDetailTemplate(String testDetailTemplate) {
+        this.testDetailTemplate = testDetailTemplate;
+    }
+
+    /**
+     * Sets the enabled property.
+     * @param enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the enabled.
+     * @return
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.TestResult;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.FileUtils;
+import org.apache.commons.lang.StringEscapeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+/**
+ * JUnit reporter writing each test result to the test suite report and the test class report as the test finishes.
+ * Results are appended to result files next to the reports so memory usage does not grow with the number of tests.
+ * Report summaries are written when the test suite has finished using the result counts collected while streaming.
+ * Creates the same reports as {@link JUnitReporter}.
+ *
+ * This reporter does not need the individual test results when the test suite has finished. When all registered
+ * reporters stream their results the {@link TestReporters} listener only keeps the result counts, so memory stays flat
+ * across large test suites. The reporter must be registered as test listener for the results to be streamed.
+ *
+ * Test results are rendered outside of the reporter lock. Only appending the rendered result to the report files is
+ * synchronized on the respective report file.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class StreamingJUnitReporter extends AbstractTestReporter implements TestListener {
+
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(StreamingJUnitReporter.class);
+
+    /** Property holding the test results in the report template */
+    private static final String TESTS_PROPERTY = "tests";
+
+    /** Maximum number of test class result files kept open at the same time */
+    private static final int MAX_OPEN_FILES = 16;
+
+    /** Output directory */
+    private String outputDirectory = JUnitReporterSettings.getReportDirectory();
+
+    /** Resulting test report file name */
+    private String reportFileNamePattern = JUnitReporterSettings.getReportFilePattern();
+
+    /** Test suite name to use in report */
+    private String suiteName = JUnitReporterSettings.getSuiteName();
+
+    /** Static resource for the summary test report template */
+    private String reportTemplate = JUnitReporterSettings.getReportTemplate();
+
+    /** Test result template */
+    private String successTemplate = JUnitReporterSettings.getSuccessTemplate();
+
+    /** Test result template */
+    private String failedTemplate = JUnitReporterSettings.getFailedTemplate();
+
+    /** Enables/disables report generation */
+    private boolean enabled = JUnitReporterSettings.isReportEnabled();
+
+    /** Compiled test result templates */
+    private ReportTemplate successResultTemplate;
+    private ReportTemplate failedResultTemplate;
+
+    /** Test suite report file of the running test suite */
+    private StreamingReportFile suiteFile;
+
+    /** Test class report files of the running test suite */
+    private final Map<String, StreamingReportFile> classFiles = new HashMap<>();
+
+    /** Test class report files with open result writer in access order */
+    private final Map<String, StreamingReportFile> openClassFiles = new LinkedHashMap<>(MAX_OPEN_FILES, 0.75f, true);
+
+    @Override
+    public boolean requiresTestResults() {
+        return false;
+    }
+
+    @Override
+    public void onTestSuccess(TestCase test) {
+        appendResult(TestResult.success(test.getName(), test.getTestClass().getName()));
+    }
+
+    @Override
+    public void onTestFailure(TestCase test, Throwable cause) {
+        appendResult(TestResult.failed(test.getName(), test.getTestClass().getName(), cause));
+    }
+
+    @Override
+    public void onTestSkipped(TestCase test) {
+        appendResult(TestResult.skipped(test.getName(), test.getTestClass().getName()));
+    }
+
+    @Override
+    public void onTestStart(TestCase test) {
+        // do nothing
+    }
+
+    @Override
+    public void onTestFinish(TestCase test) {
+        // do nothing
+    }
+
+    /**
+     * Writes test result to the test suite report and the test class report.
+     * @param result
+     */
+    private void appendResult(TestResult result) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            StreamingReportFile file = getSuiteFile();
+
+            Map<String, String> detailProps = new HashMap<>();
+            detailProps.put("test.class", result.getClassName());
+            detailProps.put("test.name", StringEscapeUtils.escapeXml(result.getTestName()));
+            detailProps.put("test.duration", "0.0");
+
+            ReportTemplate template = successResultTemplate;
+            if (result.isFailed()) {
+                detailProps.put("test.error.cause", Optional.ofNullable(result.getCause()).map(Object::getClass).map(Class::getName).orElse(Objects.toString(result.getFailureType(), "")));
+                detailProps.put("test.error.msg", StringEscapeUtils.escapeXml(result.getErrorMessage()));
+                detailProps.put("test.error.stackTrace", Optional.ofNullable(result.getCause()).map(cause -> {
+                    StringWriter writer = new StringWriter();
+                    cause.printStackTrace(new PrintWriter(writer));
+                    return writer.toString();
+                }).orElse(Objects.toString(result.getFailureType(), "")));
+                template = failedResultTemplate;
+            }
+
+            String content = renderResult(template, detailProps);
+            file.append(result, content);
+            getClassFile(result.getClassName()).append(result, content);
+        } catch (IOException e) {
+            log.error("Failed to write test result to JUnit test report", e);
+        }
+    }
+
+    /**
+     * Renders single test result line.
+     * @param template
+     * @param detailProps
+     * @return
+     * @throws IOException
+     */
+    private String renderResult(ReportTemplate template, Map<String, String> detailProps) throws IOException {
+        StringWriter writer = new StringWriter();
+        writer.write(System.lineSeparator());
+        writer.write("    ");
+        template.write(writer, detailProps);
+        return writer.toString();
+    }
+
+    /**
+     * Gets test suite report file of the running test suite. Creates the report file and compiles the result templates
+     * on first access.
+     * @return
+     * @throws IOException
+     */
+    private synchronized StreamingReportFile getSuiteFile() throws IOException {
+        if (suiteFile == null) {
+            successResultTemplate = loadTemplate(successTemplate);
+            failedResultTemplate = loadTemplate(failedTemplate);
+            suiteFile = new StreamingReportFile(new File(getReportDirectory()), String.format(reportFileNamePattern, suiteName));
+        }
+
+        return suiteFile;
+    }
+
+    /**
+     * Gets report file for given test class. Closes the least recently used result writer when too many
+     * test class result files are open.
+     * @param className
+     * @return
+     * @throws IOException
+     */
+    private synchronized StreamingReportFile getClassFile(String className) throws IOException {
+        StreamingReportFile classFile = classFiles.get(className);
+        if (classFile == null) {
+            classFile = new StreamingReportFile(getClassReportDirectory(), String.format(reportFileNamePattern, className));
+            classFiles.put(className, classFile);
+        }
+
+        openClassFiles.put(className, classFile);
+        if (openClassFiles.size() > MAX_OPEN_FILES) {
+            Map.Entry<String, StreamingReportFile> eldest = openClassFiles.entrySet().iterator().next();
+            eldest.getValue().close();
+            openClassFiles.remove(eldest.getKey());
+        }
+
+        return classFile;
+    }
+
+    @Override
+    protected synchronized void generate(TestResults testResults) {
+        if (!enabled) {
+            return;
+        }
+
+        if (suiteFile == null) {
+            // no test results streamed so far - reporter has not been registered as test listener
+            testResults.doWithResults(this::appendResult);
+        }
+
+        log.debug("Generating JUnit test report");
+
+        try {
+            if (suiteFile == null) {
+                suiteFile = new StreamingReportFile(new File(getReportDirectory()), String.format(reportFileNamePattern, suiteName));
+            }
+
+            ReportTemplate[] templates = loadTemplate(reportTemplate).split(TESTS_PROPERTY);
+
+            finish(suiteName, suiteFile, templates);
+            for (Map.Entry<String, StreamingReportFile> classFile : classFiles.entrySet()) {
+                finish(classFile.getKey(), classFile.getValue(), templates);
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to generate JUnit test report", e);
+        } finally {
+            suiteFile = null;
+            classFiles.clear();
+            openClassFiles.clear();
+        }
+    }
+
+    /**
+     * Writes the final report with test summary.
+     * @param name
+     * @param reportFile
+     * @param templates
+     * @throws IOException
+     */
+    private void finish(String name, StreamingReportFile reportFile, ReportTemplate[] templates) throws IOException {
+        Map<String, String> reportProps = new HashMap<>();
+        reportProps.put("test.suite", name);
+        reportProps.put("test.cnt", Integer.toString(reportFile.getTests()));
+        reportProps.put("test.skipped.cnt", Integer.toString(reportFile.getSkipped()));
+        reportProps.put("test.failed.cnt", Integer.toString(reportFile.getFailed()));
+        reportProps.put("test.success.cnt", Integer.toString(reportFile.getSuccess()));
+        reportProps.put("test.error.cnt", "0");
+        reportProps.put("test.duration", "0.0");
+
+        reportFile.finish(templates[0], templates[1], reportProps);
+    }
+
+    /**
+     * Loads and compiles template, surrounding whitespace is removed.
+     * @param templatePath
+     * @return
+     * @throws IOException
+     */
+    private ReportTemplate loadTemplate(String templatePath) throws IOException {
+        return ReportTemplate.compile(FileUtils.readToString(FileUtils.getFileResource(templatePath)).trim());
+    }
+
+    /**
+     * Gets the target directory of test class reports.
+     * @return
+     */
+    private File getClassReportDirectory() {
+        return new File(getReportDirectory() + (StringUtils.hasText(outputDirectory) ? File.separator + outputDirectory : ""));
+    }
+
+    /**
+     * Gets the outputDirectory.
+     *
+     * @return
+     */
+    public String getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    /**
+     * Sets the outputDirectory.
+     *
+     * @param outputDirectory
+     */
+    public void setOutputDirectory(String outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+
+    /**
+     * Gets the reportFileNamePattern.
+     *
+     * @return
+     */
+    public String getReportFileNamePattern() {
+        return reportFileNamePattern;
+    }
+
+    /**
+     * Sets the reportFileNamePattern.
+     *
+     * @param reportFileNamePattern
+     */
+    public void setReportFileNamePattern(String reportFileNamePattern) {
+        this.reportFileNamePattern = reportFileNamePattern;
+    }
+
+    /**
+     * Gets the reportTemplate.
+     *
+     * @return
+     */
+    public String getReportTemplate() {
+        return reportTemplate;
+    }
+
+    /**
+     * Sets the reportTemplate.
+     *
+     * @param reportTemplate
+     */
+    public void setReportTemplate(String reportTemplate) {
+        this.reportTemplate = reportTemplate;
+    }
+
+    /**
+     * Gets the suiteName.
+     *
+     * @return
+     */
+    public String getSuiteName() {
+        return suiteName;
+    }
+
+    /**
+     * Sets the suiteName.
+     *
+     * @param suiteName
+     */
+    public void setSuiteName(String suiteName) {
+        this.suiteName = suiteName;
+    }
+
+    /**
+     * Gets the successTemplate.
+     *
+     * @return
+     */
+    public String getSuccessTemplate() {
+        return successTemplate;
+    }
+
+    /**
+     * Sets the successTemplate.
+     *
+     * @param successTemplate
+     */
+    public void setSuccessTemplate(String successTemplate) {
+        this.successTemplate = successTemplate;
+    }
+
+    /**
+     * Gets the failedTemplate.
+     *
+     * @return
+     */
+    public String getFailedTemplate() {
+        return failedTemplate;
+    }
+
+    /**
+     * Sets the failedTemplate.
+     *
+     * @param failedTemplate
+     */
+    public void setFailedTemplate(String failedTemplate) {
+        this.failedTemplate = failedTemplate;
+    }
+
+    /**
+     * Gets the enabled.
+     *
+     * @return
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the enabled.
+     *
+     * @param enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
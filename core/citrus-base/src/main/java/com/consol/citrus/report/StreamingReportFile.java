@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.Map;
+
+import com.consol.citrus.TestResult;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+
+/**
+ * Report file written incrementally by streaming reporters. Test results are appended to a separate result file as
+ * tests finish while the file keeps count of the results. When the report is finished the report head is written
+ * with the final counts, followed by the result file content and the report tail. Only the counts are kept in memory.
+ *
+ * Access is synchronized per report file so reporters are able to render test results outside their own lock and
+ * streaming to different report files does not block each other.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+final class StreamingReportFile {
+
+    /** File name suffix of the result file holding the streamed test results */
+    static final String RESULT_FILE_SUFFIX = ".part";
+
+    /** Final report file */
+    private final File reportFile;
+
+    /** Result file collecting the test results */
+    private final File resultFile;
+
+    /** Writer on the result file, closed while the file is not in use */
+    private Writer writer;
+
+    private int tests;
+    private int success;
+    private int failed;
+    private int skipped;
+
+    /**
+     * Creates new report file in given directory. Removes leftover result files of previous runs.
+     * @param targetDirectory
+     * @param reportFileName
+     */
+    StreamingReportFile(File targetDirectory, String reportFileName) {
+        if (!targetDirectory.exists()) {
+            if (!targetDirectory.mkdirs()) {
+                throw new CitrusRuntimeException("Unable to create report output directory: " + targetDirectory);
+            }
+        }
+
+        this.reportFile = new File(targetDirectory, reportFileName);
+        this.resultFile = new File(targetDirectory, reportFileName + RESULT_FILE_SUFFIX);
+
+        try {
+            Files.deleteIfExists(resultFile.toPath());
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to remove test report result file: " + resultFile, e);
+        }
+    }
+
+    /**
+     * Appends rendered test result content to the result file and counts given test result.
+     * @param result
+     * @param content
+     * @throws IOException
+     */
+    synchronized void append(TestResult result, String content) throws IOException {
+        if (writer == null) {
+            writer = new BufferedWriter(new FileWriter(resultFile, true));
+        }
+
+        writer.write(content);
+
+        tests++;
+        if (result.isSuccess()) {
+            success++;
+        } else if (result.isFailed()) {
+            failed++;
+        } else if (result.isSkipped()) {
+            skipped++;
+        }
+    }
+
+    /**
+     * Closes the writer on the result file. Subsequent results reopen the file in append mode.
+     * @throws IOException
+     */
+    synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    /**
+     * Writes the final report with the result file content placed between given head and tail template.
+     * Removes the result file afterwards.
+     * @param head
+     * @param tail
+     * @param properties
+     * @throws IOException
+     */
+    synchronized void finish(ReportTemplate head, ReportTemplate tail, Map<String, String> properties) throws IOException {
+        close();
+
+        try (Writer fileWriter = new BufferedWriter(new FileWriter(reportFile))) {
+            head.write(fileWriter, properties);
+
+            if (resultFile.exists()) {
+                try (Reader reader = new FileReader(resultFile)) {
+                    reader.transferTo(fileWriter);
+                }
+            }
+
+            tail.write(fileWriter, properties);
+        }
+
+        Files.deleteIfExists(resultFile.toPath());
+    }
+
+    /**
+     * Gets the reportFile.
+     * @return
+     */
+    File getReportFile() {
+        return reportFile;
+    }
+
+    /**
+     * Gets the number of tests.
+     * @return
+     */
+    synchronized int getTests() {
+        return tests;
+    }
+
+    /**
+     * Gets the number of tests in success.
+     * @return
+     */
+    synchronized int getSuccess() {
+        return success;
+    }
+
+    /**
+     * Gets the number of failed tests.
+     * @return
+     */
+    synchronized int getFailed() {
+        return failed;
+    }
+
+    /**
+     * Gets the number of skipped tests.
+     * @return
+     */
+    synchronized int getSkipped() {
+        return skipped;
+    }
+}
@@ -40,6 +40,11 @@ public class SummaryReporter extends AbstractOutputFileReporter {
     /** Static resource for the summary test report template */
     private String reportTemplate = SummaryReporterSettings.getReportTemplate();
 
+    @Override
+    public boolean requiresTestResults() {
+        return false;
+    }
+
     @Override
     protected String getReportContent(TestResults testResults) {
         try {
@@ -46,7 +46,6 @@ public class MessageUtils {
         }
 
         return Optional.ofNullable(message.getPayload(String.class))
-                .map(String::trim)
                 .map(payload -> IsXmlPredicate.getInstance().test(payload))
                 .orElse(true);
     }
@@ -62,7 +61,6 @@ public class MessageUtils {
         }
 
         return Optional.ofNullable(message.getPayload(String.class))
-                .map(String::trim)
                 .map(payload->IsJsonPredicate.getInstance().test(payload))
                 .orElse(true);
     }
@@ -183,6 +183,18 @@ public class TestCaseTest extends UnitTestSupport {
         testcase.execute(context);
     }
 
+    @Test(expectedExceptions = {TestCaseFailedException.class}, expectedExceptionsMessageRegExp = "This failed in finish callback")
+    public void testExceptionInFinishCallback() {
+        final TestCase testcase = new DefaultTestCase();
+        testcase.setName("MyTestCase");
+
+        testcase.addTestAction(action(context -> context.addFinishCallback(ctx -> {
+            throw new CitrusRuntimeException("This failed in finish callback");
+        })).build());
+
+        testcase.execute(context);
+    }
+
     @Test
     public void testFinalActions() {
         final TestCase testcase = new DefaultTestCase();
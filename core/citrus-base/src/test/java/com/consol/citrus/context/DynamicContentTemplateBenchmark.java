@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.functions.DefaultFunctionLibrary;
+import com.consol.citrus.functions.FunctionUtils;
+import com.consol.citrus.variable.VariableUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares compiled dynamic content templates with plain variable and function replacement in strings.
+ * Payloads of 10 and 100 elements stay below the maximum cached source length, so these cases measure
+ * resolving a cached template. The 1000 elements payload is not cached and gets parsed on every call.
+ * Run with main method from test classpath.
+ *
+ * @author Christoph Deppisch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicContentTemplateBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int elements;
+
+    private TestContext context;
+    private String payload;
+
+    @Setup
+    public void setup() {
+        TestContextFactory factory = TestContextFactory.newInstance();
+        factory.getFunctionRegistry().addFunctionLibrary(new DefaultFunctionLibrary());
+        context = factory.getObject();
+
+        context.setVariable("id", "1234");
+        context.setVariable("name", "Citrus");
+
+        StringBuilder template = new StringBuilder("<messages>");
+        for (int i = 0; i < elements; i++) {
+            template.append("<message><id>${id}</id><text>Hello ${name}!</text><index>").append(i).append("</index></message>");
+        }
+        payload = template.append("</messages>").toString();
+
+        DynamicContentTemplate.clearCache();
+        boolean cached = DynamicContentTemplate.compile(payload) == DynamicContentTemplate.compile(payload);
+        if (cached != (elements <= 100)) {
+            throw new IllegalStateException(String.format("Unexpected template caching for %s elements with payload length %s",
+                    elements, payload.length()));
+        }
+    }
+
+    @Benchmark
+    public String replaceInString() {
+        return FunctionUtils.replaceFunctionsInString(VariableUtils.replaceVariablesInString(payload, context, false), context, false);
+    }
+
+    @Benchmark
+    public String resolveTemplate() {
+        return context.replaceDynamicContentInString(payload);
+    }
+
+    @Benchmark
+    public DynamicContentTemplate compileTemplate() {
+        return DynamicContentTemplate.compile(payload);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DynamicContentTemplateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
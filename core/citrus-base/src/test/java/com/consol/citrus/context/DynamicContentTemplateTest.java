@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.UnitTestSupport;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.functions.Function;
+import com.consol.citrus.functions.FunctionLibrary;
+import com.consol.citrus.functions.FunctionRegistry;
+import com.consol.citrus.functions.FunctionUtils;
+import com.consol.citrus.variable.VariableUtils;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class DynamicContentTemplateTest extends UnitTestSupport {
+
+    @DataProvider
+    public Object[][] templates() {
+        return new Object[][] {
+            new Object[] { "" },
+            new Object[] { "Hello Citrus!" },
+            new Object[] { "${greeting}" },
+            new Object[] { "${greeting} ${name}!" },
+            new Object[] { "<message><text>${greeting} ${name}!</text><id>${id}</id></message>" },
+            new Object[] { "citrus:concat('Hello', ' ', 'Citrus!')" },
+            new Object[] { "<text>citrus:upperCase('hello')</text><text>citrus:concat('a', citrus:lowerCase('B'))</text>" },
+            new Object[] { "citrus:concat(${greeting}, ' ', ${name})" },
+            new Object[] { "${function}" },
+            new Object[] { "Text with (brackets): but no function" },
+            new Object[] { "${greeting} citrus:upperCase(${name})" }
+        };
+    }
+
+    @Test(dataProvider = "templates")
+    public void testResolveSameAsUtils(String source) {
+        context.setVariable("greeting", "Hello");
+        context.setVariable("name", "Citrus");
+        context.setVariable("id", "1234");
+        context.setVariable("function", "citrus:upperCase('hello')");
+
+        for (boolean enableQuoting : new boolean[] { false, true }) {
+            String expected = FunctionUtils.replaceFunctionsInString(VariableUtils.replaceVariablesInString(source, context, enableQuoting), context, enableQuoting);
+
+            DynamicContentTemplate template = DynamicContentTemplate.compile(source);
+            Assert.assertEquals(template.resolve(context, enableQuoting), expected);
+            Assert.assertEquals(template.resolve(context, enableQuoting), expected);
+        }
+    }
+
+    @Test
+    public void testResolveChangedVariables() {
+        DynamicContentTemplate template = DynamicContentTemplate.compile("Hello ${name}!");
+
+        context.setVariable("name", "Citrus");
+        Assert.assertEquals(template.resolve(context), "Hello Citrus!");
+
+        context.setVariable("name", "Test");
+        Assert.assertEquals(template.resolve(context), "Hello Test!");
+    }
+
+    @Test
+    public void testResolveFunctionResultsInRegistryOrder() {
+        FunctionRegistry functionRegistry = new FunctionRegistry();
+        functionRegistry.addFunctionLibrary(createFunctionLibrary("first:", "second:upper('first')"));
+        functionRegistry.addFunctionLibrary(createFunctionLibrary("second:", "first:upper('second')"));
+        context.setFunctionRegistry(functionRegistry);
+
+        for (String source : new String[] { "first:call()", "second:call()", "first:upper('a') second:upper('b')", "<call>first:call()</call>" }) {
+            for (boolean enableQuoting : new boolean[] { false, true }) {
+                String expected = FunctionUtils.replaceFunctionsInString(source, context, enableQuoting);
+
+                DynamicContentTemplate template = DynamicContentTemplate.compile(source);
+                Assert.assertEquals(template.resolve(context, enableQuoting), expected);
+                Assert.assertEquals(template.resolve(context, enableQuoting), expected);
+            }
+        }
+
+        Assert.assertEquals(DynamicContentTemplate.compile("first:call()").resolve(context), "FIRST");
+        Assert.assertEquals(DynamicContentTemplate.compile("second:call()").resolve(context), "first:upper('second')");
+    }
+
+    @Test
+    public void testCacheBounded() {
+        int cacheSize = CitrusSettings.getTemplateCacheSize();
+        DynamicContentTemplate.clearCache();
+
+        DynamicContentTemplate hot = DynamicContentTemplate.compile("Hello ${name}!");
+        for (int i = 0; i < cacheSize * 3; i++) {
+            DynamicContentTemplate template = DynamicContentTemplate.compile("${name} " + i);
+            Assert.assertSame(DynamicContentTemplate.compile("${name} " + i), template);
+            Assert.assertSame(DynamicContentTemplate.compile("Hello ${name}!"), hot);
+        }
+
+        Assert.assertTrue(DynamicContentTemplate.getCacheSize() <= cacheSize);
+
+        DynamicContentTemplate.clearCache();
+        Assert.assertEquals(DynamicContentTemplate.getCacheSize(), 0);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnknownVariable() {
+        DynamicContentTemplate.compile("Hello ${unknown}!").resolve(context);
+    }
+
+    private FunctionLibrary createFunctionLibrary(String prefix, String callResult) {
+        Map<String, Function> members = new HashMap<>();
+        members.put("call", (parameterList, context) -> callResult);
+        members.put("upper", (parameterList, context) -> parameterList.get(0).toUpperCase());
+
+        FunctionLibrary library = new FunctionLibrary();
+        library.setName(prefix);
+        library.setPrefix(prefix);
+        library.setMembers(members);
+        return library;
+    }
+}
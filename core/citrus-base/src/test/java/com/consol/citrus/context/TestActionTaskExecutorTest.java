@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.UnitTestSupport;
+import com.consol.citrus.actions.EchoAction;
+import com.consol.citrus.actions.FailAction;
+import com.consol.citrus.actions.SleepAction;
+import com.consol.citrus.container.Parallel;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ParallelContainerException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static com.consol.citrus.container.Parallel.Builder.parallel;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class TestActionTaskExecutorTest extends UnitTestSupport {
+
+    @DataProvider
+    public Object[][] modes() {
+        return new Object[][] {
+            new Object[] { TestActionTaskExecutor.Mode.CACHED, 0 },
+            new Object[] { TestActionTaskExecutor.Mode.FIXED, 2 },
+            new Object[] { TestActionTaskExecutor.Mode.FORK_JOIN, 2 },
+            new Object[] { TestActionTaskExecutor.Mode.VIRTUAL, 2 }
+        };
+    }
+
+    @Test(dataProvider = "modes")
+    public void testMaxParallelism(TestActionTaskExecutor.Mode mode, int maxParallelism) throws Exception {
+        TestActionTaskExecutor executor = new TestActionTaskExecutor(mode, maxParallelism);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(executor.submit(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(50L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            }));
+        }
+
+        for (Future<?> task : tasks) {
+            task.get(5000L, TimeUnit.MILLISECONDS);
+        }
+
+        if (maxParallelism > 0) {
+            Assert.assertTrue(maxRunning.get() <= maxParallelism);
+        }
+
+        executor.shutdown();
+    }
+
+    @Test(dataProvider = "modes")
+    public void testNestedTasks(TestActionTaskExecutor.Mode mode, int maxParallelism) throws Exception {
+        TestActionTaskExecutor executor = new TestActionTaskExecutor(mode, maxParallelism);
+
+        List<Future<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            tasks.add(executor.submit(() -> executor.submit(() -> 1).get() + executor.submit(() -> 1).get()));
+        }
+
+        for (Future<Integer> task : tasks) {
+            Assert.assertEquals(task.get(5000L, TimeUnit.MILLISECONDS), Integer.valueOf(2));
+        }
+
+        executor.shutdown();
+    }
+
+    @Test
+    public void testTasksOfOtherExecutorAreBound() throws Exception {
+        TestActionTaskExecutor outer = new TestActionTaskExecutor(TestActionTaskExecutor.Mode.CACHED, 0);
+        TestActionTaskExecutor executor = new TestActionTaskExecutor(TestActionTaskExecutor.Mode.FIXED, 1);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            tasks.add(outer.submit(() -> executor.submit(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(50L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            }).get()));
+        }
+
+        for (Future<?> task : tasks) {
+            task.get(5000L, TimeUnit.MILLISECONDS);
+        }
+
+        Assert.assertEquals(maxRunning.get(), 1);
+
+        outer.shutdown();
+        executor.shutdown();
+    }
+
+    @Test(expectedExceptions = RejectedExecutionException.class)
+    public void testDestroy() throws Exception {
+        TestActionTaskExecutor executor = new TestActionTaskExecutor(TestActionTaskExecutor.Mode.FIXED, 2);
+        Assert.assertEquals(executor.submit(() -> 1).get(5000L, TimeUnit.MILLISECONDS), Integer.valueOf(1));
+
+        executor.destroy();
+        executor.submit(() -> 1);
+    }
+
+    @Test(expectedExceptions = ExecutionException.class)
+    public void testTaskFailure() throws Exception {
+        TestActionTaskExecutor executor = new TestActionTaskExecutor(TestActionTaskExecutor.Mode.CACHED, 0);
+        executor.submit(() -> {
+            throw new CitrusRuntimeException("Failed!");
+        }).get();
+    }
+
+    @Test
+    public void testParallelWithFixedExecutor() {
+        context.setTaskExecutor(new TestActionTaskExecutor(TestActionTaskExecutor.Mode.FIXED, 2));
+
+        Parallel parallelAction = parallel()
+                .actions(new EchoAction.Builder(),
+                        new SleepAction.Builder().milliseconds(50L),
+                        parallel().actions(new EchoAction.Builder(), new SleepAction.Builder().milliseconds(50L)),
+                        parallel().actions(new EchoAction.Builder(), new SleepAction.Builder().milliseconds(50L)))
+                .build();
+
+        parallelAction.execute(context);
+    }
+
+    @Test
+    public void testParallelFailures() {
+        context.setTaskExecutor(new TestActionTaskExecutor(TestActionTaskExecutor.Mode.FIXED, 2));
+
+        Parallel parallelAction = parallel()
+                .actions(new EchoAction.Builder(),
+                        new FailAction.Builder(),
+                        new FailAction.Builder())
+                .build();
+
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing parallel container exception");
+        } catch (ParallelContainerException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Several actions failed in parallel container"));
+        }
+    }
+}
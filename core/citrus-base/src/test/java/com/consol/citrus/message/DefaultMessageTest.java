@@ -19,6 +19,9 @@
 
 package com.consol.citrus.message;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
 import com.consol.citrus.UnitTestSupport;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -110,4 +113,24 @@ public class DefaultMessageTest extends UnitTestSupport {
                     "citrus_message_id=%s, citrus_message_timestamp=%s, operation=getCredentials, password=****, secretKey=****" +
                 "}]", message.getId(), message.getId(), message.getTimestamp()));
     }
+
+    @Test
+    public void testParsedPayloadCache() {
+        DefaultMessage message = new DefaultMessage("Hello");
+
+        AtomicInteger parsed = new AtomicInteger();
+        Function<Message, StringBuilder> parser = msg -> {
+            parsed.incrementAndGet();
+            return new StringBuilder(msg.getPayload(String.class));
+        };
+
+        StringBuilder first = message.getParsedPayload(StringBuilder.class, parser);
+        Assert.assertEquals(first.toString(), "Hello");
+        Assert.assertSame(message.getParsedPayload(StringBuilder.class, parser), first);
+        Assert.assertEquals(parsed.get(), 1);
+
+        message.setPayload("Hello Citrus");
+        Assert.assertEquals(message.getParsedPayload(StringBuilder.class, parser).toString(), "Hello Citrus");
+        Assert.assertEquals(parsed.get(), 2);
+    }
 }
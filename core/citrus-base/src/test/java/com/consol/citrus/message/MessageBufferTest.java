@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class MessageBufferTest {
+
+    @Test
+    public void testReceiveInArrivalOrder() {
+        MessageBuffer<String> buffer = new MessageBuffer<>("testBuffer");
+        buffer.add("first");
+        buffer.add("second");
+
+        Assert.assertEquals(buffer.receive(null, 0L), "first");
+        Assert.assertEquals(buffer.receive(null, 0L), "second");
+        Assert.assertNull(buffer.receive(null, 0L));
+    }
+
+    @Test
+    public void testReceiveFiltered() {
+        MessageBuffer<String> buffer = new MessageBuffer<>("testBuffer");
+        buffer.add("foo");
+        buffer.add("bar");
+
+        Assert.assertEquals(buffer.receive("bar"::equals, 0L), "bar");
+        Assert.assertNull(buffer.receive("bar"::equals, 0L));
+        Assert.assertEquals(buffer.size(), 1);
+    }
+
+    @Test
+    public void testReceiveTimeout() {
+        MessageBuffer<String> buffer = new MessageBuffer<>("testBuffer");
+        buffer.add("foo");
+
+        long start = System.currentTimeMillis();
+        Assert.assertNull(buffer.receive("bar"::equals, 200L));
+        Assert.assertTrue(System.currentTimeMillis() - start >= 150L);
+        Assert.assertEquals(buffer.size(), 1);
+    }
+
+    @Test
+    public void testReceiveWaitsForArrival() throws Exception {
+        MessageBuffer<String> buffer = new MessageBuffer<>("testBuffer");
+
+        CompletableFuture<String> received = CompletableFuture.supplyAsync(() -> buffer.receive("bar"::equals, 5000L));
+        Thread.sleep(100L);
+        buffer.add("foo");
+        buffer.add("bar");
+
+        Assert.assertEquals(received.get(5, TimeUnit.SECONDS), "bar");
+        Assert.assertEquals(buffer.clear(), Arrays.asList("foo"));
+        Assert.assertEquals(buffer.size(), 0);
+    }
+
+    @Test
+    public void testFilterEvaluatedOnceOutsideLock() throws Exception {
+        MessageBuffer<String> buffer = new MessageBuffer<>("testBuffer");
+        List<String> evaluated = new CopyOnWriteArrayList<>();
+        CountDownLatch filtering = new CountDownLatch(1);
+        CountDownLatch added = new CountDownLatch(1);
+
+        buffer.add("foo");
+        CompletableFuture<String> received = CompletableFuture.supplyAsync(() -> buffer.receive(message -> {
+            evaluated.add(message);
+            if (message.equals("foo")) {
+                filtering.countDown();
+                try {
+                    Assert.assertTrue(added.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return message.equals("bar");
+        }, 5000L));
+
+        Assert.assertTrue(filtering.await(5, TimeUnit.SECONDS));
+        buffer.add("other");
+        added.countDown();
+        buffer.add("bar");
+
+        Assert.assertEquals(received.get(5, TimeUnit.SECONDS), "bar");
+        Assert.assertEquals(evaluated, Arrays.asList("foo", "other", "bar"));
+        Assert.assertEquals(buffer.size(), 2);
+    }
+}
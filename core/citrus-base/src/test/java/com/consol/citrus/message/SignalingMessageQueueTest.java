@@ -0,0 +1,167 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.selector.HeaderMatchingMessageSelector;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class SignalingMessageQueueTest {
+
+    private TestContext context;
+
+    @BeforeMethod
+    public void setupMocks() {
+        context = new TestContext();
+    }
+
+    @Test
+    public void testReceiveSelected() {
+        SignalingMessageQueue queue = new SignalingMessageQueue("testQueue");
+
+        queue.send(new DefaultMessage("BarMessage").setHeader("foo", "other"));
+        queue.send(new DefaultMessage("FooMessage").setHeader("foo", "bar"));
+
+        Message receivedMessage = queue.receive(new HeaderMatchingMessageSelector("foo", "bar", context), 1000L);
+
+        Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+        Assert.assertEquals(receivedMessage.getHeaders().get("foo"), "bar");
+        Assert.assertEquals(queue.size(), 1);
+    }
+
+    @Test
+    public void testReceiveIndexed() {
+        SignalingMessageQueue queue = new SignalingMessageQueue("testQueue");
+        queue.setIndexedHeaders(Collections.singletonList("foo"));
+
+        for (int i = 0; i < 100; i++) {
+            queue.send(new DefaultMessage("Message" + i).setHeader("foo", "value" + i));
+        }
+
+        final AtomicLong accepted = new AtomicLong();
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "value42", context) {
+            @Override
+            public boolean accept(Message message) {
+                accepted.incrementAndGet();
+                return super.accept(message);
+            }
+        };
+
+        Message receivedMessage = queue.receive(selector);
+
+        Assert.assertEquals(receivedMessage.getPayload(), "Message42");
+        Assert.assertEquals(accepted.get(), 1L);
+        Assert.assertNull(queue.receive(selector));
+        Assert.assertEquals(queue.size(), 99);
+
+        receivedMessage = queue.receive(message -> message.getHeader("foo").toString().endsWith("99"));
+        Assert.assertEquals(receivedMessage.getPayload(), "Message99");
+    }
+
+    @Test
+    public void testDropOldest() {
+        SignalingMessageQueue queue = new SignalingMessageQueue("testQueue");
+        queue.setCapacity(2);
+
+        queue.send(new DefaultMessage("Message1"));
+        queue.send(new DefaultMessage("Message2"));
+        queue.send(new DefaultMessage("Message3"));
+
+        Assert.assertEquals(queue.size(), 2);
+        Assert.assertEquals(queue.getDroppedMessages(), 1L);
+        Assert.assertEquals(queue.receive(message -> true).getPayload(), "Message2");
+        Assert.assertEquals(queue.receive(message -> true).getPayload(), "Message3");
+    }
+
+    @Test
+    public void testDropNewest() {
+        SignalingMessageQueue queue = new SignalingMessageQueue("testQueue");
+        queue.setCapacity(2);
+        queue.setDropPolicy(SignalingMessageQueue.DropPolicy.DROP_NEWEST);
+
+        queue.send(new DefaultMessage("Message1"));
+        queue.send(new DefaultMessage("Message2"));
+        queue.send(new DefaultMessage("Message3"));
+
+        Assert.assertEquals(queue.size(), 2);
+        Assert.assertEquals(queue.getDroppedMessages(), 1L);
+        Assert.assertEquals(queue.receive(message -> true).getPayload(), "Message1");
+        Assert.assertEquals(queue.receive(message -> true).getPayload(), "Message2");
+    }
+
+    @Test
+    public void testWakeUpOnArrival() throws Exception {
+        SignalingMessageQueue queue = new SignalingMessageQueue("testQueue");
+
+        CompletableFuture<Message> fooReceiver = CompletableFuture.supplyAsync(() ->
+                queue.receive(new HeaderMatchingMessageSelector("foo", "bar", context), 5000L));
+        CompletableFuture<Message> anyReceiver = CompletableFuture.supplyAsync(() ->
+                queue.receive(new HeaderMatchingMessageSelector("operation", "any", context), 5000L));
+
+        Thread.sleep(100L);
+        long start = System.currentTimeMillis();
+        queue.send(new DefaultMessage("FooMessage").setHeader("foo", "bar"));
+
+        Message receivedMessage = fooReceiver.get(1000L, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(System.currentTimeMillis() - start < 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+        Assert.assertFalse(anyReceiver.isDone());
+
+        queue.send(new DefaultMessage("AnyMessage").setHeader("operation", "any"));
+        Assert.assertEquals(anyReceiver.get(1000L, TimeUnit.MILLISECONDS).getPayload(), "AnyMessage");
+        Assert.assertEquals(queue.size(), 0);
+    }
+
+    @Test
+    public void testTimeoutExceeded() {
+        SignalingMessageQueue queue = new SignalingMessageQueue("testQueue");
+
+        queue.send(new DefaultMessage("FooMessage").setHeader("foos", "bars"));
+
+        Message receivedMessage = queue.receive(new HeaderMatchingMessageSelector("foo", "bar", context), 200L);
+
+        Assert.assertNull(receivedMessage);
+
+        queue.send(new DefaultMessage("FooMessage").setHeader("foo", "bar"));
+        Assert.assertEquals(queue.size(), 2);
+    }
+
+    @Test
+    public void testPurge() {
+        SignalingMessageQueue queue = new SignalingMessageQueue("testQueue");
+        queue.setIndexedHeaders(Collections.singletonList("foo"));
+
+        queue.send(new DefaultMessage("FooMessage").setHeader("foo", "bar"));
+        queue.send(new DefaultMessage("OtherMessage").setHeader("foo", "other"));
+
+        queue.purge(new HeaderMatchingMessageSelector("foo", "bar", context));
+
+        Assert.assertEquals(queue.size(), 1);
+        Assert.assertNull(queue.receive(new HeaderMatchingMessageSelector("foo", "bar", context)));
+        Assert.assertEquals(queue.receive().getPayload(), "OtherMessage");
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message.correlation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.direct.DirectSyncEndpointConfiguration;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class FutureCorrelationManagerTest {
+
+    @Test
+    public void testFind() {
+        DirectSyncEndpointConfiguration endpointConfiguration = new DirectSyncEndpointConfiguration();
+        endpointConfiguration.setTimeout(200L);
+
+        FutureCorrelationManager<String> correlationManager = new FutureCorrelationManager<>(endpointConfiguration);
+        Assert.assertNull(correlationManager.find(""));
+
+        correlationManager.store("foo", "bar");
+        Assert.assertNull(correlationManager.find("bar"));
+        Assert.assertEquals(correlationManager.find("foo"), "bar");
+
+        //2nd invocation with same correlation key
+        Assert.assertNull(correlationManager.find("foo"));
+
+        for (String key : new String[]{"1", "2", "3", "4", "5"}) {
+            correlationManager.store(key, "value" + key);
+        }
+
+        for (String key : new String[]{"1", "5", "3", "2", "4"}) {
+            Assert.assertEquals(correlationManager.find(key), "value" + key);
+            Assert.assertNull(correlationManager.find(key, 0L));
+        }
+
+        Assert.assertEquals(correlationManager.getPendingCorrelations(), 0);
+    }
+
+    @Test
+    public void testFindCompletesOnStore() throws Exception {
+        DirectSyncEndpointConfiguration endpointConfiguration = new DirectSyncEndpointConfiguration();
+        endpointConfiguration.setTimeout(5000L);
+
+        FutureCorrelationManager<String> correlationManager = new FutureCorrelationManager<>(endpointConfiguration);
+
+        CompletableFuture<String> found = CompletableFuture.supplyAsync(() -> correlationManager.find("foo"));
+
+        Thread.sleep(100L);
+        long start = System.currentTimeMillis();
+        correlationManager.store("foo", "bar");
+
+        Assert.assertEquals(found.get(1000L, TimeUnit.MILLISECONDS), "bar");
+        Assert.assertTrue(System.currentTimeMillis() - start < 1000L);
+        Assert.assertEquals(correlationManager.getPendingCorrelations(), 0);
+    }
+
+    @Test
+    public void testEvictOrphans() throws Exception {
+        FutureCorrelationManager<String> correlationManager = new FutureCorrelationManager<>(new DirectSyncEndpointConfiguration());
+        correlationManager.setEvictionTimeout(100L);
+
+        correlationManager.store("orphan", "value");
+        Assert.assertEquals(correlationManager.getPendingCorrelations(), 1);
+
+        Thread.sleep(200L);
+        correlationManager.store("foo", "bar");
+
+        Assert.assertEquals(correlationManager.getPendingCorrelations(), 1);
+        Assert.assertNull(correlationManager.find("orphan", 0L));
+        Assert.assertEquals(correlationManager.find("foo", 0L), "bar");
+    }
+
+    @Test
+    public void testEvictOrphansOnFind() throws Exception {
+        FutureCorrelationManager<String> correlationManager = new FutureCorrelationManager<>(new DirectSyncEndpointConfiguration());
+        correlationManager.setEvictionTimeout(100L);
+
+        correlationManager.store("orphan", "value");
+        Assert.assertEquals(correlationManager.getPendingCorrelations(), 1);
+
+        Thread.sleep(200L);
+        Assert.assertNull(correlationManager.find("foo", 0L));
+
+        Assert.assertEquals(correlationManager.getPendingCorrelations(), 0);
+        Assert.assertNull(correlationManager.find("orphan", 0L));
+    }
+
+    @Test
+    public void testGetCorrelationKey() throws Exception {
+        FutureCorrelationManager<String> correlationManager = new FutureCorrelationManager<>(new DirectSyncEndpointConfiguration());
+        TestContext context = new TestContext();
+
+        CompletableFuture<String> correlationKey = CompletableFuture.supplyAsync(() -> correlationManager.getCorrelationKey("correlationKeyName", context));
+
+        Thread.sleep(100L);
+        correlationManager.saveCorrelationKey("correlationKeyName", "key", context);
+
+        Assert.assertEquals(correlationKey.get(1000L, TimeUnit.MILLISECONDS), "key");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testMissingCorrelationKey() {
+        FutureCorrelationManager<String> correlationManager = new FutureCorrelationManager<>(new DirectSyncEndpointConfiguration());
+        correlationManager.setCorrelationKeyTimeout(100L);
+
+        correlationManager.getCorrelationKey("correlationKeyName", new TestContext());
+    }
+
+    @Test
+    public void testFail() {
+        FutureCorrelationManager<String> correlationManager = new FutureCorrelationManager<>(new DirectSyncEndpointConfiguration());
+        correlationManager.fail("foo", new CitrusRuntimeException("Failed!"));
+
+        try {
+            correlationManager.find("foo", 1000L);
+            Assert.fail("Missing exception for failed correlation");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getCause().getMessage(), "Failed!");
+        }
+
+        Assert.assertEquals(correlationManager.getPendingCorrelations(), 0);
+    }
+
+    @Test
+    public void testPollCustomObjectStore() {
+        DirectSyncEndpointConfiguration endpointConfiguration = new DirectSyncEndpointConfiguration();
+        endpointConfiguration.setPollingInterval(100L);
+
+        AtomicInteger lookups = new AtomicInteger();
+        FutureCorrelationManager<String> correlationManager = new FutureCorrelationManager<>(endpointConfiguration);
+        correlationManager.setObjectStore(new ObjectStore<String>() {
+            @Override
+            public void add(String correlationKey, String object) {
+            }
+
+            @Override
+            public String remove(String correlationKey) {
+                return lookups.incrementAndGet() == 3 ? "bar" : null;
+            }
+        });
+
+        Assert.assertEquals(correlationManager.find("foo", 1000L), "bar");
+        Assert.assertEquals(lookups.get(), 3);
+
+        lookups.set(3);
+        Assert.assertNull(correlationManager.find("foo", 250L));
+        Assert.assertEquals(lookups.get(), 7);
+        Assert.assertEquals(correlationManager.getPendingCorrelations(), 0);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import java.io.File;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.TestCaseMetaInfo;
+import com.consol.citrus.TestResult;
+import com.consol.citrus.util.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class StreamingHtmlReporterTest {
+
+    @Test
+    public void testGenerateSameReportAsHtmlReporter() throws Exception {
+        TestCase fooTest = createTestCase("fooTest", "Foo test description");
+        TestCase barTest = createTestCase("barTest", null);
+        TestCase bazTest = createTestCase("bazTest", null);
+        NullPointerException cause = new NullPointerException("Something went wrong!");
+
+        TestResults testResults = new TestResults();
+        testResults.addResult(TestResult.success("fooTest", StreamingHtmlReporterTest.class.getName()));
+        testResults.addResult(TestResult.failed("barTest", StreamingHtmlReporterTest.class.getName(), cause));
+        testResults.addResult(TestResult.skipped("bazTest", StreamingHtmlReporterTest.class.getName()));
+
+        HtmlReporter htmlReporter = new HtmlReporter();
+        htmlReporter.setReportFileName("classic-test-results.html");
+        htmlReporter.onTestSuccess(fooTest);
+        htmlReporter.onTestFailure(barTest, cause);
+        htmlReporter.onTestSkipped(bazTest);
+        htmlReporter.generate(testResults);
+
+        StreamingHtmlReporter reporter = new StreamingHtmlReporter();
+        reporter.setReportFileName("streaming-test-results.html");
+        reporter.onTestSuccess(fooTest);
+        reporter.onTestFailure(barTest, cause);
+        reporter.onTestSkipped(bazTest);
+
+        Assert.assertTrue(new File(reporter.getReportDirectory(), "streaming-test-results.html" + StreamingReportFile.RESULT_FILE_SUFFIX).exists());
+
+        reporter.generate(new TestResults());
+
+        Assert.assertFalse(new File(reporter.getReportDirectory(), "streaming-test-results.html" + StreamingReportFile.RESULT_FILE_SUFFIX).exists());
+
+        String reportFile = FileUtils.readToString(new File(reporter.getReportDirectory(), "streaming-test-results.html"));
+        Assert.assertTrue(reportFile.contains("Foo test description"));
+        Assert.assertTrue(reportFile.contains("java.lang.NullPointerException: Something went wrong!"));
+        Assert.assertEquals(reportFile, FileUtils.readToString(new File(htmlReporter.getReportDirectory(), "classic-test-results.html")));
+    }
+
+    @Test
+    public void testGenerateEmptyReport() throws Exception {
+        StreamingHtmlReporter reporter = new StreamingHtmlReporter();
+        reporter.setReportFileName("streaming-empty-test-results.html");
+        reporter.generate(new TestResults());
+
+        String reportFile = FileUtils.readToString(new File(reporter.getReportDirectory(), "streaming-empty-test-results.html"));
+        Assert.assertTrue(reportFile.contains("Tests results (0 Tests)"));
+    }
+
+    private TestCase createTestCase(String name, String description) {
+        TestCase test = mock(TestCase.class);
+        when(test.getName()).thenReturn(name);
+        when(test.getDescription()).thenReturn(description);
+        when(test.getMetaInfo()).thenReturn(new TestCaseMetaInfo());
+        doReturn(StreamingHtmlReporterTest.class).when(test).getTestClass();
+        return test;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.TestResult;
+import com.consol.citrus.util.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class StreamingJUnitReporterTest {
+
+    @Test
+    public void testStreamTestResults() throws Exception {
+        StreamingJUnitReporter reporter = new StreamingJUnitReporter();
+        reporter.setSuiteName("StreamingTestSuite");
+
+        reporter.onTestSuccess(createTestCase("fooTest"));
+        reporter.onTestFailure(createTestCase("barTest"), new NullPointerException("Something went wrong!"));
+        reporter.onTestSkipped(createTestCase("bazTest"));
+
+        File suiteFile = new File(reporter.getReportDirectory() + File.separator + String.format(reporter.getReportFileNamePattern(), reporter.getSuiteName()));
+        File classFile = new File(reporter.getReportDirectory() + File.separator + reporter.getOutputDirectory() + File.separator + String.format(reporter.getReportFileNamePattern(), StreamingJUnitReporterTest.class.getName()));
+        Assert.assertTrue(new File(suiteFile.getPath() + StreamingReportFile.RESULT_FILE_SUFFIX).exists());
+        Assert.assertTrue(new File(classFile.getPath() + StreamingReportFile.RESULT_FILE_SUFFIX).exists());
+
+        reporter.generate(new TestResults());
+
+        Assert.assertFalse(new File(suiteFile.getPath() + StreamingReportFile.RESULT_FILE_SUFFIX).exists());
+        Assert.assertFalse(new File(classFile.getPath() + StreamingReportFile.RESULT_FILE_SUFFIX).exists());
+
+        String reportFile = FileUtils.readToString(classFile);
+        String testSuiteFile = FileUtils.readToString(suiteFile);
+
+        Assert.assertTrue(reportFile.startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + System.lineSeparator() +
+                "<testsuite name=\"com.consol.citrus.report.StreamingJUnitReporterTest\" time=\"0.0\" tests=\"3\" errors=\"0\" skipped=\"1\" failures=\"1\">" + System.lineSeparator() +
+                "    <testcase name=\"fooTest\" classname=\"com.consol.citrus.report.StreamingJUnitReporterTest\" time=\"0.0\"/>" + System.lineSeparator() +
+                "    <testcase name=\"barTest\" classname=\"com.consol.citrus.report.StreamingJUnitReporterTest\" time=\"0.0\">" + System.lineSeparator() +
+                "      <failure type=\"java.lang.NullPointerException\" message=\"Something went wrong!\">" + System.lineSeparator() +
+                "        <![CDATA[" + System.lineSeparator() +
+                "        java.lang.NullPointerException: Something went wrong!"));
+        Assert.assertTrue(reportFile.endsWith("    <testcase name=\"bazTest\" classname=\"com.consol.citrus.report.StreamingJUnitReporterTest\" time=\"0.0\"/>" + System.lineSeparator() +
+                "</testsuite>"));
+
+        Assert.assertEquals(testSuiteFile, reportFile.replace("<testsuite name=\"com.consol.citrus.report.StreamingJUnitReporterTest\"", "<testsuite name=\"StreamingTestSuite\""));
+    }
+
+    @Test
+    public void testGenerateSameReportAsJUnitReporter() throws Exception {
+        TestResults testResults = new TestResults();
+        testResults.addResult(TestResult.success("foo\"Test", StreamingJUnitReporterTest.class.getName()));
+        testResults.addResult(TestResult.failed("barTest", StreamingJUnitReporterTest.class.getName(), "Something went wrong!"));
+        testResults.addResult(TestResult.skipped("bazTest", StreamingJUnitReporterTest.class.getName()));
+
+        JUnitReporter junitReporter = new JUnitReporter();
+        junitReporter.setSuiteName("ClassicTestSuite");
+        junitReporter.setOutputDirectory("classic");
+        junitReporter.generate(testResults);
+
+        StreamingJUnitReporter reporter = new StreamingJUnitReporter();
+        reporter.setSuiteName("ClassicTestSuite");
+        reporter.setOutputDirectory("streaming");
+        reporter.generate(testResults);
+
+        String fileName = String.format(reporter.getReportFileNamePattern(), StreamingJUnitReporterTest.class.getName());
+        Assert.assertEquals(FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + "streaming" + File.separator + fileName)),
+                FileUtils.readToString(new File(junitReporter.getReportDirectory() + File.separator + "classic" + File.separator + fileName)));
+    }
+
+    @Test
+    public void testStreamTestResultsManyTestClasses() throws Exception {
+        TestResults testResults = new TestResults();
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 20; i++) {
+                testResults.addResult(TestResult.success("test" + round, "com.consol.citrus.report.StreamingTest" + i));
+            }
+        }
+
+        StreamingJUnitReporter reporter = new StreamingJUnitReporter();
+        reporter.setSuiteName("StreamingManyTestSuite");
+        reporter.generate(testResults);
+
+        String testSuiteFile = FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + String.format(reporter.getReportFileNamePattern(), reporter.getSuiteName())));
+        Assert.assertTrue(testSuiteFile.contains("tests=\"40\" errors=\"0\" skipped=\"0\" failures=\"0\""));
+
+        for (int i = 0; i < 20; i++) {
+            String reportFile = FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + reporter.getOutputDirectory() + File.separator + String.format(reporter.getReportFileNamePattern(), "com.consol.citrus.report.StreamingTest" + i)));
+            Assert.assertTrue(reportFile.contains("tests=\"2\" errors=\"0\" skipped=\"0\" failures=\"0\""));
+            Assert.assertTrue(reportFile.contains("<testcase name=\"test0\""));
+            Assert.assertTrue(reportFile.contains("<testcase name=\"test1\""));
+        }
+    }
+
+    @Test
+    public void testStreamTestResultsInParallel() throws Exception {
+        StreamingJUnitReporter reporter = new StreamingJUnitReporter();
+        reporter.setSuiteName("StreamingParallelTestSuite");
+
+        List<TestCase> tests = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tests.add(createTestCase("parallelTest" + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (TestCase test : tests) {
+                results.add(executor.submit(() -> reporter.onTestSuccess(test)));
+            }
+
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        reporter.generate(new TestResults());
+
+        String testSuiteFile = FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + String.format(reporter.getReportFileNamePattern(), reporter.getSuiteName())));
+        Assert.assertTrue(testSuiteFile.contains("tests=\"100\" errors=\"0\" skipped=\"0\" failures=\"0\""));
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(testSuiteFile.contains("<testcase name=\"parallelTest" + i + "\" classname=\"com.consol.citrus.report.StreamingJUnitReporterTest\" time=\"0.0\"/>"));
+        }
+    }
+
+    private TestCase createTestCase(String name) {
+        TestCase test = mock(TestCase.class);
+        when(test.getName()).thenReturn(name);
+        doReturn(StreamingJUnitReporterTest.class).when(test).getTestClass();
+        return test;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.TestCase;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class TestReportersTest {
+
+    @Test
+    public void testKeepResultCountsOnlyWhenAllReportersStream() {
+        TestReporters reporters = new TestReporters();
+        reporters.addTestReporter(new StreamingJUnitReporter());
+        reporters.addTestReporter(new SummaryReporter());
+
+        reporters.onStart();
+        reporters.onTestSuccess(createTestCase("fooTest"));
+        reporters.onTestFailure(createTestCase("barTest"), new NullPointerException("Something went wrong!"));
+        reporters.onTestSkipped(createTestCase("bazTest"));
+
+        TestResults testResults = reporters.getTestResults();
+        Assert.assertEquals(testResults.getSize(), 3);
+        Assert.assertEquals(testResults.getRetainedSize(), 0);
+        Assert.assertEquals(testResults.getSuccess(), 1);
+        Assert.assertEquals(testResults.getFailed(), 1);
+        Assert.assertEquals(testResults.getSkipped(), 1);
+    }
+
+    @Test
+    public void testKeepResultsWhenReporterRequiresResults() {
+        TestReporters reporters = new TestReporters();
+        reporters.addTestReporter(new StreamingJUnitReporter());
+        reporters.addTestReporter(new JUnitReporter());
+
+        reporters.onStart();
+        reporters.onTestSuccess(createTestCase("fooTest"));
+        reporters.onTestSkipped(createTestCase("bazTest"));
+
+        Assert.assertEquals(reporters.getTestResults().getSize(), 2);
+        Assert.assertEquals(reporters.getTestResults().getRetainedSize(), 2);
+    }
+
+    @Test
+    public void testMaxResults() {
+        TestReporters reporters = new TestReporters();
+        reporters.addTestReporter(new LoggingReporter());
+        reporters.setMaxResults(1);
+
+        reporters.onStart();
+        reporters.onTestSuccess(createTestCase("fooTest"));
+        reporters.onTestSuccess(createTestCase("barTest"));
+
+        Assert.assertEquals(reporters.getTestResults().getSize(), 2);
+        Assert.assertEquals(reporters.getTestResults().getSuccess(), 2);
+        Assert.assertEquals(reporters.getTestResults().getRetainedSize(), 1);
+    }
+
+    private TestCase createTestCase(String name) {
+        TestCase test = mock(TestCase.class);
+        when(test.getName()).thenReturn(name);
+        doReturn(TestReportersTest.class).when(test).getTestClass();
+        return test;
+    }
+}
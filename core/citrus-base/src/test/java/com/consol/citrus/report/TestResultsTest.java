@@ -72,4 +72,23 @@ public class TestResultsTest {
         Assert.assertEquals(results.getSkipped(), 1);
         Assert.assertEquals(results.getSkippedPercentage(), "33.3");
     }
+
+    @Test
+    public void testMaxResults() throws Exception {
+        TestResults results = new TestResults(1);
+
+        Assert.assertTrue(results.addResult(TestResult.success("OkTest", TestResultsTest.class.getName())));
+        Assert.assertFalse(results.addResult(TestResult.failed("FailedTest", TestResultsTest.class.getName(), new CitrusRuntimeException("This went wrong"))));
+        Assert.assertFalse(results.addResult(TestResult.skipped("SkippedTest", TestResultsTest.class.getName())));
+
+        Assert.assertEquals(results.getSize(), 3);
+        Assert.assertEquals(results.getRetainedSize(), 1);
+        Assert.assertEquals(results.asList().get(0).getTestName(), "OkTest");
+        Assert.assertEquals(results.getSuccess(), 1);
+        Assert.assertEquals(results.getSuccessPercentage(), "50.0");
+        Assert.assertEquals(results.getFailed(), 1);
+        Assert.assertEquals(results.getFailedPercentage(), "50.0");
+        Assert.assertEquals(results.getSkipped(), 1);
+        Assert.assertEquals(results.getSkippedPercentage(), "33.3");
+    }
 }
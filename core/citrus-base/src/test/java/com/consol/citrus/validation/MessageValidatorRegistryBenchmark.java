@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessageType;
+import com.consol.citrus.util.MessageUtils;
+import com.consol.citrus.validation.context.ValidationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures message validator lookup on receive with many registered validators. Compares cached lookup with the
+ * uncached lookup that asks all registered validators on each message.
+ * Run with main method from test classpath.
+ *
+ * @author Christoph Deppisch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageValidatorRegistryBenchmark {
+
+    @Param({ "10", "100" })
+    private int validators;
+
+    @Param({ "1024", "1048576" })
+    private int payloadSize;
+
+    private MessageValidatorRegistry registry;
+    private Message xmlMessage;
+    private Message plaintextMessage;
+
+    @Setup
+    public void setup() {
+        registry = new MessageValidatorRegistry();
+        registry.addMessageValidator("header", new DefaultMessageHeaderValidator());
+        for (int i = 0; i < validators; i++) {
+            registry.addMessageValidator("xml" + i, new FormatMessageValidator(MessageType.XML));
+            registry.addMessageValidator("json" + i, new FormatMessageValidator(MessageType.JSON));
+            registry.addMessageValidator("plaintext" + i, new FormatMessageValidator(MessageType.PLAINTEXT));
+        }
+
+        StringBuilder xml = new StringBuilder("  <messages>");
+        while (xml.length() < payloadSize) {
+            xml.append("<message>Hello</message>");
+        }
+        xmlMessage = new DefaultMessage(xml.append("</messages>").toString());
+
+        StringBuilder text = new StringBuilder();
+        while (text.length() < payloadSize) {
+            text.append("Hello Citrus! ");
+        }
+        plaintextMessage = new DefaultMessage(text.toString());
+    }
+
+    @Benchmark
+    public List<MessageValidator<? extends ValidationContext>> findXmlValidators() {
+        return registry.findMessageValidators(MessageType.XML.name(), xmlMessage);
+    }
+
+    @Benchmark
+    public List<MessageValidator<? extends ValidationContext>> findFallbackValidators() {
+        return registry.findMessageValidators(MessageType.JSON.name(), plaintextMessage);
+    }
+
+    @Benchmark
+    public List<MessageValidator<? extends ValidationContext>> findXmlValidatorsUncached() {
+        registry.clearCache();
+        return registry.findMessageValidators(MessageType.XML.name(), xmlMessage);
+    }
+
+    @Benchmark
+    public List<MessageValidator<? extends ValidationContext>> findFallbackValidatorsUncached() {
+        registry.clearCache();
+        return registry.findMessageValidators(MessageType.JSON.name(), plaintextMessage);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MessageValidatorRegistryBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    /**
+     * Validator supporting a message type and payload format like the default Xml, Json and plaintext validators do.
+     */
+    private static class FormatMessageValidator extends DefaultMessageValidator {
+        private final MessageType messageType;
+
+        FormatMessageValidator(MessageType messageType) {
+            this.messageType = messageType;
+        }
+
+        @Override
+        public boolean supportsMessageType(String messageType, Message message) {
+            if (!this.messageType.name().equalsIgnoreCase(messageType)) {
+                return false;
+            }
+
+            switch (this.messageType) {
+                case XML:
+                    return MessageUtils.hasXmlPayload(message);
+                case JSON:
+                    return MessageUtils.hasJsonPayload(message);
+                default:
+                    return true;
+            }
+        }
+    }
+}
@@ -29,6 +29,7 @@ import com.consol.citrus.util.MessageUtils;
 import com.consol.citrus.validation.context.SchemaValidationContext;
 import com.consol.citrus.validation.context.ValidationContext;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -37,6 +38,8 @@ import org.testng.annotations.Test;
 import javax.xml.validation.Schema;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -336,6 +339,79 @@ public class MessageValidatorRegistryTest {
         Assert.assertEquals(matchingValidators.get(1), plainTextMessageValidator);
     }
 
+    @Test
+    public void shouldCacheMessageValidatorResolution() {
+        MessageValidatorRegistry messageValidatorRegistry = new MessageValidatorRegistry();
+
+        MessageValidator<?> xmlValidator = Mockito.mock(MessageValidator.class);
+        when(xmlValidator.supportsMessageType(any(String.class), any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0).equals(MessageType.XML.name()) && MessageUtils.hasXmlPayload(invocation.getArgument(1)));
+        MessageValidator<?> jsonValidator = Mockito.mock(MessageValidator.class);
+        when(jsonValidator.supportsMessageType(any(String.class), any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0).equals(MessageType.JSON.name()) && MessageUtils.hasJsonPayload(invocation.getArgument(1)));
+
+        messageValidatorRegistry.addMessageValidator("xmlValidator", xmlValidator);
+        messageValidatorRegistry.addMessageValidator("jsonValidator", jsonValidator);
+
+        List<MessageValidator<? extends ValidationContext>> matchingValidators = messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("<id>1</id>"));
+        Assert.assertEquals(matchingValidators.size(), 1L);
+        Assert.assertEquals(matchingValidators.get(0), xmlValidator);
+
+        matchingValidators = messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("  <id>2</id>"));
+        Assert.assertEquals(matchingValidators.size(), 1L);
+        Assert.assertEquals(matchingValidators.get(0), xmlValidator);
+
+        verify(xmlValidator, times(1)).supportsMessageType(any(String.class), any(Message.class));
+
+        // different sniffed payload format
+        matchingValidators = messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("{ \"id\": 1 }"));
+        Assert.assertEquals(matchingValidators.size(), 1L);
+        Assert.assertEquals(matchingValidators.get(0), jsonValidator);
+
+        verify(xmlValidator, times(3)).supportsMessageType(any(String.class), any(Message.class));
+
+        // registry change invalidates cache
+        messageValidatorRegistry.addMessageValidator("plainTextMessageValidator", plainTextMessageValidator);
+
+        matchingValidators = messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("<id>3</id>"));
+        Assert.assertEquals(matchingValidators.size(), 1L);
+        Assert.assertEquals(matchingValidators.get(0), xmlValidator);
+
+        verify(xmlValidator, times(4)).supportsMessageType(any(String.class), any(Message.class));
+    }
+
+    @Test
+    public void shouldInvalidateCacheOnReplacedMessageValidator() {
+        MessageValidatorRegistry messageValidatorRegistry = new MessageValidatorRegistry();
+
+        MessageValidator<?> xmlValidator = Mockito.mock(MessageValidator.class);
+        when(xmlValidator.supportsMessageType(any(String.class), any(Message.class))).thenReturn(true);
+        MessageValidator<?> otherXmlValidator = Mockito.mock(MessageValidator.class);
+        when(otherXmlValidator.supportsMessageType(any(String.class), any(Message.class))).thenReturn(true);
+
+        messageValidatorRegistry.addMessageValidator("xmlValidator", xmlValidator);
+
+        List<MessageValidator<? extends ValidationContext>> matchingValidators = messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("<id>1</id>"));
+        Assert.assertEquals(matchingValidators.get(0), xmlValidator);
+
+        messageValidatorRegistry.addMessageValidator("xmlValidator", otherXmlValidator);
+
+        matchingValidators = messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("<id>2</id>"));
+        Assert.assertEquals(matchingValidators.size(), 1L);
+        Assert.assertEquals(matchingValidators.get(0), otherXmlValidator);
+
+        messageValidatorRegistry.getMessageValidators().put("xmlValidator", xmlValidator);
+
+        matchingValidators = messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("<id>3</id>"));
+        Assert.assertEquals(matchingValidators.size(), 1L);
+        Assert.assertEquals(matchingValidators.get(0), xmlValidator);
+
+        messageValidatorRegistry.getMessageValidators().put("otherXmlValidator", otherXmlValidator);
+
+        matchingValidators = messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("<id>4</id>"));
+        Assert.assertEquals(matchingValidators.size(), 2L);
+        Assert.assertEquals(matchingValidators.get(0), xmlValidator);
+        Assert.assertEquals(matchingValidators.get(1), otherXmlValidator);
+    }
+
     @Test
     public void testSchemaValidators() throws Exception {
         MessageValidatorRegistry messageValidatorRegistry = new MessageValidatorRegistry();
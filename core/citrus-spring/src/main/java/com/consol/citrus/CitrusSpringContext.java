@@ -56,6 +56,8 @@ public class CitrusSpringContext extends CitrusContext {
                 ((ConfigurableApplicationContext) applicationContext).close();
             }
         }
+
+        super.close();
     }
 
     /**
@@ -110,6 +112,7 @@ public class CitrusSpringContext extends CitrusContext {
             referenceResolver(applicationContext.getBean(ReferenceResolver.class));
             typeConverter(applicationContext.getBean(TypeConverter.class));
             logModifier(applicationContext.getBean(LogModifier.class));
+            taskExecutor(applicationContext.getBean(TestContextFactoryBean.class).getTaskExecutor());
             beforeSuite(new ArrayList<>(applicationContext.getBeansOfType(BeforeSuite.class).values()));
             afterSuite(new ArrayList<>(applicationContext.getBeansOfType(AfterSuite.class).values()));
 
@@ -18,10 +18,14 @@ package com.consol.citrus.config.xml;
 
 import com.consol.citrus.config.util.BeanDefinitionParserUtils;
 import com.consol.citrus.message.DefaultMessageQueue;
+import com.consol.citrus.message.SignalingMessageQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.xml.BeanDefinitionParser;
 import org.springframework.beans.factory.xml.ParserContext;
+import org.springframework.util.StringUtils;
 import org.w3c.dom.Element;
 
 /**
@@ -31,13 +35,29 @@ import org.w3c.dom.Element;
  */
 public class DefaultMessageQueueParser implements BeanDefinitionParser {
 
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(DefaultMessageQueueParser.class);
+
     @Override
     public BeanDefinition parse(Element element, ParserContext parserContext) {
-        BeanDefinitionBuilder builder = BeanDefinitionBuilder.rootBeanDefinition(DefaultMessageQueue.class);
+        BeanDefinitionBuilder builder;
+        if (Boolean.parseBoolean(element.getAttribute("signaling")) || element.hasAttribute("indexed-headers")) {
+            builder = BeanDefinitionBuilder.rootBeanDefinition(SignalingMessageQueue.class);
 
-        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("logging"), "loggingEnabled");
+            if (StringUtils.hasText(element.getAttribute("polling-interval"))) {
+                log.warn(String.format("Ignoring polling-interval on signaling message queue '%s' - " +
+                        "signaling queues wake up receivers on message arrival", element.getAttribute("id")));
+            }
 
-        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("polling-interval"), "pollingInterval");
+            if (element.hasAttribute("indexed-headers")) {
+                builder.addPropertyValue("indexedHeaders", StringUtils.commaDelimitedListToStringArray(element.getAttribute("indexed-headers")));
+            }
+        } else {
+            builder = BeanDefinitionBuilder.rootBeanDefinition(DefaultMessageQueue.class);
+            BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("polling-interval"), "pollingInterval");
+        }
+
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("logging"), "loggingEnabled");
 
         builder.addConstructorArgValue(element.getAttribute("id"));
 
@@ -41,6 +41,7 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.lang.NonNullApi;
 import org.springframework.util.CollectionUtils;
 
@@ -100,6 +101,9 @@ public class TestContextFactoryBean extends TestContextFactory implements Factor
     @Autowired
     private SegmentVariableExtractorRegistry segmentVariableExtractorRegistry;
 
+    @Autowired(required = false)
+    private TestActionTaskExecutor taskExecutor;
+
     /** Spring bean application context that created this factory */
     private ApplicationContext applicationContext;
 
@@ -181,6 +185,10 @@ public class TestContextFactoryBean extends TestContextFactory implements Factor
             factory.setSegmentVariableExtractorRegistry(applicationContext.getBean(SegmentVariableExtractorRegistry.class));
         }
 
+        if (!CollectionUtils.isEmpty(applicationContext.getBeansOfType(TestActionTaskExecutor.class))) {
+            factory.setTaskExecutor(applicationContext.getBean(TestActionTaskExecutor.class));
+        }
+
         return factory;
     }
 
@@ -264,6 +272,10 @@ public class TestContextFactoryBean extends TestContextFactory implements Factor
         if (segmentVariableExtractorRegistry != null) {
             delegate.setSegmentVariableExtractorRegistry(segmentVariableExtractorRegistry);
         }
+
+        if (taskExecutor != null) {
+            delegate.setTaskExecutor(taskExecutor);
+        }
     }
 
     /**
@@ -359,4 +371,9 @@ public class TestContextFactoryBean extends TestContextFactory implements Factor
         return delegate.getSegmentVariableExtractorRegistry();
     }
 
+    @Override
+    public AsyncTaskExecutor getTaskExecutor() {
+        return delegate.getTaskExecutor();
+    }
+
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.config.xml;
+
+import java.util.Arrays;
+
+import com.consol.citrus.message.DefaultMessageQueue;
+import com.consol.citrus.message.SignalingMessageQueue;
+import com.consol.citrus.testng.AbstractBeanDefinitionParserTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class DefaultMessageQueueParserTest extends AbstractBeanDefinitionParserTest {
+
+    @Test
+    public void testMessageQueueParser() {
+        DefaultMessageQueue messageQueue = beanDefinitionContext.getBean("messageQueue", DefaultMessageQueue.class);
+        Assert.assertFalse(messageQueue.isLoggingEnabled());
+        Assert.assertEquals(messageQueue.getPollingInterval(), 500L);
+
+        messageQueue = beanDefinitionContext.getBean("pollingMessageQueue", DefaultMessageQueue.class);
+        Assert.assertTrue(messageQueue.isLoggingEnabled());
+        Assert.assertEquals(messageQueue.getPollingInterval(), 200L);
+    }
+
+    @Test
+    public void testSignalingMessageQueueParser() {
+        SignalingMessageQueue messageQueue = beanDefinitionContext.getBean("signalingMessageQueue", SignalingMessageQueue.class);
+        Assert.assertTrue(messageQueue.isLoggingEnabled());
+        Assert.assertEquals(messageQueue.getIndexedHeaders().size(), 0L);
+
+        messageQueue = beanDefinitionContext.getBean("indexedMessageQueue", SignalingMessageQueue.class);
+        Assert.assertFalse(messageQueue.isLoggingEnabled());
+        Assert.assertEquals(messageQueue.getIndexedHeaders(), Arrays.asList("operation", "correlationId"));
+
+        messageQueue = beanDefinitionContext.getBean("signalingPollingMessageQueue", SignalingMessageQueue.class);
+        Assert.assertEquals(messageQueue.getIndexedHeaders().size(), 0L);
+    }
+}
@@ -21,7 +21,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ReplyMessageTimeoutException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.FutureCorrelationManager;
 import com.consol.citrus.messaging.ReplyConsumer;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
@@ -57,7 +57,7 @@ public class CamelSyncProducer extends CamelProducer implements ReplyConsumer {
         super(name, endpointConfiguration);
         this.endpointConfiguration = endpointConfiguration;
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new FutureCorrelationManager<>(endpointConfiguration);
     }
 
     @Override
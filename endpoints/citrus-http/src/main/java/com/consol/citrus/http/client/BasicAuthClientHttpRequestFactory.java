@@ -16,22 +16,32 @@
 
 package com.consol.citrus.http.client;
 
+import java.net.InetAddress;
 import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 import com.consol.citrus.common.InitializingPhase;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.Credentials;
 import org.apache.http.client.AuthCache;
+import org.apache.http.client.CredentialsProvider;
 import org.apache.http.client.HttpClient;
-import org.apache.http.client.protocol.ClientContext;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.Configurable;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.impl.auth.BasicScheme;
-import org.apache.http.impl.client.AbstractHttpClient;
 import org.apache.http.impl.client.BasicAuthCache;
-import org.apache.http.impl.client.DefaultHttpClient;
-import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.protocol.HttpContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,11 +49,15 @@ import org.springframework.beans.factory.FactoryBean;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * Factory bean constructing a client request factory with
  * user credentials for basic authentication.
  *
+ * Custom Http params are converted to a request configuration. The request configuration is the default of the pooled
+ * http client created by this factory bean. With a custom http client the request configuration is passed with each request.
+ *
  * @author Christoph Deppisch
  * @since 1.2
  */
@@ -61,6 +75,15 @@ public class BasicAuthClientHttpRequestFactory implements FactoryBean<HttpCompon
     /** Authentiacation scope */
     private AuthScope authScope = new AuthScope("localhost", 8080, AuthScope.ANY_REALM, AuthScope.ANY_SCHEME);
 
+    /** Maximum number of pooled connections in total */
+    private int maxConnections = 20;
+
+    /** Maximum number of pooled connections per route */
+    private int maxConnectionsPerRoute = 20;
+
+    /** Request configuration passed with each request of a custom http client */
+    private RequestConfig requestConfig;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(BasicAuthClientHttpRequestFactory.class);
 
@@ -70,7 +93,10 @@ public class BasicAuthClientHttpRequestFactory implements FactoryBean<HttpCompon
     public HttpComponentsClientHttpRequestFactory getObject() throws Exception {
         Assert.notNull(credentials, "User credentials not set properly!");
 
-        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient) {
+        CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+        credentialsProvider.setCredentials(authScope, credentials);
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient) {
             @Override
             protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
                 // we have to use preemptive authentication
@@ -81,21 +107,17 @@ public class BasicAuthClientHttpRequestFactory implements FactoryBean<HttpCompon
                 authCache.put(new HttpHost(authScope.getHost(), authScope.getPort(), "http"), basicAuth);
                 authCache.put(new HttpHost(authScope.getHost(), authScope.getPort(), "https"), basicAuth);
 
-                BasicHttpContext localcontext = new BasicHttpContext();
-                localcontext.setAttribute(ClientContext.AUTH_CACHE, authCache);
+                HttpClientContext localcontext = HttpClientContext.create();
+                localcontext.setAuthCache(authCache);
+                localcontext.setCredentialsProvider(credentialsProvider);
+
+                if (requestConfig != null) {
+                    localcontext.setRequestConfig(requestConfig);
+                }
 
                 return localcontext;
             }
         };
-
-        if (httpClient instanceof AbstractHttpClient) {
-            ((AbstractHttpClient)httpClient).getCredentialsProvider().setCredentials(authScope, credentials);
-        } else {
-            log.warn("Unable to set username password credentials for basic authentication, " +
-            		"because nested HttpClient implementation does not support a credentials provider!");
-        }
-
-        return requestFactory;
     }
 
     /**
@@ -115,15 +137,123 @@ public class BasicAuthClientHttpRequestFactory implements FactoryBean<HttpCompon
     @Override
     public void initialize() {
         if (httpClient == null) {
-            httpClient = new DefaultHttpClient();
+            httpClient = createPooledHttpClient();
+        } else if (params != null) {
+            RequestConfig defaultConfig = httpClient instanceof Configurable ? ((Configurable) httpClient).getConfig() : null;
+            requestConfig = createRequestConfig(defaultConfig != null ? RequestConfig.copy(defaultConfig) : RequestConfig.custom());
         }
+    }
+
+    /**
+     * Creates default http client with pooled connection manager. Custom Http params are applied as default
+     * request configuration.
+     * @return
+     */
+    private HttpClient createPooledHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create()
+                .useSystemProperties()
+                .setConnectionManager(connectionManager);
 
         if (params != null) {
-            for (Entry<String, Object> param : params.entrySet()) {
-                log.debug("Setting custom Http param on client: '" + param.getKey() + "'='" + param.getValue() + "'");
-                httpClient.getParams().setParameter(param.getKey(), param.getValue());
+            httpClientBuilder.setDefaultRequestConfig(createRequestConfig(RequestConfig.custom()));
+        }
+
+        return httpClientBuilder.build();
+    }
+
+    /**
+     * Applies custom Http params to given request configuration. Params that have no request configuration
+     * counterpart get ignored with a warning.
+     * @param builder
+     * @return
+     */
+    private RequestConfig createRequestConfig(RequestConfig.Builder builder) {
+        for (Entry<String, Object> param : params.entrySet()) {
+            log.debug("Setting custom Http param on client: '" + param.getKey() + "'='" + param.getValue() + "'");
+
+            Object value = param.getValue();
+            switch (param.getKey()) {
+                case "http.socket.timeout":
+                    builder.setSocketTimeout(toInt(value));
+                    break;
+                case "http.connection.timeout":
+                    builder.setConnectTimeout(toInt(value));
+                    break;
+                case "http.conn-manager.timeout":
+                    builder.setConnectionRequestTimeout(toInt(value));
+                    break;
+                case "http.protocol.expect-continue":
+                    builder.setExpectContinueEnabled(toBoolean(value));
+                    break;
+                case "http.protocol.handle-authentication":
+                    builder.setAuthenticationEnabled(toBoolean(value));
+                    break;
+                case "http.protocol.allow-circular-redirects":
+                    builder.setCircularRedirectsAllowed(toBoolean(value));
+                    break;
+                case "http.protocol.max-redirects":
+                    builder.setMaxRedirects(toInt(value));
+                    break;
+                case "http.protocol.handle-redirects":
+                    builder.setRedirectsEnabled(toBoolean(value));
+                    break;
+                case "http.protocol.reject-relative-redirect":
+                    builder.setRelativeRedirectsAllowed(!toBoolean(value));
+                    break;
+                case "http.protocol.cookie-policy":
+                    builder.setCookieSpec(value.toString());
+                    break;
+                case "http.route.default-proxy":
+                    builder.setProxy(value instanceof HttpHost ? (HttpHost) value : HttpHost.create(value.toString()));
+                    break;
+                case "http.route.local-address":
+                    builder.setLocalAddress(toInetAddress(value));
+                    break;
+                case "http.auth.target-scheme-pref":
+                    builder.setTargetPreferredAuthSchemes(toList(value));
+                    break;
+                case "http.auth.proxy-scheme-pref":
+                    builder.setProxyPreferredAuthSchemes(toList(value));
+                    break;
+                default:
+                    log.warn("Ignoring unsupported Http param '" + param.getKey() + "' - " +
+                            "only request configuration params are supported, configure a custom http client instead");
             }
         }
+
+        return builder.build();
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : Integer.parseInt(value.toString().trim());
+    }
+
+    private static boolean toBoolean(Object value) {
+        return value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(value.toString().trim());
+    }
+
+    private static InetAddress toInetAddress(Object value) {
+        if (value instanceof InetAddress) {
+            return (InetAddress) value;
+        }
+
+        try {
+            return InetAddress.getByName(value.toString().trim());
+        } catch (UnknownHostException e) {
+            throw new CitrusRuntimeException("Invalid local address for Http param 'http.route.local-address'", e);
+        }
+    }
+
+    private static List<String> toList(Object value) {
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).stream().map(Object::toString).collect(Collectors.toList());
+        }
+
+        return Arrays.asList(StringUtils.commaDelimitedListToStringArray(value.toString()));
     }
 
     /**
@@ -158,4 +288,20 @@ public class BasicAuthClientHttpRequestFactory implements FactoryBean<HttpCompon
         this.params = params;
     }
 
+    /**
+     * Sets the maximum number of pooled connections in total.
+     * @param maxConnections the maxConnections to set
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections per route.
+     * @param maxConnectionsPerRoute the maxConnectionsPerRoute to set
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
 }
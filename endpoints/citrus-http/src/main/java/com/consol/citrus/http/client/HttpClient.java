@@ -16,17 +16,31 @@
 
 package com.consol.citrus.http.client;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpoint;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.http.interceptor.LoggingClientInterceptor;
 import com.consol.citrus.http.message.HttpMessage;
+import com.consol.citrus.message.BinaryPayload;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageHeaders;
 import com.consol.citrus.message.correlation.CorrelationManager;
+import com.consol.citrus.message.correlation.FutureCorrelationManager;
 import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.Producer;
 import com.consol.citrus.messaging.ReplyConsumer;
@@ -34,25 +48,42 @@ import com.consol.citrus.messaging.SelectiveConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResponseErrorHandler;
 
 /**
  * Http client sends messages via Http protocol to some Http server instance, defined by a request endpoint url. Synchronous response
  * messages are cached in local memory and receive operations are able to fetch responses from this cache later on.
  *
+ * In async mode requests are sent with a non-blocking http client. Send operations return immediately and responses get
+ * correlated once they arrive so many requests can be in flight at the same time. Responses are converted and checked
+ * with the response error handler in the receive operation. The rest template is not used in this mode so only logging
+ * client interceptors are supported and custom request factories are rejected. Authentication and SSL settings
+ * are configured on the non-blocking http client instead.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
-public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsumer, ShutdownPhase {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(HttpClient.class);
 
+    /** Headers that the non-blocking http client does not allow to be set */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Store of responses to requests sent in async mode */
+    private final FutureCorrelationManager<AsyncResponse> asyncResponses;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -68,6 +99,7 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
         super(endpointConfiguration);
 
         this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.asyncResponses = new FutureCorrelationManager<>(endpointConfiguration);
     }
 
     @Override
@@ -110,38 +142,209 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
 
         HttpEntity<?> requestEntity = getEndpointConfiguration().getMessageConverter().convertOutbound(httpMessage, getEndpointConfiguration(), context);
 
+        if (getEndpointConfiguration().isAsync()) {
+            sendAsync(URI.create(endpointUri), method, requestEntity, isBinaryResponse(httpMessage), correlationKey);
+            return;
+        }
+
         try {
             ResponseEntity<?> response;
-            MediaType accept = Optional.ofNullable(httpMessage.getAccept())
-                                .map(mediaType -> mediaType.split(","))
-                                .map(mediaType -> {
-                                    try {
-                                        return MediaType.valueOf(mediaType[0]);
-                                    } catch (InvalidMediaTypeException e) {
-                                        log.warn(String.format("Failed to parse accept media type '%s' - using default media type '%s'",
-                                                mediaType[0], MediaType.ALL_VALUE), e);
-                                        return MediaType.ALL;
-                                    }
-                                })
-                                .orElse(MediaType.ALL);
-
-            if (getEndpointConfiguration().getBinaryMediaTypes().stream().anyMatch(mediaType -> mediaType.includes(accept))) {
-                response = getEndpointConfiguration().getRestTemplate().exchange(URI.create(endpointUri), method, requestEntity, byte[].class);
+            if (isBinaryResponse(httpMessage)) {
+                response = toBinaryPayload(getEndpointConfiguration().getRestTemplate().exchange(URI.create(endpointUri), method, requestEntity, byte[].class));
             } else {
                 response = getEndpointConfiguration().getRestTemplate().exchange(URI.create(endpointUri), method, requestEntity, String.class);
             }
 
             log.info("HTTP message was sent to endpoint: '" + endpointUri + "'");
+            if (log.isDebugEnabled() && getEndpointConfiguration().getConnectionPoolStats() != null) {
+                log.debug("HTTP connection pool stats: " + getEndpointConfiguration().getConnectionPoolStats());
+            }
+
             correlationManager.store(correlationKey, getEndpointConfiguration().getMessageConverter().convertInbound(response, getEndpointConfiguration(), context));
         } catch (HttpErrorPropagatingException e) {
-            log.info("Caught HTTP rest client exception: " + e.getMessage());
-            log.info("Propagating HTTP rest client exception according to error handling strategy");
-            Message responseMessage = getEndpointConfiguration().getMessageConverter().convertInbound(
-                    new ResponseEntity<>(e.getResponseBodyAsString(), e.getResponseHeaders(), e.getStatusCode()), getEndpointConfiguration(), context);
-            correlationManager.store(correlationKey, responseMessage);
+            correlationManager.store(correlationKey, propagateError(e, context));
         }
     }
 
+    /**
+     * Converts propagated http error to response message.
+     * @param e
+     * @param context
+     * @return
+     */
+    private Message propagateError(HttpErrorPropagatingException e, TestContext context) {
+        log.info("Caught HTTP rest client exception: " + e.getMessage());
+        log.info("Propagating HTTP rest client exception according to error handling strategy");
+        return getEndpointConfiguration().getMessageConverter().convertInbound(
+                new ResponseEntity<>(e.getResponseBodyAsString(), e.getResponseHeaders(), e.getStatusCode()), getEndpointConfiguration(), context);
+    }
+
+    /**
+     * Sends request with non-blocking http client. The response or the transport error is stored with the async
+     * correlation manager once it arrives. Conversion and error handling take place in the receive operation.
+     * @param endpointUri
+     * @param method
+     * @param requestEntity
+     * @param binaryResponse
+     * @param correlationKey
+     */
+    private void sendAsync(URI endpointUri, HttpMethod method, HttpEntity<?> requestEntity, boolean binaryResponse,
+                           String correlationKey) {
+        List<LoggingClientInterceptor> loggingInterceptors = getAsyncLoggingInterceptors();
+        byte[] body = getRequestBody(requestEntity);
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(endpointUri)
+                .timeout(Duration.ofMillis(getEndpointConfiguration().getTimeout()))
+                .method(method.name(), body.length > 0 ? HttpRequest.BodyPublishers.ofByteArray(body) : HttpRequest.BodyPublishers.noBody());
+
+        requestEntity.getHeaders().forEach((name, values) -> {
+            if (RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+                log.warn(String.format("Ignoring header '%s' that is not supported by the non-blocking http client", name));
+            } else {
+                values.forEach(value -> request.header(name, value));
+            }
+        });
+
+        AsyncRequest asyncRequest = new AsyncRequest(method, endpointUri, requestEntity.getHeaders(), binaryResponse);
+        loggingInterceptors.forEach(interceptor -> interceptor.handleRequest(asyncRequest, body));
+
+        getEndpointConfiguration().getAsyncHttpClient()
+                .sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> asyncResponses.store(correlationKey, new AsyncResponse(asyncRequest, response, error)));
+    }
+
+    /**
+     * Gets the client interceptors to apply in async mode. Requests are not sent with the rest template in async mode,
+     * so only logging interceptors are supported. Custom request factories such as basic authentication or SSL request
+     * factories are not supported, too.
+     * @return
+     */
+    private List<LoggingClientInterceptor> getAsyncLoggingInterceptors() {
+        if (getEndpointConfiguration().isCustomRequestFactory()) {
+            throw new CitrusRuntimeException("Custom request factory is not supported in async mode - " +
+                    "please configure authentication and SSL settings on the async http client");
+        }
+
+        List<LoggingClientInterceptor> loggingInterceptors = new ArrayList<>();
+        for (ClientHttpRequestInterceptor interceptor : getEndpointConfiguration().getClientInterceptors()) {
+            if (!(interceptor instanceof LoggingClientInterceptor)) {
+                throw new CitrusRuntimeException(String.format("Client interceptor '%s' is not supported in async mode",
+                        interceptor.getClass().getName()));
+            }
+
+            loggingInterceptors.add((LoggingClientInterceptor) interceptor);
+        }
+
+        return loggingInterceptors;
+    }
+
+    /**
+     * Gets request body as bytes using the request content type charset.
+     * @param requestEntity
+     * @return
+     */
+    private byte[] getRequestBody(HttpEntity<?> requestEntity) {
+        Object body = requestEntity.getBody();
+        if (body == null) {
+            return new byte[0];
+        } else if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+
+        return body.toString().getBytes(getCharset(requestEntity.getHeaders()));
+    }
+
+    /**
+     * Converts response of request sent in async mode to response message. Response is checked with the response
+     * error handler of this endpoint.
+     * @param asyncResponse
+     * @param context
+     * @return
+     */
+    private Message handleAsyncResponse(AsyncResponse asyncResponse, TestContext context) {
+        AsyncRequest request = asyncResponse.request;
+        if (asyncResponse.error != null) {
+            throw new CitrusRuntimeException(String.format("Failed to send HTTP request to '%s'", request.getURI()), asyncResponse.error);
+        }
+
+        log.info("HTTP message was sent to endpoint: '" + request.getURI() + "'");
+
+        AsyncClientHttpResponse response = new AsyncClientHttpResponse(asyncResponse.response);
+        try {
+            for (LoggingClientInterceptor interceptor : getAsyncLoggingInterceptors()) {
+                interceptor.handleResponse(response);
+            }
+
+            ResponseErrorHandler errorHandler = getEndpointConfiguration().getErrorHandler();
+            if (errorHandler.hasError(response)) {
+                errorHandler.handleError(request.getURI(), request.method, response);
+            }
+        } catch (HttpErrorPropagatingException e) {
+            return propagateError(e, context);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException(String.format("Failed to handle HTTP response from '%s'", request.getURI()), e);
+        }
+
+        ResponseEntity<?> responseEntity;
+        byte[] body = asyncResponse.response.body();
+        if (body == null || body.length == 0) {
+            responseEntity = new ResponseEntity<>(null, response.getHeaders(), response.getRawStatusCode());
+        } else if (request.binaryResponse) {
+            responseEntity = new ResponseEntity<>(BinaryPayload.of(body), response.getHeaders(), response.getRawStatusCode());
+        } else {
+            responseEntity = new ResponseEntity<>(new String(body, getCharset(response.getHeaders())), response.getHeaders(), response.getRawStatusCode());
+        }
+
+        return getEndpointConfiguration().getMessageConverter().convertInbound(responseEntity, getEndpointConfiguration(), context);
+    }
+
+    /**
+     * Wraps binary response body as binary payload without copying the content.
+     * @param response
+     * @return
+     */
+    private ResponseEntity<?> toBinaryPayload(ResponseEntity<byte[]> response) {
+        if (response.getBody() == null) {
+            return response;
+        }
+
+        return new ResponseEntity<>(BinaryPayload.of(response.getBody()), response.getHeaders(), response.getStatusCodeValue());
+    }
+
+    /**
+     * Gets charset from content type of given headers or default charset of this endpoint.
+     * @param headers
+     * @return
+     */
+    private Charset getCharset(HttpHeaders headers) {
+        return Optional.ofNullable(headers.getContentType())
+                .map(MediaType::getCharset)
+                .orElse(Charset.forName(getEndpointConfiguration().getCharset()));
+    }
+
+    /**
+     * Checks if response should be handled as binary content according to the accept header of the request
+     * and the binary media types of this endpoint.
+     * @param httpMessage
+     * @return
+     */
+    private boolean isBinaryResponse(HttpMessage httpMessage) {
+        MediaType accept = Optional.ofNullable(httpMessage.getAccept())
+                .map(mediaType -> mediaType.split(","))
+                .map(mediaType -> {
+                    try {
+                        return MediaType.valueOf(mediaType[0]);
+                    } catch (InvalidMediaTypeException e) {
+                        log.warn(String.format("Failed to parse accept media type '%s' - using default media type '%s'",
+                                mediaType[0], MediaType.ALL_VALUE), e);
+                        return MediaType.ALL;
+                    }
+                })
+                .orElse(MediaType.ALL);
+
+        return getEndpointConfiguration().getBinaryMediaTypes().stream().anyMatch(mediaType -> mediaType.includes(accept));
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -161,7 +364,14 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
-        Message message = correlationManager.find(selector, timeout);
+        Message message;
+        if (getEndpointConfiguration().isAsync()) {
+            message = Optional.ofNullable(asyncResponses.find(selector, timeout))
+                    .map(response -> handleAsyncResponse(response, context))
+                    .orElse(null);
+        } else {
+            message = correlationManager.find(selector, timeout);
+        }
 
         String endpointUri;
         if (context.getVariables().containsKey(MessageHeaders.MESSAGE_REPLY_TO + "_" + selector)) {
@@ -213,4 +423,107 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
         this.correlationManager = correlationManager;
     }
 
+    @Override
+    public void destroy() {
+        getEndpointConfiguration().closeAsyncHttpClient();
+        getEndpointConfiguration().closeConnectionPool();
+    }
+
+    /**
+     * Request sent in async mode.
+     */
+    private static final class AsyncRequest implements org.springframework.http.HttpRequest {
+        private final HttpMethod method;
+        private final URI uri;
+        private final HttpHeaders headers;
+        private final boolean binaryResponse;
+
+        AsyncRequest(HttpMethod method, URI uri, HttpHeaders headers, boolean binaryResponse) {
+            this.method = method;
+            this.uri = uri;
+            this.headers = headers;
+            this.binaryResponse = binaryResponse;
+        }
+
+        @Override
+        public String getMethodValue() {
+            return method.name();
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    /**
+     * Response or transport error of request sent in async mode.
+     */
+    private static final class AsyncResponse {
+        private final AsyncRequest request;
+        private final HttpResponse<byte[]> response;
+        private final Throwable error;
+
+        AsyncResponse(AsyncRequest request, HttpResponse<byte[]> response, Throwable error) {
+            this.request = request;
+            this.response = response;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Client http response view on response of the non-blocking http client so response error handler and logging
+     * interceptors can be applied.
+     */
+    private static final class AsyncClientHttpResponse implements ClientHttpResponse {
+        private final HttpResponse<byte[]> response;
+        private final HttpHeaders headers = new HttpHeaders();
+
+        AsyncClientHttpResponse(HttpResponse<byte[]> response) {
+            this.response = response;
+
+            response.headers().map().forEach((name, values) -> {
+                if (!name.startsWith(":")) {
+                    headers.addAll(name, values);
+                }
+            });
+        }
+
+        @Override
+        public HttpStatus getStatusCode() {
+            return HttpStatus.valueOf(response.statusCode());
+        }
+
+        @Override
+        public int getRawStatusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public String getStatusText() {
+            return Optional.ofNullable(HttpStatus.resolve(response.statusCode()))
+                    .map(HttpStatus::getReasonPhrase)
+                    .orElse("");
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(Optional.ofNullable(response.body()).orElse(new byte[0]));
+        }
+
+        @Override
+        public void close() {
+            // nothing to close as response body is already read
+        }
+    }
 }
@@ -205,6 +205,67 @@ public class HttpClientBuilder extends AbstractEndpointBuilder<HttpClient> {
         return this;
     }
 
+    /**
+     * Enables async mode where send operations return immediately and receive operations wait for
+     * the correlated response.
+     * @param async
+     * @return
+     */
+    public HttpClientBuilder async(boolean async) {
+        endpoint.getEndpointConfiguration().setAsync(async);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections in total.
+     * @param maxConnections
+     * @return
+     */
+    public HttpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections per route.
+     * @param maxConnectionsPerRoute
+     * @return
+     */
+    public HttpClientBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        endpoint.getEndpointConfiguration().setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+        return this;
+    }
+
+    /**
+     * Sets the keep alive duration in milliseconds for pooled connections.
+     * @param keepAlive
+     * @return
+     */
+    public HttpClientBuilder keepAlive(long keepAlive) {
+        endpoint.getEndpointConfiguration().setKeepAlive(keepAlive);
+        return this;
+    }
+
+    /**
+     * Sets the total time to live in milliseconds for pooled connections.
+     * @param connectionTimeToLive
+     * @return
+     */
+    public HttpClientBuilder connectionTimeToLive(long connectionTimeToLive) {
+        endpoint.getEndpointConfiguration().setConnectionTimeToLive(connectionTimeToLive);
+        return this;
+    }
+
+    /**
+     * Sets the idle time in milliseconds after which pooled connections get evicted.
+     * @param idleConnectionTimeout
+     * @return
+     */
+    public HttpClientBuilder idleConnectionTimeout(long idleConnectionTimeout) {
+        endpoint.getEndpointConfiguration().setIdleConnectionTimeout(idleConnectionTimeout);
+        return this;
+    }
+
     /**
      * Sets a client single interceptor.
      * @param interceptor
@@ -19,6 +19,9 @@ package com.consol.citrus.http.client;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import com.consol.citrus.endpoint.AbstractPollableEndpointConfiguration;
 import com.consol.citrus.endpoint.resolver.DynamicEndpointUriResolver;
@@ -28,6 +31,12 @@ import com.consol.citrus.http.message.HttpMessageConverter;
 import com.consol.citrus.message.DefaultMessageCorrelator;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import com.consol.citrus.message.MessageCorrelator;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -47,6 +56,9 @@ import org.springframework.web.client.RestTemplate;
  */
 public class HttpEndpointConfiguration extends AbstractPollableEndpointConfiguration {
 
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(HttpEndpointConfiguration.class);
+
     /** Http url as service destination */
     private String requestUrl;
 
@@ -106,6 +118,36 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
                                                                 MediaType.IMAGE_PNG,
                                                                 MediaType.valueOf("application/zip"));
 
+    /** Send requests with non-blocking http client and correlate responses once they arrive */
+    private boolean async = false;
+
+    /** Non-blocking http client used in async mode */
+    private java.net.http.HttpClient asyncHttpClient;
+
+    /** Executor of the default non-blocking http client */
+    private ExecutorService asyncExecutor;
+
+    /** Maximum number of pooled connections in total */
+    private int maxConnections = 20;
+
+    /** Maximum number of pooled connections per route */
+    private int maxConnectionsPerRoute = 20;
+
+    /** Keep alive duration in milliseconds for pooled connections, negative value uses server Keep-Alive header */
+    private long keepAlive = -1;
+
+    /** Total time to live in milliseconds for pooled connections, negative value means no limit */
+    private long connectionTimeToLive = -1;
+
+    /** Idle time in milliseconds after which pooled connections get evicted, zero disables eviction */
+    private long idleConnectionTimeout = 0;
+
+    /** Connection manager of default request factory */
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    /** Connection pool settings have changed since the default request factory has been created */
+    private boolean connectionPoolOutdated = false;
+
     /**
      * Default constructor initializes with default logging interceptor.
      */
@@ -293,23 +335,142 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     }
 
     /**
-     * Gets the client request factory.
+     * Gets the client request factory. Creates the default pooled request factory if not set or when the connection
+     * pool settings have changed. The new request factory is set on the rest template before the outdated connection
+     * pool is shut down.
      * @return
      */
-    public ClientHttpRequestFactory getRequestFactory() {
-        if (requestFactory == null) {
-            requestFactory = new HttpComponentsClientHttpRequestFactory();
+    public synchronized ClientHttpRequestFactory getRequestFactory() {
+        if (requestFactory == null || connectionPoolOutdated) {
+            ClientHttpRequestFactory outdated = connectionManager != null ? requestFactory : null;
+
+            requestFactory = new HttpComponentsClientHttpRequestFactory(createPooledHttpClient());
+            connectionPoolOutdated = false;
+
+            swapRequestFactory(outdated);
         }
 
         return requestFactory;
     }
 
     /**
-     * Sets the client request factory.
+     * Sets the current request factory on the rest template and destroys given default pooled request factory afterwards.
+     * @param outdated
+     */
+    private void swapRequestFactory(ClientHttpRequestFactory outdated) {
+        if (restTemplate != null && requestFactory != null) {
+            restTemplate.setRequestFactory(requestFactory);
+        }
+
+        destroyPooledRequestFactory(outdated);
+    }
+
+    /**
+     * Destroys given default pooled request factory. Closes the http client, which shuts down the connection pool
+     * and stops the idle connection evictor thread.
+     * @param pooledRequestFactory
+     */
+    private void destroyPooledRequestFactory(ClientHttpRequestFactory pooledRequestFactory) {
+        if (pooledRequestFactory instanceof HttpComponentsClientHttpRequestFactory) {
+            try {
+                ((HttpComponentsClientHttpRequestFactory) pooledRequestFactory).destroy();
+            } catch (Exception e) {
+                log.warn("Failed to close pooled http client", e);
+            }
+        }
+    }
+
+    /**
+     * Closes the http client and connection pool of the default pooled request factory. The request factory gets
+     * created again on next access. Custom request factories set on this endpoint configuration are not affected.
+     */
+    public synchronized void closeConnectionPool() {
+        if (connectionManager != null) {
+            ClientHttpRequestFactory outdated = requestFactory;
+
+            requestFactory = null;
+            connectionManager = null;
+            connectionPoolOutdated = false;
+
+            destroyPooledRequestFactory(outdated);
+        }
+    }
+
+    /**
+     * Creates default http client with pooled connection manager using the connection pool settings
+     * on this endpoint configuration.
+     * @return
+     */
+    private org.apache.http.client.HttpClient createPooledHttpClient() {
+        connectionManager = new PoolingHttpClientConnectionManager(connectionTimeToLive, TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create()
+                .useSystemProperties()
+                .setConnectionManager(connectionManager);
+
+        if (keepAlive >= 0) {
+            httpClientBuilder.setKeepAliveStrategy((response, context) -> {
+                long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return duration > 0 ? Math.min(duration, keepAlive) : keepAlive;
+            });
+        }
+
+        if (idleConnectionTimeout > 0) {
+            httpClientBuilder.evictExpiredConnections()
+                    .evictIdleConnections(idleConnectionTimeout, TimeUnit.MILLISECONDS);
+        }
+
+        return httpClientBuilder.build();
+    }
+
+    /**
+     * Marks the default pooled request factory as outdated so it gets created with the current connection pool settings
+     * on next access. Custom request factories set on this endpoint configuration are not affected.
+     */
+    private synchronized void resetPooledRequestFactory() {
+        if (connectionManager != null) {
+            connectionPoolOutdated = true;
+        }
+    }
+
+    /**
+     * Checks if a custom request factory is set on this endpoint configuration instead of the default
+     * pooled request factory.
+     * @return
+     */
+    public synchronized boolean isCustomRequestFactory() {
+        return requestFactory != null && connectionManager == null;
+    }
+
+    /**
+     * Gets the current statistics (leased, available, pending and max connections) of the connection pool.
+     * Only available when this endpoint configuration uses the default pooled request factory. Reads the statistics of
+     * the current connection pool, changed connection pool settings apply once the request factory has been rebuilt
+     * on next use.
+     * @return the pool statistics or null if connection pool is not managed by this endpoint configuration
+     */
+    public synchronized PoolStats getConnectionPoolStats() {
+        if (connectionManager == null) {
+            return null;
+        }
+
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Sets the client request factory. Closes the http client and connection pool of the default request factory.
      * @param requestFactory
      */
-    public void setRequestFactory(ClientHttpRequestFactory requestFactory) {
+    public synchronized void setRequestFactory(ClientHttpRequestFactory requestFactory) {
+        ClientHttpRequestFactory outdated = connectionManager != null ? this.requestFactory : null;
+
         this.requestFactory = requestFactory;
+        connectionManager = null;
+        connectionPoolOutdated = false;
+
+        swapRequestFactory(outdated);
     }
 
     /**
@@ -439,4 +600,161 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     public void setBinaryMediaTypes(List<MediaType> binaryMediaTypes) {
         this.binaryMediaTypes = binaryMediaTypes;
     }
+
+    /**
+     * Gets the async mode.
+     *
+     * @return
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Enables async mode where send operations do not block until the response arrives.
+     *
+     * @param async
+     */
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    /**
+     * Gets the non-blocking http client used in async mode. Creates default client if not set.
+     *
+     * @return
+     */
+    public synchronized java.net.http.HttpClient getAsyncHttpClient() {
+        if (asyncHttpClient == null) {
+            asyncExecutor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "citrus-http-async");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            asyncHttpClient = java.net.http.HttpClient.newBuilder()
+                    .version(java.net.http.HttpClient.Version.HTTP_1_1)
+                    .executor(asyncExecutor)
+                    .build();
+        }
+
+        return asyncHttpClient;
+    }
+
+    /**
+     * Sets the non-blocking http client used in async mode.
+     *
+     * @param asyncHttpClient
+     */
+    public synchronized void setAsyncHttpClient(java.net.http.HttpClient asyncHttpClient) {
+        closeAsyncHttpClient();
+        this.asyncHttpClient = asyncHttpClient;
+    }
+
+    /**
+     * Shuts down the executor of the default non-blocking http client. The client gets created again on next access.
+     * Custom async http clients set on this endpoint configuration are not affected.
+     */
+    public synchronized void closeAsyncHttpClient() {
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdownNow();
+            asyncExecutor = null;
+            asyncHttpClient = null;
+        }
+    }
+
+    /**
+     * Gets the maxConnections.
+     *
+     * @return
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections in total.
+     *
+     * @param maxConnections
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+        resetPooledRequestFactory();
+    }
+
+    /**
+     * Gets the maxConnectionsPerRoute.
+     *
+     * @return
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections per route.
+     *
+     * @param maxConnectionsPerRoute
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        resetPooledRequestFactory();
+    }
+
+    /**
+     * Gets the keepAlive.
+     *
+     * @return
+     */
+    public long getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Sets the keep alive duration in milliseconds for pooled connections.
+     *
+     * @param keepAlive
+     */
+    public void setKeepAlive(long keepAlive) {
+        this.keepAlive = keepAlive;
+        resetPooledRequestFactory();
+    }
+
+    /**
+     * Gets the connectionTimeToLive.
+     *
+     * @return
+     */
+    public long getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    /**
+     * Sets the total time to live in milliseconds for pooled connections.
+     *
+     * @param connectionTimeToLive
+     */
+    public void setConnectionTimeToLive(long connectionTimeToLive) {
+        this.connectionTimeToLive = connectionTimeToLive;
+        resetPooledRequestFactory();
+    }
+
+    /**
+     * Gets the idleConnectionTimeout.
+     *
+     * @return
+     */
+    public long getIdleConnectionTimeout() {
+        return idleConnectionTimeout;
+    }
+
+    /**
+     * Sets the idle time in milliseconds after which pooled connections get evicted.
+     *
+     * @param idleConnectionTimeout
+     */
+    public void setIdleConnectionTimeout(long idleConnectionTimeout) {
+        this.idleConnectionTimeout = idleConnectionTimeout;
+        resetPooledRequestFactory();
+    }
 }
@@ -94,6 +94,42 @@ public @interface HttpClientConfig {
      */
     boolean handleCookies() default false;
 
+    /**
+     * Async mode.
+     * @return
+     */
+    boolean async() default false;
+
+    /**
+     * Maximum number of pooled connections.
+     * @return
+     */
+    int maxConnections() default 20;
+
+    /**
+     * Maximum number of pooled connections per route.
+     * @return
+     */
+    int maxConnectionsPerRoute() default 20;
+
+    /**
+     * Keep alive duration of pooled connections.
+     * @return
+     */
+    long keepAlive() default -1L;
+
+    /**
+     * Time to live of pooled connections.
+     * @return
+     */
+    long connectionTimeToLive() default -1L;
+
+    /**
+     * Idle connection eviction timeout.
+     * @return
+     */
+    long idleConnectionTimeout() default 0L;
+
     /**
      * Content type.
      * @return
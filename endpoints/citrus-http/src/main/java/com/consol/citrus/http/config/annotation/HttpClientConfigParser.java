@@ -81,6 +81,12 @@ public class HttpClientConfigParser implements AnnotationConfigParser<HttpClient
 
         builder.defaultAcceptHeader(annotation.defaultAcceptHeader());
         builder.handleCookies(annotation.handleCookies());
+        builder.async(annotation.async());
+        builder.maxConnections(annotation.maxConnections());
+        builder.maxConnectionsPerRoute(annotation.maxConnectionsPerRoute());
+        builder.keepAlive(annotation.keepAlive());
+        builder.connectionTimeToLive(annotation.connectionTimeToLive());
+        builder.idleConnectionTimeout(annotation.idleConnectionTimeout());
         builder.charset(annotation.charset());
         builder.contentType(annotation.contentType());
         builder.pollingInterval(annotation.pollingInterval());
@@ -69,6 +69,48 @@ public @interface HttpServerConfig {
      */
     String connector() default "";
 
+    /**
+     * Maximum number of server threads.
+     * @return
+     */
+    int maxThreads() default 200;
+
+    /**
+     * Minimum number of server threads.
+     * @return
+     */
+    int minThreads() default 8;
+
+    /**
+     * Server thread idle timeout.
+     * @return
+     */
+    int threadIdleTimeout() default 60000;
+
+    /**
+     * Server socket accept queue size.
+     * @return
+     */
+    int acceptQueueSize() default 0;
+
+    /**
+     * Number of connector acceptor threads.
+     * @return
+     */
+    int acceptors() default -1;
+
+    /**
+     * Number of connector selector threads.
+     * @return
+     */
+    int selectors() default -1;
+
+    /**
+     * Enable HTTP/2 cleartext support.
+     * @return
+     */
+    boolean http2() default false;
+
     /**
      * Filter references.
      * @return
@@ -141,6 +183,12 @@ public @interface HttpServerConfig {
      */
     int responseCacheSize() default 100;
 
+    /**
+     * Server response cache time to live.
+     * @return
+     */
+    long responseCacheTimeToLive() default 60000L;
+
     /**
      * Binary media types.
      * @return
@@ -111,6 +111,14 @@ public class HttpServerConfigParser implements AnnotationConfigParser<HttpServer
             builder.connector(referenceResolver.resolve(annotation.connector(), Connector.class));
         }
 
+        builder.maxThreads(annotation.maxThreads());
+        builder.minThreads(annotation.minThreads());
+        builder.threadIdleTimeout(annotation.threadIdleTimeout());
+        builder.acceptQueueSize(annotation.acceptQueueSize());
+        builder.acceptors(annotation.acceptors());
+        builder.selectors(annotation.selectors());
+        builder.http2(annotation.http2());
+
         if (StringUtils.hasText(annotation.servletName())) {
             builder.servletName(annotation.servletName());
         }
@@ -137,6 +145,7 @@ public class HttpServerConfigParser implements AnnotationConfigParser<HttpServer
 
         builder.defaultStatus(annotation.defaultStatus());
         builder.responseCacheSize(annotation.responseCacheSize());
+        builder.responseCacheTimeToLive(annotation.responseCacheTimeToLive());
 
         return builder.initialize().build();
     }
@@ -77,6 +77,12 @@ public class HttpClientParser extends AbstractEndpointParser {
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("content-type"), "contentType");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("polling-interval"), "pollingInterval");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("handle-cookies"), "handleCookies");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("async"), "async");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-connections"), "maxConnections");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-connections-per-route"), "maxConnectionsPerRoute");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("keep-alive"), "keepAlive");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("connection-time-to-live"), "connectionTimeToLive");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("idle-connection-timeout"), "idleConnectionTimeout");
 
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("error-handler"), "errorHandler");
         if (element.hasAttribute("error-strategy")) {
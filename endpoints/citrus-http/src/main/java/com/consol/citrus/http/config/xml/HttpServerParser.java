@@ -40,6 +40,14 @@ public class HttpServerParser extends AbstractServerParser {
         BeanDefinitionParserUtils.setPropertyReference(builder, element.getAttribute("connectors"), "connectors");
         BeanDefinitionParserUtils.setPropertyReference(builder, element.getAttribute("connector"), "connector");
 
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("max-threads"), "maxThreads");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("min-threads"), "minThreads");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("thread-idle-timeout"), "threadIdleTimeout");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("accept-queue-size"), "acceptQueueSize");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("acceptors"), "acceptors");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("selectors"), "selectors");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("http2"), "http2");
+
         BeanDefinitionParserUtils.setPropertyReference(builder, element.getAttribute("filters"), "filters");
         BeanDefinitionParserUtils.setPropertyReference(builder, element.getAttribute("filter-mappings"), "filterMappings");
         BeanDefinitionParserUtils.setPropertyReference(builder, element.getAttribute("binary-media-types"), "binaryMediaTypes");
@@ -55,6 +63,7 @@ public class HttpServerParser extends AbstractServerParser {
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("handle-cookies"), "handleCookies");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("default-status-code"), "defaultStatusCode");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("response-cache-size"), "responseCacheSize");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("response-cache-ttl"), "responseCacheTimeToLive");
     }
 
     @Override
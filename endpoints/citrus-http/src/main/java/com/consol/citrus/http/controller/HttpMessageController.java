@@ -21,8 +21,6 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.util.Enumeration;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 import com.consol.citrus.endpoint.EndpointAdapter;
 import com.consol.citrus.endpoint.adapter.EmptyResponseEndpointAdapter;
@@ -61,14 +59,12 @@ public class HttpMessageController {
     /** Endpoint configuration */
     private HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
 
-    /** Cache response messages for message tracing reasons */
-    private final ConcurrentHashMap<HttpServletRequest, ResponseEntity<?>> responseCache = new ConcurrentHashMap<>();
+    /** Cache response messages for message tracing reasons, entries are released once the request has completed */
+    private final HttpResponseCache responseCache = new HttpResponseCache(HttpServerSettings.responseCacheSize(),
+            HttpServerSettings.responseCacheTimeToLive());
 
-    /** List of requests used to clear caches when too many requests are in memory */
-    private final ConcurrentLinkedQueue<HttpServletRequest> activeRequests = new ConcurrentLinkedQueue<>();
-
-    /** Maximum number of responses cached on this server for message tracing reasons */
-    private int responseCacheSize = HttpServerSettings.responseCacheSize();
+    /** Request attribute name used to register response cache release callback */
+    private static final String RESPONSE_CACHE_RELEASE_ATTRIBUTE = HttpMessageController.class.getName() + ".RESPONSE_CACHE_RELEASE";
 
     @RequestMapping(value = "**", method = { RequestMethod.GET })
     @ResponseBody
@@ -196,26 +192,12 @@ public class HttpMessageController {
             }
         }
         responseCache.put(servletRequest, responseEntity);
-        activeRequests.add(servletRequest);
-
-        clearResponseCacheEntries(activeRequests, responseCache);
+        attributes.registerDestructionCallback(RESPONSE_CACHE_RELEASE_ATTRIBUTE,
+                () -> responseCache.remove(servletRequest), RequestAttributes.SCOPE_REQUEST);
 
         return responseEntity;
     }
 
-    /**
-     * Clear cache when max size is reached. Removes the oldest entries according to list of the active requests.
-     * @param activeRequests
-     * @param responseCache
-     */
-    private void clearResponseCacheEntries(ConcurrentLinkedQueue<HttpServletRequest> activeRequests,
-                                                  ConcurrentHashMap<HttpServletRequest, ResponseEntity<?>> responseCache) {
-        while (activeRequests.size() >= responseCacheSize) {
-            Optional.ofNullable(activeRequests.poll())
-                    .ifPresent(responseCache::remove);
-        }
-    }
-
     /**
      * Sets the endpointAdapter.
      * @param endpointAdapter the endpointAdapter to set
@@ -256,12 +238,20 @@ public class HttpMessageController {
         return responseCache.get(request);
     }
 
+    /**
+     * Gets the response cache holding cache statistics.
+     * @return
+     */
+    public HttpResponseCache getResponseCache() {
+        return responseCache;
+    }
+
     /**
      * Gets the response cache size.
      * @return
      */
     public int getResponseCacheSize() {
-        return responseCacheSize;
+        return responseCache.getMaxSize();
     }
 
     /**
@@ -269,6 +259,22 @@ public class HttpMessageController {
      * @param responseCacheSize
      */
     public void setResponseCacheSize(int responseCacheSize) {
-        this.responseCacheSize = responseCacheSize;
+        responseCache.setMaxSize(responseCacheSize);
+    }
+
+    /**
+     * Gets the response cache time to live in milliseconds.
+     * @return
+     */
+    public long getResponseCacheTimeToLive() {
+        return responseCache.getTimeToLive();
+    }
+
+    /**
+     * Sets the response cache time to live in milliseconds.
+     * @param responseCacheTimeToLive
+     */
+    public void setResponseCacheTimeToLive(long responseCacheTimeToLive) {
+        responseCache.setTimeToLive(responseCacheTimeToLive);
     }
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.http.controller;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Bounded cache holding response entities per servlet request for message tracing reasons. Entries are kept in
+ * insertion order so the oldest entries get evicted in constant time when the maximum number of entries is exceeded
+ * or when entries have outlived the configured time to live. Usually entries are released explicitly as soon as the
+ * request has completed.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class HttpResponseCache {
+
+    /** Cached responses in insertion order */
+    private final LinkedHashMap<HttpServletRequest, CacheEntry> entries = new LinkedHashMap<>();
+
+    /** Maximum number of cached responses */
+    private volatile int maxSize;
+
+    /** Time to live in milliseconds for cached responses, zero or negative value disables time based eviction */
+    private volatile long timeToLive;
+
+    /** Cache statistics */
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor initializing cache limits.
+     * @param maxSize
+     * @param timeToLive
+     */
+    public HttpResponseCache(int maxSize, long timeToLive) {
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Adds response for given request and evicts outdated entries.
+     * @param request
+     * @param response
+     */
+    public void put(HttpServletRequest request, ResponseEntity<?> response) {
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            entries.remove(request);
+            entries.put(request, new CacheEntry(response, now));
+            evict(now);
+        }
+    }
+
+    /**
+     * Gets cached response for given request.
+     * @param request
+     * @return the cached response or null if not present
+     */
+    public ResponseEntity<?> get(HttpServletRequest request) {
+        CacheEntry entry;
+        synchronized (entries) {
+            entry = entries.get(request);
+        }
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.response;
+    }
+
+    /**
+     * Releases cached response for given request.
+     * @param request
+     */
+    public void remove(HttpServletRequest request) {
+        synchronized (entries) {
+            entries.remove(request);
+        }
+    }
+
+    /**
+     * Removes all cached responses.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Removes the oldest entries as long as cache size exceeds the maximum size or entries have expired.
+     * Must be called while holding the lock on the entries.
+     * @param now
+     */
+    private void evict(long now) {
+        Iterator<CacheEntry> oldest = entries.values().iterator();
+        while (oldest.hasNext()) {
+            CacheEntry entry = oldest.next();
+            if (entries.size() <= maxSize && (timeToLive <= 0 || now - entry.timestamp < timeToLive)) {
+                break;
+            }
+
+            oldest.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Gets the current number of cached responses.
+     * @return
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Gets the number of successful cache lookups.
+     * @return
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of cache lookups without cached response.
+     * @return
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of entries evicted due to size or time to live limits.
+     * @return
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the maxSize.
+     * @return
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maxSize.
+     * @param maxSize
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the timeToLive.
+     * @return
+     */
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets the timeToLive.
+     * @param timeToLive
+     */
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HttpResponseCache[size=%s, hits=%s, misses=%s, evictions=%s]", size(), getHits(), getMisses(), getEvictions());
+    }
+
+    /**
+     * Cached response with creation timestamp.
+     */
+    private static final class CacheEntry {
+        private final ResponseEntity<?> response;
+        private final long timestamp;
+
+        CacheEntry(ResponseEntity<?> response, long timestamp) {
+            this.response = response;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -67,6 +67,24 @@ public class LoggingClientInterceptor implements ClientHttpRequestInterceptor {
         return bufferedResponse;
     }
 
+    /**
+     * Handles request that is not sent via rest template for logging.
+     * @param request
+     * @param body
+     */
+    public void handleRequest(HttpRequest request, byte[] body) {
+        handleRequest(getRequestContent(request, new String(body)));
+    }
+
+    /**
+     * Handles response that is not received via rest template for logging.
+     * @param response
+     * @throws IOException
+     */
+    public void handleResponse(ClientHttpResponse response) throws IOException {
+        handleResponse(getResponseContent(new CachingClientHttpResponseWrapper(response)));
+    }
+
     /**
      * Handles request messages for logging.
      * @param request
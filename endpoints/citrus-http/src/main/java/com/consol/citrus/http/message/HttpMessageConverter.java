@@ -18,6 +18,7 @@ package com.consol.citrus.http.message;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.http.client.HttpEndpointConfiguration;
+import com.consol.citrus.message.BinaryPayload;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageConverter;
 import com.consol.citrus.message.MessageHeaderUtils;
@@ -63,6 +64,10 @@ public class HttpMessageConverter implements MessageConverter<HttpEntity<?>, Htt
         HttpHeaders httpHeaders = createHttpHeaders(httpMessage, endpointConfiguration);
 
         Object payload = httpMessage.getPayload();
+        if (payload instanceof BinaryPayload) {
+            payload = ((BinaryPayload) payload).getBytes();
+        }
+
         if (httpMessage.getStatusCode() != null) {
             return new ResponseEntity<>(payload, httpHeaders, httpMessage.getStatusCode());
         } else {
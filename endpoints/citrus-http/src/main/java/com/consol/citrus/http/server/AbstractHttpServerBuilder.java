@@ -112,6 +112,76 @@ public class AbstractHttpServerBuilder<T extends HttpServer, B extends AbstractH
         return self;
     }
 
+    /**
+     * Sets the maximum number of threads in server thread pool.
+     * @param maxThreads
+     * @return
+     */
+    public B maxThreads(int maxThreads) {
+        endpoint.setMaxThreads(maxThreads);
+        return self;
+    }
+
+    /**
+     * Sets the minimum number of threads in server thread pool.
+     * @param minThreads
+     * @return
+     */
+    public B minThreads(int minThreads) {
+        endpoint.setMinThreads(minThreads);
+        return self;
+    }
+
+    /**
+     * Sets the idle timeout in milliseconds of threads in server thread pool.
+     * @param threadIdleTimeout
+     * @return
+     */
+    public B threadIdleTimeout(int threadIdleTimeout) {
+        endpoint.setThreadIdleTimeout(threadIdleTimeout);
+        return self;
+    }
+
+    /**
+     * Sets the size of the server socket accept queue.
+     * @param acceptQueueSize
+     * @return
+     */
+    public B acceptQueueSize(int acceptQueueSize) {
+        endpoint.setAcceptQueueSize(acceptQueueSize);
+        return self;
+    }
+
+    /**
+     * Sets the number of acceptor threads.
+     * @param acceptors
+     * @return
+     */
+    public B acceptors(int acceptors) {
+        endpoint.setAcceptors(acceptors);
+        return self;
+    }
+
+    /**
+     * Sets the number of selector threads.
+     * @param selectors
+     * @return
+     */
+    public B selectors(int selectors) {
+        endpoint.setSelectors(selectors);
+        return self;
+    }
+
+    /**
+     * Enables HTTP/2 cleartext support.
+     * @param http2
+     * @return
+     */
+    public B http2(boolean http2) {
+        endpoint.setHttp2(http2);
+        return self;
+    }
+
     /**
      * Sets the filters.
      * @param filters
@@ -242,6 +312,16 @@ public class AbstractHttpServerBuilder<T extends HttpServer, B extends AbstractH
         return self;
     }
 
+    /**
+     * Sets the response cache time to live in milliseconds on this server instance.
+     * @param timeToLive
+     * @return
+     */
+    public B responseCacheTimeToLive(long timeToLive) {
+        endpoint.setResponseCacheTimeToLive(timeToLive);
+        return self;
+    }
+
     /**
      * Sets the interceptors.
      * @param interceptors
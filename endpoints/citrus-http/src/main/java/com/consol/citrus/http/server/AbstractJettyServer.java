@@ -0,0 +1,194 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.http.server;
+
+import com.consol.citrus.server.AbstractServer;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+/**
+ * Abstract base class for server implementations running an embedded Jetty server. Holds the thread pool and
+ * connector settings of the default Jetty server shared by the Http server and the SOAP Web Service server.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public abstract class AbstractJettyServer extends AbstractServer {
+
+    /** Maximum number of threads in server thread pool */
+    private int maxThreads = 200;
+
+    /** Minimum number of threads in server thread pool */
+    private int minThreads = 8;
+
+    /** Idle timeout in milliseconds before threads are removed from server thread pool */
+    private int threadIdleTimeout = 60000;
+
+    /** Size of the server socket accept queue, zero or negative value uses the operating system default */
+    private int acceptQueueSize = 0;
+
+    /** Number of acceptor threads on the default connector, negative value lets Jetty choose */
+    private int acceptors = -1;
+
+    /** Number of selector threads on the default connector, negative value lets Jetty choose */
+    private int selectors = -1;
+
+    /** Enables HTTP/2 cleartext (h2c) on the default connector in addition to HTTP/1.1 */
+    private boolean http2 = false;
+
+    /**
+     * Creates Jetty server with sized thread pool and default server connector on given port. Connector supports
+     * HTTP/1.1 and optionally HTTP/2 cleartext.
+     * @param port
+     * @return
+     */
+    protected org.eclipse.jetty.server.Server createJettyServer(int port) {
+        org.eclipse.jetty.server.Server server = new org.eclipse.jetty.server.Server(
+                new QueuedThreadPool(maxThreads, minThreads, threadIdleTimeout));
+
+        HttpConfiguration httpConfiguration = new HttpConfiguration();
+        ConnectionFactory[] connectionFactories;
+        if (http2) {
+            connectionFactories = new ConnectionFactory[] { new HttpConnectionFactory(httpConfiguration), new HTTP2CServerConnectionFactory(httpConfiguration) };
+        } else {
+            connectionFactories = new ConnectionFactory[] { new HttpConnectionFactory(httpConfiguration) };
+        }
+
+        ServerConnector serverConnector = new ServerConnector(server, acceptors, selectors, connectionFactories);
+        serverConnector.setPort(port);
+        serverConnector.setAcceptQueueSize(acceptQueueSize);
+        server.addConnector(serverConnector);
+
+        return server;
+    }
+
+    /**
+     * Gets the maxThreads.
+     * @return
+     */
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    /**
+     * Sets the maximum number of threads in server thread pool.
+     * @param maxThreads
+     */
+    public void setMaxThreads(int maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * Gets the minThreads.
+     * @return
+     */
+    public int getMinThreads() {
+        return minThreads;
+    }
+
+    /**
+     * Sets the minimum number of threads in server thread pool.
+     * @param minThreads
+     */
+    public void setMinThreads(int minThreads) {
+        this.minThreads = minThreads;
+    }
+
+    /**
+     * Gets the threadIdleTimeout.
+     * @return
+     */
+    public int getThreadIdleTimeout() {
+        return threadIdleTimeout;
+    }
+
+    /**
+     * Sets the idle timeout in milliseconds of threads in server thread pool.
+     * @param threadIdleTimeout
+     */
+    public void setThreadIdleTimeout(int threadIdleTimeout) {
+        this.threadIdleTimeout = threadIdleTimeout;
+    }
+
+    /**
+     * Gets the acceptQueueSize.
+     * @return
+     */
+    public int getAcceptQueueSize() {
+        return acceptQueueSize;
+    }
+
+    /**
+     * Sets the size of the server socket accept queue.
+     * @param acceptQueueSize
+     */
+    public void setAcceptQueueSize(int acceptQueueSize) {
+        this.acceptQueueSize = acceptQueueSize;
+    }
+
+    /**
+     * Gets the acceptors.
+     * @return
+     */
+    public int getAcceptors() {
+        return acceptors;
+    }
+
+    /**
+     * Sets the number of acceptor threads.
+     * @param acceptors
+     */
+    public void setAcceptors(int acceptors) {
+        this.acceptors = acceptors;
+    }
+
+    /**
+     * Gets the selectors.
+     * @return
+     */
+    public int getSelectors() {
+        return selectors;
+    }
+
+    /**
+     * Sets the number of selector threads.
+     * @param selectors
+     */
+    public void setSelectors(int selectors) {
+        this.selectors = selectors;
+    }
+
+    /**
+     * Gets the http2.
+     * @return
+     */
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    /**
+     * Enables HTTP/2 cleartext support on the default connector.
+     * @param http2
+     */
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+}
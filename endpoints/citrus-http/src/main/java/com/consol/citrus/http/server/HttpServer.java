@@ -31,14 +31,12 @@ import com.consol.citrus.http.servlet.CitrusDispatcherServlet;
 import com.consol.citrus.http.servlet.GzipServletFilter;
 import com.consol.citrus.http.servlet.RequestCachingServletFilter;
 import com.consol.citrus.report.MessageListeners;
-import com.consol.citrus.server.AbstractServer;
 import org.eclipse.jetty.security.SecurityHandler;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.handler.ContextHandlerCollection;
 import org.eclipse.jetty.server.handler.DefaultHandler;
-import org.eclipse.jetty.server.handler.HandlerCollection;
-import org.eclipse.jetty.server.handler.RequestLogHandler;
+import org.eclipse.jetty.server.handler.HandlerList;
 import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.FilterMapping;
 import org.eclipse.jetty.servlet.ServletContextHandler;
@@ -59,7 +57,7 @@ import org.springframework.web.servlet.DispatcherServlet;
  * @author Christoph Deppisch
  * @since 2007
  */
-public class HttpServer extends AbstractServer {
+public class HttpServer extends AbstractJettyServer {
     /** Server port */
     private int port = 8080;
 
@@ -117,6 +115,9 @@ public class HttpServer extends AbstractServer {
     /** Default size of in memory response cahce for message tracing reasons */
     private int responseCacheSize = HttpServerSettings.responseCacheSize();
 
+    /** Time to live in milliseconds of in memory response cache entries */
+    private long responseCacheTimeToLive = HttpServerSettings.responseCacheTimeToLive();
+
     /** List of media types that should be handled with binary content processing */
     private List<MediaType> binaryMediaTypes = Arrays.asList(MediaType.APPLICATION_OCTET_STREAM,
                                                                 MediaType.APPLICATION_PDF,
@@ -151,10 +152,10 @@ public class HttpServer extends AbstractServer {
                 jettyServer = connector.getServer();
                 jettyServer.addConnector(connector);
             } else {
-                jettyServer = new Server(port);
+                jettyServer = createJettyServer(port);
             }
 
-            HandlerCollection handlers = new HandlerCollection();
+            HandlerList handlers = new HandlerList();
 
             ContextHandlerCollection contextCollection = new ContextHandlerCollection();
 
@@ -202,7 +203,6 @@ public class HttpServer extends AbstractServer {
             handlers.addHandler(contextCollection);
 
             handlers.addHandler(new DefaultHandler());
-            handlers.addHandler(new RequestLogHandler());
 
             jettyServer.setHandler(handlers);
 
@@ -569,6 +569,22 @@ public class HttpServer extends AbstractServer {
         this.responseCacheSize = responseCacheSize;
     }
 
+    /**
+     * Gets the response cache time to live.
+     * @return
+     */
+    public long getResponseCacheTimeToLive() {
+        return responseCacheTimeToLive;
+    }
+
+    /**
+     * Sets the response cache time to live in milliseconds.
+     * @param responseCacheTimeToLive
+     */
+    public void setResponseCacheTimeToLive(long responseCacheTimeToLive) {
+        this.responseCacheTimeToLive = responseCacheTimeToLive;
+    }
+
     /**
      * Gets the defaultStatusCode.
      *
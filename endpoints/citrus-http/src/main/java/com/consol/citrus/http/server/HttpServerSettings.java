@@ -28,6 +28,10 @@ public class HttpServerSettings {
     private static final String RESPONSE_CACHE_SIZE_ENV = "CITRUS_HTTP_SERVER_RESPONSE_CACHE_SIZE";
     private static final String RESPONSE_CACHE_SIZE_DEFAULT = "100";
 
+    private static final String RESPONSE_CACHE_TTL_PROPERTY = "citrus.http.server.response.cache.ttl";
+    private static final String RESPONSE_CACHE_TTL_ENV = "CITRUS_HTTP_SERVER_RESPONSE_CACHE_TTL";
+    private static final String RESPONSE_CACHE_TTL_DEFAULT = "60000";
+
     /**
      * Private constructor prevent instantiation of utility class
      */
@@ -44,4 +48,14 @@ public class HttpServerSettings {
         return Integer.parseInt(System.getProperty(RESPONSE_CACHE_SIZE_PROPERTY, System.getenv(RESPONSE_CACHE_SIZE_ENV) != null ?
                         System.getenv(RESPONSE_CACHE_SIZE_ENV) : RESPONSE_CACHE_SIZE_DEFAULT));
     }
+
+    /**
+     * The server response cache time to live in milliseconds. Cached response content older than this is evicted
+     * from the cache even when the request has not been completed. Zero or negative value disables time based eviction.
+     * @return
+     */
+    public static long responseCacheTimeToLive() {
+        return Long.parseLong(System.getProperty(RESPONSE_CACHE_TTL_PROPERTY, System.getenv(RESPONSE_CACHE_TTL_ENV) != null ?
+                        System.getenv(RESPONSE_CACHE_TTL_ENV) : RESPONSE_CACHE_TTL_DEFAULT));
+    }
 }
@@ -108,6 +108,7 @@ public class CitrusDispatcherServlet extends DispatcherServlet {
             messageController.setEndpointConfiguration(endpointConfiguration);
 
             messageController.setResponseCacheSize(httpServer.getResponseCacheSize());
+            messageController.setResponseCacheTimeToLive(httpServer.getResponseCacheTimeToLive());
 
             if (endpointAdapter != null) {
                 messageController.setEndpointAdapter(endpointAdapter);
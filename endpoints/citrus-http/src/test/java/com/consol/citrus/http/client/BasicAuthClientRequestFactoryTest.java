@@ -17,20 +17,36 @@
 package com.consol.citrus.http.client;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.sun.net.httpserver.HttpServer;
 import org.apache.http.auth.AuthScope;
-import org.apache.http.client.CredentialsProvider;
-import org.apache.http.impl.client.AbstractHttpClient;
+import org.apache.http.auth.UsernamePasswordCredentials;
+import org.apache.http.client.methods.Configurable;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
-import com.consol.citrus.testng.AbstractTestNGUnitTest;
-
 /**
  * @author Christoph Deppisch
  */
@@ -38,27 +54,134 @@ public class BasicAuthClientRequestFactoryTest extends AbstractTestNGUnitTest {
 
     @Autowired
     private HttpComponentsClientHttpRequestFactory requestFactory;
-    
+
+    private HttpServer server;
+    private int port;
+
+    private final AtomicReference<String> authorization = new AtomicReference<>();
+    private CountDownLatch requestReceived;
+    private CountDownLatch releaseResponse;
+
+    @BeforeMethod
+    public void startServer() throws IOException {
+        requestReceived = new CountDownLatch(1);
+        releaseResponse = new CountDownLatch(0);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            requestReceived.countDown();
+            try {
+                releaseResponse.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        port = server.getAddress().getPort();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopServer() {
+        releaseResponse.countDown();
+        server.stop(0);
+    }
+
     @Test
     public void testFactory() {
         Assert.assertNotNull(requestFactory);
         Assert.assertNotNull(requestFactory.getHttpClient());
-        Assert.assertNotNull(requestFactory.getHttpClient().getParams());
-        
-        CredentialsProvider credentialsProvider = ((AbstractHttpClient)requestFactory.getHttpClient()).getCredentialsProvider();
-        AuthScope authScope = new AuthScope("localhost", 8088, "", "basic");
-        Assert.assertNotNull(credentialsProvider);
-        Assert.assertNotNull(credentialsProvider.getCredentials(authScope));
-        Assert.assertNotNull(credentialsProvider.getCredentials(authScope).getUserPrincipal().getName(), "someUsername");
-        Assert.assertNotNull(credentialsProvider.getCredentials(authScope).getPassword(), "somePassword");
-        
-        Assert.assertNotNull(requestFactory.getHttpClient().getParams().getParameter("http.socket.timeout"));
-        Assert.assertEquals(requestFactory.getHttpClient().getParams().getIntParameter("http.socket.timeout", 0), 10000);
+        Assert.assertEquals(((Configurable) requestFactory.getHttpClient()).getConfig().getSocketTimeout(), 10000);
     }
-    
+
     @Test
     public void testCreateRequestWithAuthScope() throws IOException {
         ClientHttpRequest request = requestFactory.createRequest(URI.create("http://localhost:8088"), HttpMethod.GET);
         Assert.assertNotNull(request);
     }
+
+    @Test
+    public void testPreemptiveBasicAuthentication() throws Exception {
+        HttpComponentsClientHttpRequestFactory factory = createRequestFactory(20);
+
+        try (ClientHttpResponse response = factory.createRequest(URI.create("http://localhost:" + port), HttpMethod.GET).execute()) {
+            Assert.assertEquals(response.getStatusCode(), HttpStatus.OK);
+        } finally {
+            factory.destroy();
+        }
+
+        Assert.assertEquals(authorization.get(), "Basic " +
+                Base64.getEncoder().encodeToString("someUsername:somePassword".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testMaxConnectionsPerRoute() throws Exception {
+        releaseResponse = new CountDownLatch(1);
+        HttpComponentsClientHttpRequestFactory factory = createRequestFactory(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<HttpStatus> pending = executor.submit(() -> {
+                try (ClientHttpResponse response = factory.createRequest(URI.create("http://localhost:" + port), HttpMethod.GET).execute()) {
+                    return response.getStatusCode();
+                }
+            });
+            Assert.assertTrue(requestReceived.await(10, TimeUnit.SECONDS));
+
+            try {
+                factory.createRequest(URI.create("http://localhost:" + port), HttpMethod.GET).execute();
+                Assert.fail("Missing connection pool timeout for second concurrent request on same route");
+            } catch (IOException e) {
+                Assert.assertTrue(e.getMessage().contains("Timeout waiting for connection"), e.getMessage());
+            }
+
+            releaseResponse.countDown();
+            Assert.assertEquals(pending.get(10, TimeUnit.SECONDS), HttpStatus.OK);
+        } finally {
+            releaseResponse.countDown();
+            executor.shutdownNow();
+            factory.destroy();
+        }
+    }
+
+    @Test
+    public void testCustomHttpClient() throws Exception {
+        releaseResponse = new CountDownLatch(1);
+
+        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
+            BasicAuthClientHttpRequestFactory factoryBean = new BasicAuthClientHttpRequestFactory();
+            factoryBean.setHttpClient(httpClient);
+            factoryBean.setAuthScope(new AuthScope("localhost", port, "", "basic"));
+            factoryBean.setCredentials(new UsernamePasswordCredentials("someUsername", "somePassword"));
+            factoryBean.setParams(Collections.singletonMap("http.socket.timeout", "200"));
+            factoryBean.initialize();
+
+            HttpComponentsClientHttpRequestFactory factory = factoryBean.getObject();
+            try {
+                factory.createRequest(URI.create("http://localhost:" + port), HttpMethod.GET).execute();
+                Assert.fail("Missing socket timeout from custom Http params");
+            } catch (IOException e) {
+                Assert.assertTrue(e.getMessage().contains("timed out"), e.getMessage());
+            }
+        }
+
+        Assert.assertEquals(authorization.get(), "Basic " +
+                Base64.getEncoder().encodeToString("someUsername:somePassword".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private HttpComponentsClientHttpRequestFactory createRequestFactory(int maxConnectionsPerRoute) throws Exception {
+        BasicAuthClientHttpRequestFactory factoryBean = new BasicAuthClientHttpRequestFactory();
+        factoryBean.setAuthScope(new AuthScope("localhost", port, "", "basic"));
+        factoryBean.setCredentials(new UsernamePasswordCredentials("someUsername", "somePassword"));
+        factoryBean.setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+        factoryBean.setParams(Collections.singletonMap("http.conn-manager.timeout", 200L));
+        factoryBean.initialize();
+
+        return factoryBean.getObject();
+    }
 }
@@ -17,17 +17,27 @@
 package com.consol.citrus.http.client;
 
 import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.http.message.HttpMessage;
 import com.consol.citrus.http.message.HttpMessageHeaders;
+import com.consol.citrus.message.BinaryPayload;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageCorrelator;
+import com.consol.citrus.message.correlation.CorrelationManager;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.apache.http.entity.ContentType;
 import org.mockito.Mock;
@@ -40,9 +50,12 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
@@ -50,8 +63,10 @@ import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.reset;
@@ -522,7 +537,8 @@ public class HttpClientTest extends AbstractTestNGUnitTest {
         httpClient.send(requestMessage, context);
 
         HttpMessage responseMessage = (HttpMessage) httpClient.receive(context, endpointConfiguration.getTimeout());
-        Assert.assertEquals(responseMessage.getPayload(), responseBody);
+        Assert.assertTrue(responseMessage.getPayload() instanceof BinaryPayload);
+        Assert.assertSame(responseMessage.getPayload(byte[].class), responseBody);
         Assert.assertEquals(responseMessage.getStatusCode(), HttpStatus.OK);
         Assert.assertEquals(responseMessage.getReasonPhrase(), "OK");
 
@@ -563,4 +579,273 @@ public class HttpClientTest extends AbstractTestNGUnitTest {
 
         verify(restTemplate).setInterceptors(anyList());
     }
+
+    @Test
+    public void testConnectionPoolSettingsChanged() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setClientInterceptors(new ArrayList<>());
+
+        RestTemplate template = endpointConfiguration.getRestTemplate();
+        ClientHttpRequestFactory requestFactory = template.getRequestFactory();
+        Assert.assertEquals(endpointConfiguration.getConnectionPoolStats().getMax(), 20);
+
+        endpointConfiguration.setMaxConnections(50);
+        Assert.assertSame(template.getRequestFactory(), requestFactory);
+        Assert.assertEquals(endpointConfiguration.getConnectionPoolStats().getMax(), 20);
+        Assert.assertSame(template.getRequestFactory(), requestFactory);
+
+        Assert.assertNotSame(endpointConfiguration.getRequestFactory(), requestFactory);
+        Assert.assertEquals(endpointConfiguration.getConnectionPoolStats().getMax(), 50);
+        Assert.assertSame(template.getRequestFactory(), endpointConfiguration.getRequestFactory());
+        Assert.assertFalse(endpointConfiguration.isCustomRequestFactory());
+
+        HttpComponentsClientHttpRequestFactory customRequestFactory = new HttpComponentsClientHttpRequestFactory();
+        endpointConfiguration.setRequestFactory(customRequestFactory);
+        Assert.assertSame(template.getRequestFactory(), customRequestFactory);
+        Assert.assertNull(endpointConfiguration.getConnectionPoolStats());
+        Assert.assertTrue(endpointConfiguration.isCustomRequestFactory());
+    }
+
+    @Test
+    public void testAsyncHttpPostRequest() throws Exception {
+        java.net.http.HttpClient asyncHttpClient = Mockito.mock(java.net.http.HttpClient.class);
+
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setAsync(true);
+        endpointConfiguration.setAsyncHttpClient(asyncHttpClient);
+        endpointConfiguration.setRequestMethod(HttpMethod.POST);
+        endpointConfiguration.setRequestUrl("http://localhost:8088/test");
+        endpointConfiguration.setContentType("text/xml");
+
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+
+        CompletableFuture<HttpResponse<byte[]>> responseFuture = new CompletableFuture<>();
+        doAnswer(invocation -> {
+            HttpRequest request = invocation.getArgument(0);
+
+            Assert.assertEquals(request.uri(), URI.create("http://localhost:8088/test"));
+            Assert.assertEquals(request.method(), "POST");
+            Assert.assertEquals(request.headers().firstValue("Content-Type").orElse(""), "text/xml;charset=UTF-8");
+            Assert.assertEquals(request.bodyPublisher().orElseThrow().contentLength(), requestBody.length());
+
+            return responseFuture;
+        }).when(asyncHttpClient).sendAsync(any(HttpRequest.class), any());
+
+        httpClient.send(new DefaultMessage(requestBody), context);
+        Assert.assertFalse(responseFuture.isDone());
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            responseFuture.complete(mockResponse(200, responseBody, Map.of("Content-Type", List.of("text/xml"))));
+        });
+
+        HttpMessage responseMessage = (HttpMessage) httpClient.receive(context, 5000L);
+        Assert.assertEquals(responseMessage.getPayload(), responseBody);
+        Assert.assertEquals(responseMessage.getStatusCode(), HttpStatus.OK);
+        Assert.assertEquals(responseMessage.getContentType(), "text/xml");
+
+        verify(restTemplate, Mockito.never()).exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class), any(Class.class));
+    }
+
+    @Test
+    public void testAsyncErrorPropagation() {
+        java.net.http.HttpClient asyncHttpClient = Mockito.mock(java.net.http.HttpClient.class);
+
+        HttpClient httpClient = new HttpClientBuilder()
+                .requestUrl("http://localhost:8088/test")
+                .async(true)
+                .build();
+        httpClient.getEndpointConfiguration().setAsyncHttpClient(asyncHttpClient);
+
+        doReturn(CompletableFuture.completedFuture(mockResponse(404, "", Collections.emptyMap())))
+                .when(asyncHttpClient).sendAsync(any(HttpRequest.class), any());
+
+        httpClient.send(new DefaultMessage(requestBody), context);
+
+        HttpMessage responseMessage = (HttpMessage) httpClient.receive(context, 5000L);
+        Assert.assertEquals(responseMessage.getStatusCode(), HttpStatus.NOT_FOUND);
+        Assert.assertTrue(context.getExceptions().isEmpty());
+    }
+
+    @Test
+    public void testAsyncErrorThrowsException() {
+        java.net.http.HttpClient asyncHttpClient = Mockito.mock(java.net.http.HttpClient.class);
+
+        HttpClient httpClient = new HttpClientBuilder()
+                .requestUrl("http://localhost:8088/test")
+                .errorHandler(new HttpResponseErrorHandler(ErrorHandlingStrategy.THROWS_EXCEPTION))
+                .async(true)
+                .build();
+        httpClient.getEndpointConfiguration().setAsyncHttpClient(asyncHttpClient);
+
+        doReturn(CompletableFuture.completedFuture(mockResponse(500, "", Collections.emptyMap())))
+                .when(asyncHttpClient).sendAsync(any(HttpRequest.class), any());
+
+        httpClient.send(new DefaultMessage(requestBody), context);
+
+        try {
+            httpClient.receive(context, 5000L);
+            Assert.fail("Missing exception for failed request");
+        } catch (HttpServerErrorException e) {
+            Assert.assertEquals(e.getStatusCode(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        Assert.assertTrue(context.getExceptions().isEmpty());
+    }
+
+    @Test
+    public void testAsyncConnectionFailure() {
+        java.net.http.HttpClient asyncHttpClient = Mockito.mock(java.net.http.HttpClient.class);
+
+        HttpClient httpClient = new HttpClientBuilder()
+                .requestUrl("http://localhost:8088/test")
+                .async(true)
+                .build();
+        httpClient.getEndpointConfiguration().setAsyncHttpClient(asyncHttpClient);
+
+        doReturn(CompletableFuture.failedFuture(new java.net.ConnectException("Connection refused")))
+                .when(asyncHttpClient).sendAsync(any(HttpRequest.class), any());
+
+        httpClient.send(new DefaultMessage(requestBody), context);
+
+        try {
+            httpClient.receive(context, 5000L);
+            Assert.fail("Missing exception for failed request");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to send HTTP request to 'http://localhost:8088/test'");
+            Assert.assertEquals(e.getCause().getMessage(), "Connection refused");
+        }
+
+        Assert.assertTrue(context.getExceptions().isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAsyncKeepsCorrelationManager() {
+        java.net.http.HttpClient asyncHttpClient = Mockito.mock(java.net.http.HttpClient.class);
+        CorrelationManager<Message> correlationManager = Mockito.mock(CorrelationManager.class);
+
+        HttpClientBuilder builder = new HttpClientBuilder()
+                .requestUrl("http://localhost:8088/test");
+        HttpClient httpClient = builder.build();
+        httpClient.setCorrelationManager(correlationManager);
+        httpClient.getEndpointConfiguration().setAsyncHttpClient(asyncHttpClient);
+        builder.async(true);
+
+        doReturn(CompletableFuture.completedFuture(mockResponse(200, responseBody, Collections.emptyMap())))
+                .when(asyncHttpClient).sendAsync(any(HttpRequest.class), any());
+
+        httpClient.send(new DefaultMessage(requestBody), context);
+
+        verify(correlationManager).saveCorrelationKey(anyString(), anyString(), eq(context));
+    }
+
+    @Test
+    public void testAsyncUnsupportedClientInterceptor() {
+        java.net.http.HttpClient asyncHttpClient = Mockito.mock(java.net.http.HttpClient.class);
+
+        HttpClient httpClient = new HttpClientBuilder()
+                .requestUrl("http://localhost:8088/test")
+                .interceptor((request, body, execution) -> execution.execute(request, body))
+                .async(true)
+                .build();
+        httpClient.getEndpointConfiguration().setAsyncHttpClient(asyncHttpClient);
+
+        try {
+            httpClient.send(new DefaultMessage(requestBody), context);
+            Assert.fail("Missing exception for unsupported client interceptor");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().endsWith("is not supported in async mode"));
+        }
+
+        verify(asyncHttpClient, Mockito.never()).sendAsync(any(HttpRequest.class), any());
+    }
+
+    @Test
+    public void testAsyncUnsupportedRequestFactory() {
+        java.net.http.HttpClient asyncHttpClient = Mockito.mock(java.net.http.HttpClient.class);
+
+        HttpClient httpClient = new HttpClientBuilder()
+                .requestUrl("http://localhost:8088/test")
+                .requestFactory(new HttpComponentsClientHttpRequestFactory())
+                .async(true)
+                .build();
+        httpClient.getEndpointConfiguration().setAsyncHttpClient(asyncHttpClient);
+
+        try {
+            httpClient.send(new DefaultMessage(requestBody), context);
+            Assert.fail("Missing exception for unsupported request factory");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Custom request factory is not supported in async mode"));
+        }
+
+        verify(asyncHttpClient, Mockito.never()).sendAsync(any(HttpRequest.class), any());
+    }
+
+    @Test
+    public void testAsyncHttpClientClosedOnDestroy() {
+        HttpClient httpClient = new HttpClientBuilder()
+                .requestUrl("http://localhost:8088/test")
+                .async(true)
+                .build();
+
+        java.net.http.HttpClient asyncHttpClient = httpClient.getEndpointConfiguration().getAsyncHttpClient();
+        Assert.assertSame(httpClient.getEndpointConfiguration().getAsyncHttpClient(), asyncHttpClient);
+        Assert.assertTrue(asyncHttpClient.executor().isPresent());
+
+        httpClient.destroy();
+
+        Assert.assertTrue(((ExecutorService) asyncHttpClient.executor().get()).isShutdown());
+        Assert.assertNotSame(httpClient.getEndpointConfiguration().getAsyncHttpClient(), asyncHttpClient);
+        httpClient.destroy();
+    }
+
+    @Test
+    public void testConnectionPoolClosedOnDestroy() throws Exception {
+        HttpClient httpClient = new HttpClientBuilder()
+                .requestUrl("http://localhost:8088/test")
+                .build();
+
+        ClientHttpRequestFactory requestFactory = httpClient.getEndpointConfiguration().getRequestFactory();
+        Assert.assertNotNull(httpClient.getEndpointConfiguration().getConnectionPoolStats());
+
+        httpClient.destroy();
+
+        Assert.assertNull(httpClient.getEndpointConfiguration().getConnectionPoolStats());
+        Assert.expectThrows(IllegalStateException.class,
+                () -> requestFactory.createRequest(URI.create("http://localhost:8088/test"), HttpMethod.GET).execute());
+
+        Assert.assertNotSame(httpClient.getEndpointConfiguration().getRequestFactory(), requestFactory);
+        Assert.assertNotNull(httpClient.getEndpointConfiguration().getConnectionPoolStats());
+        httpClient.destroy();
+    }
+
+    @Test
+    public void testOutdatedConnectionPoolClosed() throws Exception {
+        HttpClient httpClient = new HttpClientBuilder()
+                .requestUrl("http://localhost:8088/test")
+                .build();
+
+        ClientHttpRequestFactory requestFactory = httpClient.getEndpointConfiguration().getRequestFactory();
+        httpClient.getEndpointConfiguration().setMaxConnections(10);
+
+        Assert.assertNotSame(httpClient.getEndpointConfiguration().getRequestFactory(), requestFactory);
+        Assert.expectThrows(IllegalStateException.class,
+                () -> requestFactory.createRequest(URI.create("http://localhost:8088/test"), HttpMethod.GET).execute());
+        httpClient.destroy();
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpResponse<byte[]> mockResponse(int status, String body, Map<String, List<String>> headers) {
+        HttpResponse<byte[]> response = Mockito.mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(status);
+        when(response.body()).thenReturn(body.getBytes());
+        when(response.headers()).thenReturn(java.net.http.HttpHeaders.of(headers, (name, value) -> true));
+        return response;
+    }
 }
@@ -90,6 +90,11 @@ public class HttpClientConfigParserTest extends AbstractTestNGUnitTest {
     @HttpClientConfig(requestUrl = "http://localhost:8080/test",
             interceptors={ "clientInterceptor" },
             pollingInterval=250,
+            maxConnections=100,
+            maxConnectionsPerRoute=50,
+            keepAlive=30000L,
+            connectionTimeToLive=60000L,
+            idleConnectionTimeout=10000L,
             actor="testActor")
     private HttpClient httpClient4;
 
@@ -183,6 +188,11 @@ public class HttpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(httpClient4.getEndpointConfiguration().getClientInterceptors().size(), 1L);
         Assert.assertEquals(httpClient4.getEndpointConfiguration().getClientInterceptors().get(0), clientInterceptor);
         Assert.assertEquals(httpClient4.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getMaxConnections(), 100);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getMaxConnectionsPerRoute(), 50);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getKeepAlive(), 30000L);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getConnectionTimeToLive(), 60000L);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getIdleConnectionTimeout(), 10000L);
     }
 
     @Test
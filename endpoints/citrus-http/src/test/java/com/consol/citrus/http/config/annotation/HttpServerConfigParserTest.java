@@ -91,6 +91,13 @@ public class HttpServerConfigParserTest extends AbstractTestNGUnitTest {
     @CitrusEndpoint
     @HttpServerConfig(autoStart=false,
             port=8084,
+            maxThreads=50,
+            minThreads=10,
+            threadIdleTimeout=30000,
+            acceptQueueSize=256,
+            acceptors=2,
+            selectors=4,
+            http2=true,
             servletHandler="servletHandler")
     private HttpServer httpServer4;
 
@@ -242,6 +249,13 @@ public class HttpServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(httpServer4.getServletName(), "httpServer4-servlet");
         Assert.assertNotNull(httpServer4.getInterceptors());
         Assert.assertEquals(httpServer4.getInterceptors().size(), 0L);
+        Assert.assertEquals(httpServer4.getMaxThreads(), 50);
+        Assert.assertEquals(httpServer4.getMinThreads(), 10);
+        Assert.assertEquals(httpServer4.getThreadIdleTimeout(), 30000);
+        Assert.assertEquals(httpServer4.getAcceptQueueSize(), 256);
+        Assert.assertEquals(httpServer4.getAcceptors(), 2);
+        Assert.assertEquals(httpServer4.getSelectors(), 4);
+        Assert.assertTrue(httpServer4.isHttp2());
 
         // 5th message sender
         Assert.assertNull(httpServer5.getConnector());
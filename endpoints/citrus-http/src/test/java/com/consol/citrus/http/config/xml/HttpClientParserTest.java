@@ -60,6 +60,8 @@ public class HttpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(httpClient.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
         Assert.assertEquals(httpClient.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertFalse(httpClient.getEndpointConfiguration().isHandleCookies());
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnections(), 20);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnectionsPerRoute(), 20);
 
         // 2nd message sender
         httpClient = clients.get("httpClient2");
@@ -96,6 +98,13 @@ public class HttpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(httpClient.getEndpointConfiguration().getClientInterceptors().size(), 1L);
         Assert.assertEquals(httpClient.getEndpointConfiguration().getClientInterceptors().get(0), beanDefinitionContext.getBean("clientInterceptor"));
         Assert.assertEquals(httpClient.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnections(), 100);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnectionsPerRoute(), 50);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getKeepAlive(), 30000L);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getConnectionTimeToLive(), 60000L);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getIdleConnectionTimeout(), 10000L);
+        Assert.assertNotNull(httpClient.getEndpointConfiguration().getConnectionPoolStats());
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getConnectionPoolStats().getMax(), 100);
     }
 
     @Test
@@ -66,6 +66,7 @@ public class HttpServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertFalse(server.isUseRootContextAsParent());
         Assert.assertEquals(server.getDefaultStatusCode(), HttpStatus.OK.value());
         Assert.assertEquals(server.getResponseCacheSize(), HttpServerSettings.responseCacheSize());
+        Assert.assertEquals(server.getResponseCacheTimeToLive(), HttpServerSettings.responseCacheTimeToLive());
         Assert.assertEquals(server.getContextPath(), "/");
         Assert.assertEquals(server.getServletName(), "httpServer1-servlet");
         Assert.assertEquals(server.getServletMappingPath(), "/*");
@@ -88,6 +89,7 @@ public class HttpServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertTrue(server.isUseRootContextAsParent());
         Assert.assertEquals(server.getDefaultStatusCode(), HttpStatus.NOT_FOUND.value());
         Assert.assertEquals(server.getResponseCacheSize(), 1000);
+        Assert.assertEquals(server.getResponseCacheTimeToLive(), 30000L);
         Assert.assertEquals(server.getContextPath(), "/citrus");
         Assert.assertEquals(server.getServletName(), "citrus-http");
         Assert.assertEquals(server.getServletMappingPath(), "/foo");
@@ -125,6 +127,13 @@ public class HttpServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertFalse(server.isAutoStart());
         Assert.assertFalse(server.isUseRootContextAsParent());
         Assert.assertEquals(server.getServletName(), "httpServer4-servlet");
+        Assert.assertEquals(server.getMaxThreads(), 50);
+        Assert.assertEquals(server.getMinThreads(), 10);
+        Assert.assertEquals(server.getThreadIdleTimeout(), 30000);
+        Assert.assertEquals(server.getAcceptQueueSize(), 256);
+        Assert.assertEquals(server.getAcceptors(), 2);
+        Assert.assertEquals(server.getSelectors(), 4);
+        Assert.assertTrue(server.isHttp2());
         Assert.assertNotNull(server.getInterceptors());
         Assert.assertEquals(server.getInterceptors().size(), 0L);
 
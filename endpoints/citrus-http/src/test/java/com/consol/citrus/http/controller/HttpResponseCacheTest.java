@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.http.controller;
+
+import com.consol.citrus.endpoint.adapter.StaticResponseEndpointAdapter;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class HttpResponseCacheTest {
+
+    @Test
+    public void testSizeBasedEviction() {
+        HttpResponseCache cache = new HttpResponseCache(2, 0L);
+
+        MockHttpServletRequest request1 = new MockHttpServletRequest();
+        MockHttpServletRequest request2 = new MockHttpServletRequest();
+        MockHttpServletRequest request3 = new MockHttpServletRequest();
+
+        cache.put(request1, new ResponseEntity<>("1", HttpStatus.OK));
+        cache.put(request2, new ResponseEntity<>("2", HttpStatus.OK));
+        cache.put(request3, new ResponseEntity<>("3", HttpStatus.OK));
+
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertNull(cache.get(request1));
+        Assert.assertEquals(cache.get(request2).getBody(), "2");
+        Assert.assertEquals(cache.get(request3).getBody(), "3");
+
+        Assert.assertEquals(cache.getHits(), 2L);
+        Assert.assertEquals(cache.getMisses(), 1L);
+        Assert.assertEquals(cache.getEvictions(), 1L);
+    }
+
+    @Test
+    public void testTimeBasedEviction() throws InterruptedException {
+        HttpResponseCache cache = new HttpResponseCache(100, 50L);
+
+        MockHttpServletRequest request1 = new MockHttpServletRequest();
+        MockHttpServletRequest request2 = new MockHttpServletRequest();
+
+        cache.put(request1, new ResponseEntity<>("1", HttpStatus.OK));
+        Thread.sleep(100L);
+        cache.put(request2, new ResponseEntity<>("2", HttpStatus.OK));
+
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertNull(cache.get(request1));
+        Assert.assertEquals(cache.get(request2).getBody(), "2");
+        Assert.assertEquals(cache.getEvictions(), 1L);
+    }
+
+    @Test
+    public void testRemove() {
+        HttpResponseCache cache = new HttpResponseCache(100, 0L);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        cache.put(request, new ResponseEntity<>("1", HttpStatus.OK));
+        Assert.assertEquals(cache.size(), 1);
+
+        cache.remove(request);
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertNull(cache.get(request));
+        Assert.assertEquals(cache.getEvictions(), 0L);
+    }
+
+    @Test
+    public void testReleaseOnRequestCompletion() {
+        HttpMessageController controller = new HttpMessageController();
+        StaticResponseEndpointAdapter endpointAdapter = new StaticResponseEndpointAdapter();
+        endpointAdapter.setMessagePayload("Hello");
+        controller.setEndpointAdapter(endpointAdapter);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/test");
+        ServletRequestAttributes attributes = new ServletRequestAttributes(request, new MockHttpServletResponse());
+        RequestContextHolder.setRequestAttributes(attributes);
+        try {
+            controller.handlePostRequest(new HttpEntity<>("Hi"));
+
+            Assert.assertEquals(controller.getResponseCache().size(), 1);
+            Assert.assertEquals(controller.getResponseCache(request).getBody(), "Hello");
+
+            attributes.requestCompleted();
+
+            Assert.assertEquals(controller.getResponseCache().size(), 0);
+            Assert.assertNull(controller.getResponseCache(request));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.http.integration;
+
+import com.consol.citrus.annotations.CitrusTest;
+import com.consol.citrus.testng.spring.TestNGCitrusSpringSupport;
+import org.springframework.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import static com.consol.citrus.container.Iterate.Builder.iterate;
+import static com.consol.citrus.http.actions.HttpActionBuilder.http;
+
+/**
+ * @author Christoph Deppisch
+ */
+@Test
+public class HttpAsyncClientJavaIT extends TestNGCitrusSpringSupport {
+
+    @CitrusTest
+    public void httpAsyncClient() {
+        given(http().client("httpAsyncClient")
+            .send()
+            .post()
+            .message()
+            .body("<testRequestMessage>" +
+                            "<text>Hello HttpServer</text>" +
+                        "</testRequestMessage>"));
+
+        then(http().client("httpAsyncClient")
+            .receive()
+            .response(HttpStatus.OK)
+            .message()
+            .body("<testResponseMessage>" +
+                        "<text>Hello TestFramework</text>" +
+                    "</testResponseMessage>"));
+    }
+
+    @CitrusTest
+    public void httpAsyncClientRequestsInFlight() {
+        variable("overallIterations", "10");
+
+        when(iterate().condition("i lt= ${overallIterations}").index("i").actions(
+            http().client("http://localhost:11083/test?endpointName=httpAsyncClient${i}&async=true")
+                .send()
+                .post()
+                .message()
+                .body("<testRequestMessage>" +
+                            "<text>Hello HttpServer ${i}</text>" +
+                        "</testRequestMessage>")
+        ));
+
+        then(iterate().condition("j lt= ${overallIterations}").index("j").actions(
+            http().client("http://localhost:11083/test?endpointName=httpAsyncClient${j}&async=true")
+                .receive()
+                .response(HttpStatus.OK)
+                .message()
+                .body("<testResponseMessage>" +
+                            "<text>Hello TestFramework</text>" +
+                        "</testResponseMessage>")
+        ));
+    }
+}
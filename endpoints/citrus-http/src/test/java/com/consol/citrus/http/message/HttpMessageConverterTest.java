@@ -18,6 +18,7 @@ package com.consol.citrus.http.message;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.http.client.HttpEndpointConfiguration;
+import com.consol.citrus.message.BinaryPayload;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import org.springframework.http.HttpEntity;
@@ -45,6 +46,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertSame;
 import static org.testng.AssertJUnit.assertTrue;
 
 public class HttpMessageConverterTest {
@@ -383,6 +385,22 @@ public class HttpMessageConverterTest {
         assertEquals(httpMessage.getPayload(String.class), payload);
     }
 
+    @Test
+    public void testHttpEntityBinaryMessageBodyIsPreservedOnInbound(){
+
+        //GIVEN
+        final byte[] body = payload.getBytes();
+        final HttpEntity<byte[]> httpEntity = new HttpEntity<>(body);
+
+        //WHEN
+        final HttpMessage httpMessage =
+                messageConverter.convertInbound(httpEntity, endpointConfiguration, testContext);
+
+        //THEN
+        assertSame(httpMessage.getPayload(), body);
+        assertSame(httpMessage.getPayload(BinaryPayload.class).getBytes(), body);
+    }
+
     @Test
     public void testHttpEntityDefaultMessageBodyIsSetOnInbound(){
 
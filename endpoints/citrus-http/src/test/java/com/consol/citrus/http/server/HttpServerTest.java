@@ -16,6 +16,9 @@
 
 package com.consol.citrus.http.server;
 
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.util.Random;
 
 import com.consol.citrus.context.SpringBeanReferenceResolver;
@@ -121,6 +124,39 @@ public class HttpServerTest extends AbstractTestNGUnitTest {
         verify(mockResponseEndpointAdapter).handleMessage(any(Message.class));
     }
 
+    @Test
+    public void testHttp2CleartextRequest() throws Exception {
+        int http2Port = SocketUtils.findAvailableTcpPort(port + 1);
+        HttpServer http2Server = new HttpServer();
+        http2Server.setPort(http2Port);
+        http2Server.setReferenceResolver(new SpringBeanReferenceResolver(applicationContext));
+        http2Server.setUseRootContextAsParent(true);
+        http2Server.setContextConfigLocation("classpath:com/consol/citrus/http/HttpServerTest-http-servlet.xml");
+        http2Server.setMaxThreads(20);
+        http2Server.setMinThreads(4);
+        http2Server.setAcceptQueueSize(128);
+        http2Server.setHttp2(true);
+
+        reset(mockResponseEndpointAdapter);
+        when(mockResponseEndpointAdapter.handleMessage(any(Message.class))).thenReturn(new HttpMessage("Hello HTTP/2").status(HttpStatus.OK));
+
+        http2Server.startup();
+        try {
+            java.net.http.HttpClient http2Client = java.net.http.HttpClient.newBuilder()
+                    .version(java.net.http.HttpClient.Version.HTTP_2)
+                    .build();
+
+            HttpResponse<String> response = http2Client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + http2Port + "/test")).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            Assert.assertEquals(response.statusCode(), HttpStatus.OK.value());
+            Assert.assertEquals(response.version(), java.net.http.HttpClient.Version.HTTP_2);
+            Assert.assertEquals(response.body(), "Hello HTTP/2");
+        } finally {
+            http2Server.shutdown();
+        }
+    }
+
     @Test
     public void testPostRequest() {
         TestContext context = testContextFactory.getObject();
@@ -16,12 +16,16 @@
 
 package com.consol.citrus.jdbc.server;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -68,6 +72,18 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
 
     private Pattern autoHandleQueryPattern;
 
+    /** Maximum number of distinct statements cached in the statement rule lookup */
+    private static final int MAX_CACHED_STATEMENTS = 1000;
+
+    /** Precompiled statement rules answering statements without the endpoint adapter */
+    private final List<JdbcStatementRule> statementRules;
+
+    /** Statement rule lookup results per SQL statement */
+    private final Map<String, Optional<JdbcStatementRule>> statementRuleLookup = new ConcurrentHashMap<>();
+
+    /** Latency metrics per statement */
+    private final JdbcStatementMetrics statementMetrics;
+
     /**
      * Default constructor using fields.
      * @param endpointConfiguration The endpoint config for the server
@@ -81,7 +97,7 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
 
     /**
      * Currently just a constructor for testing purposes
-     * @param endpointConfiguration he endpoint config for the server
+     * @param endpointConfiguration The endpoint config for the server
      * @param delegate The endpoint adapter to delegate to
      * @param dataSetCreator The DataSetCreator to use for DataSetGeneration
      */
@@ -89,9 +105,28 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
             JdbcEndpointConfiguration endpointConfiguration,
             EndpointAdapter delegate,
             DataSetCreator dataSetCreator) {
+        this(endpointConfiguration, delegate, dataSetCreator, new JdbcStatementMetrics());
+    }
+
+    /**
+     * Constructor using fields and statement metrics.
+     * @param endpointConfiguration The endpoint config for the server
+     * @param delegate The endpoint adapter to delegate to
+     * @param dataSetCreator The DataSetCreator to use for DataSetGeneration
+     * @param statementMetrics The metrics recording statement latency
+     */
+    JdbcEndpointAdapterController(
+            JdbcEndpointConfiguration endpointConfiguration,
+            EndpointAdapter delegate,
+            DataSetCreator dataSetCreator,
+            JdbcStatementMetrics statementMetrics) {
         this.endpointConfiguration = endpointConfiguration;
         this.delegate = delegate;
         this.dataSetCreator = dataSetCreator;
+        this.statementMetrics = statementMetrics;
+        this.statementRules = Optional.ofNullable(endpointConfiguration.getStatementRules())
+                                        .<List<JdbcStatementRule>>map(ArrayList::new)
+                                        .orElseGet(ArrayList::new);
 
         String autoHandleQueries = System.getProperty(AUTO_HANDLE_QUERY_PROPERTY, System.getenv(AUTO_HANDLE_QUERY_ENV) != null ?
                 System.getenv(AUTO_HANDLE_QUERY_ENV) : StringUtils.arrayToDelimitedString(endpointConfiguration.getAutoHandleQueries(), ";"));
@@ -202,9 +237,11 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
      */
     @Override
     public DataSet executeQuery(String query) throws JdbcServerException {
-        log.info("Received execute query request: " + query);
-        Message response = handleMessageAndCheckResponse(JdbcMessage.execute(query));
-        return dataSetCreator.createDataSet(response, getMessageType(response));
+        return execute(query, JdbcStatementRule::createDataSet, DataSet::new, () -> {
+            log.info("Received execute query request: " + query);
+            Message response = handleMessageAndCheckResponse(JdbcMessage.execute(query));
+            return dataSetCreator.createDataSet(response, getMessageType(response));
+        });
     }
 
     /**
@@ -214,9 +251,11 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
      */
     @Override
     public DataSet executeStatement(String stmt) throws JdbcServerException {
-        log.info("Received execute statement request: " + stmt);
-        Message response = handleMessageAndCheckResponse(JdbcMessage.execute(stmt));
-        return dataSetCreator.createDataSet(response, getMessageType(response));
+        return execute(stmt, JdbcStatementRule::createDataSet, DataSet::new, () -> {
+            log.info("Received execute statement request: " + stmt);
+            Message response = handleMessageAndCheckResponse(JdbcMessage.execute(stmt));
+            return dataSetCreator.createDataSet(response, getMessageType(response));
+        });
     }
 
     /**
@@ -226,12 +265,68 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
      */
     @Override
     public int executeUpdate(String updateSql) throws JdbcServerException {
-        log.info("Received execute update request: " + updateSql);
-        Message response = handleMessageAndCheckResponse(JdbcMessage.execute(updateSql));
-        return Optional.ofNullable(
-                response.getHeader(JdbcMessageHeaders.JDBC_ROWS_UPDATED))
-                .map(Object::toString).map(Integer::valueOf)
-                .orElse(0);
+        return execute(updateSql, JdbcStatementRule::getRowsUpdated, () -> 0, () -> {
+            log.info("Received execute update request: " + updateSql);
+            Message response = handleMessageAndCheckResponse(JdbcMessage.execute(updateSql));
+            return Optional.ofNullable(
+                    response.getHeader(JdbcMessageHeaders.JDBC_ROWS_UPDATED))
+                    .map(Object::toString).map(Integer::valueOf)
+                    .orElse(0);
+        });
+    }
+
+    /**
+     * Executes given SQL statement and records its latency. Statements matching a statement rule or an auto handle query
+     * are answered directly without marshalling the statement and without calling the endpoint adapter.
+     * @param sql The SQL statement to execute
+     * @param ruleResult Creates the result from a matching statement rule
+     * @param autoHandleResult Creates the result of an auto handled query
+     * @param handler Handles the statement with the endpoint adapter
+     * @return The statement result
+     */
+    private <T> T execute(String sql, Function<JdbcStatementRule, T> ruleResult, Supplier<T> autoHandleResult, Supplier<T> handler) {
+        long start = System.nanoTime();
+        boolean fastPath = true;
+        try {
+            JdbcStatementRule statementRule = findStatementRule(sql);
+            if (statementRule != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Handle statement '%s' with %s", sql, statementRule));
+                }
+                return ruleResult.apply(statementRule);
+            }
+
+            if (autoHandleQueryPattern.matcher(sql).find()) {
+                log.debug(String.format("Auto handle query '%s' with positive response", sql));
+                return autoHandleResult.get();
+            }
+
+            fastPath = false;
+            return handler.get();
+        } finally {
+            statementMetrics.record(sql, fastPath, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Finds first statement rule matching given SQL statement. Lookup results are cached per statement.
+     * @param sql The SQL statement
+     * @return The matching statement rule or null
+     */
+    private JdbcStatementRule findStatementRule(String sql) {
+        if (statementRules.isEmpty()) {
+            return null;
+        }
+
+        Optional<JdbcStatementRule> statementRule = statementRuleLookup.get(sql);
+        if (statementRule == null) {
+            statementRule = statementRules.stream().filter(rule -> rule.matches(sql)).findFirst();
+            if (statementRuleLookup.size() < MAX_CACHED_STATEMENTS) {
+                statementRuleLookup.put(sql, statementRule);
+            }
+        }
+
+        return statementRule.orElse(null);
     }
 
     /**
@@ -406,4 +501,12 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
     AtomicInteger getConnections() {
         return connections;
     }
+
+    /**
+     * Gets the statement latency metrics.
+     * @return
+     */
+    public JdbcStatementMetrics getStatementMetrics() {
+        return statementMetrics;
+    }
 }
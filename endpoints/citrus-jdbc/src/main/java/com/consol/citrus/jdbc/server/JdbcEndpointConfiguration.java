@@ -16,6 +16,9 @@
 
 package com.consol.citrus.jdbc.server;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.consol.citrus.db.server.JdbcServerConfiguration;
 import com.consol.citrus.endpoint.AbstractPollableEndpointConfiguration;
 import com.consol.citrus.jdbc.model.JdbcMarshaller;
@@ -47,6 +50,9 @@ public class JdbcEndpointConfiguration extends AbstractPollableEndpointConfigura
             "SELECT.*FROM SYSIBM.SYSDUMMY1" // DB2
     };
 
+    /** Statement rules answering matching SQL statements directly in the server */
+    private List<JdbcStatementRule> statementRules = new ArrayList<>();
+
     /** Marshaller converts from XML to Jdbc model objects */
     private JdbcMarshaller marshaller = new JdbcMarshaller();
 
@@ -115,6 +121,24 @@ public class JdbcEndpointConfiguration extends AbstractPollableEndpointConfigura
         this.autoHandleQueries = autoHandleQueries;
     }
 
+    /**
+     * Gets the statementRules.
+     *
+     * @return
+     */
+    public List<JdbcStatementRule> getStatementRules() {
+        return statementRules;
+    }
+
+    /**
+     * Sets the statementRules.
+     *
+     * @param statementRules
+     */
+    public void setStatementRules(List<JdbcStatementRule> statementRules) {
+        this.statementRules = statementRules;
+    }
+
     /**
      * Gets the marshaller.
      *
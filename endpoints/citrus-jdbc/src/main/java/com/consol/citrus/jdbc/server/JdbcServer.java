@@ -16,7 +16,10 @@
 
 package com.consol.citrus.jdbc.server;
 
+import com.consol.citrus.jdbc.data.DataSetCreator;
 import com.consol.citrus.server.AbstractServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Christoph Deppisch
@@ -24,12 +27,18 @@ import com.consol.citrus.server.AbstractServer;
  */
 public class JdbcServer extends AbstractServer {
 
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(JdbcServer.class);
+
     /** Endpoint configuration */
     private final JdbcEndpointConfiguration endpointConfiguration;
 
     /** Controller handling requests */
     private JdbcEndpointAdapterController controller;
 
+    /** Latency metrics per statement */
+    private final JdbcStatementMetrics statementMetrics = new JdbcStatementMetrics();
+
     /** JDBC server delegate */
     private com.consol.citrus.db.server.JdbcServer jdbcServer;
 
@@ -55,7 +64,8 @@ public class JdbcServer extends AbstractServer {
 
     @Override
     protected void startup() {
-        controller = new JdbcEndpointAdapterController(getEndpointConfiguration(), getEndpointAdapter());
+        controller = new JdbcEndpointAdapterController(getEndpointConfiguration(), getEndpointAdapter(),
+                new DataSetCreator(), statementMetrics);
         this.jdbcServer = new com.consol.citrus.db.server.JdbcServer(controller, endpointConfiguration.getServerConfiguration());
 
         jdbcServer.startAndAwaitInitialization();
@@ -64,5 +74,17 @@ public class JdbcServer extends AbstractServer {
     @Override
     protected void shutdown() {
         jdbcServer.stop();
+
+        if (log.isDebugEnabled() && !statementMetrics.getStatements().isEmpty()) {
+            log.debug(String.format("Statement metrics on server '%s':%s", getName(), statementMetrics));
+        }
+    }
+
+    /**
+     * Gets the statement latency metrics.
+     * @return
+     */
+    public JdbcStatementMetrics getStatementMetrics() {
+        return statementMetrics;
     }
 }
@@ -16,6 +16,8 @@
 
 package com.consol.citrus.jdbc.server;
 
+import java.util.Arrays;
+
 import com.consol.citrus.db.server.JdbcServerConfiguration;
 import com.consol.citrus.message.MessageCorrelator;
 import com.consol.citrus.server.AbstractServerBuilder;
@@ -94,6 +96,36 @@ public class JdbcServerBuilder extends AbstractServerBuilder<JdbcServer, JdbcSer
         return this;
     }
 
+    /**
+     * Adds statement rules answering matching statements directly on the server.
+     * @param statementRules
+     * @return
+     */
+    public JdbcServerBuilder statementRules(JdbcStatementRule ... statementRules) {
+        endpoint.getEndpointConfiguration().getStatementRules().addAll(Arrays.asList(statementRules));
+        return this;
+    }
+
+    /**
+     * Adds query rule answering matching queries with given Json or Xml data set.
+     * @param sqlPattern
+     * @param dataSet
+     * @return
+     */
+    public JdbcServerBuilder statementRule(String sqlPattern, String dataSet) {
+        return statementRules(JdbcStatementRule.query(sqlPattern, dataSet));
+    }
+
+    /**
+     * Adds update rule answering matching statements with given update count.
+     * @param sqlPattern
+     * @param rowsUpdated
+     * @return
+     */
+    public JdbcServerBuilder statementRule(String sqlPattern, int rowsUpdated) {
+        return statementRules(JdbcStatementRule.update(sqlPattern, rowsUpdated));
+    }
+
     /**
      * Sets the message correlator.
      * @param correlator
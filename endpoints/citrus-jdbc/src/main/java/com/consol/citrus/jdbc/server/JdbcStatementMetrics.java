@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jdbc.server;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency metrics per SQL statement handled by the JDBC server. Records the number of executions, the number of
+ * executions answered by the fast path (statement rules and auto handled queries) as well as total and max latency.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class JdbcStatementMetrics {
+
+    /** Maximum number of distinct statements tracked, further statements are recorded in the overflow entry */
+    static final int MAX_STATEMENTS = 1000;
+
+    /** Key of the overflow entry */
+    static final String OTHER_STATEMENTS = "<other>";
+
+    /** Metrics per statement */
+    private final Map<String, StatementMetrics> statements = new ConcurrentHashMap<>();
+
+    /**
+     * Records an execution of given statement.
+     * @param sql the statement.
+     * @param fastPath true if statement has been answered without the endpoint adapter.
+     * @param nanos the latency in nanoseconds.
+     */
+    public void record(String sql, boolean fastPath, long nanos) {
+        StatementMetrics metrics = statements.get(sql);
+        if (metrics == null) {
+            String key = statements.size() < MAX_STATEMENTS ? sql : OTHER_STATEMENTS;
+            metrics = statements.computeIfAbsent(key, k -> new StatementMetrics());
+        }
+
+        metrics.record(fastPath, nanos);
+    }
+
+    /**
+     * Gets the metrics for given statement.
+     * @param sql
+     * @return metrics or null if statement has not been executed.
+     */
+    public StatementMetrics getStatementMetrics(String sql) {
+        return statements.get(sql);
+    }
+
+    /**
+     * Gets the metrics of all statements.
+     * @return
+     */
+    public Map<String, StatementMetrics> getStatements() {
+        return Collections.unmodifiableMap(statements);
+    }
+
+    /**
+     * Removes all recorded metrics.
+     */
+    public void clear() {
+        statements.clear();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        statements.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().getTotalTime(TimeUnit.NANOSECONDS), a.getValue().getTotalTime(TimeUnit.NANOSECONDS)))
+                .forEach(entry -> builder.append(String.format("%n%s: %s", entry.getKey(), entry.getValue())));
+        return builder.toString();
+    }
+
+    /**
+     * Metrics of a single statement.
+     */
+    public static class StatementMetrics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder fastPathCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(boolean fastPath, long nanos) {
+            count.increment();
+            if (fastPath) {
+                fastPathCount.increment();
+            }
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        /**
+         * Gets the number of executions.
+         * @return
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * Gets the number of executions answered by the fast path.
+         * @return
+         */
+        public long getFastPathCount() {
+            return fastPathCount.sum();
+        }
+
+        /**
+         * Gets the total latency.
+         * @param unit
+         * @return
+         */
+        public long getTotalTime(TimeUnit unit) {
+            return unit.convert(totalNanos.sum(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Gets the max latency.
+         * @param unit
+         * @return
+         */
+        public long getMaxTime(TimeUnit unit) {
+            return unit.convert(maxNanos.get(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Gets the average latency.
+         * @param unit
+         * @return
+         */
+        public long getAverageTime(TimeUnit unit) {
+            long executions = getCount();
+            return executions == 0 ? 0L : unit.convert(totalNanos.sum() / executions, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%s, fastPath=%s, avg=%sus, max=%sus",
+                    getCount(), getFastPathCount(), getAverageTime(TimeUnit.MICROSECONDS), getMaxTime(TimeUnit.MICROSECONDS));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jdbc.server;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.consol.citrus.db.driver.data.Row;
+import com.consol.citrus.db.driver.dataset.DataSet;
+import com.consol.citrus.db.driver.json.JsonDataSetProducer;
+import com.consol.citrus.db.driver.xml.XmlDataSetProducer;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.PayloadFormat;
+
+/**
+ * Precompiled statement rule answering matching SQL statements directly in the JDBC server with a canned result set
+ * or update count. Statements answered by a rule are not converted to Citrus messages and never reach the endpoint
+ * adapter. The SQL pattern is a case insensitive regular expression that must match the whole statement.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public final class JdbcStatementRule {
+
+    /** SQL pattern */
+    private final String sqlPattern;
+
+    /** Compiled SQL pattern */
+    private final Pattern pattern;
+
+    /** Canned result set rows */
+    private final List<Row> rows;
+
+    /** Canned update count */
+    private final int rowsUpdated;
+
+    private JdbcStatementRule(String sqlPattern, List<Row> rows, int rowsUpdated) {
+        this.sqlPattern = sqlPattern;
+        this.pattern = Pattern.compile(sqlPattern, Pattern.CASE_INSENSITIVE);
+        this.rows = Collections.unmodifiableList(rows);
+        this.rowsUpdated = rowsUpdated;
+    }
+
+    /**
+     * Creates rule answering matching queries with given result set. The result set is given in Json or Xml
+     * data set format and is parsed once when the rule is created.
+     * @param sqlPattern
+     * @param dataSet
+     * @return
+     */
+    public static JdbcStatementRule query(String sqlPattern, String dataSet) {
+        try {
+            DataSet produced;
+            if (PayloadFormat.sniff(dataSet) == PayloadFormat.XML) {
+                produced = new XmlDataSetProducer(dataSet).produce();
+            } else {
+                produced = new JsonDataSetProducer(dataSet).produce();
+            }
+
+            return new JdbcStatementRule(sqlPattern, produced.getRows(), 0);
+        } catch (SQLException e) {
+            throw new CitrusRuntimeException(String.format("Failed to read data set for statement rule '%s'", sqlPattern), e);
+        }
+    }
+
+    /**
+     * Creates rule answering matching statements with given update count and an empty result set.
+     * @param sqlPattern
+     * @param rowsUpdated
+     * @return
+     */
+    public static JdbcStatementRule update(String sqlPattern, int rowsUpdated) {
+        return new JdbcStatementRule(sqlPattern, Collections.emptyList(), rowsUpdated);
+    }
+
+    /**
+     * Checks if given SQL statement matches this rule.
+     * @param sql
+     * @return
+     */
+    public boolean matches(String sql) {
+        return pattern.matcher(sql).matches();
+    }
+
+    /**
+     * Creates a new data set holding copies of the canned rows. Data sets keep a cursor and rows keep the last
+     * read value so each statement gets its own instances.
+     * @return
+     */
+    public DataSet createDataSet() {
+        DataSet dataSet = new DataSet();
+        try {
+            for (Row row : rows) {
+                Row copy = new Row();
+                copy.setValues(new LinkedHashMap<>(row.getValues()));
+                dataSet.getRows().add(copy);
+            }
+        } catch (SQLException e) {
+            throw new CitrusRuntimeException("Failed to create data set for statement rule", e);
+        }
+        return dataSet;
+    }
+
+    /**
+     * Gets the canned update count.
+     * @return
+     */
+    public int getRowsUpdated() {
+        return rowsUpdated;
+    }
+
+    /**
+     * Gets the SQL pattern.
+     * @return
+     */
+    public String getSqlPattern() {
+        return sqlPattern;
+    }
+
+    @Override
+    public String toString() {
+        return "JdbcStatementRule[" + sqlPattern + "]";
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.jdbc.server;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Random;
 
@@ -49,6 +50,9 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 public class JdbcEndpointAdapterControllerTest {
@@ -476,6 +480,92 @@ public class JdbcEndpointAdapterControllerTest {
         //Exception is thrown
     }
 
+    @Test
+    public void testExecuteQueryWithStatementRule() throws Exception {
+
+        //GIVEN
+        when(jdbcEndpointConfiguration.getStatementRules()).thenReturn(Collections.singletonList(
+                JdbcStatementRule.query("select \\* from users where id = \\d+", "[{ \"id\": 1, \"name\": \"foo\" }]")));
+
+        final JdbcEndpointAdapterController jdbcEndpointAdapterController =
+                spy(new JdbcEndpointAdapterController(jdbcEndpointConfiguration, endpointAdapter));
+
+        //WHEN
+        final DataSet dataSet = jdbcEndpointAdapterController.executeQuery("SELECT * FROM users WHERE id = 1");
+        final DataSet otherDataSet = jdbcEndpointAdapterController.executeQuery("SELECT * FROM users WHERE id = 2");
+
+        //THEN
+        verify(jdbcEndpointAdapterController, never()).handleMessage(any());
+        assertEquals(dataSet.getRows().size(), 1L);
+        assertNotSame(dataSet.getRows().get(0), otherDataSet.getRows().get(0));
+        assertEquals(dataSet.getNextRow().getValue("name"), "foo");
+        assertNull(otherDataSet.getRows().get(0).getLastValue());
+        assertEquals(otherDataSet.getNextRow().getValue("name"), "foo");
+
+        JdbcStatementMetrics.StatementMetrics metrics = jdbcEndpointAdapterController.getStatementMetrics()
+                .getStatementMetrics("SELECT * FROM users WHERE id = 1");
+        assertEquals(metrics.getCount(), 1L);
+        assertEquals(metrics.getFastPathCount(), 1L);
+    }
+
+    @Test
+    public void testExecuteUpdateWithStatementRule(){
+
+        //GIVEN
+        when(jdbcEndpointConfiguration.getStatementRules()).thenReturn(Collections.singletonList(
+                JdbcStatementRule.update("delete from users.*", 3)));
+
+        final JdbcEndpointAdapterController jdbcEndpointAdapterController =
+                spy(new JdbcEndpointAdapterController(jdbcEndpointConfiguration, endpointAdapter));
+
+        final Message response = mock(Message.class);
+        when(response.getHeader(JdbcMessageHeaders.JDBC_ROWS_UPDATED)).thenReturn("1");
+        doReturn(response).when(jdbcEndpointAdapterController).handleMessage(any());
+
+        //WHEN
+        final int rowsUpdated = jdbcEndpointAdapterController.executeUpdate("DELETE FROM users WHERE id = 1");
+        final int otherRowsUpdated = jdbcEndpointAdapterController.executeUpdate("UPDATE users SET name = 'foo'");
+
+        //THEN
+        verify(jdbcEndpointAdapterController, times(1)).handleMessage(any());
+        assertEquals(rowsUpdated, 3);
+        assertEquals(otherRowsUpdated, 1);
+
+        JdbcStatementMetrics statementMetrics = jdbcEndpointAdapterController.getStatementMetrics();
+        assertEquals(statementMetrics.getStatements().size(), 2);
+        assertEquals(statementMetrics.getStatementMetrics("DELETE FROM users WHERE id = 1").getFastPathCount(), 1L);
+        assertEquals(statementMetrics.getStatementMetrics("UPDATE users SET name = 'foo'").getFastPathCount(), 0L);
+    }
+
+    @Test
+    public void testStatementRuleMatchesWholeStatement(){
+
+        //GIVEN
+        final JdbcStatementRule rule = JdbcStatementRule.update("delete from users|truncate table users", 3);
+
+        //THEN
+        assertTrue(rule.matches("DELETE FROM users"));
+        assertTrue(rule.matches("TRUNCATE TABLE users"));
+        assertFalse(rule.matches("DELETE FROM users WHERE id = 1"));
+        assertFalse(rule.matches("SELECT * FROM orders; TRUNCATE TABLE users"));
+        assertFalse(rule.matches("TRUNCATE TABLE users\n"));
+    }
+
+    @Test
+    public void testExecuteQueryWithAutoHandleQuery() throws Exception {
+
+        //GIVEN
+        final JdbcEndpointAdapterController jdbcEndpointAdapterController = spy(this.jdbcEndpointAdapterController);
+
+        //WHEN
+        final DataSet dataSet = jdbcEndpointAdapterController.executeQuery("SELECT 1");
+
+        //THEN
+        verify(jdbcEndpointAdapterController, never()).handleMessage(any());
+        assertEquals(dataSet.getRows().size(), 0L);
+        assertEquals(jdbcEndpointAdapterController.getStatementMetrics().getStatementMetrics("SELECT 1").getFastPathCount(), 1L);
+    }
+
     @Test
     public void testCloseStatementWithAutoCreateStatement(){
 
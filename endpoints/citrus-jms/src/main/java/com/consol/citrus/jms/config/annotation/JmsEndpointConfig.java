@@ -22,6 +22,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import com.consol.citrus.annotations.CitrusEndpointConfig;
+import com.consol.citrus.message.SignalingMessageQueue;
 
 /**
  * @author Christoph Deppisch
@@ -98,6 +99,36 @@ public @interface JmsEndpointConfig {
      */
     String durableSubscriberName() default "";
 
+    /**
+     * Use shared subscription.
+     * @return
+     */
+    boolean sharedSubscription() default false;
+
+    /**
+     * Maximum number of buffered topic events.
+     * @return
+     */
+    int bufferSize() default 0;
+
+    /**
+     * Policy applied when buffer is full.
+     * @return
+     */
+    SignalingMessageQueue.DropPolicy dropPolicy() default SignalingMessageQueue.DropPolicy.DROP_OLDEST;
+
+    /**
+     * Use listener container consumer mode.
+     * @return
+     */
+    boolean useListenerContainer() default false;
+
+    /**
+     * Number of concurrent listener container consumers.
+     * @return
+     */
+    int concurrentConsumers() default 1;
+
     /**
      * Should use object messages.
      * @return
@@ -92,6 +92,11 @@ public class JmsEndpointConfigParser implements AnnotationConfigParser<JmsEndpoi
         builder.pubSubDomain(annotation.pubSubDomain());
         builder.autoStart(annotation.autoStart());
         builder.durableSubscription(annotation.durableSubscription());
+        builder.sharedSubscription(annotation.sharedSubscription());
+        builder.bufferSize(annotation.bufferSize());
+        builder.dropPolicy(annotation.dropPolicy());
+        builder.useListenerContainer(annotation.useListenerContainer());
+        builder.concurrentConsumers(annotation.concurrentConsumers());
         if (StringUtils.hasText(annotation.durableSubscriberName())) {
             builder.durableSubscriberName(annotation.durableSubscriberName());
         }
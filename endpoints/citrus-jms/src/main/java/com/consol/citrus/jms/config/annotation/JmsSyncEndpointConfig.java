@@ -110,6 +110,12 @@ public @interface JmsSyncEndpointConfig {
      */
     int pollingInterval() default 500;
 
+    /**
+     * Shared reply consumer.
+     * @return
+     */
+    boolean sharedReplyConsumer() default false;
+
     /**
      * Message correlator.
      * @return
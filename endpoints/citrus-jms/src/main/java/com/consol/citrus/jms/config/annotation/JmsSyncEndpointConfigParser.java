@@ -112,6 +112,7 @@ public class JmsSyncEndpointConfigParser implements AnnotationConfigParser<JmsSy
         }
 
         builder.pollingInterval(annotation.pollingInterval());
+        builder.sharedReplyConsumer(annotation.sharedReplyConsumer());
 
         return builder.initialize().build();
     }
@@ -40,6 +40,11 @@ public class JmsEndpointParser extends AbstractJmsEndpointParser {
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("auto-start"), "autoStart");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("durable-subscription"), "durableSubscription");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("durable-subscriber-name"), "durableSubscriberName");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("shared-subscription"), "sharedSubscription");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("buffer-size"), "bufferSize");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("drop-policy"), "dropPolicy");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("use-listener-container"), "useListenerContainer");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("concurrent-consumers"), "concurrentConsumers");
     }
 
     @Override
@@ -67,6 +67,11 @@ public class JmsEndpoint extends AbstractEndpoint implements InitializingPhase,
                 jmsConsumer = jmsTopicSubscriber;
 
                 jmsTopicSubscriber.start();
+            } else if (getEndpointConfiguration().isUseListenerContainer()) {
+                JmsListenerContainerConsumer listenerContainerConsumer = new JmsListenerContainerConsumer(getConsumerName(), getEndpointConfiguration(), getTestContextFactory());
+                jmsConsumer = listenerContainerConsumer;
+
+                listenerContainerConsumer.start();
             } else {
                 jmsConsumer = new JmsConsumer(getConsumerName(), getEndpointConfiguration());
             }
@@ -108,6 +113,8 @@ public class JmsEndpoint extends AbstractEndpoint implements InitializingPhase,
     public void destroy() {
         if (this.jmsConsumer instanceof JmsTopicSubscriber) {
             ((JmsTopicSubscriber) this.jmsConsumer).stop();
+        } else if (this.jmsConsumer instanceof JmsListenerContainerConsumer) {
+            ((JmsListenerContainerConsumer) this.jmsConsumer).stop();
         }
     }
 
@@ -22,6 +22,7 @@ import javax.jms.Destination;
 import com.consol.citrus.endpoint.AbstractEndpointBuilder;
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
 import com.consol.citrus.jms.message.JmsMessageConverter;
+import com.consol.citrus.message.SignalingMessageQueue;
 import org.springframework.jms.core.JmsTemplate;
 import org.springframework.jms.support.destination.DestinationResolver;
 
@@ -149,6 +150,56 @@ public class JmsEndpointBuilder extends AbstractEndpointBuilder<JmsEndpoint> {
         return this;
     }
 
+    /**
+     * Sets the sharedSubscription property.
+     * @param sharedSubscription
+     * @return
+     */
+    public JmsEndpointBuilder sharedSubscription(boolean sharedSubscription) {
+        endpoint.getEndpointConfiguration().setSharedSubscription(sharedSubscription);
+        return this;
+    }
+
+    /**
+     * Sets the bufferSize property.
+     * @param bufferSize
+     * @return
+     */
+    public JmsEndpointBuilder bufferSize(int bufferSize) {
+        endpoint.getEndpointConfiguration().setBufferSize(bufferSize);
+        return this;
+    }
+
+    /**
+     * Sets the dropPolicy property.
+     * @param dropPolicy
+     * @return
+     */
+    public JmsEndpointBuilder dropPolicy(SignalingMessageQueue.DropPolicy dropPolicy) {
+        endpoint.getEndpointConfiguration().setDropPolicy(dropPolicy);
+        return this;
+    }
+
+    /**
+     * Sets the useListenerContainer property.
+     * @param useListenerContainer
+     * @return
+     */
+    public JmsEndpointBuilder useListenerContainer(boolean useListenerContainer) {
+        endpoint.getEndpointConfiguration().setUseListenerContainer(useListenerContainer);
+        return this;
+    }
+
+    /**
+     * Sets the concurrentConsumers property.
+     * @param concurrentConsumers
+     * @return
+     */
+    public JmsEndpointBuilder concurrentConsumers(int concurrentConsumers) {
+        endpoint.getEndpointConfiguration().setConcurrentConsumers(concurrentConsumers);
+        return this;
+    }
+
     /**
      * Sets the useObjectMessages property.
      * @param useObjectMessages
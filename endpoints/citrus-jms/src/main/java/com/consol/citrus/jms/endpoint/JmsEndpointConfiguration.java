@@ -27,6 +27,7 @@ import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
 import com.consol.citrus.jms.endpoint.resolver.DynamicDestinationNameResolver;
 import com.consol.citrus.jms.message.JmsMessageConverter;
 import com.consol.citrus.jms.message.JmsMessageHeaderMapper;
+import com.consol.citrus.message.SignalingMessageQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jms.core.JmsTemplate;
@@ -77,6 +78,21 @@ public class JmsEndpointConfiguration extends AbstractPollableEndpointConfigurat
     private boolean durableSubscription = false;
     private String durableSubscriberName;
 
+    /** Use shared subscription on topic so multiple subscribers share the event load */
+    private boolean sharedSubscription = false;
+
+    /** Maximum number of buffered topic events in local message queue, zero or negative value for unbounded buffer */
+    private int bufferSize = 0;
+
+    /** Policy applied to topic events once buffer size is reached */
+    private SignalingMessageQueue.DropPolicy dropPolicy = SignalingMessageQueue.DropPolicy.DROP_OLDEST;
+
+    /** Should consume messages with a background listener container prefetching into a local message queue */
+    private boolean useListenerContainer = false;
+
+    /** Number of concurrent consumers of the listener container */
+    private int concurrentConsumers = 1;
+
     /** Should always use object messages */
     private boolean useObjectMessages = false;
 
@@ -367,4 +383,84 @@ public class JmsEndpointConfiguration extends AbstractPollableEndpointConfigurat
     public void setDurableSubscriberName(String durableSubscriberName) {
         this.durableSubscriberName = durableSubscriberName;
     }
+
+    /**
+     * Gets the sharedSubscription.
+     * @return
+     */
+    public boolean isSharedSubscription() {
+        return sharedSubscription;
+    }
+
+    /**
+     * Sets the sharedSubscription.
+     * @param sharedSubscription
+     */
+    public void setSharedSubscription(boolean sharedSubscription) {
+        this.sharedSubscription = sharedSubscription;
+    }
+
+    /**
+     * Gets the bufferSize.
+     * @return
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the maximum number of buffered topic events.
+     * @param bufferSize
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Gets the dropPolicy.
+     * @return
+     */
+    public SignalingMessageQueue.DropPolicy getDropPolicy() {
+        return dropPolicy;
+    }
+
+    /**
+     * Sets the policy applied once the buffer size is reached.
+     * @param dropPolicy
+     */
+    public void setDropPolicy(SignalingMessageQueue.DropPolicy dropPolicy) {
+        this.dropPolicy = dropPolicy;
+    }
+
+    /**
+     * Gets the useListenerContainer.
+     * @return
+     */
+    public boolean isUseListenerContainer() {
+        return useListenerContainer;
+    }
+
+    /**
+     * Enables consumer mode using a background listener container.
+     * @param useListenerContainer
+     */
+    public void setUseListenerContainer(boolean useListenerContainer) {
+        this.useListenerContainer = useListenerContainer;
+    }
+
+    /**
+     * Gets the concurrentConsumers.
+     * @return
+     */
+    public int getConcurrentConsumers() {
+        return concurrentConsumers;
+    }
+
+    /**
+     * Sets the number of concurrent consumers of the listener container.
+     * @param concurrentConsumers
+     */
+    public void setConcurrentConsumers(int concurrentConsumers) {
+        this.concurrentConsumers = concurrentConsumers;
+    }
 }
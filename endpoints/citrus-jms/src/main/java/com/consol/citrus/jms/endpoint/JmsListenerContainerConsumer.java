@@ -0,0 +1,168 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.endpoint;
+
+import javax.jms.ConnectionFactory;
+import javax.jms.MessageListener;
+import java.util.Optional;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.endpoint.direct.DirectEndpoint;
+import com.consol.citrus.endpoint.direct.DirectEndpointConfiguration;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.message.SignalingMessageQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+import org.springframework.util.StringUtils;
+
+/**
+ * Consumer uses a background message listener container that continuously consumes messages from the JMS destination
+ * and prefetches them into a local in-memory message queue. Receive operations and message selectors are served from
+ * the local queue so there is no connection, session and consumer creation per receive operation.
+ *
+ * Messages are acknowledged as soon as they have been added to the local queue.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class JmsListenerContainerConsumer extends JmsConsumer {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(JmsListenerContainerConsumer.class);
+
+    /** Test context factory for message conversion in listener threads */
+    private final TestContextFactory testContextFactory;
+
+    /** Delegate in-memory message queue caching all prefetched messages */
+    private final DirectEndpoint messageQueue;
+
+    /** Background listener container */
+    private DefaultMessageListenerContainer listenerContainer;
+
+    /**
+     * Default constructor using endpoint.
+     *
+     * @param name
+     * @param endpointConfiguration
+     * @param testContextFactory
+     */
+    public JmsListenerContainerConsumer(String name, JmsEndpointConfiguration endpointConfiguration, TestContextFactory testContextFactory) {
+        super(name, endpointConfiguration);
+
+        this.testContextFactory = testContextFactory;
+
+        DirectEndpointConfiguration directEndpointConfiguration = new DirectEndpointConfiguration();
+        directEndpointConfiguration.setQueue(new SignalingMessageQueue(name + ".inbound"));
+
+        this.messageQueue = new DirectEndpoint(directEndpointConfiguration);
+    }
+
+    /**
+     * Creates and starts the listener container.
+     */
+    public synchronized void start() {
+        if (listenerContainer != null) {
+            return;
+        }
+
+        ConnectionFactory connectionFactory = Optional.ofNullable(endpointConfiguration.getConnectionFactory())
+                                                      .orElse(endpointConfiguration.getJmsTemplate().getConnectionFactory());
+
+        DefaultMessageListenerContainer container = new DefaultMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setPubSubDomain(endpointConfiguration.isPubSubDomain());
+        container.setConcurrentConsumers(endpointConfiguration.getConcurrentConsumers());
+        container.setBeanName(getName());
+
+        if (endpointConfiguration.getDestinationResolver() != null) {
+            container.setDestinationResolver(endpointConfiguration.getDestinationResolver());
+        }
+
+        TestContext context = testContextFactory.getObject();
+        if (endpointConfiguration.getDestination() != null) {
+            container.setDestination(endpointConfiguration.getDestination());
+        } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
+            container.setDestinationName(context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()));
+        } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
+            container.setDestination(endpointConfiguration.getJmsTemplate().getDefaultDestination());
+        } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
+            container.setDestinationName(context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()));
+        } else {
+            throw new CitrusRuntimeException("Unable to receive message - JMS destination not set");
+        }
+
+        if (endpointConfiguration.isDurableSubscription()) {
+            container.setSubscriptionDurable(true);
+            container.setDurableSubscriptionName(Optional.ofNullable(endpointConfiguration.getDurableSubscriberName()).orElse(getName()));
+        }
+
+        container.setMessageListener((MessageListener) this::onMessage);
+        container.afterPropertiesSet();
+        container.start();
+
+        listenerContainer = container;
+
+        log.info(String.format("Started JMS listener container with %s concurrent consumer(s)", endpointConfiguration.getConcurrentConsumers()));
+    }
+
+    /**
+     * Converts received message and adds it to the local message queue.
+     * @param jmsMessage
+     */
+    private void onMessage(javax.jms.Message jmsMessage) {
+        TestContext context = testContextFactory.getObject();
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(jmsMessage, endpointConfiguration, context);
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Prefetched JMS message '%s'", message.getId()));
+        }
+
+        messageQueue.createProducer().send(message, context);
+    }
+
+    /**
+     * Stops and shuts down the listener container.
+     */
+    public synchronized void stop() {
+        if (listenerContainer != null) {
+            listenerContainer.shutdown();
+            listenerContainer = null;
+        }
+    }
+
+    @Override
+    public Message receive(TestContext context, long timeout) {
+        return messageQueue.createConsumer().receive(context, timeout);
+    }
+
+    @Override
+    public Message receive(String selector, TestContext context, long timeout) {
+        return messageQueue.createConsumer().receive(selector, context, timeout);
+    }
+
+    /**
+     * Gets the running state.
+     * @return
+     */
+    public boolean isRunning() {
+        DefaultMessageListenerContainer container = listenerContainer;
+        return container != null && container.isRunning();
+    }
+}
@@ -43,6 +43,9 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500L;
 
+    /** Use one long-lived reply destination and consumer for all requests and correlate replies by JMSCorrelationID */
+    private boolean sharedReplyConsumer = false;
+
     /**
      * Set the reply message correlator.
      * @param correlator the correlator to set
@@ -107,4 +110,20 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
         this.pollingInterval = pollingInterval;
     }
 
+    /**
+     * Gets the sharedReplyConsumer.
+     * @return
+     */
+    public boolean isSharedReplyConsumer() {
+        return sharedReplyConsumer;
+    }
+
+    /**
+     * Enables shared reply consumer so that many requests can be in flight on a single reply destination.
+     * @param sharedReplyConsumer
+     */
+    public void setSharedReplyConsumer(boolean sharedReplyConsumer) {
+        this.sharedReplyConsumer = sharedReplyConsumer;
+    }
+
 }
@@ -31,6 +31,8 @@ import javax.jms.Topic;
 import javax.jms.TopicConnection;
 import javax.jms.TopicConnectionFactory;
 import javax.jms.TopicSession;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import com.consol.citrus.context.TestContext;
@@ -39,7 +41,7 @@ import com.consol.citrus.exceptions.ReplyMessageTimeoutException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageHeaders;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.FutureCorrelationManager;
 import com.consol.citrus.messaging.ReplyConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +52,10 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
+ * Synchronous JMS producer sends request messages and waits for the reply message on a reply destination. By default
+ * each request uses its own reply consumer and temporary reply destination. With shared reply consumer enabled the
+ * producer uses one long-lived reply destination and consumer and correlates replies by JMSCorrelationID.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
@@ -64,6 +70,29 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Store of raw reply messages received by shared reply consumer, converted on the receiving test thread */
+    private FutureCorrelationManager<javax.jms.Message> sharedReplies;
+
+    /** Time in milliseconds after that pending requests without reply get evicted */
+    private static final long PENDING_REPLY_TIMEOUT = 300000L;
+
+    /** Shared reply destination, reply session and reply consumer */
+    private Destination sharedReplyDestination;
+    private Session replySession;
+    private MessageConsumer replyConsumer;
+
+    /** Producer for requests sent with shared reply consumer */
+    private MessageProducer requestProducer;
+
+    /** Requests waiting for reply by JMS message id and correlation id */
+    private final Map<String, PendingReply> pendingReplies = new HashMap<>();
+
+    /** Guards JMS session usage and pending requests */
+    private final Object replyMonitor = new Object();
+
+    /** Time of last pending request eviction run */
+    private long lastEviction = System.currentTimeMillis();
+
     /** Endpoint configuration */
     private final JmsSyncEndpointConfiguration endpointConfiguration;
 
@@ -79,7 +108,11 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         super(name, endpointConfiguration);
         this.endpointConfiguration = endpointConfiguration;
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new FutureCorrelationManager<>(endpointConfiguration);
+
+        if (endpointConfiguration.isSharedReplyConsumer()) {
+            this.sharedReplies = new FutureCorrelationManager<>(endpointConfiguration);
+        }
     }
 
     @Override
@@ -92,6 +125,12 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
 
         context.onOutboundMessage(message);
 
+        if (sharedReplies != null &&
+                message.getHeader(org.springframework.messaging.MessageHeaders.REPLY_CHANNEL) == null) {
+            sendWithSharedReplyConsumer(message, correlationKeyName, correlationKey, context);
+            return;
+        }
+
         MessageProducer messageProducer = null;
         MessageConsumer messageConsumer = null;
         Destination replyToDestination = null;
@@ -103,31 +142,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
             javax.jms.Message jmsRequest = endpointConfiguration.getMessageConverter().createJmsMessage(message, session, endpointConfiguration, context);
             endpointConfiguration.getMessageConverter().convertOutbound(jmsRequest, message, endpointConfiguration, context);
 
-            Destination destination;
-            if (endpointConfiguration.getDestination() != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getDestination()) + "'");
-                }
-
-                destination = endpointConfiguration.getDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
-                if (endpointConfiguration.getDestinationNameResolver() != null) {
-                    destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationNameResolver().resolveEndpointUri(message, endpointConfiguration.getDestinationName())));
-                } else {
-                    destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()));
-                }
-            } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getJmsTemplate().getDefaultDestination()) + "'");
-                }
-
-                destination = endpointConfiguration.getJmsTemplate().getDefaultDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
-                destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()));
-            } else {
-                throw new CitrusRuntimeException("Unable to send message - JMS destination not set");
-            }
-
+            Destination destination = getDestination(message, context);
             messageProducer = session.createProducer(destination);
 
             replyToDestination = getReplyDestination(session, message);
@@ -187,7 +202,12 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
-        Message message = correlationManager.find(selector, timeout);
+        Message message;
+        if (sharedReplies != null) {
+            message = receiveSharedReply(selector, context, timeout);
+        } else {
+            message = correlationManager.find(selector, timeout);
+        }
 
         String replyToDestination;
         if (context.getVariables().containsKey(MessageHeaders.MESSAGE_REPLY_TO + "_" + selector)) {
@@ -203,6 +223,200 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         return message;
     }
 
+    /**
+     * Receives reply message for given correlation key. Requests sent with explicit reply channel header do not use
+     * the shared reply consumer, so their replies are already stored with the correlation manager. Otherwise waits for the
+     * raw reply message of the shared reply consumer and converts it on the calling test thread.
+     * @param correlationKey
+     * @param context
+     * @param timeout
+     * @return the reply message or null if no reply arrived within the timeout.
+     */
+    private Message receiveSharedReply(String correlationKey, TestContext context, long timeout) {
+        Message message = correlationManager.find(correlationKey, 0L);
+        if (message != null) {
+            return message;
+        }
+
+        javax.jms.Message jmsReplyMessage = sharedReplies.find(correlationKey, timeout);
+
+        synchronized (replyMonitor) {
+            if (jmsReplyMessage == null) {
+                pendingReplies.values().removeIf(pendingReply -> pendingReply.correlationKey.equals(correlationKey));
+            }
+
+            evictPendingReplies();
+        }
+
+        if (jmsReplyMessage == null) {
+            return null;
+        }
+
+        message = endpointConfiguration.getMessageConverter().convertInbound(jmsReplyMessage, endpointConfiguration, context);
+
+        log.info("Received reply message on JMS destination: '{}'", sharedReplyDestination);
+
+        context.onInboundMessage(message);
+        return message;
+    }
+
+    /**
+     * Sends message using the shared reply destination and reply consumer. Send operation returns as soon as the request
+     * has been sent. The reply consumer correlates incoming replies by JMSCorrelationID and stores the raw reply messages
+     * so many requests can be in flight at the same time.
+     * @param message
+     * @param correlationKeyName
+     * @param correlationKey
+     * @param context
+     */
+    private void sendWithSharedReplyConsumer(Message message, String correlationKeyName, String correlationKey, TestContext context) {
+        Destination destination;
+        Destination replyToDestination;
+
+        try {
+            synchronized (replyMonitor) {
+                createConnection();
+                createSession(connection);
+                replyToDestination = getSharedReplyDestination();
+                context.setVariable(MessageHeaders.MESSAGE_REPLY_TO + "_" + correlationKeyName, replyToDestination);
+
+                javax.jms.Message jmsRequest = endpointConfiguration.getMessageConverter().createJmsMessage(message, session, endpointConfiguration, context);
+                endpointConfiguration.getMessageConverter().convertOutbound(jmsRequest, message, endpointConfiguration, context);
+
+                destination = getDestination(message, context);
+
+                if (requestProducer == null) {
+                    requestProducer = session.createProducer(null);
+                }
+
+                jmsRequest.setJMSReplyTo(replyToDestination);
+                requestProducer.send(destination, jmsRequest);
+
+                evictPendingReplies();
+                PendingReply pendingReply = new PendingReply(correlationKey, jmsRequest.getJMSMessageID(), jmsRequest.getJMSCorrelationID());
+                pendingReplies.put(pendingReply.messageId, pendingReply);
+                if (StringUtils.hasText(pendingReply.correlationId)) {
+                    pendingReplies.put(pendingReply.correlationId, pendingReply);
+                }
+            }
+        } catch (JMSException e) {
+            throw new CitrusRuntimeException(e);
+        }
+
+        log.info("Message was sent to JMS destination: '{}'", endpointConfiguration.getDestinationName(destination));
+        log.debug("Reply message is expected on shared destination: '{}'", replyToDestination);
+    }
+
+    /**
+     * Gets the shared reply destination and starts the reply consumer on first access. Uses the configured reply
+     * destination or creates a temporary destination that lives as long as this producer.
+     * Must be called while holding the reply monitor.
+     * @return
+     * @throws JMSException
+     */
+    private Destination getSharedReplyDestination() throws JMSException {
+        if (sharedReplyDestination == null) {
+            replySession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+
+            if (endpointConfiguration.getReplyDestination() != null) {
+                sharedReplyDestination = endpointConfiguration.getReplyDestination();
+            } else if (StringUtils.hasText(endpointConfiguration.getReplyDestinationName())) {
+                sharedReplyDestination = resolveDestinationName(endpointConfiguration.getReplyDestinationName(), replySession);
+            } else if (endpointConfiguration.isPubSubDomain()) {
+                sharedReplyDestination = replySession.createTemporaryTopic();
+            } else {
+                sharedReplyDestination = replySession.createTemporaryQueue();
+            }
+
+            replyConsumer = replySession.createConsumer(sharedReplyDestination);
+            replyConsumer.setMessageListener(this::onReplyMessage);
+
+            log.debug("Started shared reply consumer on destination: '{}'", sharedReplyDestination);
+        }
+
+        return sharedReplyDestination;
+    }
+
+    /**
+     * Handles reply message received by shared reply consumer. Correlates the reply with pending requests by
+     * JMSCorrelationID and stores the raw reply message. Conversion of the reply and test context updates happen on
+     * the test thread that receives the reply, not on the JMS provider thread.
+     * @param jmsReplyMessage
+     */
+    private void onReplyMessage(javax.jms.Message jmsReplyMessage) {
+        PendingReply pendingReply;
+        try {
+            synchronized (replyMonitor) {
+                String correlationId = jmsReplyMessage.getJMSCorrelationID();
+                pendingReply = correlationId != null ? pendingReplies.remove(correlationId) : null;
+
+                if (pendingReply != null) {
+                    pendingReplies.remove(pendingReply.messageId);
+                    if (pendingReply.correlationId != null) {
+                        pendingReplies.remove(pendingReply.correlationId);
+                    }
+                }
+            }
+        } catch (JMSException e) {
+            log.error("Failed to read JMSCorrelationID of reply message", e);
+            return;
+        }
+
+        if (pendingReply == null) {
+            log.warn("Discarding reply message on destination '{}' - no pending request for JMSCorrelationID", sharedReplyDestination);
+            return;
+        }
+
+        sharedReplies.store(pendingReply.correlationKey, jmsReplyMessage);
+    }
+
+    /**
+     * Removes pending requests that did not receive a reply within the eviction timeout. Runs on send and receive
+     * operations but at most once per eviction timeout. Must be called while holding the reply monitor.
+     */
+    private void evictPendingReplies() {
+        long now = System.currentTimeMillis();
+        if (now - lastEviction < PENDING_REPLY_TIMEOUT) {
+            return;
+        }
+
+        lastEviction = now;
+        pendingReplies.values().removeIf(pendingReply -> now - pendingReply.timestamp > PENDING_REPLY_TIMEOUT);
+    }
+
+    /**
+     * Resolves the request destination from endpoint configuration or JMS template defaults.
+     * @param message
+     * @param context
+     * @return
+     * @throws JMSException
+     */
+    private Destination getDestination(Message message, TestContext context) throws JMSException {
+        if (endpointConfiguration.getDestination() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getDestination()) + "'");
+            }
+
+            return endpointConfiguration.getDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
+            if (endpointConfiguration.getDestinationNameResolver() != null) {
+                return resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationNameResolver().resolveEndpointUri(message, endpointConfiguration.getDestinationName())));
+            } else {
+                return resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()));
+            }
+        } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getJmsTemplate().getDefaultDestination()) + "'");
+            }
+
+            return endpointConfiguration.getJmsTemplate().getDefaultDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
+            return resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()));
+        } else {
+            throw new CitrusRuntimeException("Unable to send message - JMS destination not set");
+        }
+    }
+
     /**
      * Create new JMS connection.
      * @return connection
@@ -349,6 +563,31 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      * Destroy method closing JMS session and connection
      */
     public void destroy() {
+        MessageConsumer sharedReplyConsumer;
+        MessageProducer sharedRequestProducer;
+        Destination replyToDestination;
+        Session sharedReplySession;
+        synchronized (replyMonitor) {
+            sharedReplyConsumer = replyConsumer;
+            sharedRequestProducer = requestProducer;
+            replyToDestination = sharedReplyDestination;
+            sharedReplySession = replySession;
+
+            replyConsumer = null;
+            requestProducer = null;
+            sharedReplyDestination = null;
+            replySession = null;
+            pendingReplies.clear();
+        }
+
+        // close reply consumer outside of monitor as closing waits for running message listener
+        JmsUtils.closeMessageConsumer(sharedReplyConsumer);
+        JmsUtils.closeMessageProducer(sharedRequestProducer);
+        if (replyToDestination != null) {
+            deleteTemporaryDestination(replyToDestination);
+        }
+        JmsUtils.closeSession(sharedReplySession);
+
         JmsUtils.closeSession(session);
 
         if (connection != null) {
@@ -371,4 +610,20 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     public void setCorrelationManager(CorrelationManager<Message> correlationManager) {
         this.correlationManager = correlationManager;
     }
+
+    /**
+     * Request waiting for reply message.
+     */
+    private static final class PendingReply {
+        private final String correlationKey;
+        private final String messageId;
+        private final String correlationId;
+        private final long timestamp = System.currentTimeMillis();
+
+        PendingReply(String correlationKey, String messageId, String correlationId) {
+            this.correlationKey = correlationKey;
+            this.messageId = messageId;
+            this.correlationId = correlationId;
+        }
+    }
 }
@@ -18,52 +18,54 @@ package com.consol.citrus.jms.endpoint;
 
 import javax.jms.ConnectionFactory;
 import javax.jms.JMSException;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageListener;
 import javax.jms.Topic;
 import javax.jms.TopicConnection;
 import javax.jms.TopicConnectionFactory;
 import javax.jms.TopicSession;
-import javax.jms.TopicSubscriber;
+import java.util.Arrays;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.endpoint.direct.DirectEndpoint;
 import com.consol.citrus.endpoint.direct.DirectEndpointConfiguration;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
-import com.consol.citrus.message.DefaultMessageQueue;
+import com.consol.citrus.jms.message.JmsMessageHeaders;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.message.MessageQueue;
+import com.consol.citrus.message.SignalingMessageQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
 
 /**
+ * Topic subscriber registers a JMS message listener on the topic and pushes all received events to a local in-memory
+ * message queue. Receivers waiting on the local queue are woken up as soon as a matching event arrives. The local queue
+ * indexes JMS message id and correlation id headers and applies the configured drop policy once the buffer size is reached.
+ *
  * @author Christoph Deppisch
  * @since 2.7.6
  */
-public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
+public class JmsTopicSubscriber extends JmsConsumer implements MessageListener {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JmsConsumer.class);
 
-    /** Boolean flag for continued message consumption, if false stop */
-    private boolean running = true;
+    /** Boolean flag for active subscription */
+    private volatile boolean running = false;
 
     /** Test context factory for send operation on message queue */
     private final TestContextFactory testContextFactory;
 
+    /** Local buffer caching all inbound messages */
+    private final SignalingMessageQueue inboundQueue;
+
     /** Delegate in-memory message queue caching all inbound messages */
     private DirectEndpoint messageQueue;
 
-    private Executor subscription = Executors.newSingleThreadExecutor();
-    private CompletableFuture<Boolean> stopped = new CompletableFuture<>();
-    private CompletableFuture<Boolean> started = new CompletableFuture<>();
+    /** Topic connection holding the subscription */
+    private TopicConnection connection;
 
     /**
      * Default constructor using endpoint.
@@ -76,9 +78,12 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
 
         this.testContextFactory = testContextFactory;
 
-        DirectEndpointConfiguration directEndpointConfiguration = new DirectEndpointConfiguration();
+        inboundQueue = new SignalingMessageQueue(name + ".inbound");
+        inboundQueue.setIndexedHeaders(Arrays.asList(JmsMessageHeaders.MESSAGE_ID, JmsMessageHeaders.CORRELATION_ID));
+        inboundQueue.setCapacity(endpointConfiguration.getBufferSize());
+        inboundQueue.setDropPolicy(endpointConfiguration.getDropPolicy());
 
-        MessageQueue inboundQueue = new DefaultMessageQueue(name + ".inbound");
+        DirectEndpointConfiguration directEndpointConfiguration = new DirectEndpointConfiguration();
         directEndpointConfiguration.setQueue(inboundQueue);
 
         this.messageQueue = new DirectEndpoint(directEndpointConfiguration);
@@ -87,110 +92,106 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
     /**
      * Starts consuming topic events.
      */
-    public void run() {
-        ConnectionFactory connectionFactory = Optional.ofNullable(endpointConfiguration.getConnectionFactory())
-                                                      .orElse(endpointConfiguration.getJmsTemplate().getConnectionFactory());
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
 
-        TopicConnection connection = null;
         try {
-            if (!(connectionFactory instanceof TopicConnectionFactory)) {
-                throw new CitrusRuntimeException("Failed to create JMS topic subscriber for unsupported connection factory type: " + Optional.ofNullable(connectionFactory)
-                        .map(Object::getClass)
-                        .map(Class::getName)
-                        .orElse("connection factory not set"));
-            }
+            subscribe();
 
-            connection = ((TopicConnectionFactory)connectionFactory).createTopicConnection();
-
-            TopicSession session = connection.createTopicSession(false, javax.jms.Session.AUTO_ACKNOWLEDGE);
-            Topic topic;
-            if (endpointConfiguration.getDestination() != null && endpointConfiguration.getDestination() instanceof Topic) {
-                topic = (Topic) endpointConfiguration.getDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
-                topic = session.createTopic(endpointConfiguration.getDestinationName());
-            } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null && endpointConfiguration.getJmsTemplate().getDefaultDestination() instanceof Topic) {
-                topic = (Topic) endpointConfiguration.getJmsTemplate().getDefaultDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
-                topic = session.createTopic(endpointConfiguration.getJmsTemplate().getDefaultDestinationName());
-            } else {
-                throw new CitrusRuntimeException("Unable to receive message - JMS destination not set");
-            }
-
-            TopicSubscriber subscriber;
-            if (endpointConfiguration.isDurableSubscription()) {
-                log.debug(String.format("Create JMS topic durable subscription '%s'", Optional.ofNullable(endpointConfiguration.getDurableSubscriberName()).orElse(getName())));
-                subscriber = session.createDurableSubscriber(topic, Optional.ofNullable(endpointConfiguration.getDurableSubscriberName()).orElse(getName()));
-            } else {
-                log.debug("Create JMS topic subscription");
-                subscriber = session.createSubscriber(topic);
-            }
-
-            connection.start();
-
-            started.complete(true);
-
-            while (running) {
-                javax.jms.Message event = subscriber.receive();
+            running = true;
+            log.info("Started JMS topic subscription");
+        } catch (JMSException | RuntimeException e) {
+            closeConnection();
+            log.warn("Failed to start JMS topic subscription", e);
+        }
+    }
 
-                if (event != null) {
-                    TestContext context = testContextFactory.getObject();
-                    Message message = endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, context);
+    /**
+     * Creates topic connection and session and registers this message listener on the topic subscription.
+     * @throws JMSException
+     */
+    private void subscribe() throws JMSException {
+        ConnectionFactory connectionFactory = Optional.ofNullable(endpointConfiguration.getConnectionFactory())
+                                                      .orElse(endpointConfiguration.getJmsTemplate().getConnectionFactory());
 
-                    if (log.isDebugEnabled()) {
-                        log.debug(String.format("Received topic event '%s'", message.getId()));
-                    }
-                    messageQueue.createProducer().send(message, context);
-                } else {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Topic subscriber received null message - continue after " + endpointConfiguration.getPollingInterval() + " milliseconds");
-                    }
+        if (!(connectionFactory instanceof TopicConnectionFactory)) {
+            throw new CitrusRuntimeException("Failed to create JMS topic subscriber for unsupported connection factory type: " + Optional.ofNullable(connectionFactory)
+                    .map(Object::getClass)
+                    .map(Class::getName)
+                    .orElse("connection factory not set"));
+        }
 
-                    try {
-                        Thread.sleep(endpointConfiguration.getPollingInterval());
-                    } catch (InterruptedException e) {
-                        log.warn("Interrupted while waiting after null message", e);
-                    }
-                }
-            }
-        } catch (RuntimeException e) {
-            started.completeExceptionally(e);
-            throw e;
-        } catch (JMSException e) {
-            started.completeExceptionally(e);
-        } finally {
-            if (connection != null) {
-                try {
-                    connection.close();
-                } catch (JMSException e) {
-                    log.warn("Failed to close JMS topic connection", e);
-                }
-            }
+        connection = ((TopicConnectionFactory)connectionFactory).createTopicConnection();
+
+        TopicSession session = connection.createTopicSession(false, javax.jms.Session.AUTO_ACKNOWLEDGE);
+        Topic topic;
+        if (endpointConfiguration.getDestination() != null && endpointConfiguration.getDestination() instanceof Topic) {
+            topic = (Topic) endpointConfiguration.getDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
+            topic = session.createTopic(endpointConfiguration.getDestinationName());
+        } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null && endpointConfiguration.getJmsTemplate().getDefaultDestination() instanceof Topic) {
+            topic = (Topic) endpointConfiguration.getJmsTemplate().getDefaultDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
+            topic = session.createTopic(endpointConfiguration.getJmsTemplate().getDefaultDestinationName());
+        } else {
+            throw new CitrusRuntimeException("Unable to receive message - JMS destination not set");
+        }
 
-            stopped.complete(true);
+        String subscriptionName = Optional.ofNullable(endpointConfiguration.getDurableSubscriberName()).orElse(getName());
+        MessageConsumer subscriber;
+        if (endpointConfiguration.isSharedSubscription() && endpointConfiguration.isDurableSubscription()) {
+            log.debug(String.format("Create JMS topic shared durable subscription '%s'", subscriptionName));
+            subscriber = session.createSharedDurableConsumer(topic, subscriptionName);
+        } else if (endpointConfiguration.isSharedSubscription()) {
+            log.debug(String.format("Create JMS topic shared subscription '%s'", subscriptionName));
+            subscriber = session.createSharedConsumer(topic, subscriptionName);
+        } else if (endpointConfiguration.isDurableSubscription()) {
+            log.debug(String.format("Create JMS topic durable subscription '%s'", subscriptionName));
+            subscriber = session.createDurableSubscriber(topic, subscriptionName);
+        } else {
+            log.debug("Create JMS topic subscription");
+            subscriber = session.createSubscriber(topic);
         }
+
+        subscriber.setMessageListener(this);
+        connection.start();
     }
 
-    public void start() {
-        subscription.execute(this);
+    @Override
+    public void onMessage(javax.jms.Message event) {
+        TestContext context = testContextFactory.getObject();
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, context);
 
-        try {
-            if (started.get()) {
-                log.info("Started JMS topic subscription");
-            }
-        } catch (InterruptedException | ExecutionException e) {
-            log.warn("Failed to wait for topic subscriber to start subscription", e);
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Received topic event '%s'", message.getId()));
         }
+
+        messageQueue.createProducer().send(message, context);
     }
 
-    public void stop() {
+    /**
+     * Stops the subscription and closes the topic connection. Events already buffered in the local queue
+     * are still available to receivers.
+     */
+    public synchronized void stop() {
         running = false;
+        closeConnection();
+    }
 
-        try {
-            stopped.get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
-        } catch (InterruptedException | ExecutionException e) {
-            log.warn("Failed to wait for topic subscriber to stop gracefully", e);
-        } catch (TimeoutException e) {
-            log.warn("Timeout while waiting for topic subscriber to stop gracefully", e);
+    /**
+     * Closes the topic connection if any.
+     */
+    private void closeConnection() {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (JMSException e) {
+                log.warn("Failed to close JMS topic connection", e);
+            } finally {
+                connection = null;
+            }
         }
     }
 
@@ -211,4 +212,12 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
     public boolean isRunning() {
         return running;
     }
+
+    /**
+     * Gets the number of events dropped because the local buffer was full.
+     * @return
+     */
+    public long getDroppedMessages() {
+        return inboundQueue.getDroppedMessages();
+    }
 }
@@ -38,6 +38,7 @@ import com.consol.citrus.endpoint.direct.annotation.DirectSyncEndpointConfigPars
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
 import com.consol.citrus.jms.endpoint.JmsEndpoint;
 import com.consol.citrus.jms.message.JmsMessageConverter;
+import com.consol.citrus.message.SignalingMessageQueue;
 import com.consol.citrus.spi.ReferenceResolver;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mock;
@@ -66,6 +67,11 @@ public class JmsEndpointConfigParserTest extends AbstractTestNGUnitTest {
             messageConverter="messageConverter",
             destinationResolver="destinationResolver",
             destinationNameResolver="destinationNameResolver",
+            sharedSubscription=true,
+            bufferSize=100,
+            dropPolicy=SignalingMessageQueue.DropPolicy.DROP_NEWEST,
+            useListenerContainer=true,
+            concurrentConsumers=5,
             destination="jmsQueue")
     private JmsEndpoint jmsEndpoint2;
 
@@ -166,6 +172,11 @@ public class JmsEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertFalse(jmsEndpoint1.getEndpointConfiguration().isDurableSubscription());
         Assert.assertFalse(jmsEndpoint1.getEndpointConfiguration().isUseObjectMessages());
         Assert.assertTrue(jmsEndpoint1.getEndpointConfiguration().isFilterInternalHeaders());
+        Assert.assertFalse(jmsEndpoint1.getEndpointConfiguration().isSharedSubscription());
+        Assert.assertEquals(jmsEndpoint1.getEndpointConfiguration().getBufferSize(), 0);
+        Assert.assertEquals(jmsEndpoint1.getEndpointConfiguration().getDropPolicy(), SignalingMessageQueue.DropPolicy.DROP_OLDEST);
+        Assert.assertFalse(jmsEndpoint1.getEndpointConfiguration().isUseListenerContainer());
+        Assert.assertEquals(jmsEndpoint1.getEndpointConfiguration().getConcurrentConsumers(), 1);
 
         // 2nd message receiver
         Assert.assertNotNull(jmsEndpoint2.getEndpointConfiguration().getConnectionFactory());
@@ -176,6 +187,11 @@ public class JmsEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertNull(jmsEndpoint2.getEndpointConfiguration().getDestinationName());
         Assert.assertNotNull(jmsEndpoint2.getEndpointConfiguration().getDestination());
         Assert.assertEquals(jmsEndpoint2.getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertTrue(jmsEndpoint2.getEndpointConfiguration().isSharedSubscription());
+        Assert.assertEquals(jmsEndpoint2.getEndpointConfiguration().getBufferSize(), 100);
+        Assert.assertEquals(jmsEndpoint2.getEndpointConfiguration().getDropPolicy(), SignalingMessageQueue.DropPolicy.DROP_NEWEST);
+        Assert.assertTrue(jmsEndpoint2.getEndpointConfiguration().isUseListenerContainer());
+        Assert.assertEquals(jmsEndpoint2.getEndpointConfiguration().getConcurrentConsumers(), 5);
 
         // 3rd message receiver
         Assert.assertEquals(jmsEndpoint3.getEndpointConfiguration().getJmsTemplate(), jmsTemplate);
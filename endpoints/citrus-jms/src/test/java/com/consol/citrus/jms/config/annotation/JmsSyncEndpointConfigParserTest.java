@@ -54,6 +54,7 @@ public class JmsSyncEndpointConfigParserTest extends AbstractTestNGUnitTest {
     @JmsSyncEndpointConfig(connectionFactory="jmsConnectionFactory",
             timeout=10000L,
             destination="jmsQueue",
+            sharedReplyConsumer=true,
             correlator="replyMessageCorrelator")
     private JmsSyncEndpoint jmsSyncEndpoint2;
 
@@ -153,12 +154,14 @@ public class JmsSyncEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertNull(jmsSyncEndpoint1.getEndpointConfiguration().getDestination());
         Assert.assertEquals(jmsSyncEndpoint1.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertEquals(jmsSyncEndpoint1.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
+        Assert.assertFalse(jmsSyncEndpoint1.getEndpointConfiguration().isSharedReplyConsumer());
 
         // 2nd message receiver
         Assert.assertNotNull(jmsSyncEndpoint2.getEndpointConfiguration().getConnectionFactory());
         Assert.assertEquals(jmsSyncEndpoint2.getEndpointConfiguration().getConnectionFactory(), jmsConnectionFactory);
         Assert.assertNull(jmsSyncEndpoint2.getEndpointConfiguration().getDestinationName());
         Assert.assertNotNull(jmsSyncEndpoint2.getEndpointConfiguration().getDestination());
+        Assert.assertTrue(jmsSyncEndpoint2.getEndpointConfiguration().isSharedReplyConsumer());
         Assert.assertEquals(jmsSyncEndpoint2.getEndpointConfiguration().getTimeout(), 10000L);
         Assert.assertEquals(jmsSyncEndpoint2.getEndpointConfiguration().getCorrelator(), messageCorrelator);
 
@@ -21,6 +21,7 @@ import java.util.Map;
 import com.consol.citrus.TestActor;
 import com.consol.citrus.jms.endpoint.JmsEndpoint;
 import com.consol.citrus.jms.message.JmsMessageConverter;
+import com.consol.citrus.message.SignalingMessageQueue;
 import com.consol.citrus.testng.AbstractBeanDefinitionParserTest;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -49,6 +50,11 @@ public class JmsEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertFalse(jmsEndpoint.getEndpointConfiguration().isDurableSubscription());
         Assert.assertFalse(jmsEndpoint.getEndpointConfiguration().isUseObjectMessages());
         Assert.assertTrue(jmsEndpoint.getEndpointConfiguration().isFilterInternalHeaders());
+        Assert.assertFalse(jmsEndpoint.getEndpointConfiguration().isSharedSubscription());
+        Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getBufferSize(), 0);
+        Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getDropPolicy(), SignalingMessageQueue.DropPolicy.DROP_OLDEST);
+        Assert.assertFalse(jmsEndpoint.getEndpointConfiguration().isUseListenerContainer());
+        Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getConcurrentConsumers(), 1);
 
         // 2nd message receiver
         jmsEndpoint = endpoints.get("jmsEndpoint2");
@@ -60,6 +66,11 @@ public class JmsEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertNull(jmsEndpoint.getEndpointConfiguration().getDestinationName());
         Assert.assertNotNull(jmsEndpoint.getEndpointConfiguration().getDestination());
         Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertTrue(jmsEndpoint.getEndpointConfiguration().isSharedSubscription());
+        Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getBufferSize(), 100);
+        Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getDropPolicy(), SignalingMessageQueue.DropPolicy.DROP_NEWEST);
+        Assert.assertTrue(jmsEndpoint.getEndpointConfiguration().isUseListenerContainer());
+        Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getConcurrentConsumers(), 5);
 
         // 3rd message receiver
         jmsEndpoint = endpoints.get("jmsEndpoint3");
@@ -45,6 +45,7 @@ public class JmsSyncEndpointParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertNull(jmsSyncEndpoint.getEndpointConfiguration().getDestination());
         Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
+        Assert.assertFalse(jmsSyncEndpoint.getEndpointConfiguration().isSharedReplyConsumer());
 
         // 2nd message receiver
         jmsSyncEndpoint = endpoints.get("jmsSyncEndpoint2");
@@ -56,6 +57,7 @@ public class JmsSyncEndpointParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getCorrelator(), beanDefinitionContext.getBean("replyMessageCorrelator", MessageCorrelator.class));
         Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getDestinationResolver(), beanDefinitionContext.getBean("destinationResolver"));
         Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getDestinationNameResolver(), beanDefinitionContext.getBean("destinationNameResolver"));
+        Assert.assertTrue(jmsSyncEndpoint.getEndpointConfiguration().isSharedReplyConsumer());
 
         // 3rd message receiver
         jmsSyncEndpoint = endpoints.get("jmsSyncEndpoint3");
@@ -22,6 +22,7 @@ import com.consol.citrus.message.*;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.ObjectStore;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -151,6 +152,60 @@ public class JmsEndpointSyncProducerTest extends AbstractTestNGUnitTest {
         verify(tempReplyQueue).delete();
     }
 
+    @Test
+    public void testSendMessageWithSharedReplyConsumer() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setSharedReplyConsumer(true);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+
+        final Message message1 = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+        final Message message2 = new DefaultMessage("<TestRequest><Message>Hello Citrus!</Message></TestRequest>");
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+        when(session.createProducer(null)).thenReturn(messageProducer);
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenReturn(
+                jmsMessage("<TestRequest><Message>Hello World!</Message></TestRequest>", "ID:1", null));
+        when(session.createTextMessage("<TestRequest><Message>Hello Citrus!</Message></TestRequest>")).thenReturn(
+                jmsMessage("<TestRequest><Message>Hello Citrus!</Message></TestRequest>", "ID:2", null));
+
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+        producer.send(message1, context);
+        producer.send(message2, context);
+
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(messageConsumer).setMessageListener(listener.capture());
+
+        listener.getValue().onMessage(jmsMessage("<TestResponse>Hello Citrus!</TestResponse>", "ID:4", "ID:2"));
+        listener.getValue().onMessage(jmsMessage("<TestResponse>Unknown</TestResponse>", "ID:5", "ID:unknown"));
+        listener.getValue().onMessage(jmsMessage("<TestResponse>Hello World!</TestResponse>", "ID:3", "ID:1"));
+
+        MessageCorrelator correlator = endpoint.getEndpointConfiguration().getCorrelator();
+        Assert.assertEquals(producer.receive(correlator.getCorrelationKey(message1), context).getPayload(String.class),
+                "<TestResponse>Hello World!</TestResponse>");
+        Assert.assertEquals(producer.receive(correlator.getCorrelationKey(message2), context).getPayload(String.class),
+                "<TestResponse>Hello Citrus!</TestResponse>");
+
+        verify(connection).start();
+        verify(session, times(1)).createTemporaryQueue();
+        verify(session, times(1)).createConsumer(tempReplyQueue);
+        verify(messageProducer, times(2)).send(eq(destination), any(TextMessage.class));
+        verify(tempReplyQueue, never()).delete();
+
+        endpoint.destroy();
+
+        verify(messageConsumer).close();
+        verify(tempReplyQueue).delete();
+    }
+
     @Test
     @SuppressWarnings("rawtypes")
     public void testSendMessageWithReplyHandler() throws JMSException {
@@ -398,4 +453,18 @@ public class JmsEndpointSyncProducerTest extends AbstractTestNGUnitTest {
             Assert.assertEquals(retryCount, 1);
         }
     }
+
+    private TextMessage jmsMessage(String payload, String messageId, String correlationId) {
+        return new TextMessageImpl(payload, new HashMap<>()) {
+            @Override
+            public String getJMSMessageID() {
+                return messageId;
+            }
+
+            @Override
+            public String getJMSCorrelationID() {
+                return correlationId;
+            }
+        };
+    }
 }
@@ -18,6 +18,7 @@ package com.consol.citrus.jms.endpoint;
 
 import com.consol.citrus.TestActor;
 import com.consol.citrus.jms.message.JmsMessageConverter;
+import com.consol.citrus.message.SignalingMessageQueue;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -31,6 +32,8 @@ import org.testng.annotations.Test;
 import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
 import javax.jms.JMSException;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageListener;
 import javax.jms.Session;
 import javax.jms.Topic;
 import javax.jms.TopicConnection;
@@ -39,7 +42,11 @@ import javax.jms.TopicSession;
 import javax.jms.TopicSubscriber;
 import java.util.Collections;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -108,10 +115,7 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestinationName("JMS.Topic.Test");
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                                       .thenReturn(new TextMessageImpl("Foo2", Collections.emptyMap()))
-                                       .thenReturn(new TextMessageImpl("Foo3", Collections.emptyMap()))
-                                       .thenReturn(null);
+        deliver(topicSubscriber, "Foo1", "Foo2", "Foo3");
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
@@ -134,8 +138,7 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestination(topic);
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                                       .thenReturn(null);
+        deliver(topicSubscriber, "Foo1");
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
@@ -151,8 +154,7 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setAutoStart(true);
         endpointConfiguration.setJmsTemplate(jmsTemplate);
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                                       .thenReturn(null);
+        deliver(topicSubscriber, "Foo1");
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
@@ -162,17 +164,14 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
     }
 
     @Test
-    public void testSubscriberStop() throws JMSException, InterruptedException {
+    public void testSubscriberStop() throws JMSException {
         JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
         endpointConfiguration.setPubSubDomain(true);
         endpointConfiguration.setAutoStart(true);
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestinationName("JMS.Topic.Test");
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo2", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo3", Collections.emptyMap()))
-                .thenReturn(null);
+        deliver(topicSubscriber, "Foo1", "Foo2", "Foo3");
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
@@ -180,9 +179,9 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
 
         Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
 
-        Thread.sleep(1000L);
-
         jmsTopicSubscriber.stop();
+        Assert.assertFalse(jmsTopicSubscriber.isRunning());
+        verify(topicConnection, atLeastOnce()).close();
 
         Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo2");
         Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo3");
@@ -197,10 +196,7 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestinationName("JMS.Topic.Test");
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo2", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo3", Collections.emptyMap()))
-                .thenReturn(null);
+        deliver(topicSubscriber, "Foo1", "Foo2", "Foo3");
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
         jmsEndpoint.setName("jmsTopicEndpoint");
@@ -215,4 +211,64 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(consumer.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo2");
         Assert.assertEquals(consumer.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo3");
     }
+
+    @Test
+    public void testSharedSubscriber() throws JMSException {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setPubSubDomain(true);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setSharedSubscription(true);
+        endpointConfiguration.setConnectionFactory(topicConnectionFactory);
+        endpointConfiguration.setDestinationName("JMS.Topic.Test");
+
+        MessageConsumer sharedConsumer = mock(MessageConsumer.class);
+        when(topicSession.createSharedConsumer(topic, "jmsTopicEndpoint:subscriber")).thenReturn(sharedConsumer);
+        deliver(sharedConsumer, "Foo1", "Foo2");
+
+        JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
+        jmsEndpoint.setName("jmsTopicEndpoint");
+
+        JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        Assert.assertTrue(jmsTopicSubscriber.isRunning());
+
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo2");
+    }
+
+    @Test
+    public void testSubscriberBufferDropPolicy() throws JMSException {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setPubSubDomain(true);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setBufferSize(2);
+        endpointConfiguration.setDropPolicy(SignalingMessageQueue.DropPolicy.DROP_NEWEST);
+        endpointConfiguration.setConnectionFactory(topicConnectionFactory);
+        endpointConfiguration.setDestinationName("JMS.Topic.Test");
+
+        deliver(topicSubscriber, "Foo1", "Foo2", "Foo3");
+
+        JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
+
+        JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        Assert.assertEquals(jmsTopicSubscriber.getDroppedMessages(), 1L);
+
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo2");
+    }
+
+    /**
+     * Delivers given text messages to the message listener as soon as the listener is registered on the consumer.
+     * @param consumer
+     * @param payloads
+     * @throws JMSException
+     */
+    private void deliver(MessageConsumer consumer, String... payloads) throws JMSException {
+        doAnswer(invocation -> {
+            MessageListener listener = invocation.getArgument(0);
+            for (String payload : payloads) {
+                listener.onMessage(new TextMessageImpl(payload, Collections.emptyMap()));
+            }
+            return null;
+        }).when(consumer).setMessageListener(any(MessageListener.class));
+    }
 }
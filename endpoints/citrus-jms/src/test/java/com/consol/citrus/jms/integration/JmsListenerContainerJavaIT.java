@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.integration;
+
+import com.consol.citrus.annotations.CitrusTest;
+import com.consol.citrus.testng.spring.TestNGCitrusSpringSupport;
+import org.testng.annotations.Test;
+
+import static com.consol.citrus.actions.ReceiveMessageAction.Builder.receive;
+import static com.consol.citrus.actions.SendMessageAction.Builder.send;
+
+/**
+ * @author Christoph Deppisch
+ */
+@Test
+public class JmsListenerContainerJavaIT extends TestNGCitrusSpringSupport {
+
+    @CitrusTest
+    public void jmsListenerContainerConsumer() {
+        when(send("listenerContainerRequestSender")
+            .message()
+            .header("Operation", "sayHello")
+            .body("<HelloRequest><Text>Hello 1</Text></HelloRequest>"));
+
+        and(send("listenerContainerRequestSender")
+            .message()
+            .header("Operation", "sayGoodbye")
+            .body("<HelloRequest><Text>Hello 2</Text></HelloRequest>"));
+
+        and(send("listenerContainerRequestSender")
+            .message()
+            .header("Operation", "sayHello")
+            .body("<HelloRequest><Text>Hello 3</Text></HelloRequest>"));
+
+        then(receive("listenerContainerRequestReceiver")
+            .selector("Operation = 'sayGoodbye'")
+            .message()
+            .body("<HelloRequest><Text>Hello 2</Text></HelloRequest>"));
+
+        and(receive("listenerContainerRequestReceiver")
+            .selector("Operation = 'sayHello'")
+            .message()
+            .header("Operation", "sayHello"));
+
+        and(receive("listenerContainerRequestReceiver")
+            .message()
+            .header("Operation", "sayHello"));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.integration;
+
+import com.consol.citrus.annotations.CitrusTest;
+import com.consol.citrus.jms.message.JmsMessageHeaders;
+import com.consol.citrus.message.MessageHeaders;
+import com.consol.citrus.testng.spring.TestNGCitrusSpringSupport;
+import org.testng.annotations.Test;
+
+import static com.consol.citrus.actions.ReceiveMessageAction.Builder.receive;
+import static com.consol.citrus.actions.SendMessageAction.Builder.send;
+import static com.consol.citrus.dsl.MessageSupport.MessageHeaderSupport.fromHeaders;
+
+/**
+ * @author Christoph Deppisch
+ */
+@Test
+public class SyncJmsSharedReplyJavaIT extends TestNGCitrusSpringSupport {
+
+    @CitrusTest
+    public void syncJmsSharedReplyConsumer() {
+        when(send("syncSharedReplyRequestSender")
+            .message()
+            .body("<HelloRequest><Text>Hello 1</Text></HelloRequest>")
+            .extract(fromHeaders()
+                        .header(MessageHeaders.ID, "correlatorId1")));
+
+        and(send("syncSharedReplyRequestSender")
+            .message()
+            .body("<HelloRequest><Text>Hello 2</Text></HelloRequest>")
+            .extract(fromHeaders()
+                        .header(MessageHeaders.ID, "correlatorId2")));
+
+        then(receive("syncSharedReplyRequestReceiver")
+            .message()
+            .body("<HelloRequest><Text>Hello 1</Text></HelloRequest>")
+            .extract(fromHeaders()
+                        .header(JmsMessageHeaders.MESSAGE_ID, "jmsMessageId1")));
+
+        and(send("syncSharedReplyRequestReceiver")
+            .message()
+            .body("<HelloResponse><Text>Reply 1</Text></HelloResponse>")
+            .header(JmsMessageHeaders.CORRELATION_ID, "${jmsMessageId1}"));
+
+        and(receive("syncSharedReplyRequestReceiver")
+            .message()
+            .body("<HelloRequest><Text>Hello 2</Text></HelloRequest>")
+            .extract(fromHeaders()
+                        .header(JmsMessageHeaders.MESSAGE_ID, "jmsMessageId2")));
+
+        and(send("syncSharedReplyRequestReceiver")
+            .message()
+            .body("<HelloResponse><Text>Reply 2</Text></HelloResponse>")
+            .header(JmsMessageHeaders.CORRELATION_ID, "${jmsMessageId2}"));
+
+        and(receive("syncSharedReplyRequestSender")
+            .selector("citrus_message_id = '${correlatorId2}'")
+            .message()
+            .body("<HelloResponse><Text>Reply 2</Text></HelloResponse>"));
+
+        and(receive("syncSharedReplyRequestSender")
+            .selector("citrus_message_id = '${correlatorId1}'")
+            .message()
+            .body("<HelloResponse><Text>Reply 1</Text></HelloResponse>"));
+    }
+}
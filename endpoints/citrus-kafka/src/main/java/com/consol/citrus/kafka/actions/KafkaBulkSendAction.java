@@ -0,0 +1,189 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.kafka.actions;
+
+import com.consol.citrus.actions.SendMessageAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.kafka.endpoint.KafkaProducer;
+import com.consol.citrus.message.builder.SendMessageBuilderSupport;
+import com.consol.citrus.messaging.Producer;
+
+/**
+ * Sends a number of generated messages to an endpoint. The message is built once per iteration so the current
+ * iteration index is available as test variable in message body and headers.
+ *
+ * When the endpoint uses a Kafka producer in async send mode the action either flushes the producer and reports
+ * send failures when all messages are sent, or leaves the acknowledgements pending until the test finishes. Without
+ * flush send failures are reported on the next flush or asynchronous send of the producer with this test context and at
+ * the latest when the test finishes.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class KafkaBulkSendAction extends SendMessageAction {
+
+    /** Number of messages to send */
+    private final int count;
+
+    /** Name of index variable */
+    private final String indexName;
+
+    /** Flush producer at the end of this action, otherwise wait for acknowledgements at the end of the test */
+    private final boolean flush;
+
+    /**
+     * Default constructor.
+     */
+    public KafkaBulkSendAction(Builder builder) {
+        super(builder);
+
+        this.count = builder.count;
+        this.indexName = builder.indexName;
+        this.flush = builder.flush;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        for (int i = 1; i <= count; i++) {
+            context.setVariable(indexName, String.valueOf(i));
+            super.doExecute(context);
+        }
+
+        Producer producer = getOrCreateEndpoint(context).createProducer();
+        if (flush && producer instanceof KafkaProducer) {
+            ((KafkaProducer) producer).flush(context);
+        }
+    }
+
+    @Override
+    public boolean isDone(TestContext context) {
+        if (!super.isDone(context)) {
+            return false;
+        }
+
+        Endpoint messageEndpoint = getOrCreateEndpoint(context);
+        Producer producer = messageEndpoint.createProducer();
+        return !(producer instanceof KafkaProducer) || ((KafkaProducer) producer).getPendingCount() == 0;
+    }
+
+    /**
+     * Gets the count.
+     * @return
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the indexName.
+     * @return
+     */
+    public String getIndexName() {
+        return indexName;
+    }
+
+    /**
+     * Gets the flush.
+     * @return
+     */
+    public boolean isFlush() {
+        return flush;
+    }
+
+    /**
+     * Action builder.
+     */
+    public static final class Builder extends SendMessageActionBuilder<KafkaBulkSendAction, KafkaBulkSendMessageBuilderSupport, Builder> {
+
+        private int count = 1;
+        private String indexName = "i";
+        private boolean flush = true;
+
+        /**
+         * Fluent API action building entry method used in Java DSL.
+         * @param messageEndpoint
+         * @return
+         */
+        public static Builder bulkSend(Endpoint messageEndpoint) {
+            Builder builder = new Builder();
+            builder.endpoint(messageEndpoint);
+            return builder;
+        }
+
+        /**
+         * Fluent API action building entry method used in Java DSL.
+         * @param messageEndpointUri
+         * @return
+         */
+        public static Builder bulkSend(String messageEndpointUri) {
+            Builder builder = new Builder();
+            builder.endpoint(messageEndpointUri);
+            return builder;
+        }
+
+        /**
+         * Sets the number of messages to send.
+         * @param count
+         * @return
+         */
+        public Builder count(int count) {
+            this.count = count;
+            return this;
+        }
+
+        /**
+         * Sets the name of the index variable.
+         * @param indexName
+         * @return
+         */
+        public Builder indexName(String indexName) {
+            this.indexName = indexName;
+            return this;
+        }
+
+        /**
+         * Enables or disables flushing the producer at the end of this action.
+         * @param flush
+         * @return
+         */
+        public Builder flush(boolean flush) {
+            this.flush = flush;
+            return this;
+        }
+
+        @Override
+        public KafkaBulkSendMessageBuilderSupport getMessageBuilderSupport() {
+            if (messageBuilderSupport == null) {
+                messageBuilderSupport = new KafkaBulkSendMessageBuilderSupport(self);
+            }
+            return super.getMessageBuilderSupport();
+        }
+
+        @Override
+        public KafkaBulkSendAction doBuild() {
+            return new KafkaBulkSendAction(this);
+        }
+    }
+
+    public static class KafkaBulkSendMessageBuilderSupport extends SendMessageBuilderSupport<KafkaBulkSendAction, Builder, KafkaBulkSendMessageBuilderSupport> {
+
+        public KafkaBulkSendMessageBuilderSupport(Builder delegate) {
+            super(delegate);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.kafka.actions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.consol.citrus.actions.ReceiveMessageAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.MessageTimeoutException;
+import com.consol.citrus.kafka.endpoint.KafkaConsumer;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.message.builder.ReceiveMessageBuilderSupport;
+import com.consol.citrus.messaging.Consumer;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Receives a window of messages with given size in one step. Each message in the window is validated with the
+ * control message and validation contexts of this action. In addition an optional window validation processor
+ * gets the whole list of received messages.
+ *
+ * When the endpoint is a Kafka endpoint the window is received with as few broker round trips as
+ * the configured max poll records allow. Message selectors are not supported because Kafka consumers
+ * do not support selective receive.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class KafkaReceiveWindowAction extends ReceiveMessageAction {
+
+    /** Number of messages to receive */
+    private final int windowSize;
+
+    /** Optional validation of the whole window */
+    private final WindowValidationProcessor windowValidationProcessor;
+
+    /**
+     * Default constructor.
+     */
+    public KafkaReceiveWindowAction(Builder builder) {
+        super(builder);
+
+        this.windowSize = builder.windowSize;
+        this.windowValidationProcessor = builder.windowValidationProcessor;
+
+        if (StringUtils.hasText(getMessageSelector()) || !CollectionUtils.isEmpty(getMessageSelectorMap())) {
+            throw new CitrusRuntimeException("Message selector is not supported when receiving a window of messages");
+        }
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        List<Message> window = receiveWindow(context);
+
+        for (Message message : window) {
+            validateMessage(message, context);
+        }
+
+        if (windowValidationProcessor != null) {
+            windowValidationProcessor.validate(window, context);
+        }
+    }
+
+    /**
+     * Receives the window of messages with the endpoint consumer.
+     * @param context
+     * @return
+     */
+    private List<Message> receiveWindow(TestContext context) {
+        Endpoint messageEndpoint = getOrCreateEndpoint(context);
+        long timeout = getReceiveTimeout() > 0 ? getReceiveTimeout() : messageEndpoint.getEndpointConfiguration().getTimeout();
+
+        Consumer consumer = messageEndpoint.createConsumer();
+        if (consumer instanceof KafkaConsumer) {
+            return ((KafkaConsumer) consumer).receiveWindow(context, windowSize, timeout);
+        }
+
+        List<Message> window = new ArrayList<>(windowSize);
+        for (int i = 0; i < windowSize; i++) {
+            Message received = consumer.receive(context, timeout);
+            if (received == null) {
+                throw new MessageTimeoutException(timeout, messageEndpoint.getName());
+            }
+
+            window.add(received);
+        }
+
+        return window;
+    }
+
+    /**
+     * Gets the windowSize.
+     * @return
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Gets the windowValidationProcessor.
+     * @return
+     */
+    public WindowValidationProcessor getWindowValidationProcessor() {
+        return windowValidationProcessor;
+    }
+
+    /**
+     * Callback validating all messages of a received window.
+     */
+    @FunctionalInterface
+    public interface WindowValidationProcessor {
+        void validate(List<Message> window, TestContext context);
+    }
+
+    /**
+     * Action builder.
+     */
+    public static final class Builder extends ReceiveMessageActionBuilder<KafkaReceiveWindowAction, KafkaReceiveWindowMessageBuilderSupport, Builder> {
+
+        private int windowSize = 1;
+        private WindowValidationProcessor windowValidationProcessor;
+
+        /**
+         * Fluent API action building entry method used in Java DSL.
+         * @param messageEndpoint
+         * @return
+         */
+        public static Builder receiveWindow(Endpoint messageEndpoint) {
+            Builder builder = new Builder();
+            builder.endpoint(messageEndpoint);
+            return builder;
+        }
+
+        /**
+         * Fluent API action building entry method used in Java DSL.
+         * @param messageEndpointUri
+         * @return
+         */
+        public static Builder receiveWindow(String messageEndpointUri) {
+            Builder builder = new Builder();
+            builder.endpoint(messageEndpointUri);
+            return builder;
+        }
+
+        /**
+         * Sets the number of messages to receive.
+         * @param windowSize
+         * @return
+         */
+        public Builder size(int windowSize) {
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * Adds validation processor for the whole window of messages.
+         * @param processor
+         * @return
+         */
+        public Builder validateWindow(WindowValidationProcessor processor) {
+            this.windowValidationProcessor = processor;
+            return this;
+        }
+
+        @Override
+        public KafkaReceiveWindowMessageBuilderSupport getMessageBuilderSupport() {
+            if (messageBuilderSupport == null) {
+                messageBuilderSupport = new KafkaReceiveWindowMessageBuilderSupport(self);
+            }
+            return super.getMessageBuilderSupport();
+        }
+
+        @Override
+        public KafkaReceiveWindowAction doBuild() {
+            return new KafkaReceiveWindowAction(this);
+        }
+    }
+
+    public static class KafkaReceiveWindowMessageBuilderSupport extends ReceiveMessageBuilderSupport<KafkaReceiveWindowAction, Builder, KafkaReceiveWindowMessageBuilderSupport> {
+
+        public KafkaReceiveWindowMessageBuilderSupport(Builder delegate) {
+            super(delegate);
+        }
+    }
+}
@@ -67,6 +67,24 @@ public @interface KafkaEndpointConfig {
      */
     int autoCommitInterval() default 1000;
 
+    /**
+     * Maximum number of records fetched with a single poll.
+     * @return
+     */
+    int maxPollRecords() default 1;
+
+    /**
+     * Commit consumer offsets asynchronously.
+     * @return
+     */
+    boolean asyncCommit() default false;
+
+    /**
+     * Send records without waiting for the broker acknowledgement.
+     * @return
+     */
+    boolean asyncSend() default false;
+
     /**
      * Topic partition.
      * @return
@@ -50,6 +50,9 @@ public class KafkaEndpointConfigParser implements AnnotationConfigParser<KafkaEn
 
         builder.autoCommit(annotation.autoCommit());
         builder.autoCommitInterval(annotation.autoCommitInterval());
+        builder.maxPollRecords(annotation.maxPollRecords());
+        builder.asyncCommit(annotation.asyncCommit());
+        builder.asyncSend(annotation.asyncSend());
         builder.offsetReset(annotation.offsetReset());
 
         if (StringUtils.hasText(annotation.clientId())) {
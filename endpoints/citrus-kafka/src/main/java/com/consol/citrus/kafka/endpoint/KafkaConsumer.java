@@ -17,11 +17,18 @@
 package com.consol.citrus.kafka.endpoint;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -30,13 +37,20 @@ import com.consol.citrus.kafka.message.KafkaMessageHeaders;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.AbstractMessageConsumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
+ * Kafka message consumer. Each poll fetches up to the configured max poll records. Fetched records are buffered so
+ * subsequent receive operations do not need another round trip to the broker. Records are converted to messages
+ * with the test context of the receiving test and offsets are committed only for records that have been received.
+ *
  * @author Christoph Deppisch
  * @since 2.8
  */
@@ -51,6 +65,15 @@ public class KafkaConsumer extends AbstractMessageConsumer {
     /** Kafka consumer */
     private org.apache.kafka.clients.consumer.KafkaConsumer<Object, Object> consumer;
 
+    /** Records polled but not yet received */
+    private final Queue<ConsumerRecord<Object, Object>> buffer = new ConcurrentLinkedQueue<>();
+
+    /** Number of records in the buffer */
+    private final AtomicInteger bufferedCount = new AtomicInteger();
+
+    /** Next offset to commit per partition for records that have been received */
+    private final Map<TopicPartition, Long> receivedOffsets = new ConcurrentHashMap<>();
+
     /**
      * Default constructor using endpoint.
      * @param name
@@ -64,35 +87,149 @@ public class KafkaConsumer extends AbstractMessageConsumer {
 
     @Override
     public Message receive(TestContext context, long timeout) {
-        String topic = context.replaceDynamicContentInString(Optional.ofNullable(endpointConfiguration.getTopic())
-                                                                     .orElseThrow(() -> new CitrusRuntimeException("Missing Kafka topic to receive messages from - add topic to endpoint configuration")));
+        String topic = getTopic(context);
 
         if (log.isDebugEnabled()) {
             log.debug("Receiving Kafka message on topic: '" + topic);
         }
 
+        ConsumerRecord<Object, Object> record = nextRecord();
+        if (record == null) {
+            poll(topic, timeout);
+            record = nextRecord();
+        }
+
+        if (record == null) {
+            throw new MessageTimeoutException(timeout, topic);
+        }
+
+        Message received = endpointConfiguration.getMessageConverter().convertInbound(record, endpointConfiguration, context);
+        commit(Collections.singletonList(record));
+        context.onInboundMessage(received);
+
+        log.info("Received Kafka message on topic: '" + topic);
+        return received;
+    }
+
+    /**
+     * Receives a window of messages with given size. Polls the topic until enough records are buffered or the timeout
+     * is exceeded. On timeout all records polled so far remain buffered for subsequent receive operations.
+     * @param context
+     * @param windowSize
+     * @param timeout
+     * @return
+     */
+    public List<Message> receiveWindow(TestContext context, int windowSize, long timeout) {
+        String topic = getTopic(context);
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Receiving window of %s Kafka messages on topic: '%s'", windowSize, topic));
+        }
+
+        long deadline = System.currentTimeMillis() + timeout;
+        long remaining = timeout;
+        while (bufferedCount.get() < windowSize && remaining > 0) {
+            poll(topic, remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+
+        if (bufferedCount.get() < windowSize) {
+            throw new MessageTimeoutException(timeout, topic);
+        }
+
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>(windowSize);
+        for (int i = 0; i < windowSize; i++) {
+            records.add(nextRecord());
+        }
+
+        List<Message> window = new ArrayList<>(windowSize);
+        for (ConsumerRecord<Object, Object> record : records) {
+            window.add(endpointConfiguration.getMessageConverter().convertInbound(record, endpointConfiguration, context));
+        }
+
+        commit(records);
+        window.forEach(context::onInboundMessage);
+
+        log.info(String.format("Received window of %s Kafka messages on topic: '%s'", windowSize, topic));
+        return window;
+    }
+
+    /**
+     * Polls records from given topic and adds them to the internal buffer.
+     * @param topic
+     * @param timeout
+     */
+    private void poll(String topic, long timeout) {
         if (CollectionUtils.isEmpty(consumer.subscription())) {
             consumer.subscribe(Arrays.asList(StringUtils.commaDelimitedListToStringArray(topic)));
         }
 
         ConsumerRecords<Object, Object> records = consumer.poll(Duration.ofMillis(timeout));
 
-        if (records.isEmpty()) {
-            throw new MessageTimeoutException(timeout, topic);
+        for (ConsumerRecord<Object, Object> record : records) {
+            if (log.isDebugEnabled()) {
+                log.debug("Received message: (" + record.key() + ", " + record.value() + ") at offset " + record.offset());
+            }
+
+            buffer.add(record);
+            bufferedCount.incrementAndGet();
         }
+    }
 
-        if (log.isDebugEnabled()) {
-            records.forEach(record -> log.debug("Received message: (" + record.key() + ", " + record.value() + ") at offset " + record.offset()));
+    /**
+     * Takes next record from the buffer.
+     * @return the record or null if buffer is empty.
+     */
+    private ConsumerRecord<Object, Object> nextRecord() {
+        ConsumerRecord<Object, Object> record = buffer.poll();
+        if (record != null) {
+            bufferedCount.decrementAndGet();
         }
 
-        Message received = endpointConfiguration.getMessageConverter()
-                                                .convertInbound(records.iterator().next(), endpointConfiguration, context);
-        context.onInboundMessage(received);
+        return record;
+    }
 
-        consumer.commitSync(Duration.ofMillis(endpointConfiguration.getTimeout()));
+    /**
+     * Commits offsets of given received records. Offsets are tracked per partition, so only offsets
+     * of records that have been handed out to a test are committed.
+     * @param records
+     */
+    private void commit(List<ConsumerRecord<Object, Object>> records) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (ConsumerRecord<Object, Object> record : records) {
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            long offset = receivedOffsets.merge(partition, record.offset() + 1, Math::max);
+            offsets.put(partition, new OffsetAndMetadata(offset));
+        }
 
-        log.info("Received Kafka message on topic: '" + topic);
-        return received;
+        if (endpointConfiguration.isAsyncCommit()) {
+            consumer.commitAsync(offsets, (committed, e) -> {
+                if (e != null) {
+                    log.warn("Failed to commit Kafka consumer offsets: " + committed, e);
+                }
+            });
+        } else {
+            consumer.commitSync(offsets, Duration.ofMillis(endpointConfiguration.getTimeout()));
+        }
+    }
+
+    /**
+     * Gets the topic from endpoint configuration and resolves dynamic content.
+     * @param context
+     * @return
+     */
+    private String getTopic(TestContext context) {
+        return context.replaceDynamicContentInString(Optional.ofNullable(endpointConfiguration.getTopic())
+                .orElseThrow(() -> new CitrusRuntimeException("Missing Kafka topic to receive messages from - add topic to endpoint configuration")));
+    }
+
+    /**
+     * Gets the number of records that have been polled but not yet received. Offsets of these records are not
+     * committed, so they are delivered again to the consumer group when this consumer stops.
+     * @return
+     */
+    public int getBufferedMessageCount() {
+        return bufferedCount.get();
     }
 
     /**
@@ -104,6 +241,9 @@ public class KafkaConsumer extends AbstractMessageConsumer {
                 consumer.unsubscribe();
             }
         } finally {
+            buffer.clear();
+            bufferedCount.set(0);
+            receivedOffsets.clear();
             consumer.close(Duration.ofMillis(10 * 1000L));
         }
     }
@@ -113,12 +253,22 @@ public class KafkaConsumer extends AbstractMessageConsumer {
      * @return
      */
     private org.apache.kafka.clients.consumer.KafkaConsumer<Object, Object> createConsumer() {
+        return new org.apache.kafka.clients.consumer.KafkaConsumer<>(createConsumerProperties());
+    }
+
+    /**
+     * Create Kafka consumer properties from endpoint configuration. Auto commit is disabled when batching is enabled
+     * (max poll records greater than one), because auto commit would also commit offsets of records that are only
+     * buffered and have not been received yet.
+     * @return
+     */
+    Map<String, Object> createConsumerProperties() {
         Map<String, Object> consumerProps = new HashMap<>();
         consumerProps.put(ConsumerConfig.CLIENT_ID_CONFIG, Optional.ofNullable(endpointConfiguration.getClientId()).orElse(KafkaMessageHeaders.KAFKA_PREFIX + "consumer_" + UUID.randomUUID().toString()));
         consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, endpointConfiguration.getConsumerGroup());
         consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, Optional.ofNullable(endpointConfiguration.getServer()).orElse("localhost:9092"));
-        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1);
-        consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, endpointConfiguration.isAutoCommit());
+        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, endpointConfiguration.getMaxPollRecords());
+        consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, endpointConfiguration.isAutoCommit() && !isBatching());
         consumerProps.put(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, endpointConfiguration.getAutoCommitInterval());
         consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, endpointConfiguration.getOffsetReset());
         consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, endpointConfiguration.getKeyDeserializer());
@@ -126,7 +276,24 @@ public class KafkaConsumer extends AbstractMessageConsumer {
 
         consumerProps.putAll(endpointConfiguration.getConsumerProperties());
 
-        return new org.apache.kafka.clients.consumer.KafkaConsumer<>(consumerProps);
+        if (isBatching()) {
+            if (endpointConfiguration.isAutoCommit() || Boolean.parseBoolean(String.valueOf(consumerProps.get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG)))) {
+                log.warn(String.format("Disabled Kafka consumer auto commit for max poll records %s - " +
+                        "offsets are committed for received records only", endpointConfiguration.getMaxPollRecords()));
+            }
+
+            consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        }
+
+        return consumerProps;
+    }
+
+    /**
+     * Checks if this consumer fetches more than one record per poll.
+     * @return
+     */
+    private boolean isBatching() {
+        return endpointConfiguration.getMaxPollRecords() > 1;
     }
 
     /**
@@ -59,7 +59,7 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
     private Map<String, Object> consumerProperties = new HashMap<>();
     private Map<String, Object> producerProperties = new HashMap<>();
 
-    /** Auto commit setting for consumer */
+    /** Auto commit setting for consumer, always disabled when max poll records is greater than one */
     private boolean autoCommit = true;
     private int autoCommitInterval = 1000;
 
@@ -69,6 +69,15 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
     /** Topic partition */
     private int partition = 0;
 
+    /** Maximum number of records fetched with a single consumer poll */
+    private int maxPollRecords = 1;
+
+    /** Commit consumer offsets asynchronously */
+    private boolean asyncCommit = false;
+
+    /** Send records without waiting for the broker acknowledgement */
+    private boolean asyncSend = false;
+
     /**
      * Gets the topic name.
      * @return the topic
@@ -352,4 +361,58 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
     public void setPartition(int partition) {
         this.partition = partition;
     }
+
+    /**
+     * Gets the maxPollRecords.
+     *
+     * @return
+     */
+    public int getMaxPollRecords() {
+        return maxPollRecords;
+    }
+
+    /**
+     * Sets the maxPollRecords.
+     *
+     * @param maxPollRecords
+     */
+    public void setMaxPollRecords(int maxPollRecords) {
+        this.maxPollRecords = maxPollRecords;
+    }
+
+    /**
+     * Gets the asyncCommit.
+     *
+     * @return
+     */
+    public boolean isAsyncCommit() {
+        return asyncCommit;
+    }
+
+    /**
+     * Sets the asyncCommit.
+     *
+     * @param asyncCommit
+     */
+    public void setAsyncCommit(boolean asyncCommit) {
+        this.asyncCommit = asyncCommit;
+    }
+
+    /**
+     * Gets the asyncSend.
+     *
+     * @return
+     */
+    public boolean isAsyncSend() {
+        return asyncSend;
+    }
+
+    /**
+     * Sets the asyncSend.
+     *
+     * @param asyncSend
+     */
+    public void setAsyncSend(boolean asyncSend) {
+        this.asyncSend = asyncSend;
+    }
 }
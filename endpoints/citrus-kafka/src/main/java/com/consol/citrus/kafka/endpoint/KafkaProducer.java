@@ -16,13 +16,18 @@
 
 package com.consol.citrus.kafka.endpoint;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -37,6 +42,11 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
+ * Kafka message producer. By default each send waits for the broker acknowledgement. In async send mode records are
+ * pipelined and acknowledgements are collected in the background until the producer gets flushed. Failed
+ * acknowledgements are kept per sending test context and raised on the next flush or asynchronous send with that
+ * context. At the latest the producer gets flushed when the sending test finishes, so failures mark that test as failed.
+ *
  * @author Christoph Deppisch
  * @since 2.8
  */
@@ -54,6 +64,12 @@ public class KafkaProducer implements Producer {
     /** Kafka producer */
     private org.apache.kafka.clients.producer.KafkaProducer<Object, Object> producer;
 
+    /** Number of records sent asynchronously and not acknowledged yet */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /** Failures of asynchronously sent records reported by the Kafka client I/O thread per sending test context */
+    private final Map<TestContext, Queue<CitrusRuntimeException>> sendFailures = Collections.synchronizedMap(new WeakHashMap<>());
+
     /**
      * Default constructor using endpoint configuration.
      * @param name
@@ -82,8 +98,15 @@ public class KafkaProducer implements Producer {
             log.debug("Sending Kafka stream message to topic: '" + topic + "'");
         }
 
+        ProducerRecord<Object, Object> producerRecord = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
+        if (endpointConfiguration.isAsyncSend()) {
+            throwSendFailures(context);
+            sendAsync(producerRecord, topic, context);
+            context.onOutboundMessage(message);
+            return;
+        }
+
         try {
-            ProducerRecord<Object, Object> producerRecord = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
             producer.send(producerRecord).get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
             log.info("Message was sent to Kafka stream topic: '" + topic + "'");
         } catch (InterruptedException | ExecutionException e) {
@@ -95,6 +118,82 @@ public class KafkaProducer implements Producer {
         context.onOutboundMessage(message);
     }
 
+    /**
+     * Sends record without waiting for the broker acknowledgement. Failed sends are collected for the given test context
+     * and raised on the next flush or asynchronous send with this context. Registers a finish callback on the test context
+     * that flushes this producer when the test finishes.
+     * @param producerRecord
+     * @param topic
+     * @param context
+     */
+    private void sendAsync(ProducerRecord<Object, Object> producerRecord, String topic, TestContext context) {
+        Queue<CitrusRuntimeException> failures = sendFailures.computeIfAbsent(context, ctx -> {
+            ctx.addFinishCallback(this::flush);
+            return new ConcurrentLinkedQueue<>();
+        });
+
+        pending.incrementAndGet();
+        try {
+            producer.send(producerRecord, (metadata, e) -> {
+                try {
+                    if (e != null) {
+                        failures.add(new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), e));
+                    } else if (log.isDebugEnabled()) {
+                        log.debug("Message was acknowledged by Kafka stream topic: '" + topic + "' at offset " + metadata.offset());
+                    }
+                } finally {
+                    pending.decrementAndGet();
+                }
+            });
+        } catch (RuntimeException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+
+        log.info("Message was sent asynchronously to Kafka stream topic: '" + topic + "'");
+    }
+
+    /**
+     * Blocks until all asynchronously sent records are acknowledged or failed. Raises the first send failure
+     * of records sent with given test context, further failures are added as suppressed exceptions.
+     * @param context
+     */
+    public void flush(TestContext context) {
+        producer.flush();
+        throwSendFailures(context);
+    }
+
+    /**
+     * Raises collected failures of records sent asynchronously with given test context.
+     * @param context
+     */
+    private void throwSendFailures(TestContext context) {
+        Queue<CitrusRuntimeException> failures = sendFailures.get(context);
+        if (failures == null) {
+            return;
+        }
+
+        CitrusRuntimeException failure = failures.poll();
+        if (failure == null) {
+            return;
+        }
+
+        CitrusRuntimeException next;
+        while ((next = failures.poll()) != null) {
+            failure.addSuppressed(next);
+        }
+
+        throw failure;
+    }
+
+    /**
+     * Gets the number of asynchronously sent records that have not been acknowledged yet.
+     * @return
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
     /**
      * Creates default KafkaTemplate instance from endpoint configuration.
      */
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.kafka.actions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.consol.citrus.kafka.endpoint.KafkaEndpoint;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static com.consol.citrus.kafka.actions.KafkaBulkSendAction.Builder.bulkSend;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class KafkaBulkSendActionTest extends AbstractTestNGUnitTest {
+
+    private final KafkaProducer<Object, Object> kafkaProducer = Mockito.mock(KafkaProducer.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBulkSend() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+        endpoint.getEndpointConfiguration().setTopic("bulk");
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+
+        reset(kafkaProducer);
+
+        List<Object> values = new ArrayList<>();
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer(invocation -> {
+            values.add(((ProducerRecord<Object, Object>) invocation.getArgument(0)).value());
+            ((Callback) invocation.getArgument(1)).onCompletion(new RecordMetadata(new TopicPartition("bulk", 0), 0, 0, 0, 0, 0), null);
+            return null;
+        });
+
+        KafkaBulkSendAction action = bulkSend(endpoint)
+                .count(3)
+                .message()
+                .body("Hello ${i}")
+                .build();
+
+        action.execute(context);
+
+        Assert.assertEquals(values.size(), 3L);
+        Assert.assertEquals(values.get(0), "Hello 1");
+        Assert.assertEquals(values.get(2), "Hello 3");
+        Assert.assertTrue(action.isDone(context));
+        verify(kafkaProducer).flush();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBulkSendWithoutFlush() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+        endpoint.getEndpointConfiguration().setTopic("bulk");
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+
+        reset(kafkaProducer);
+
+        List<Callback> callbacks = new ArrayList<>();
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer(invocation -> {
+            callbacks.add(invocation.getArgument(1));
+            return null;
+        });
+
+        KafkaBulkSendAction action = bulkSend(endpoint)
+                .count(2)
+                .flush(false)
+                .message()
+                .body("Hello ${i}")
+                .build();
+
+        action.execute(context);
+
+        Assert.assertFalse(action.isDone(context));
+        callbacks.forEach(callback -> callback.onCompletion(new RecordMetadata(new TopicPartition("bulk", 0), 0, 0, 0, 0, 0), null));
+        Assert.assertTrue(action.isDone(context));
+
+        verify(kafkaProducer, never()).flush();
+    }
+}
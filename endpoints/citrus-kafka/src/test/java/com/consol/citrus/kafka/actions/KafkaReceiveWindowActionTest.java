@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.kafka.actions;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.endpoint.EndpointConfiguration;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.MessageTimeoutException;
+import com.consol.citrus.kafka.endpoint.KafkaEndpoint;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.messaging.Consumer;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.validation.MessageValidator;
+import com.consol.citrus.validation.context.ValidationContext;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static com.consol.citrus.kafka.actions.KafkaReceiveWindowAction.Builder.receiveWindow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class KafkaReceiveWindowActionTest extends AbstractTestNGUnitTest {
+
+    private final KafkaConsumer<Object, Object> kafkaConsumer = Mockito.mock(KafkaConsumer.class);
+
+    @SuppressWarnings("unchecked")
+    private final MessageValidator<ValidationContext> validator = Mockito.mock(MessageValidator.class);
+
+    @Test
+    public void testReceiveWindow() {
+        String topic = "window";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setMaxPollRecords(3);
+
+        reset(kafkaConsumer, validator);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(new ConsumerRecords<>(Collections.singletonMap(new TopicPartition(topic, 0), Arrays.asList(
+                new ConsumerRecord<>(topic, 0, 0, 1, "Hello 1"),
+                new ConsumerRecord<>(topic, 0, 1, 2, "Hello 2"),
+                new ConsumerRecord<>(topic, 0, 2, 3, "Hello 3")))));
+
+        AtomicInteger windowSize = new AtomicInteger();
+        KafkaReceiveWindowAction action = receiveWindow(endpoint)
+                .size(3)
+                .validator(validator)
+                .validateWindow((window, context) -> windowSize.set(window.size()))
+                .build();
+
+        action.execute(context);
+
+        Assert.assertEquals(action.getWindowSize(), 3);
+        Assert.assertEquals(windowSize.get(), 3);
+        verify(validator, times(3)).validateMessage(any(Message.class), any(Message.class), eq(context), anyList());
+        verify(kafkaConsumer, times(1)).poll(any(Duration.class));
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Message selector is not supported.*")
+    public void testReceiveWindowWithMessageSelector() {
+        receiveWindow(new KafkaEndpoint())
+                .size(3)
+                .selector("operation = 'sayHello'")
+                .build();
+    }
+
+    @Test
+    public void testReceiveWindowNullMessage() {
+        Endpoint endpoint = Mockito.mock(Endpoint.class);
+        Consumer consumer = Mockito.mock(Consumer.class);
+        EndpointConfiguration endpointConfiguration = Mockito.mock(EndpointConfiguration.class);
+
+        when(endpoint.getName()).thenReturn("mockEndpoint");
+        when(endpoint.createConsumer()).thenReturn(consumer);
+        when(endpoint.getEndpointConfiguration()).thenReturn(endpointConfiguration);
+        when(endpointConfiguration.getTimeout()).thenReturn(1000L);
+        when(consumer.receive(any(TestContext.class), eq(1000L))).thenReturn(new DefaultMessage("Hello")).thenReturn(null);
+
+        KafkaReceiveWindowAction action = receiveWindow(endpoint)
+                .size(2)
+                .build();
+
+        try {
+            action.execute(context);
+            Assert.fail("Missing " + MessageTimeoutException.class + " because of missing message");
+        } catch (MessageTimeoutException e) {
+            verify(consumer, times(2)).receive(any(TestContext.class), eq(1000L));
+        }
+    }
+}
@@ -17,8 +17,10 @@
 package com.consol.citrus.kafka.endpoint;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,18 +28,27 @@ import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -159,4 +170,151 @@ public class KafkaConsumerTest extends AbstractTestNGUnitTest {
         Assert.assertNotNull(receivedMessage.getHeader("Operation"));
         Assert.assertTrue(receivedMessage.getHeader("Operation").equals("sayHello"));
     }
+
+    @Test
+    public void testReceiveBufferedMessages() {
+        String topic = "batch";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setMaxPollRecords(3);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        List<ConsumerRecord<Object, Object>> consumerRecords = Arrays.asList(
+                new ConsumerRecord<>(topic, 0, 0, 1, "Hello 1"),
+                new ConsumerRecord<>(topic, 0, 1, 2, "Hello 2"),
+                new ConsumerRecord<>(topic, 0, 2, 3, "Hello 3"));
+        when(kafkaConsumer.poll(Duration.ofMillis(5000L)))
+                .thenReturn(new ConsumerRecords<>(Collections.singletonMap(partition, consumerRecords)))
+                .thenReturn(ConsumerRecords.empty());
+
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(String.class), "Hello 1");
+        Assert.assertEquals(endpoint.createConsumer().getBufferedMessageCount(), 2);
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(String.class), "Hello 2");
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(String.class), "Hello 3");
+
+        verify(kafkaConsumer, times(1)).poll(Duration.ofMillis(5000L));
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(1L)), Duration.ofMillis(5000L));
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(2L)), Duration.ofMillis(5000L));
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(3L)), Duration.ofMillis(5000L));
+    }
+
+    @Test
+    public void testCommitReceivedMessagesOnly() {
+        String topic = "commit";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setMaxPollRecords(3);
+
+        TopicPartition partition0 = new TopicPartition(topic, 0);
+        TopicPartition partition1 = new TopicPartition(topic, 1);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> consumerRecords = new LinkedHashMap<>();
+        consumerRecords.put(partition0, Arrays.asList(
+                new ConsumerRecord<>(topic, 0, 5, 1, "Hello 1"),
+                new ConsumerRecord<>(topic, 0, 6, 2, "Hello 2")));
+        consumerRecords.put(partition1, Collections.singletonList(
+                new ConsumerRecord<>(topic, 1, 7, 3, "Hello 3")));
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(new ConsumerRecords<>(consumerRecords));
+
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(String.class), "Hello 1");
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition0, new OffsetAndMetadata(6L)), Duration.ofMillis(5000L));
+
+        endpoint.createConsumer().stop();
+
+        verify(kafkaConsumer, times(1)).commitSync(anyMap(), any(Duration.class));
+        Assert.assertEquals(endpoint.createConsumer().getBufferedMessageCount(), 0);
+    }
+
+    @Test
+    public void testReceiveWindow() {
+        String topic = "window";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setMaxPollRecords(2);
+        endpoint.getEndpointConfiguration().setAsyncCommit(true);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        when(kafkaConsumer.poll(any(Duration.class)))
+                .thenReturn(new ConsumerRecords<>(Collections.singletonMap(partition, Arrays.asList(
+                        new ConsumerRecord<>(topic, 0, 0, 1, "Hello 1"),
+                        new ConsumerRecord<>(topic, 0, 1, 2, "Hello 2")))))
+                .thenReturn(new ConsumerRecords<>(Collections.singletonMap(partition, Arrays.asList(
+                        new ConsumerRecord<>(topic, 0, 2, 3, "Hello 3"),
+                        new ConsumerRecord<>(topic, 0, 3, 4, "Hello 4")))));
+
+        List<Message> window = endpoint.createConsumer().receiveWindow(context, 3, 5000L);
+        Assert.assertEquals(window.size(), 3L);
+        Assert.assertEquals(window.get(0).getPayload(String.class), "Hello 1");
+        Assert.assertEquals(window.get(2).getPayload(String.class), "Hello 3");
+        Assert.assertEquals(endpoint.createConsumer().getBufferedMessageCount(), 1);
+
+        verify(kafkaConsumer, times(2)).poll(any(Duration.class));
+        verify(kafkaConsumer).commitAsync(eq(Collections.singletonMap(partition, new OffsetAndMetadata(3L))), any(OffsetCommitCallback.class));
+        verify(kafkaConsumer, never()).commitSync(anyMap(), any(Duration.class));
+    }
+
+    @Test
+    public void testReceiveWindowTimeout() {
+        String topic = "window";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        when(kafkaConsumer.poll(any(Duration.class)))
+                .thenReturn(new ConsumerRecords<>(Collections.singletonMap(partition, Collections.singletonList(
+                        new ConsumerRecord<>(topic, 0, 0, 1, "Hello 1")))))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(((Duration) invocation.getArgument(0)).toMillis());
+                    return ConsumerRecords.empty();
+                });
+
+        try {
+            endpoint.createConsumer().receiveWindow(context, 2, 200L);
+            Assert.fail("Missing " + ActionTimeoutException.class + " because of receiving message timeout");
+        } catch (ActionTimeoutException e) {
+            Assert.assertEquals(endpoint.createConsumer().getBufferedMessageCount(), 1);
+        }
+    }
+
+    @Test
+    public void testAutoCommitDisabledForBatching() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setAutoCommit(true);
+
+        Assert.assertEquals(endpoint.createConsumer().createConsumerProperties().get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG), true);
+
+        endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setAutoCommit(true);
+        endpoint.getEndpointConfiguration().setMaxPollRecords(10);
+        endpoint.getEndpointConfiguration().setConsumerProperties(Collections.singletonMap(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "true"));
+
+        Assert.assertEquals(endpoint.createConsumer().createConsumerProperties().get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG), false);
+    }
 }
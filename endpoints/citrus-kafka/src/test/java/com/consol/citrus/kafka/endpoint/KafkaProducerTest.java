@@ -16,13 +16,17 @@
 
 package com.consol.citrus.kafka.endpoint;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Future;
 
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.kafka.message.KafkaMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
@@ -30,6 +34,7 @@ import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.clients.producer.internals.FutureRecordMetadata;
 import org.apache.kafka.clients.producer.internals.ProduceRequestResult;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.SerializationException;
 import org.apache.kafka.common.utils.Time;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
@@ -39,6 +44,7 @@ import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -147,4 +153,125 @@ public class KafkaProducerTest extends AbstractTestNGUnitTest {
         Assert.fail("Missing " + CitrusRuntimeException.class + " because of sending empty message");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendMessageAsync() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("default");
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+
+        reset(kafkaProducer);
+
+        List<Callback> callbacks = new ArrayList<>();
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer(invocation -> {
+            callbacks.add(invocation.getArgument(1));
+            return null;
+        });
+
+        endpoint.createProducer().send(new KafkaMessage("Hello 1"), context);
+        endpoint.createProducer().send(new KafkaMessage("Hello 2"), context);
+
+        Assert.assertEquals(endpoint.createProducer().getPendingCount(), 2);
+
+        callbacks.forEach(callback -> callback.onCompletion(new RecordMetadata(new TopicPartition("default", 0), 0, 0, 0, 0, 0), null));
+
+        Assert.assertEquals(endpoint.createProducer().getPendingCount(), 0);
+        endpoint.createProducer().flush(context);
+
+        verify(kafkaProducer, times(2)).send(any(ProducerRecord.class), any(Callback.class));
+        verify(kafkaProducer).flush();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendMessageAsyncFailure() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("default");
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+
+        reset(kafkaProducer);
+
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer(invocation -> {
+            Callback callback = invocation.getArgument(1);
+            callback.onCompletion(null, new org.apache.kafka.common.errors.TimeoutException("Expired"));
+            return null;
+        });
+
+        endpoint.createProducer().send(new KafkaMessage("Hello"), context);
+        Assert.assertFalse(context.hasExceptions());
+        Assert.assertEquals(endpoint.createProducer().getPendingCount(), 0);
+
+        try {
+            endpoint.createProducer().flush(context);
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to send message to Kafka topic 'default'");
+            Assert.assertFalse(context.hasExceptions());
+
+            endpoint.createProducer().flush(context);
+            return;
+        }
+
+        Assert.fail("Missing " + CitrusRuntimeException.class + " because of async send failure");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendMessageAsyncFailureOnTestFinish() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("default");
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+
+        reset(kafkaProducer);
+
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer(invocation -> {
+            Callback callback = invocation.getArgument(1);
+            callback.onCompletion(null, new org.apache.kafka.common.errors.TimeoutException("Expired"));
+            return null;
+        });
+
+        TestContext otherContext = testContextFactory.getObject();
+        endpoint.createProducer().send(new KafkaMessage("Hello"), context);
+        endpoint.createProducer().flush(otherContext);
+
+        Assert.assertEquals(context.getFinishCallbacks().size(), 1);
+        Assert.assertTrue(otherContext.getFinishCallbacks().isEmpty());
+
+        try {
+            context.getFinishCallbacks().get(0).accept(context);
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to send message to Kafka topic 'default'");
+            return;
+        }
+
+        Assert.fail("Missing " + CitrusRuntimeException.class + " because of async send failure on test finish");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendMessageAsyncSynchronousFailure() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("default");
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+
+        reset(kafkaProducer);
+
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenThrow(new SerializationException("Invalid value"));
+
+        try {
+            endpoint.createProducer().send(new KafkaMessage("Hello"), context);
+        } catch (SerializationException e) {
+            Assert.assertEquals(endpoint.createProducer().getPendingCount(), 0);
+            return;
+        }
+
+        Assert.fail("Missing " + SerializationException.class + " because of synchronous send failure");
+    }
 }
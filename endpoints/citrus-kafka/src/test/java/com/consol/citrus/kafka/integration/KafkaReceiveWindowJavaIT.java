@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.kafka.integration;
+
+import com.consol.citrus.annotations.CitrusTest;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.MessageType;
+import com.consol.citrus.testng.spring.TestNGCitrusSpringSupport;
+import org.testng.annotations.Test;
+
+import static com.consol.citrus.actions.ReceiveMessageAction.Builder.receive;
+import static com.consol.citrus.kafka.actions.KafkaBulkSendAction.Builder.bulkSend;
+import static com.consol.citrus.kafka.actions.KafkaReceiveWindowAction.Builder.receiveWindow;
+
+/**
+ * @author Christoph Deppisch
+ */
+@Test
+public class KafkaReceiveWindowJavaIT extends TestNGCitrusSpringSupport {
+
+    @CitrusTest
+    public void receiveMessageWindow() {
+        given(bulkSend("batchKafkaEndpoint")
+                .count(25)
+                .message()
+                .body("<HelloRequest><Index>${i}</Index></HelloRequest>"));
+
+        then(receiveWindow("batchKafkaEndpoint")
+                .size(20)
+                .timeout(15000L)
+                .validateWindow((window, context) -> {
+                    if (window.size() != 20) {
+                        throw new CitrusRuntimeException("Unexpected window size: " + window.size());
+                    }
+                })
+                .message()
+                .type(MessageType.XML)
+                .body("<HelloRequest><Index>@isNumber()@</Index></HelloRequest>"));
+
+        for (int i = 21; i <= 25; i++) {
+            then(receive("batchKafkaEndpoint")
+                    .message()
+                    .type(MessageType.XML)
+                    .body("<HelloRequest><Index>" + i + "</Index></HelloRequest>"));
+        }
+    }
+}
@@ -21,7 +21,7 @@ import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.exceptions.ReplyMessageTimeoutException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.FutureCorrelationManager;
 import com.consol.citrus.messaging.ReplyConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,7 +54,7 @@ public class ChannelSyncProducer extends ChannelProducer implements ReplyConsume
         super(name, endpointConfiguration);
         this.endpointConfiguration = endpointConfiguration;
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new FutureCorrelationManager<>(endpointConfiguration);
     }
 
     @Override
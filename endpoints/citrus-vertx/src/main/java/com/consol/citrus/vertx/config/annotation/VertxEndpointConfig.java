@@ -62,6 +62,18 @@ public @interface VertxEndpointConfig {
      */
     boolean pubSubDomain() default false;
 
+    /**
+     * Persistent event bus subscription.
+     * @return
+     */
+    boolean persistentSubscription() default false;
+
+    /**
+     * Subscription buffer size.
+     * @return
+     */
+    int bufferSize() default 1000;
+
     /**
      * Message converter.
      * @return
@@ -48,6 +48,8 @@ public class VertxEndpointConfigParser implements AnnotationConfigParser<VertxEn
         builder.vertxFactory(referenceResolver.resolve(annotation.vertxFactory(), VertxInstanceFactory.class));
 
         builder.pubSubDomain(annotation.pubSubDomain());
+        builder.persistentSubscription(annotation.persistentSubscription());
+        builder.bufferSize(annotation.bufferSize());
 
         if (StringUtils.hasText(annotation.messageConverter())) {
             builder.messageConverter(referenceResolver.resolve(annotation.messageConverter(), VertxMessageConverter.class));
@@ -56,6 +56,18 @@ public @interface VertxSyncEndpointConfig {
      */
     boolean pubSubDomain() default false;
 
+    /**
+     * Persistent event bus subscription.
+     * @return
+     */
+    boolean persistentSubscription() default false;
+
+    /**
+     * Subscription buffer size.
+     * @return
+     */
+    int bufferSize() default 1000;
+
     /**
      * Vertx factory.
      * @return
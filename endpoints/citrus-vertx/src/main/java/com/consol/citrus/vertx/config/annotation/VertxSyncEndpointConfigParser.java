@@ -47,6 +47,8 @@ public class VertxSyncEndpointConfigParser implements AnnotationConfigParser<Ver
         }
 
         builder.pubSubDomain(annotation.pubSubDomain());
+        builder.persistentSubscription(annotation.persistentSubscription());
+        builder.bufferSize(annotation.bufferSize());
 
         builder.vertxFactory(referenceResolver.resolve(annotation.vertxFactory(), VertxInstanceFactory.class));
 
@@ -19,18 +19,23 @@ package com.consol.citrus.vertx.endpoint;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.messaging.AbstractMessageConsumer;
-import io.vertx.core.Handler;
+import com.consol.citrus.message.MessageSelector;
+import com.consol.citrus.message.selector.DelegatingMessageSelector;
+import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
 import io.vertx.core.Vertx;
-import io.vertx.core.eventbus.MessageConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
 
 /**
+ * Consumer receiving messages from the Vert.x event bus. By default the consumer subscribes to the event bus address
+ * for the duration of each receive operation. With persistent subscription enabled on the endpoint configuration the
+ * consumer subscribes once and buffers all messages arriving between receive operations.
+ *
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class VertxConsumer extends AbstractMessageConsumer {
+public class VertxConsumer extends AbstractSelectiveMessageConsumer {
 
     /** Vert.x instance */
     private final Vertx vertx;
@@ -38,12 +43,12 @@ public class VertxConsumer extends AbstractMessageConsumer {
     /** Endpoint configuration */
     private final VertxEndpointConfiguration endpointConfiguration;
 
+    /** Persistent event bus subscription */
+    private VertxEventBusSubscription subscription;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(VertxConsumer.class);
 
-    /** Retry logger */
-    private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
-
     /**
      * Default constructor using endpoint.
      * @param name
@@ -57,74 +62,74 @@ public class VertxConsumer extends AbstractMessageConsumer {
     }
 
     @Override
-    public Message receive(TestContext context, long timeout) {
-        if (log.isDebugEnabled()) {
-            log.debug("Receiving message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+    public Message receive(String selector, TestContext context, long timeout) {
+        String addressName = endpointConfiguration.getAddress();
+        if (StringUtils.hasText(selector)) {
+            addressName += "(" + selector + ")";
         }
 
-        VertxSingleMessageHandler vertxMessageHandler = new VertxSingleMessageHandler();
-        MessageConsumer<Object> vertxConsumer = vertx.eventBus().consumer(endpointConfiguration.getAddress(), vertxMessageHandler);
-
-        try {
-            long timeLeft = timeout;
-            Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
-
-            while (message == null && timeLeft > 0) {
-                timeLeft -= endpointConfiguration.getPollingInterval();
+        if (log.isDebugEnabled()) {
+            log.debug("Receiving message on Vert.x event bus address: '" + addressName + "'");
+        }
 
-                if (RETRY_LOG.isDebugEnabled()) {
-                    RETRY_LOG.debug(String.format("Waiting for message on Vert.x event bus address '%s' - retrying in %s ms",
-                            endpointConfiguration.getAddress(),
-                            (timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft)));
-                }
+        MessageSelector messageSelector = StringUtils.hasText(selector) ? new DelegatingMessageSelector(selector, context) : null;
 
-                try {
-                    Thread.sleep(timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft);
-                } catch (InterruptedException e) {
-                    RETRY_LOG.warn("Thread interrupted while waiting for message on Vert.x event bus", e);
-                }
+        VertxEventBusSubscription eventBusSubscription;
+        if (endpointConfiguration.isPersistentSubscription()) {
+            eventBusSubscription = getSubscription();
+        } else {
+            eventBusSubscription = subscribe();
+        }
 
-                message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
+        io.vertx.core.eventbus.Message<Object> vertxMessage;
+        try {
+            vertxMessage = eventBusSubscription.receive(messageSelector != null ?
+                    event -> messageSelector.accept(endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, context)) : null, timeout);
+        } finally {
+            if (!endpointConfiguration.isPersistentSubscription()) {
+                eventBusSubscription.stop();
             }
+        }
 
-            if (message == null) {
-                throw new MessageTimeoutException(timeout, endpointConfiguration.getAddress());
-            }
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessage, endpointConfiguration, context);
+        if (message == null) {
+            throw new MessageTimeoutException(timeout, addressName);
+        }
 
-            log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+        log.info("Received message on Vert.x event bus address: '" + addressName + "'");
 
-            context.onInboundMessage(message);
+        context.onInboundMessage(message);
 
-            return message;
-        } finally {
-            vertxConsumer.unregister();
-        }
+        return message;
     }
 
     /**
-     * Simple Vert.x message handler stores first message received on event bus and ignores all further messages
-     * until subscription is unregistered automatically.
+     * Gets persistent event bus subscription. Subscribes to the event bus address on first access.
+     * @return
      */
-    private class VertxSingleMessageHandler implements Handler<io.vertx.core.eventbus.Message<Object>> {
-        private io.vertx.core.eventbus.Message message;
-
-        @Override
-        public void handle(io.vertx.core.eventbus.Message event) {
-            if (message == null) {
-                this.message = event;
-            } else {
-                log.warn("Vert.x message handler ignored message on event bus address '" + endpointConfiguration.getAddress() + "'");
-                log.debug("Vert.x message ignored is " + event);
-            }
+    private synchronized VertxEventBusSubscription getSubscription() {
+        if (subscription == null) {
+            subscription = subscribe();
         }
 
-        /**
-         * Gets the vert.x message received on event bus.
-         * @return
-         */
-        public io.vertx.core.eventbus.Message getMessage() {
-            return message;
-        }
+        return subscription;
     }
 
+    /**
+     * Subscribes to the event bus address with buffered subscription.
+     * @return
+     */
+    private VertxEventBusSubscription subscribe() {
+        return new VertxEventBusSubscription(vertx, endpointConfiguration.getAddress(), endpointConfiguration.getBufferSize());
+    }
+
+    /**
+     * Stops persistent event bus subscription if any.
+     */
+    public synchronized void stop() {
+        if (subscription != null) {
+            subscription.stop();
+            subscription = null;
+        }
+    }
 }
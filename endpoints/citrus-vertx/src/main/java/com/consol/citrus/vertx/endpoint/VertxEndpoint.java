@@ -16,6 +16,7 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.messaging.Consumer;
 import com.consol.citrus.messaging.Producer;
@@ -25,11 +26,14 @@ import com.consol.citrus.vertx.factory.VertxInstanceFactory;
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class VertxEndpoint extends AbstractEndpoint {
+public class VertxEndpoint extends AbstractEndpoint implements ShutdownPhase {
 
     /** Vert.x instance */
     private VertxInstanceFactory vertxInstanceFactory;
 
+    /** Cached consumer holding persistent event bus subscription */
+    private VertxConsumer vertxConsumer;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -54,8 +58,24 @@ public class VertxEndpoint extends AbstractEndpoint {
 
     @Override
     public Consumer createConsumer() {
-        return new VertxConsumer(getConsumerName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
-                getEndpointConfiguration());
+        if (!getEndpointConfiguration().isPersistentSubscription()) {
+            return new VertxConsumer(getConsumerName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
+                    getEndpointConfiguration());
+        }
+
+        if (vertxConsumer == null) {
+            vertxConsumer = new VertxConsumer(getConsumerName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
+                    getEndpointConfiguration());
+        }
+
+        return vertxConsumer;
+    }
+
+    @Override
+    public void destroy() {
+        if (vertxConsumer != null) {
+            vertxConsumer.stop();
+        }
     }
 
     @Override
@@ -37,6 +37,12 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     /** Should use publish subscribe */
     private boolean pubSubDomain = false;
 
+    /** Keep event bus subscription between receive operations and buffer incoming messages */
+    private boolean persistentSubscription = false;
+
+    /** Maximum number of buffered messages before event bus consumer is paused */
+    private int bufferSize = 1000;
+
     /** Message converter */
     private VertxMessageConverter messageConverter = new VertxMessageConverter();
 
@@ -119,4 +125,36 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     public void setMessageConverter(VertxMessageConverter messageConverter) {
         this.messageConverter = messageConverter;
     }
+
+    /**
+     * Gets the persistentSubscription.
+     * @return
+     */
+    public boolean isPersistentSubscription() {
+        return persistentSubscription;
+    }
+
+    /**
+     * Enables persistent event bus subscription buffering messages between receive operations.
+     * @param persistentSubscription
+     */
+    public void setPersistentSubscription(boolean persistentSubscription) {
+        this.persistentSubscription = persistentSubscription;
+    }
+
+    /**
+     * Gets the bufferSize.
+     * @return
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the maximum number of buffered messages.
+     * @param bufferSize
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
 }
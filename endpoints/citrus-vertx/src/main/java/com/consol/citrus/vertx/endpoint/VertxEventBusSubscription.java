@@ -0,0 +1,175 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.vertx.endpoint;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.consol.citrus.message.MessageBuffer;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Event bus subscription buffering incoming messages in a bounded in memory buffer. Receivers block until a matching
+ * message arrives or the timeout is reached. When the buffer is full the event bus consumer is paused, the consumer is
+ * resumed as soon as receivers have taken messages from the buffer.
+ *
+ * Pausing does not slow down senders. While paused Vert.x keeps incoming messages in the consumer up to its max buffered
+ * messages limit (1000 by default) and drops further messages. The public consumer API does not report dropped messages,
+ * so a warning is logged each time the consumer gets paused. Messages still pending in the consumer are discarded when
+ * the subscription is stopped.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class VertxEventBusSubscription {
+
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(VertxEventBusSubscription.class);
+
+    /** Event bus address */
+    private final String address;
+
+    /** Maximum number of buffered messages */
+    private final int bufferSize;
+
+    /** Buffered messages in arrival order */
+    private final MessageBuffer<Message<Object>> buffer;
+
+    /** Event bus consumer registration */
+    private MessageConsumer<Object> consumer;
+
+    /** Whether event bus consumer has been paused because buffer is full */
+    private boolean paused = false;
+
+    /**
+     * Constructor subscribing to given address on the event bus.
+     * @param vertx
+     * @param address
+     * @param bufferSize
+     */
+    public VertxEventBusSubscription(Vertx vertx, String address, int bufferSize) {
+        this.address = address;
+        this.bufferSize = bufferSize;
+        this.buffer = new MessageBuffer<>(String.format("Vert.x event bus address '%s'", address));
+        this.consumer = vertx.eventBus().consumer(address, this::handle);
+
+        pauseIfFull();
+    }
+
+    /**
+     * Adds message to the buffer and notifies waiting receivers.
+     * @param message
+     */
+    private void handle(Message<Object> message) {
+        buffer.add(message);
+        pauseIfFull();
+    }
+
+    /**
+     * Receives first buffered message accepted by given filter. Waits for new messages to arrive as long as the
+     * timeout has not been exceeded. The filter is evaluated outside of the buffer lock, so it may convert the
+     * message before evaluating a message selector.
+     * @param filter optional message filter, may be null
+     * @param timeout time to wait in milliseconds, zero or negative value does not wait
+     * @return the received message or null when no matching message has arrived in time
+     */
+    public Message<Object> receive(Predicate<Message<Object>> filter, long timeout) {
+        Message<Object> message = buffer.receive(filter, timeout);
+        resumeIfAvailable();
+        return message;
+    }
+
+    /**
+     * Pauses the event bus consumer when buffer has reached its maximum size.
+     */
+    private void pauseIfFull() {
+        MessageConsumer<Object> registration;
+        synchronized (this) {
+            if (paused || consumer == null || buffer.size() < bufferSize) {
+                return;
+            }
+
+            paused = true;
+            registration = consumer;
+        }
+
+        log.warn(String.format("Pausing Vert.x event bus consumer on address '%s' - buffer size of %s messages exceeded, " +
+                "Vert.x drops messages beyond %s pending messages until the consumer is resumed",
+                address, bufferSize, registration.getMaxBufferedMessages()));
+        registration.pause();
+    }
+
+    /**
+     * Resumes paused event bus consumer once there is room in the buffer.
+     */
+    private void resumeIfAvailable() {
+        MessageConsumer<Object> registration;
+        synchronized (this) {
+            if (!paused || consumer == null || buffer.size() >= bufferSize) {
+                return;
+            }
+
+            paused = false;
+            registration = consumer;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Resuming Vert.x event bus consumer on address '%s'", address));
+        }
+        registration.resume();
+    }
+
+    /**
+     * Unregisters event bus consumer and discards all buffered messages.
+     */
+    public void stop() {
+        MessageConsumer<Object> registration;
+        synchronized (this) {
+            registration = consumer;
+            consumer = null;
+        }
+
+        if (registration != null) {
+            registration.unregister();
+        }
+
+        List<Message<Object>> discarded = buffer.clear();
+        if (!discarded.isEmpty()) {
+            log.warn(String.format("Discarding %s buffered message(s) on Vert.x event bus address '%s'", discarded.size(), address));
+        }
+    }
+
+    /**
+     * Gets the number of currently buffered messages.
+     * @return
+     */
+    public int size() {
+        return buffer.size();
+    }
+
+    /**
+     * Gets the event bus address.
+     * @return
+     */
+    public String getAddress() {
+        return address;
+    }
+}
@@ -58,7 +58,9 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
 
     @CitrusEndpoint
     @VertxEndpointConfig(address="news-feed3",
-            pubSubDomain=true)
+            pubSubDomain=true,
+            persistentSubscription=true,
+            bufferSize=50)
     private VertxEndpoint vertxEndpoint3;
 
     @CitrusEndpoint
@@ -101,6 +103,7 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(vertxEndpoint1.getVertxInstanceFactory(), vertxInstanceFactory);
         Assert.assertEquals(vertxEndpoint1.getEndpointConfiguration().getAddress(), "news-feed1");
         Assert.assertEquals(vertxEndpoint1.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertFalse(vertxEndpoint1.getEndpointConfiguration().isPersistentSubscription());
 
         // 2nd message receiver
         Assert.assertNotNull(vertxEndpoint2.getVertxInstanceFactory());
@@ -114,6 +117,8 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
         // 3rd message receiver
         Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getAddress(), "news-feed3");
         Assert.assertTrue(vertxEndpoint3.getEndpointConfiguration().isPubSubDomain());
+        Assert.assertTrue(vertxEndpoint3.getEndpointConfiguration().isPersistentSubscription());
+        Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getBufferSize(), 50);
 
         // 4th message receiver
         Assert.assertNotNull(vertxEndpoint4.getActor());
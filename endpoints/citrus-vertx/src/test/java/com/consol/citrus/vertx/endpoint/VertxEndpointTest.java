@@ -16,12 +16,14 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.vertx.factory.SingleVertxInstanceFactory;
 import com.consol.citrus.vertx.message.CitrusVertxMessageHeaders;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
@@ -129,6 +131,86 @@ public class VertxEndpointTest extends AbstractTestNGUnitTest {
         verify(messageConsumer).unregister();
     }
 
+    @Test
+    public void testVertxEndpointConsumerPersistentSubscription() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+        endpointConfiguration.setBufferSize(2);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        when(eventBus.consumer(eq(eventBusAddress), any(Handler.class))).thenReturn(messageConsumer);
+
+        Assert.assertSame(vertxEndpoint.createConsumer(), vertxEndpoint.createConsumer());
+        Assert.assertThrows(MessageTimeoutException.class, () -> vertxEndpoint.createConsumer().receive(context, 100L));
+
+        ArgumentCaptor<Handler> handler = ArgumentCaptor.forClass(Handler.class);
+        verify(eventBus).consumer(eq(eventBusAddress), handler.capture());
+
+        handler.getValue().handle(vertxMessage(eventBusAddress, "Hello"));
+        handler.getValue().handle(vertxMessage(eventBusAddress, "Hi"));
+        verify(messageConsumer).pause();
+
+        Message receivedMessage = vertxEndpoint.createConsumer().receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello");
+        verify(messageConsumer).resume();
+
+        receivedMessage = vertxEndpoint.createConsumer().receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Hi");
+
+        verify(eventBus, times(1)).consumer(eq(eventBusAddress), any(Handler.class));
+        verify(messageConsumer, never()).unregister();
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
+    @Test
+    public void testVertxEndpointConsumerWithSelector() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(invocation -> {
+            Handler handler = (Handler) invocation.getArguments()[1];
+            handler.handle(vertxMessage(eventBusAddress, "Hello"));
+            handler.handle(vertxMessage(eventBusAddress, "Hi"));
+
+            return messageConsumer;
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        VertxConsumer consumer = (VertxConsumer) vertxEndpoint.createConsumer();
+
+        Message receivedMessage = consumer.receive("payload = 'Hi'", context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Hi");
+
+        receivedMessage = consumer.receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello");
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
+    private io.vertx.core.eventbus.Message vertxMessage(String address, String body) {
+        io.vertx.core.eventbus.Message message = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        when(message.body()).thenReturn(body);
+        when(message.address()).thenReturn(address);
+        return message;
+    }
+
     @Test
     public void testVertxEndpointWithOutboundMessageListeners() {
         String eventBusAddress = "news-feed";
@@ -19,13 +19,18 @@ package com.consol.citrus.websocket.endpoint;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessageSelector;
+import com.consol.citrus.message.selector.DelegatingMessageSelector;
 import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
+import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.util.StringUtils;
 
 /**
- * Consumer polls for incoming messages on web socket handler.
+ * Consumer waits for incoming messages on web socket handler. Received messages carry the id of the web socket
+ * session as message header so message selectors are able to address a specific client connection.
  * @author Martin Maher
  * @since 2.3
  */
@@ -54,8 +59,17 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     public Message receive(String selector, TestContext context, long timeout) {
         LOG.info(String.format("Waiting %s ms for Web Socket message ...", timeout));
 
-        WebSocketMessage<?> message = receive(endpointConfiguration, timeout);
-        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(message, endpointConfiguration, context);
+        MessageSelector messageSelector = StringUtils.hasText(selector) ? new DelegatingMessageSelector(selector, context) : null;
+
+        CitrusWebSocketHandler.InboundMessage message = endpointConfiguration.getHandler().receive(messageSelector != null ?
+                inbound -> messageSelector.accept(convertInbound(inbound, context)) : null, timeout);
+
+        if (message == null) {
+            String endpointUri = endpointConfiguration.getEndpointUri();
+            throw new MessageTimeoutException(timeout, StringUtils.hasText(selector) ? endpointUri + "(" + selector + ")" : endpointUri);
+        }
+
+        Message receivedMessage = convertInbound(message, context);
 
         LOG.info("Received Web Socket message");
         context.onInboundMessage(receivedMessage);
@@ -64,36 +78,14 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     }
 
     /**
-     * Receive web socket message by polling on web socket handler for incoming message.
-     * @param config
-     * @param timeout
+     * Converts inbound web socket message and adds session id header.
+     * @param message
+     * @param context
      * @return
      */
-    private WebSocketMessage<?> receive(WebSocketEndpointConfiguration config, long timeout) {
-        long timeLeft = timeout;
-
-        WebSocketMessage<?> message = config.getHandler().getMessage();
-        String endpointUri = endpointConfiguration.getEndpointUri();
-        while (message == null && timeLeft > 0) {
-            timeLeft -= endpointConfiguration.getPollingInterval();
-            long sleep = timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft;
-            if (LOG.isDebugEnabled()) {
-                String msg = "Waiting for message on '%s' - retrying in %s ms";
-                LOG.debug(String.format(msg, endpointUri, (sleep)));
-            }
-
-            try {
-                Thread.sleep(sleep);
-            } catch (InterruptedException e) {
-                LOG.warn(String.format("Thread interrupted while waiting for message on '%s'", endpointUri), e);
-            }
-
-            message = config.getHandler().getMessage();
-        }
-
-        if (message == null) {
-            throw new MessageTimeoutException(timeout, endpointUri);
-        }
-        return message;
+    private Message convertInbound(CitrusWebSocketHandler.InboundMessage message, TestContext context) {
+        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(message.getMessage(), endpointConfiguration, context);
+        receivedMessage.setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, message.getSessionId());
+        return receivedMessage;
     }
 }
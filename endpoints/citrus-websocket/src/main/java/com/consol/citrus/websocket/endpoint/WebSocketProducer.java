@@ -19,13 +19,15 @@ package com.consol.citrus.websocket.endpoint;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.Producer;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
 import org.springframework.web.socket.WebSocketMessage;
 
 /**
- * Producer sends web socket messages to all open sessions known to the web socket handler.
+ * Producer sends web socket messages to all open sessions known to the web socket handler. Messages holding a web socket
+ * session id header are sent to that session only.
  * @author Martin Maher
  * @since 2.3
  */
@@ -58,7 +60,16 @@ public class WebSocketProducer implements Producer {
         context.onOutboundMessage(message);
 
         WebSocketMessage wsMessage = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
-        if (endpointConfiguration.getHandler().sendMessage(wsMessage)) {
+
+        boolean sent;
+        Object sessionId = message.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID);
+        if (sessionId != null) {
+            sent = endpointConfiguration.getHandler().sendMessage(sessionId.toString(), wsMessage);
+        } else {
+            sent = endpointConfiguration.getHandler().sendMessage(wsMessage);
+        }
+
+        if (sent) {
             LOG.info("WebSocket Message was successfully sent");
         }
     }
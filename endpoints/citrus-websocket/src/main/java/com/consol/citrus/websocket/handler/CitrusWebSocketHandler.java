@@ -16,19 +16,31 @@
 
 package com.consol.citrus.websocket.handler;
 
+import com.consol.citrus.message.MessageBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
- * Web Socket Handler for handling incoming and sending outgoing Web Socket messages
+ * Web Socket Handler for handling incoming and sending outgoing Web Socket messages. Inbound messages of all sessions
+ * are buffered in arrival order together with the id of the session that has received the message. Receivers block
+ * until a matching message arrives. Outbound messages are sent to all open sessions in parallel.
  *
  * @author Martin Maher
  * @since 2.3
@@ -37,34 +49,41 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(CitrusWebSocketHandler.class);
 
+    /** Time limit in milliseconds and buffer size limit in bytes for concurrent sends on a single session */
+    private static final int SEND_TIME_LIMIT = 10000;
+    private static final int SEND_BUFFER_SIZE_LIMIT = 512 * 1024;
+
+    /** Shared executor for parallel message fan-out, idle threads are discarded automatically */
+    private static final ExecutorService FAN_OUT_EXECUTOR = Executors.newCachedThreadPool(fanOutThreadFactory());
+
     /** Inbound message cache */
-    private final Queue<WebSocketMessage<?>> inboundMessages = new LinkedList<>();
+    private final MessageBuffer<InboundMessage> inboundMessages = new MessageBuffer<>("Web Socket handler");
 
     /** Web socket sessions */
-    private final Map<String, WebSocketSession> sessions = new HashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         LOG.debug(String.format("WebSocket connection established (%s)", session.getId()));
-        sessions.put(session.getId(), session);
+        sessions.put(session.getId(), new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT, SEND_BUFFER_SIZE_LIMIT));
     }
 
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received text message", session.getId()));
-        inboundMessages.add(message);
+        addMessage(session, message);
     }
 
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received binary message", session.getId()));
-        inboundMessages.add(message);
+        addMessage(session, message);
     }
 
     @Override
     protected void handlePongMessage(WebSocketSession session, PongMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received pong message", session.getId()));
-        inboundMessages.add(message);
+        addMessage(session, message);
     }
 
     @Override
@@ -78,12 +97,33 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
         sessions.remove(session.getId());
     }
 
+    /**
+     * Adds inbound message to internal cache and notifies waiting receivers.
+     * @param session
+     * @param message
+     */
+    private void addMessage(WebSocketSession session, WebSocketMessage<?> message) {
+        inboundMessages.add(new InboundMessage(session.getId(), message));
+    }
+
     /**
      * Polls message from internal cache.
      * @return
      */
     public WebSocketMessage<?> getMessage() {
-        return inboundMessages.poll();
+        InboundMessage inboundMessage = receive(null, 0L);
+        return inboundMessage != null ? inboundMessage.getMessage() : null;
+    }
+
+    /**
+     * Receives first cached message accepted by given filter. Waits for new messages to arrive as long as the timeout
+     * has not been exceeded. Filter may select messages of a specific session by evaluating the inbound session id.
+     * @param filter optional message filter, may be null
+     * @param timeout time to wait in milliseconds, zero or negative value does not wait
+     * @return the received message or null when no matching message has arrived in time
+     */
+    public InboundMessage receive(Predicate<InboundMessage> filter, long timeout) {
+        return inboundMessages.receive(filter, timeout);
     }
 
     /**
@@ -92,21 +132,121 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
      * @return
      */
     public boolean sendMessage(WebSocketMessage<?> message) {
-        boolean sentSuccessfully = false;
         if (sessions.isEmpty()) {
             LOG.warn("No Web Socket session exists - message cannot be sent");
         }
 
-        for (WebSocketSession session : sessions.values()) {
-            if (session != null && session.isOpen()) {
-                try {
-                    session.sendMessage(message);
-                    sentSuccessfully = true;
-                } catch (IOException e) {
-                    LOG.error(String.format("(%s) error sending message", session.getId()), e);
-                }
-            }
+        return sendMessage(sessions.values(), message);
+    }
+
+    /**
+     * Send message to the session with given id.
+     * @param sessionId
+     * @param message
+     * @return
+     */
+    public boolean sendMessage(String sessionId, WebSocketMessage<?> message) {
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null) {
+            LOG.warn(String.format("No Web Socket session (%s) exists - message cannot be sent", sessionId));
+            return false;
+        }
+
+        return sendMessage(session, message);
+    }
+
+    /**
+     * Send message to given sessions. Sends to multiple sessions are performed in parallel, the method returns
+     * as soon as all sends have completed.
+     * @param targets
+     * @param message
+     * @return
+     */
+    private boolean sendMessage(Collection<WebSocketSession> targets, WebSocketMessage<?> message) {
+        List<WebSocketSession> openSessions = targets.stream()
+                .filter(WebSocketSession::isOpen)
+                .collect(Collectors.toList());
+
+        if (openSessions.size() == 1) {
+            return sendMessage(openSessions.get(0), message);
+        }
+
+        List<CompletableFuture<Boolean>> sent = openSessions.stream()
+                .map(session -> CompletableFuture.supplyAsync(() -> sendMessage(session, message), FAN_OUT_EXECUTOR))
+                .collect(Collectors.toList());
+
+        boolean sentSuccessfully = false;
+        for (CompletableFuture<Boolean> result : sent) {
+            sentSuccessfully |= result.join();
         }
+
         return sentSuccessfully;
     }
+
+    /**
+     * Send message to single session.
+     * @param session
+     * @param message
+     * @return
+     */
+    private boolean sendMessage(WebSocketSession session, WebSocketMessage<?> message) {
+        if (!session.isOpen()) {
+            return false;
+        }
+
+        try {
+            session.sendMessage(message);
+            return true;
+        } catch (IOException | SessionLimitExceededException e) {
+            LOG.error(String.format("(%s) error sending message", session.getId()), e);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the ids of all sessions known to this handler.
+     * @return
+     */
+    public Set<String> getSessionIds() {
+        return sessions.keySet();
+    }
+
+    /**
+     * Creates daemon thread factory for fan-out executor.
+     * @return
+     */
+    private static CustomizableThreadFactory fanOutThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("citrus-websocket-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    /**
+     * Inbound message with the id of the session that has received the message.
+     */
+    public static final class InboundMessage {
+        private final String sessionId;
+        private final WebSocketMessage<?> message;
+
+        InboundMessage(String sessionId, WebSocketMessage<?> message) {
+            this.sessionId = sessionId;
+            this.message = message;
+        }
+
+        /**
+         * Gets the sessionId.
+         * @return
+         */
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        /**
+         * Gets the message.
+         * @return
+         */
+        public WebSocketMessage<?> getMessage() {
+            return message;
+        }
+    }
 }
@@ -22,6 +22,7 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
 import com.consol.citrus.websocket.message.WebSocketMessage;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import com.consol.citrus.websocket.server.WebSocketServerEndpointConfiguration;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
@@ -143,6 +144,56 @@ public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
 
     }
 
+    @Test
+    public void testWebSocketEndpointSessionSelector() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session, session2);
+
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+        when(session.isOpen()).thenReturn(true);
+        when(session2.isOpen()).thenReturn(true);
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+
+        handler.handleMessage(session, new TextMessage("Hello from client 1"));
+        new Thread(() -> {
+            try {
+                Thread.sleep(200L);
+                handler.handleMessage(session2, new TextMessage("Hello from client 2"));
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }).start();
+
+        Message requestMessage = ((WebSocketConsumer) webSocketEndpoint.createConsumer())
+                .receive(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID + " = 'test-socket-2'", context, 5000L);
+        Assert.assertEquals(requestMessage.getPayload(), "Hello from client 2");
+        Assert.assertEquals(requestMessage.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-2");
+
+        requestMessage = webSocketEndpoint.createConsumer().receive(context);
+        Assert.assertEquals(requestMessage.getPayload(), "Hello from client 1");
+        Assert.assertEquals(requestMessage.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-1");
+
+        webSocketEndpoint.createProducer().send(new DefaultMessage("Hello client 2")
+                .setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, "test-socket-2"), context);
+
+        verify(session, never()).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+        verify(session2).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+
+        webSocketEndpoint.createProducer().send(new DefaultMessage("Hello all"), context);
+
+        verify(session).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+        verify(session2, times(2)).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+    }
+
     @Test
     public void testWebSocketEndpointTimeout() throws Exception {
         WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
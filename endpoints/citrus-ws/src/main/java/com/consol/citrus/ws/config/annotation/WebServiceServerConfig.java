@@ -67,6 +67,48 @@ public @interface WebServiceServerConfig {
      */
     String connector() default "";
 
+    /**
+     * Maximum number of server threads.
+     * @return
+     */
+    int maxThreads() default 200;
+
+    /**
+     * Minimum number of server threads.
+     * @return
+     */
+    int minThreads() default 8;
+
+    /**
+     * Server thread idle timeout.
+     * @return
+     */
+    int threadIdleTimeout() default 60000;
+
+    /**
+     * Server socket accept queue size.
+     * @return
+     */
+    int acceptQueueSize() default 0;
+
+    /**
+     * Number of connector acceptor threads.
+     * @return
+     */
+    int acceptors() default -1;
+
+    /**
+     * Number of connector selector threads.
+     * @return
+     */
+    int selectors() default -1;
+
+    /**
+     * Enable HTTP/2 cleartext support.
+     * @return
+     */
+    boolean http2() default false;
+
     /**
      * Servlet name.
      * @return
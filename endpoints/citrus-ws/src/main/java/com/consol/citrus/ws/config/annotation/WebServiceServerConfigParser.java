@@ -73,6 +73,14 @@ public class WebServiceServerConfigParser implements AnnotationConfigParser<WebS
             builder.connector(referenceResolver.resolve(annotation.connector(), Connector.class));
         }
 
+        builder.maxThreads(annotation.maxThreads());
+        builder.minThreads(annotation.minThreads());
+        builder.threadIdleTimeout(annotation.threadIdleTimeout());
+        builder.acceptQueueSize(annotation.acceptQueueSize());
+        builder.acceptors(annotation.acceptors());
+        builder.selectors(annotation.selectors());
+        builder.http2(annotation.http2());
+
         builder.rootParentContext(annotation.rootParentContext());
 
         if (StringUtils.hasText(annotation.servletName())) {
@@ -41,6 +41,14 @@ public class WebServiceServerParser extends AbstractServerParser {
         BeanDefinitionParserUtils.setPropertyReference(builder, element.getAttribute("connectors"), "connectors");
         BeanDefinitionParserUtils.setPropertyReference(builder, element.getAttribute("connector"), "connector");
 
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("max-threads"), "maxThreads");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("min-threads"), "minThreads");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("thread-idle-timeout"), "threadIdleTimeout");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("accept-queue-size"), "acceptQueueSize");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("acceptors"), "acceptors");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("selectors"), "selectors");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("http2"), "http2");
+
         String useRootContext = element.getAttribute("root-parent-context");
         if (StringUtils.hasText(useRootContext)) {
             builder.addPropertyValue("useRootContextAsParent", Boolean.valueOf(useRootContext));
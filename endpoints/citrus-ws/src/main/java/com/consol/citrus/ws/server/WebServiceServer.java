@@ -20,8 +20,8 @@ import java.util.Arrays;
 
 import com.consol.citrus.context.SpringBeanReferenceResolver;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.http.server.AbstractJettyServer;
 import com.consol.citrus.report.MessageListeners;
-import com.consol.citrus.server.AbstractServer;
 import com.consol.citrus.ws.context.ParentDelegatingWebApplicationContext;
 import com.consol.citrus.ws.interceptor.LoggingEndpointInterceptor;
 import com.consol.citrus.ws.message.converter.SoapMessageConverter;
@@ -32,8 +32,7 @@ import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.handler.ContextHandlerCollection;
 import org.eclipse.jetty.server.handler.DefaultHandler;
-import org.eclipse.jetty.server.handler.HandlerCollection;
-import org.eclipse.jetty.server.handler.RequestLogHandler;
+import org.eclipse.jetty.server.handler.HandlerList;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
@@ -48,7 +47,7 @@ import org.springframework.ws.transport.http.MessageDispatcherServlet;
  *
  * @author Christoph Deppisch
  */
-public class WebServiceServer extends AbstractServer {
+public class WebServiceServer extends AbstractJettyServer {
 
     /** Server port */
     private int port = 8080;
@@ -131,10 +130,10 @@ public class WebServiceServer extends AbstractServer {
                 jettyServer = connector.getServer();
                 jettyServer.addConnector(connector);
             } else {
-                jettyServer = new Server(port);
+                jettyServer = createJettyServer(port);
             }
 
-            HandlerCollection handlers = new HandlerCollection();
+            HandlerList handlers = new HandlerList();
 
             ContextHandlerCollection contextCollection = new ContextHandlerCollection();
 
@@ -164,7 +163,6 @@ public class WebServiceServer extends AbstractServer {
             handlers.addHandler(contextCollection);
 
             handlers.addHandler(new DefaultHandler());
-            handlers.addHandler(new RequestLogHandler());
 
             jettyServer.setHandler(handlers);
 
@@ -505,5 +503,4 @@ public class WebServiceServer extends AbstractServer {
     public void setMessageFactoryName(String messageFactoryName) {
         this.messageFactoryName = messageFactoryName;
     }
-
 }
@@ -100,6 +100,76 @@ public class WebServiceServerBuilder extends AbstractServerBuilder<WebServiceSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of threads in server thread pool.
+     * @param maxThreads
+     * @return
+     */
+    public WebServiceServerBuilder maxThreads(int maxThreads) {
+        endpoint.setMaxThreads(maxThreads);
+        return this;
+    }
+
+    /**
+     * Sets the minimum number of threads in server thread pool.
+     * @param minThreads
+     * @return
+     */
+    public WebServiceServerBuilder minThreads(int minThreads) {
+        endpoint.setMinThreads(minThreads);
+        return this;
+    }
+
+    /**
+     * Sets the idle timeout in milliseconds of threads in server thread pool.
+     * @param threadIdleTimeout
+     * @return
+     */
+    public WebServiceServerBuilder threadIdleTimeout(int threadIdleTimeout) {
+        endpoint.setThreadIdleTimeout(threadIdleTimeout);
+        return this;
+    }
+
+    /**
+     * Sets the size of the server socket accept queue.
+     * @param acceptQueueSize
+     * @return
+     */
+    public WebServiceServerBuilder acceptQueueSize(int acceptQueueSize) {
+        endpoint.setAcceptQueueSize(acceptQueueSize);
+        return this;
+    }
+
+    /**
+     * Sets the number of acceptor threads.
+     * @param acceptors
+     * @return
+     */
+    public WebServiceServerBuilder acceptors(int acceptors) {
+        endpoint.setAcceptors(acceptors);
+        return this;
+    }
+
+    /**
+     * Sets the number of selector threads.
+     * @param selectors
+     * @return
+     */
+    public WebServiceServerBuilder selectors(int selectors) {
+        endpoint.setSelectors(selectors);
+        return this;
+    }
+
+    /**
+     * Enables HTTP/2 cleartext support.
+     * @param http2
+     * @return
+     */
+    public WebServiceServerBuilder http2(boolean http2) {
+        endpoint.setHttp2(http2);
+        return this;
+    }
+
     /**
      * Sets the servlet name.
      * @param servletName
@@ -78,7 +78,14 @@ public class WebServiceServerConfigParserTest extends AbstractTestNGUnitTest {
     private WebServiceServer soapServer5;
 
     @CitrusEndpoint
-    @WebServiceServerConfig(servletHandler="servletHandler")
+    @WebServiceServerConfig(servletHandler="servletHandler",
+            maxThreads=50,
+            minThreads=10,
+            threadIdleTimeout=30000,
+            acceptQueueSize=256,
+            acceptors=2,
+            selectors=4,
+            http2=true)
     private WebServiceServer soapServer6;
 
     @Mock
@@ -226,6 +233,13 @@ public class WebServiceServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertNull(soapServer6.getConnector());
         Assert.assertNotNull(soapServer6.getServletHandler());
         Assert.assertEquals(soapServer6.getServletHandler(), servletHandler);
+        Assert.assertEquals(soapServer6.getMaxThreads(), 50);
+        Assert.assertEquals(soapServer6.getMinThreads(), 10);
+        Assert.assertEquals(soapServer6.getThreadIdleTimeout(), 30000);
+        Assert.assertEquals(soapServer6.getAcceptQueueSize(), 256);
+        Assert.assertEquals(soapServer6.getAcceptors(), 2);
+        Assert.assertEquals(soapServer6.getSelectors(), 4);
+        Assert.assertTrue(soapServer6.isHttp2());
     }
 
     @Test
@@ -146,5 +146,12 @@ public class WebServiceServerParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertNull(server.getConnector());
         Assert.assertNotNull(server.getServletHandler());
         Assert.assertEquals(server.getServletHandler(), beanDefinitionContext.getBean("servletHandler"));
+        Assert.assertEquals(server.getMaxThreads(), 50);
+        Assert.assertEquals(server.getMinThreads(), 10);
+        Assert.assertEquals(server.getThreadIdleTimeout(), 30000);
+        Assert.assertEquals(server.getAcceptQueueSize(), 256);
+        Assert.assertEquals(server.getAcceptors(), 2);
+        Assert.assertEquals(server.getSelectors(), 4);
+        Assert.assertTrue(server.isHttp2());
     }
 }
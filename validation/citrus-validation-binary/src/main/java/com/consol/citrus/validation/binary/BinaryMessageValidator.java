@@ -18,9 +18,7 @@ package com.consol.citrus.validation.binary;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ValidationException;
@@ -33,11 +31,14 @@ import com.consol.citrus.validation.context.ValidationContext;
  * Message validator compares binary streams. Assumes control
  * message payload is convertable to an input stream so we can compare the stream data with buffer read.
  *
+ * Both streams are read in fixed size chunks so large payloads are compared without loading the complete content
+ * into memory.
+ *
  * @author Christoph Deppisch
  */
 public class BinaryMessageValidator extends DefaultMessageValidator {
 
-    private static final int BUFFER_SIZE = 1024;
+    private static final int CHUNK_SIZE = 8192;
 
     @Override
     public void validateMessage(Message receivedMessage, Message controlMessage,
@@ -45,31 +46,31 @@ public class BinaryMessageValidator extends DefaultMessageValidator {
         try (InputStream receivedInput = receivedMessage.getPayload(InputStream.class);
              InputStream controlInput = controlMessage.getPayload(InputStream.class)) {
 
-            ReadableByteChannel receivedBytes = Channels.newChannel(receivedInput);
-            ReadableByteChannel controlBytes = Channels.newChannel(controlInput);
-
-            ByteBuffer receivedBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
-            ByteBuffer controlBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            byte[] receivedChunk = new byte[CHUNK_SIZE];
+            byte[] controlChunk = new byte[CHUNK_SIZE];
 
+            long offset = 0L;
             while (true) {
-                int n1 = receivedBytes.read(receivedBuffer);
-                int n2 = controlBytes.read(controlBuffer);
+                int n1 = receivedInput.readNBytes(receivedChunk, 0, CHUNK_SIZE);
+                int n2 = controlInput.readNBytes(controlChunk, 0, CHUNK_SIZE);
 
-                if (n1 == -1 || n2 == -1) return;
+                int mismatch = Arrays.mismatch(receivedChunk, 0, n1, controlChunk, 0, n2);
+                if (mismatch >= 0) {
+                    if (mismatch == Math.min(n1, n2)) {
+                        throw new ValidationException(String.format("Received input stream is not equal to given control - " +
+                                "length mismatch, %s input stream ends after %s bytes", n1 < n2 ? "received" : "control", offset + mismatch));
+                    }
 
-                receivedBuffer.flip();
-                controlBuffer.flip();
+                    throw new ValidationException(String.format("Received input stream is not equal to given control - " +
+                            "first difference at byte offset %s", offset + mismatch));
+                }
 
-                for (int i = 0; i < Math.min(n1, n2); i++) {
-                    if (receivedBuffer.get() != controlBuffer.get()) {
-                        throw new ValidationException("Received input stream is not equal to given control");
-                    }
+                if (n1 < CHUNK_SIZE) {
+                    return;
                 }
 
-                receivedBuffer.compact();
-                receivedBuffer.compact();
+                offset += n1;
             }
-
         } catch (IOException e) {
             throw new ValidationException("Failed to compare binary input streams", e);
         }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.binary;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.BinaryPayload;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.validation.context.DefaultValidationContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class BinaryMessageValidatorTest {
+
+    private final BinaryMessageValidator validator = new BinaryMessageValidator();
+    private final TestContext context = new TestContext();
+
+    @Test
+    public void testBinaryValidation() {
+        byte[] bytes = new byte[20000];
+        new Random().nextBytes(bytes);
+
+        Message receivedMessage = new DefaultMessage(BinaryPayload.of(bytes));
+        Message controlMessage = new DefaultMessage(Arrays.copyOf(bytes, bytes.length));
+
+        validator.validateMessage(receivedMessage, controlMessage, context, new DefaultValidationContext());
+    }
+
+    @Test
+    public void testBinaryValidationError() {
+        byte[] bytes = new byte[20000];
+        new Random().nextBytes(bytes);
+
+        byte[] controlBytes = Arrays.copyOf(bytes, bytes.length);
+        controlBytes[12345] = (byte) (controlBytes[12345] + 1);
+
+        try {
+            validator.validateMessage(new DefaultMessage(bytes), new DefaultMessage(controlBytes), context, new DefaultValidationContext());
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("byte offset 12345"));
+        }
+    }
+
+    @Test
+    public void testBinaryValidationLengthMismatch() {
+        byte[] bytes = new byte[8192];
+        new Random().nextBytes(bytes);
+
+        try {
+            validator.validateMessage(new DefaultMessage(bytes), new DefaultMessage(Arrays.copyOf(bytes, bytes.length + 1)), context, new DefaultValidationContext());
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("received input stream ends after 8192 bytes"));
+        }
+
+        try {
+            validator.validateMessage(new DefaultMessage(bytes), new DefaultMessage(Arrays.copyOf(bytes, 100)), context, new DefaultValidationContext());
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("control input stream ends after 100 bytes"));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.consol.citrus.config.xml;
 
+import com.consol.citrus.config.util.BeanDefinitionParserUtils;
 import com.consol.citrus.json.JsonSchemaRepository;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
@@ -16,6 +17,8 @@ public class JsonSchemaRepositoryParser extends AbstractBeanDefinitionParser {
         BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(JsonSchemaRepository.class);
         SchemaRepositoryParser.addLocationsToBuilder(element, builder);
         SchemaRepositoryParser.parseSchemasElement(element, builder, parserContext);
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("discriminator"), "discriminator");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("discriminator-header"), "discriminatorHeader");
         return builder.getBeanDefinition();
     }
 }
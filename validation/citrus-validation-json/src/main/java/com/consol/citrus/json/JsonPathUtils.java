@@ -19,10 +19,13 @@ package com.consol.citrus.json;
 import java.util.Optional;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
 import com.consol.citrus.validation.json.JsonPathFunctions;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.ReadContext;
+import com.jayway.jsonpath.spi.cache.Cache;
+import com.jayway.jsonpath.spi.cache.LRUCache;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
@@ -35,6 +38,19 @@ import org.springframework.util.StringUtils;
  */
 public class JsonPathUtils {
 
+    /** Compiled JsonPath expressions, kept separate from the global JsonPath cache provider */
+    private static final Cache JSON_PATH_CACHE = new LRUCache(JsonSettings.getJsonPathCacheSize());
+
+    /**
+     * Gets read context for given message payload. The read context is cached with the message as long as the
+     * message payload does not change. Callers must not modify the Json data of the read context.
+     * @param message
+     * @return
+     */
+    public static ReadContext readContext(Message message) {
+        return message.getParsedPayload(ReadContext.class, msg -> parse(msg.getPayload(String.class)));
+    }
+
     /**
      * Evaluate JsonPath expression on given payload string and return result as object.
      * @param payload
@@ -42,15 +58,7 @@ public class JsonPathUtils {
      * @return
      */
     public static Object evaluate(String payload, String jsonPathExpression) {
-        try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(payload);
-            ReadContext readerContext = JsonPath.parse(receivedJson);
-
-            return evaluate(readerContext, jsonPathExpression);
-        } catch (ParseException e) {
-            throw new CitrusRuntimeException("Failed to parse JSON text", e);
-        }
+        return evaluate(parse(payload), jsonPathExpression);
     }
 
     /**
@@ -60,22 +68,15 @@ public class JsonPathUtils {
      * @return
      */
     public static Object evaluate(ReadContext readerContext, String jsonPathExpression) {
-        String expression = jsonPathExpression;
-        String jsonPathFunction = null;
-        for (String name : JsonPathFunctions.getSupportedFunctions()) {
-            if (expression.endsWith(String.format(".%s()", name))) {
-                jsonPathFunction = name;
-                expression = expression.substring(0, expression.length() - String.format(".%s()", name).length());
-            }
-        }
+        CompiledExpression expression = compileExpression(jsonPathExpression);
 
         Object jsonPathResult = null;
         PathNotFoundException pathNotFoundException = null;
         try {
-            if (JsonPath.isPathDefinite(expression)) {
-                jsonPathResult = readerContext.read(expression);
+            if (expression.jsonPath.isDefinite()) {
+                jsonPathResult = readerContext.read(expression.jsonPath);
             } else {
-                JSONArray values = readerContext.read(expression);
+                JSONArray values = readerContext.read(expression.jsonPath);
                 if (values.size() == 1) {
                     jsonPathResult = values.get(0);
                 } else {
@@ -86,8 +87,8 @@ public class JsonPathUtils {
             pathNotFoundException = e;
         }
 
-        if (StringUtils.hasText(jsonPathFunction)) {
-            jsonPathResult = JsonPathFunctions.evaluate(jsonPathResult, jsonPathFunction);
+        if (StringUtils.hasText(expression.jsonPathFunction)) {
+            jsonPathResult = JsonPathFunctions.evaluate(jsonPathResult, expression.jsonPathFunction);
         }
 
         if (jsonPathResult == null && pathNotFoundException != null) {
@@ -98,23 +99,64 @@ public class JsonPathUtils {
     }
 
     /**
-     * Evaluate JsonPath expression on given payload string and return result as string.
-     * @param payload
+     * Gets compiled JsonPath for given expression string. Uses a cache owned by this class which holds up to
+     * the configured number of expressions in least recently used order. The global JsonPath cache provider
+     * is left untouched.
      * @param jsonPathExpression
      * @return
      */
-    public static String evaluateAsString(String payload, String jsonPathExpression) {
+    public static JsonPath compile(String jsonPathExpression) {
+        JsonPath jsonPath = JSON_PATH_CACHE.get(jsonPathExpression);
+        if (jsonPath == null) {
+            jsonPath = JsonPath.compile(jsonPathExpression);
+            JSON_PATH_CACHE.put(jsonPathExpression, jsonPath);
+        }
+
+        return jsonPath;
+    }
+
+    /**
+     * Compiles given expression string separating a trailing JsonPath function call from the actual path.
+     * @param jsonPathExpression
+     * @return
+     */
+    private static CompiledExpression compileExpression(String jsonPathExpression) {
+        String expression = jsonPathExpression;
+        String jsonPathFunction = null;
+        for (String name : JsonPathFunctions.getSupportedFunctions()) {
+            if (expression.endsWith(String.format(".%s()", name))) {
+                jsonPathFunction = name;
+                expression = expression.substring(0, expression.length() - String.format(".%s()", name).length());
+            }
+        }
+
+        return new CompiledExpression(compile(expression), jsonPathFunction);
+    }
+
+    /**
+     * Parses given payload string to read context.
+     * @param payload
+     * @return
+     */
+    private static ReadContext parse(String payload) {
         try {
             JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(payload);
-            ReadContext readerContext = JsonPath.parse(receivedJson);
-
-            return evaluateAsString(readerContext, jsonPathExpression);
+            return JsonPath.parse(parser.parse(payload));
         } catch (ParseException e) {
             throw new CitrusRuntimeException("Failed to parse JSON text", e);
         }
     }
 
+    /**
+     * Evaluate JsonPath expression on given payload string and return result as string.
+     * @param payload
+     * @param jsonPathExpression
+     * @return
+     */
+    public static String evaluateAsString(String payload, String jsonPathExpression) {
+        return evaluateAsString(parse(payload), jsonPathExpression);
+    }
+
     /**
      * Evaluate JsonPath expression using given read context and return result as string.
      * @param readerContext
@@ -132,4 +174,17 @@ public class JsonPathUtils {
             return Optional.ofNullable(jsonPathResult).map(Object::toString).orElse("null");
         }
     }
+
+    /**
+     * Compiled JsonPath with optional trailing JsonPath function name.
+     */
+    private static final class CompiledExpression {
+        private final JsonPath jsonPath;
+        private final String jsonPathFunction;
+
+        CompiledExpression(JsonPath jsonPath, String jsonPathFunction) {
+            this.jsonPath = jsonPath;
+            this.jsonPathFunction = jsonPathFunction;
+        }
+    }
 }
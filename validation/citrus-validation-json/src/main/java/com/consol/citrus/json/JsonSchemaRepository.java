@@ -18,16 +18,22 @@ package com.consol.citrus.json;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.consol.citrus.common.InitializingPhase;
 import com.consol.citrus.common.Named;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.json.schema.SimpleJsonSchema;
+import com.consol.citrus.message.Message;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.StringUtils;
 
 /**
  * Schema repository holding a set of json schema resources known in the test scope.
@@ -44,6 +50,15 @@ public class JsonSchemaRepository  implements Named, InitializingPhase {
     /** List of location patterns that will be translated to schema resources */
     private List<String> locations = new ArrayList<>();
 
+    /** Optional JsonPath expression evaluating the discriminator value on the message payload */
+    private String discriminator;
+
+    /** Optional message header holding the discriminator value */
+    private String discriminatorHeader;
+
+    /** Index of schemas by schema id and resource name */
+    private volatile SchemaIndex schemaIndex;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JsonSchemaRepository.class);
 
@@ -82,6 +97,80 @@ public class JsonSchemaRepository  implements Named, InitializingPhase {
         }
     }
 
+    /**
+     * Finds schemas matching the discriminator value of given message. The discriminator value is read from the
+     * discriminator header, the discriminator JsonPath expression or the $schema property of the Json payload in this order.
+     * Returns empty list when the message has no discriminator value or no schema matches the value.
+     * @param message the message to validate.
+     * @param json the parsed message payload.
+     * @return
+     */
+    public List<SimpleJsonSchema> findSchemas(Message message, JsonNode json) {
+        String discriminatorValue = getDiscriminatorValue(message, json);
+        if (!StringUtils.hasText(discriminatorValue)) {
+            return Collections.emptyList();
+        }
+
+        return findSchemas(discriminatorValue);
+    }
+
+    /**
+     * Finds schemas with given schema id or resource file name without extension.
+     * @param key
+     * @return
+     */
+    public List<SimpleJsonSchema> findSchemas(String key) {
+        return getSchemaIndex().schemas.getOrDefault(SchemaIndex.normalize(key), Collections.emptyList());
+    }
+
+    /**
+     * Reads the discriminator value from given message.
+     * @param message
+     * @param json
+     * @return
+     */
+    private String getDiscriminatorValue(Message message, JsonNode json) {
+        if (StringUtils.hasText(discriminatorHeader)) {
+            Object headerValue = message.getHeader(discriminatorHeader);
+            if (headerValue != null) {
+                return headerValue.toString();
+            }
+        }
+
+        if (StringUtils.hasText(discriminator)) {
+            try {
+                Object value = JsonPathUtils.evaluate(JsonPathUtils.readContext(message), discriminator);
+                if (value != null) {
+                    return value.toString();
+                }
+            } catch (CitrusRuntimeException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Failed to evaluate Json schema discriminator '%s': %s", discriminator, e.getMessage()));
+                }
+            }
+        }
+
+        if (json != null && json.isObject() && json.has("$schema") && json.get("$schema").isTextual()) {
+            return json.get("$schema").asText();
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the schema index. Index is rebuilt when the list of schemas has changed.
+     * @return
+     */
+    private SchemaIndex getSchemaIndex() {
+        SchemaIndex index = schemaIndex;
+        if (index == null || !index.isIndexed(schemas)) {
+            index = new SchemaIndex(schemas);
+            schemaIndex = index;
+        }
+
+        return index;
+    }
+
     public String getName() {
         return name;
     }
@@ -109,4 +198,80 @@ public class JsonSchemaRepository  implements Named, InitializingPhase {
     public void setLocations(List<String> locations) {
         this.locations = locations;
     }
+
+    /**
+     * Gets the discriminator JsonPath expression.
+     * @return
+     */
+    public String getDiscriminator() {
+        return discriminator;
+    }
+
+    /**
+     * Sets the discriminator JsonPath expression.
+     * @param discriminator
+     */
+    public void setDiscriminator(String discriminator) {
+        this.discriminator = discriminator;
+    }
+
+    /**
+     * Gets the discriminator header name.
+     * @return
+     */
+    public String getDiscriminatorHeader() {
+        return discriminatorHeader;
+    }
+
+    /**
+     * Sets the discriminator header name.
+     * @param discriminatorHeader
+     */
+    public void setDiscriminatorHeader(String discriminatorHeader) {
+        this.discriminatorHeader = discriminatorHeader;
+    }
+
+    /**
+     * Immutable index of schemas by schema id and resource file name without extension.
+     */
+    private static final class SchemaIndex {
+        private final List<SimpleJsonSchema> source;
+        private final int size;
+        private final Map<String, List<SimpleJsonSchema>> schemas = new HashMap<>();
+
+        SchemaIndex(List<SimpleJsonSchema> source) {
+            this.source = source;
+            this.size = source.size();
+
+            for (SimpleJsonSchema schema : source) {
+                if (StringUtils.hasText(schema.getId())) {
+                    add(schema.getId(), schema);
+                }
+
+                if (schema.getJson() != null && StringUtils.hasText(schema.getJson().getFilename())) {
+                    add(StringUtils.stripFilenameExtension(schema.getJson().getFilename()), schema);
+                }
+            }
+        }
+
+        private void add(String key, SimpleJsonSchema schema) {
+            List<SimpleJsonSchema> indexed = schemas.computeIfAbsent(normalize(key), k -> new ArrayList<>());
+            if (!indexed.contains(schema)) {
+                indexed.add(schema);
+            }
+        }
+
+        boolean isIndexed(List<SimpleJsonSchema> schemas) {
+            return source == schemas && size == schemas.size();
+        }
+
+        /**
+         * Removes empty fragment from schema identifiers.
+         * @param key
+         * @return
+         */
+        static String normalize(String key) {
+            return key.endsWith("#") ? key.substring(0, key.length() - 1) : key;
+        }
+    }
 }
@@ -34,6 +34,10 @@ public final class JsonSettings {
     private static final String PERMISSIVE_MODE_ENV = "CITRUS_JSON_PERMISSIVE_MODE";
     private static final String PERMISSIVE_MODE_DEFAULT = String.valueOf(JSONParser.MODE_JSON_SIMPLE);
 
+    private static final String JSON_PATH_CACHE_SIZE_PROPERTY = "citrus.json.path.cache.size";
+    private static final String JSON_PATH_CACHE_SIZE_ENV = "CITRUS_JSON_PATH_CACHE_SIZE";
+    private static final String JSON_PATH_CACHE_SIZE_DEFAULT = "1000";
+
     /**
      * Private constructor prevent instantiation of utility class
      */
@@ -72,4 +76,13 @@ public final class JsonSettings {
                 System.getProperty(MESSAGE_VALIDATION_STRICT_PROPERTY, System.getenv(MESSAGE_VALIDATION_STRICT_ENV) != null ?
                         System.getenv(MESSAGE_VALIDATION_STRICT_ENV) : MESSAGE_VALIDATION_STRICT_DEFAULT));
     }
+
+    /**
+     * Gets the maximum number of compiled JsonPath expressions to cache.
+     * @return
+     */
+    public static int getJsonPathCacheSize() {
+        return Integer.parseInt(System.getProperty(JSON_PATH_CACHE_SIZE_PROPERTY, System.getenv(JSON_PATH_CACHE_SIZE_ENV) != null ?
+                System.getenv(JSON_PATH_CACHE_SIZE_ENV) : JSON_PATH_CACHE_SIZE_DEFAULT));
+    }
 }
@@ -21,6 +21,7 @@ import java.util.Objects;
 
 import com.consol.citrus.common.InitializingPhase;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.github.fge.jackson.JsonLoader;
 import com.github.fge.jsonschema.core.exceptions.ProcessingException;
 import com.github.fge.jsonschema.main.JsonSchema;
@@ -43,6 +44,9 @@ public class SimpleJsonSchema implements InitializingPhase {
     /** The parsed json schema ready for validation */
     private JsonSchema schema;
 
+    /** The schema identifier declared with $id or id keyword */
+    private String id;
+
     public SimpleJsonSchema(Resource resource) {
         json = resource;
     }
@@ -54,7 +58,13 @@ public class SimpleJsonSchema implements InitializingPhase {
     @Override
     public void initialize() {
         try {
-            schema = jsonSchemaFactory.getJsonSchema(JsonLoader.fromFile(json.getFile()));
+            JsonNode schemaJson = JsonLoader.fromFile(json.getFile());
+            schema = jsonSchemaFactory.getJsonSchema(schemaJson);
+
+            JsonNode idNode = schemaJson.has("$id") ? schemaJson.get("$id") : schemaJson.get("id");
+            if (idNode != null && idNode.isTextual()) {
+                id = idNode.asText();
+            }
         } catch (ProcessingException | IOException e) {
             throw new CitrusRuntimeException("Failed to load Json schema", e);
         }
@@ -68,6 +78,22 @@ public class SimpleJsonSchema implements InitializingPhase {
         this.json = json;
     }
 
+    /**
+     * Gets the schema identifier declared with $id or id keyword.
+     * @return
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Sets the schema identifier.
+     * @param id
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
     public JsonSchema getSchema() {
         return schema;
     }
@@ -23,6 +23,7 @@ import com.consol.citrus.builder.WithExpressions;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.UnknownElementException;
+import com.consol.citrus.json.JsonPathUtils;
 import com.consol.citrus.message.AbstractMessageProcessor;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageProcessor;
@@ -102,7 +103,7 @@ public class JsonPathMessageProcessor extends AbstractMessageProcessor {
                 }
 
                 try {
-                    documentContext.set(jsonPathExpression, value);
+                    documentContext.set(JsonPathUtils.compile(jsonPathExpression), value);
                 } catch (PathNotFoundException e) {
                     if (!ignoreNotFound) {
                         throw new UnknownElementException(String.format("Could not find element for expression: %s", jsonPathExpression), e);
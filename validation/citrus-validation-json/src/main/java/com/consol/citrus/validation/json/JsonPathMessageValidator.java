@@ -17,16 +17,12 @@
 package com.consol.citrus.validation.json;
 
 import com.consol.citrus.context.TestContext;
-import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.json.JsonPathUtils;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.ValidationUtils;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.ReadContext;
-import net.minidev.json.parser.JSONParser;
-import net.minidev.json.parser.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
@@ -54,32 +50,26 @@ public class JsonPathMessageValidator extends AbstractMessageValidator<JsonPathM
         log.debug("Start JSONPath element validation ...");
 
         String jsonPathExpression;
-        try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(receivedMessage.getPayload(String.class));
-            ReadContext readerContext = JsonPath.parse(receivedJson);
+        ReadContext readerContext = JsonPathUtils.readContext(receivedMessage);
 
-            for (Map.Entry<String, Object> entry : validationContext.getJsonPathExpressions().entrySet()) {
-                Object expectedValue = entry.getValue();
-                if (expectedValue instanceof String) {
-                    //check if expected value is variable or function (and resolve it, if yes)
-                    expectedValue = context.replaceDynamicContentInString(String.valueOf(expectedValue));
-                }
+        for (Map.Entry<String, Object> entry : validationContext.getJsonPathExpressions().entrySet()) {
+            Object expectedValue = entry.getValue();
+            if (expectedValue instanceof String) {
+                //check if expected value is variable or function (and resolve it, if yes)
+                expectedValue = context.replaceDynamicContentInString(String.valueOf(expectedValue));
+            }
 
-                jsonPathExpression = context.replaceDynamicContentInString(entry.getKey());
-                Object jsonPathResult = JsonPathUtils.evaluate(readerContext, jsonPathExpression);
-                //do the validation of actual and expected value for element
-                ValidationUtils.validateValues(jsonPathResult, expectedValue, jsonPathExpression, context);
+            jsonPathExpression = context.replaceDynamicContentInString(entry.getKey());
+            Object jsonPathResult = JsonPathUtils.evaluate(readerContext, jsonPathExpression);
+            //do the validation of actual and expected value for element
+            ValidationUtils.validateValues(jsonPathResult, expectedValue, jsonPathExpression, context);
 
-                if (log.isDebugEnabled()) {
-                    log.debug("Validating element: " + jsonPathExpression + "='" + expectedValue + "': OK.");
-                }
+            if (log.isDebugEnabled()) {
+                log.debug("Validating element: " + jsonPathExpression + "='" + expectedValue + "': OK.");
             }
-
-            log.info("JSONPath element validation successful: All values OK");
-        } catch (ParseException e) {
-            throw new CitrusRuntimeException("Failed to parse JSON text", e);
         }
+
+        log.info("JSONPath element validation successful: All values OK");
     }
 
     @Override
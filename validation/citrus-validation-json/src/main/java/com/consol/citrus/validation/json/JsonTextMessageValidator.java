@@ -25,6 +25,7 @@ import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.json.JsonPathUtils;
 import com.consol.citrus.json.JsonSchemaRepository;
 import com.consol.citrus.json.JsonSettings;
 import com.consol.citrus.message.Message;
@@ -101,8 +102,14 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
 
             JSONParser parser = new JSONParser(permissiveMode);
 
-            Object receivedJson = parser.parse(receivedJsonText);
-            ReadContext readContext = JsonPath.parse(receivedJson);
+            ReadContext readContext;
+            if (permissiveMode == JSONParser.MODE_JSON_SIMPLE) {
+                readContext = JsonPathUtils.readContext(receivedMessage);
+            } else {
+                readContext = JsonPath.parse(parser.parse(receivedJsonText));
+            }
+
+            Object receivedJson = readContext.json();
             Object controlJson = parser.parse(controlJsonText);
             if (receivedJson instanceof JSONObject) {
                 validateJson("$.", (JSONObject) receivedJson, (JSONObject) controlJson, validationContext, context, readContext);
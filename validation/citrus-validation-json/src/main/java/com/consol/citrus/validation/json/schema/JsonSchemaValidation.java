@@ -121,45 +121,96 @@ public class JsonSchemaValidation implements SchemaValidator<JsonMessageValidati
                                      List<JsonSchemaRepository> schemaRepositories,
                                      JsonMessageValidationContext validationContext,
                                      ReferenceResolver referenceResolver) {
-        return validate(message, jsonSchemaFilter.filter(schemaRepositories, validationContext, referenceResolver));
+        List<SimpleJsonSchema> jsonSchemas = jsonSchemaFilter.filter(schemaRepositories, validationContext, referenceResolver);
+        if (jsonSchemas.isEmpty()) {
+            return new GraciousProcessingReport(true);
+        }
+
+        JsonNode receivedJson = readJson(message);
+        return validate(receivedJson, selectSchemas(message, receivedJson, jsonSchemas, schemaRepositories));
     }
 
     /**
-     * Validates a message against all schemas contained in the given json schema repository
+     * Selects the schemas to validate against. When several schemas are eligible the schema repository index is asked
+     * for schemas matching the message discriminator. Falls back to all eligible schemas when there is no match.
      * @param message The message to be validated
-     * @param jsonSchemas The list of json schemas to iterate over
+     * @param receivedJson The parsed message payload
+     * @param jsonSchemas The list of eligible json schemas
+     * @param schemaRepositories The schema repositories to be used for validation
+     * @return
      */
-    private GraciousProcessingReport validate(Message message, List<SimpleJsonSchema> jsonSchemas) {
-        if (jsonSchemas.isEmpty()) {
-            return new GraciousProcessingReport(true);
-        } else {
-            List<ProcessingReport> processingReports = new LinkedList<>();
-            for (SimpleJsonSchema simpleJsonSchema : jsonSchemas) {
-                processingReports.add(validate(message, simpleJsonSchema));
+    private List<SimpleJsonSchema> selectSchemas(Message message, JsonNode receivedJson,
+                                                 List<SimpleJsonSchema> jsonSchemas,
+                                                 List<JsonSchemaRepository> schemaRepositories) {
+        if (jsonSchemas.size() < 2) {
+            return jsonSchemas;
+        }
+
+        List<SimpleJsonSchema> selected = new ArrayList<>();
+        for (JsonSchemaRepository schemaRepository : schemaRepositories) {
+            for (SimpleJsonSchema schema : schemaRepository.findSchemas(message, receivedJson)) {
+                if (!selected.contains(schema) && jsonSchemas.contains(schema)) {
+                    selected.add(schema);
+                }
             }
-            return new GraciousProcessingReport(processingReports);
         }
+
+        if (selected.isEmpty()) {
+            return jsonSchemas;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Selected %s of %s Json schemas by discriminator", selected.size(), jsonSchemas.size()));
+        }
+
+        return selected;
+    }
+
+    /**
+     * Validates a message against all given json schemas
+     * @param receivedJson The parsed message payload to be validated
+     * @param jsonSchemas The list of json schemas to iterate over
+     */
+    private GraciousProcessingReport validate(JsonNode receivedJson, List<SimpleJsonSchema> jsonSchemas) {
+        List<ProcessingReport> processingReports = new LinkedList<>();
+        for (SimpleJsonSchema simpleJsonSchema : jsonSchemas) {
+            processingReports.add(validate(receivedJson, simpleJsonSchema));
+        }
+        return new GraciousProcessingReport(processingReports);
     }
 
     /**
      * Validates a given message against a given json schema
-     * @param message The message to be validated
+     * @param receivedJson The parsed message payload to be validated
      * @param simpleJsonSchema The json schema to validate against
      * @return returns the report holding the result of the validation
      */
-    private ProcessingReport validate(Message message, SimpleJsonSchema simpleJsonSchema) {
+    private ProcessingReport validate(JsonNode receivedJson, SimpleJsonSchema simpleJsonSchema) {
         try {
-            JsonNode receivedJson = objectMapper.readTree(message.getPayload(String.class));
             if (receivedJson.isEmpty()) {
                 return new DevNullProcessingReport();
             } else {
                 return simpleJsonSchema.getSchema().validate(receivedJson);
             }
-        } catch (IOException | ProcessingException e) {
+        } catch (ProcessingException e) {
             throw new CitrusRuntimeException("Failed to validate Json schema", e);
         }
     }
 
+    /**
+     * Reads the message payload as Json tree. The tree is cached with the message so the payload is parsed only once.
+     * @param message
+     * @return
+     */
+    private JsonNode readJson(Message message) {
+        return message.getParsedPayload(JsonNode.class, msg -> {
+            try {
+                return objectMapper.readTree(msg.getPayload(String.class));
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to validate Json schema", e);
+            }
+        });
+    }
 
     /**
      *
@@ -31,6 +31,8 @@ public class JsonSchemaRepositoryParserTest extends AbstractBeanDefinitionParser
         Assert.assertEquals(schemaRepository.getSchemas().get(1).getClass(), SimpleJsonSchema.class);
         Assert.assertNotNull(schemaRepository.getLocations());
         Assert.assertEquals(schemaRepository.getLocations().size(), 0);
+        Assert.assertNull(schemaRepository.getDiscriminator());
+        Assert.assertNull(schemaRepository.getDiscriminatorHeader());
 
         // 2nd schema repository
         schemaRepository = schemaRepositories.get("jsonSchemaRepository2");
@@ -39,6 +41,8 @@ public class JsonSchemaRepositoryParserTest extends AbstractBeanDefinitionParser
         Assert.assertNotNull(schemaRepository.getLocations());
         Assert.assertEquals(schemaRepository.getLocations().size(), 1);
         Assert.assertEquals(schemaRepository.getLocations().get(0), "classpath:com/consol/citrus/validation/*");
+        Assert.assertEquals(schemaRepository.getDiscriminator(), "$.type");
+        Assert.assertEquals(schemaRepository.getDiscriminatorHeader(), "schemaId");
 
         Assert.assertTrue(beanDefinitionContext.containsBean("jsonSchema1"));
         Assert.assertTrue(beanDefinitionContext.containsBean("jsonSchema2"));
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.message.DefaultMessage;
+import com.jayway.jsonpath.ReadContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares evaluating a set of JsonPath expressions on the payload string, parsing the payload for each
+ * expression, with evaluating them on the read context parsed once per message. Both cases use the same
+ * parser and expression cache as JsonPathUtils. Payload sizes range from 1 KB to 5 MB.
+ * Run with main method from test classpath.
+ *
+ * @author Christoph Deppisch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonPathUtilsBenchmark {
+
+    @Param({ "1", "100", "1024", "5120" })
+    private int payloadSizeKb;
+
+    @Param({ "30" })
+    private int expressionCount;
+
+    private String payload;
+    private List<String> expressions;
+
+    @Setup
+    public void setup() {
+        StringBuilder json = new StringBuilder("{\"header\":{\"id\":\"1234\",\"type\":\"order\"},\"items\":[");
+        int index = 0;
+        while (json.length() < payloadSizeKb * 1024) {
+            if (index > 0) {
+                json.append(',');
+            }
+            json.append("{\"index\":").append(index).append(",\"name\":\"item-").append(index)
+                    .append("\",\"price\":").append(index % 100).append(".99,\"available\":true}");
+            index++;
+        }
+        payload = json.append("]}").toString();
+
+        expressions = new ArrayList<>();
+        for (int i = 0; i < expressionCount; i++) {
+            switch (i % 3) {
+                case 0:
+                    expressions.add("$.header.id");
+                    break;
+                case 1:
+                    expressions.add("$.items[" + (i % index) + "].name");
+                    break;
+                default:
+                    expressions.add("$.items.size()");
+            }
+        }
+    }
+
+    @Benchmark
+    public void evaluateEach(Blackhole blackhole) {
+        for (String expression : expressions) {
+            blackhole.consume(JsonPathUtils.evaluate(payload, expression));
+        }
+    }
+
+    @Benchmark
+    public void evaluateReadContext(Blackhole blackhole) {
+        ReadContext readContext = JsonPathUtils.readContext(new DefaultMessage(payload));
+        for (String expression : expressions) {
+            blackhole.consume(JsonPathUtils.evaluate(readContext, expression));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JsonPathUtilsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
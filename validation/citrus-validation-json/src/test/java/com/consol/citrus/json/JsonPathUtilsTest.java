@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.json;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class JsonPathUtilsTest {
+
+    private static final String PAYLOAD = "{\"text\":\"Hello World!\", \"person\":{\"name\":\"John\",\"surname\":\"Doe\"}, " +
+            "\"index\":5, \"id\":\"x123456789x\", \"numbers\":[1, 2, 3]}";
+
+    @Test
+    public void testEvaluate() {
+        Assert.assertEquals(JsonPathUtils.evaluate(PAYLOAD, "$.text"), "Hello World!");
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(PAYLOAD, "$.index"), "5");
+        Assert.assertEquals(JsonPathUtils.evaluate(PAYLOAD, "$..name"), "John");
+        Assert.assertEquals(JsonPathUtils.evaluate(PAYLOAD, "$.person.size()"), 2);
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(PAYLOAD, "$.numbers"), "[1,2,3]");
+        Assert.assertTrue(JsonPathUtils.evaluateAsString(PAYLOAD, "$.person.keySet()").contains("surname"));
+
+        // evaluate again using cached expressions
+        Assert.assertEquals(JsonPathUtils.evaluate(PAYLOAD, "$.text"), "Hello World!");
+        Assert.assertEquals(JsonPathUtils.evaluate(PAYLOAD, "$.person.size()"), 2);
+    }
+
+    @Test
+    public void testCompile() {
+        Assert.assertSame(JsonPathUtils.compile("$.person.name"), JsonPathUtils.compile("$.person.name"));
+        Assert.assertEquals(JsonPathUtils.compile("$.person.name").getPath(), "$['person']['name']");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Failed to evaluate JSON path expression: \\$.unknown")
+    public void testEvaluateUnknown() {
+        JsonPathUtils.evaluate(PAYLOAD, "$.unknown");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Failed to parse JSON text")
+    public void testEvaluateInvalidPayload() {
+        JsonPathUtils.evaluate("{\"text\":", "$.text");
+    }
+}
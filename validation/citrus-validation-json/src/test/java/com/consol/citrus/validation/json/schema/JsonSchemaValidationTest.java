@@ -240,6 +240,92 @@ public class JsonSchemaValidationTest {
         Assert.assertTrue(report.isSuccess());
     }
 
+    @Test
+    public void testSchemaSelectedByDiscriminatorHeader() throws Exception {
+
+        //GIVEN
+        JsonSchemaRepository jsonSchemaRepository = createSchemaRepository();
+        jsonSchemaRepository.setDiscriminatorHeader("schemaId");
+        List<JsonSchemaRepository> schemaRepositories = Collections.singletonList(jsonSchemaRepository);
+
+        when(jsonSchemaFilterMock.filter(schemaRepositories, validationContextMock, referenceResolverMock))
+                .thenReturn(jsonSchemaRepository.getSchemas());
+
+        String payload = "[{ \"id\": 2, \"name\": \"An ice sculpture\", \"price\": 12.50 }]";
+
+        //WHEN
+        ProcessingReport report = validator.validate(new DefaultMessage(payload).setHeader("schemaId", "BookSchema"),
+                schemaRepositories, validationContextMock, referenceResolverMock);
+
+        //THEN
+        Assert.assertFalse(report.isSuccess());
+
+        //WHEN
+        report = validator.validate(new DefaultMessage(payload).setHeader("schemaId", "ProductsSchema"),
+                schemaRepositories, validationContextMock, referenceResolverMock);
+
+        //THEN
+        Assert.assertTrue(report.isSuccess());
+
+        //WHEN
+        report = validator.validate(new DefaultMessage(payload), schemaRepositories, validationContextMock, referenceResolverMock);
+
+        //THEN
+        Assert.assertTrue(report.isSuccess());
+    }
+
+    @Test
+    public void testSchemaSelectedByPayloadDiscriminator() throws Exception {
+
+        //GIVEN
+        JsonSchemaRepository jsonSchemaRepository = createSchemaRepository();
+        jsonSchemaRepository.setDiscriminator("$.kind");
+        jsonSchemaRepository.getSchemas().get(0).setId("http://citrusframework.org/schemas/products#");
+        List<JsonSchemaRepository> schemaRepositories = Collections.singletonList(jsonSchemaRepository);
+
+        when(jsonSchemaFilterMock.filter(schemaRepositories, validationContextMock, referenceResolverMock))
+                .thenReturn(jsonSchemaRepository.getSchemas());
+
+        //WHEN
+        ProcessingReport report = validator.validate(
+                new DefaultMessage("{ \"kind\": \"ProductsSchema\", \"isbn\": \"0345391802\", \"title\": \"Citrus\", \"author\": \"Christoph\" }"),
+                schemaRepositories, validationContextMock, referenceResolverMock);
+
+        //THEN
+        Assert.assertFalse(report.isSuccess());
+
+        //WHEN
+        report = validator.validate(
+                new DefaultMessage("{ \"$schema\": \"http://citrusframework.org/schemas/products\", \"isbn\": \"0345391802\", \"title\": \"Citrus\", \"author\": \"Christoph\" }"),
+                schemaRepositories, validationContextMock, referenceResolverMock);
+
+        //THEN
+        Assert.assertFalse(report.isSuccess());
+
+        //WHEN
+        report = validator.validate(
+                new DefaultMessage("{ \"kind\": \"BookSchema\", \"isbn\": \"0345391802\", \"title\": \"Citrus\", \"author\": \"Christoph\" }"),
+                schemaRepositories, validationContextMock, referenceResolverMock);
+
+        //THEN
+        Assert.assertTrue(report.isSuccess());
+    }
+
+    private JsonSchemaRepository createSchemaRepository() {
+        JsonSchemaRepository jsonSchemaRepository = new JsonSchemaRepository();
+        jsonSchemaRepository.setName("schemaRepository");
+
+        SimpleJsonSchema productsSchema = new SimpleJsonSchema(new ClassPathResource("com/consol/citrus/validation/ProductsSchema.json"));
+        productsSchema.initialize();
+        jsonSchemaRepository.getSchemas().add(productsSchema);
+
+        SimpleJsonSchema bookSchema = new SimpleJsonSchema(new ClassPathResource("com/consol/citrus/validation/BookSchema.json"));
+        bookSchema.initialize();
+        jsonSchemaRepository.getSchemas().add(bookSchema);
+
+        return jsonSchemaRepository;
+    }
+
     @Test
     public void testJsonSchemaFilterIsCalled() {
 
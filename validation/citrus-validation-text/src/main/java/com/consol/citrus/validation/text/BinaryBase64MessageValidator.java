@@ -18,6 +18,7 @@ package com.consol.citrus.validation.text;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.BinaryPayload;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.validation.context.ValidationContext;
@@ -34,7 +35,7 @@ public class BinaryBase64MessageValidator extends PlainTextMessageValidator {
     @Override
     public void validateMessage(Message receivedMessage, Message controlMessage,
                                 TestContext context, ValidationContext validationContext) throws ValidationException {
-        if (receivedMessage.getPayload() instanceof byte[]) {
+        if (receivedMessage.getPayload() instanceof byte[] || receivedMessage.getPayload() instanceof BinaryPayload) {
             receivedMessage.setPayload(Base64.encodeBase64String(receivedMessage.getPayload(byte[].class)));
         }
 
@@ -24,6 +24,7 @@ import java.util.zip.GZIPInputStream;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.BinaryPayload;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.validation.context.ValidationContext;
@@ -40,7 +41,7 @@ public class GzipBinaryBase64MessageValidator extends BinaryBase64MessageValidat
     @Override
     public void validateMessage(Message receivedMessage, Message controlMessage,
                                 TestContext context, ValidationContext validationContext) throws ValidationException {
-        if (receivedMessage.getPayload() instanceof byte[]) {
+        if (receivedMessage.getPayload() instanceof byte[] || receivedMessage.getPayload() instanceof BinaryPayload) {
             try (GZIPInputStream gzipInputStream = new GZIPInputStream(receivedMessage.getPayload(InputStream.class));
                  ByteArrayOutputStream unzipped = new ByteArrayOutputStream()) {
                 StreamUtils.copy(gzipInputStream, unzipped);
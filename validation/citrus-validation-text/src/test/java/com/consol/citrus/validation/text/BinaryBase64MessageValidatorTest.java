@@ -17,6 +17,7 @@
 package com.consol.citrus.validation.text;
 
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.BinaryPayload;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
@@ -42,6 +43,14 @@ public class BinaryBase64MessageValidatorTest extends AbstractTestNGUnitTest {
         validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
     }
 
+    @Test
+    public void testBinaryBase64ValidationBinaryPayload() {
+        Message receivedMessage = new DefaultMessage(BinaryPayload.of("Hello World!".getBytes()));
+        Message controlMessage = new DefaultMessage(Base64.encodeBase64String("Hello World!".getBytes()));
+
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
     @Test
     public void testBinaryBase64ValidationNoBinaryData() {
         Message receivedMessage = new DefaultMessage("SGVsbG8gV29ybGQh");
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.zip.GZIPOutputStream;
 
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.BinaryPayload;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
@@ -51,6 +52,14 @@ public class GzipBinaryBase64MessageValidatorTest extends AbstractTestNGUnitTest
         validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
     }
 
+    @Test
+    public void testGzipBinaryBase64ValidationBinaryPayload() throws IOException {
+        Message receivedMessage = new DefaultMessage(BinaryPayload.of(getZippedContent("Hello World!")));
+        Message controlMessage = new DefaultMessage(Base64.encodeBase64String("Hello World!".getBytes()));
+
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
     @Test
     public void testGzipBinaryBase64ValidationNoBinaryData() throws IOException {
         Message receivedMessage = new DefaultMessage("SGVsbG8gV29ybGQh");
@@ -28,6 +28,7 @@ import java.util.StringTokenizer;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
 import com.consol.citrus.xml.XmlConfigurer;
 import org.springframework.util.StringUtils;
 import org.w3c.dom.Attr;
@@ -304,6 +305,17 @@ public final class XMLUtils {
         return namespaces;
     }
 
+    /**
+     * Parse message payload with DOM implementation. The document is cached with the message as long as the
+     * message payload does not change. Callers must not modify the document - clone it first if necessary.
+     * @param message
+     * @throws CitrusRuntimeException
+     * @return DOM document.
+     */
+    public static Document parseMessagePayload(Message message) {
+        return message.getParsedPayload(Document.class, msg -> parseMessagePayload(msg.getPayload(String.class)));
+    }
+
     /**
      * Parse message payload with DOM implementation.
      * @param messagePayload
@@ -68,6 +68,9 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
     /** Default schema validator */
     private XmlSchemaValidation schemaValidator = new XmlSchemaValidation();
 
+    /** Minimum received payload length for streaming XML tree validation, negative value disables streaming */
+    private int streamingThreshold = CitrusSettings.getXmlStreamingValidationThreshold();
+
     @Override
     public void validateMessage(Message receivedMessage, Message controlMessage,
                                 TestContext context, XmlMessageValidationContext validationContext) throws ValidationException {
@@ -122,7 +125,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         LOG.debug("Start XML namespace validation");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = XMLUtils.parseMessagePayload(receivedMessage);
 
         Map<String, String> foundNamespaces = NamespaceContextBuilder.lookupNamespaces(receivedMessage.getPayload(String.class));
 
@@ -220,7 +223,19 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         LOG.debug("Start XML tree validation ...");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        String receivedMessagePayload = receivedMessage.getPayload(String.class);
+        if (isStreamingValidation(receivedMessagePayload, controlMessagePayload, validationContext)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Received message:\n" + context.getLogModifier().mask(receivedMessagePayload));
+                LOG.debug("Control message:\n" + context.getLogModifier().mask(controlMessagePayload));
+            }
+
+            new StreamingXmlTreeValidator().validate(receivedMessagePayload, controlMessagePayload, context);
+            return;
+        }
+
+        // work on a copy of the shared document as whitespace nodes get stripped
+        Document received = (Document) XMLUtils.parseMessagePayload(receivedMessage).cloneNode(true);
         Document source = XMLUtils.parseMessagePayload(controlMessagePayload);
 
         XMLUtils.stripWhitespaceNodes(received);
@@ -235,6 +250,19 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                 .buildContext(receivedMessage, validationContext.getNamespaces()), context);
     }
 
+    /**
+     * Checks if streaming XML tree validation should be used for given payloads. Falls back to DOM based validation
+     * when the validation context holds ignore expressions that need random access to the received document.
+     * @param receivedPayload
+     * @param controlPayload
+     * @param validationContext
+     * @return
+     */
+    private boolean isStreamingValidation(String receivedPayload, String controlPayload, XmlMessageValidationContext validationContext) {
+        return streamingThreshold >= 0 && receivedPayload.length() >= streamingThreshold &&
+                StreamingXmlTreeValidator.supports(receivedPayload, controlPayload, validationContext);
+    }
+
     /**
      * Validates XML header fragment data.
      * @param receivedHeaderData
@@ -614,6 +642,22 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         return XmlValidationHelper.getNamespaceContextBuilder(context);
     }
 
+    /**
+     * Sets the minimum received payload length for streaming XML tree validation. Negative value disables streaming.
+     * @param streamingThreshold
+     */
+    public void setStreamingThreshold(int streamingThreshold) {
+        this.streamingThreshold = streamingThreshold;
+    }
+
+    /**
+     * Gets the streaming threshold.
+     * @return
+     */
+    public int getStreamingThreshold() {
+        return streamingThreshold;
+    }
+
     /**
      * Sets the namespace context builder.
      * @param namespaceContextBuilder
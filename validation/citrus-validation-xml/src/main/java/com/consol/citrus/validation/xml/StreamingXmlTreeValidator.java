@@ -0,0 +1,478 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.xml;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.validation.ValidationUtils;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Compares received and control XML payloads with StAX readers walking both documents in lockstep. Memory usage is
+ * bounded by the document depth and the text content of the elements currently open instead of the whole DOM trees.
+ *
+ * Supports the same element, attribute and text validation as the DOM based tree validation in
+ * {@link DomXmlMessageValidator} including ignore placeholders and validation matchers. Ignore expressions need random
+ * access to the received document and are not supported, neither are document type definitions. Callers must use DOM
+ * based validation in these cases.
+ *
+ * As text content is compared when the element end is reached, errors in child elements may be reported before
+ * a text mismatch on the parent element.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class StreamingXmlTreeValidator {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingXmlTreeValidator.class);
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    /**
+     * Checks if given payloads can be compared with streaming validation.
+     * @param receivedPayload
+     * @param controlPayload
+     * @param validationContext
+     * @return
+     */
+    public static boolean supports(String receivedPayload, String controlPayload, XmlMessageValidationContext validationContext) {
+        return CollectionUtils.isEmpty(validationContext.getIgnoreExpressions()) &&
+                !receivedPayload.contains("<!DOCTYPE") && !controlPayload.contains("<!DOCTYPE");
+    }
+
+    /**
+     * Validates received payload against control payload.
+     * @param receivedPayload
+     * @param controlPayload
+     * @param context
+     */
+    public void validate(String receivedPayload, String controlPayload, TestContext context) {
+        XMLStreamReader received = null;
+        XMLStreamReader source = null;
+        try {
+            received = INPUT_FACTORY.createXMLStreamReader(new StringReader(receivedPayload));
+            source = INPUT_FACTORY.createXMLStreamReader(new StringReader(controlPayload));
+
+            int receivedEvent = nextTag(received, new StringBuilder());
+            int sourceEvent = nextTag(source, new StringBuilder());
+
+            Assert.isTrue(receivedEvent == XMLStreamConstants.START_ELEMENT, "Missing root element in received XML payload");
+            Assert.isTrue(sourceEvent == XMLStreamConstants.START_ELEMENT, "Missing root element in control XML payload");
+
+            doElement(received, source, context);
+        } catch (XMLStreamException e) {
+            throw new CitrusRuntimeException("Failed to read XML payload", e);
+        } finally {
+            close(received);
+            close(source);
+        }
+    }
+
+    /**
+     * Validates element where both readers are positioned on the element start. Both readers are positioned on
+     * the element end afterwards.
+     * @param received
+     * @param source
+     * @param context
+     * @throws XMLStreamException
+     */
+    private void doElement(XMLStreamReader received, XMLStreamReader source, TestContext context) throws XMLStreamException {
+        String elementName = received.getLocalName();
+
+        doElementNameValidation(received, source);
+        doElementNamespaceValidation(received, source);
+
+        String sourceNodeName = getNodeName(source);
+        List<Attribute> receivedAttributes = getAttributes(received);
+        List<Attribute> sourceAttributes = getAttributes(source);
+
+        StringBuilder receivedText = new StringBuilder();
+        StringBuilder sourceText = new StringBuilder();
+        int sourceEvent = nextTag(source, sourceText);
+
+        //check if element is ignored by placeholder in source message
+        if (sourceText.toString().trim().equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Element: '" + elementName + "' is ignored by placeholder '" +
+                        CitrusSettings.IGNORE_PLACEHOLDER + "'");
+            }
+
+            finishElement(source, sourceEvent);
+            skipElement(received);
+            return;
+        }
+
+        //work on attributes
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Validating attributes for element: " + elementName);
+        }
+
+        Assert.isTrue(receivedAttributes.size() == sourceAttributes.size(),
+                ValidationUtils.buildValueMismatchErrorMessage("Number of attributes not equal for element '"
+                        + elementName + "'", sourceAttributes.size(), receivedAttributes.size()));
+
+        for (Attribute receivedAttribute : receivedAttributes) {
+            doAttribute(elementName, receivedAttribute, sourceAttributes, context);
+        }
+
+        int receivedEvent = nextTag(received, receivedText);
+
+        //check if validation matcher on element is specified
+        if (StringUtils.hasText(sourceText) &&
+                ValidationMatcherUtils.isValidationMatcherExpression(sourceText.toString().trim())) {
+            ValidationMatcherUtils.resolveValidationMatcher(sourceNodeName,
+                    receivedText.toString().trim(),
+                    sourceText.toString().trim(),
+                    context);
+
+            finishElement(source, sourceEvent);
+            finishElement(received, receivedEvent);
+            return;
+        }
+
+        //work on child nodes
+        int childElements = 0;
+        while (receivedEvent == XMLStreamConstants.START_ELEMENT && sourceEvent == XMLStreamConstants.START_ELEMENT) {
+            childElements++;
+            doElement(received, source, context);
+
+            receivedEvent = nextTag(received, receivedText);
+            sourceEvent = nextTag(source, sourceText);
+        }
+
+        if (receivedEvent != sourceEvent) {
+            int receivedChildElements = childElements;
+            int sourceChildElements = childElements;
+            if (receivedEvent == XMLStreamConstants.START_ELEMENT) {
+                receivedChildElements += countSiblings(received);
+            } else {
+                sourceChildElements += countSiblings(source);
+            }
+
+            throw new IllegalArgumentException(ValidationUtils.buildValueMismatchErrorMessage("Number of child elements not equal for element '"
+                    + elementName + "'", sourceChildElements, receivedChildElements));
+        }
+
+        doText(elementName, receivedText.toString().trim(), sourceText.toString().trim());
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Validation successful for element: " + elementName +
+                    " (" + getNamespaceUri(received) + ")");
+        }
+    }
+
+    private void doElementNameValidation(XMLStreamReader received, XMLStreamReader source) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Validating element: " + received.getLocalName() + " (" + getNamespaceUri(received) + ")");
+        }
+
+        Assert.isTrue(received.getLocalName().equals(source.getLocalName()),
+                ValidationUtils.buildValueMismatchErrorMessage("Element names not equal", source.getLocalName(), received.getLocalName()));
+    }
+
+    private void doElementNamespaceValidation(XMLStreamReader received, XMLStreamReader source) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Validating namespace for element: " + received.getLocalName());
+        }
+
+        String receivedNamespace = getNamespaceUri(received);
+        String sourceNamespace = getNamespaceUri(source);
+
+        if (receivedNamespace != null) {
+            Assert.isTrue(sourceNamespace != null,
+                    ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                            received.getLocalName() + "'", null, receivedNamespace));
+
+            Assert.isTrue(receivedNamespace.equals(sourceNamespace),
+                    ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                            received.getLocalName() + "'", sourceNamespace, receivedNamespace));
+        } else {
+            Assert.isTrue(sourceNamespace == null,
+                    ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                            received.getLocalName() + "'", sourceNamespace, null));
+        }
+    }
+
+    /**
+     * Handle text content of element during validation.
+     * @param elementName
+     * @param receivedText
+     * @param sourceText
+     */
+    private void doText(String elementName, String receivedText, String sourceText) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Validating node value for element: " + elementName);
+        }
+
+        Assert.isTrue(receivedText.equals(sourceText),
+                ValidationUtils.buildValueMismatchErrorMessage("Node value not equal for element '"
+                        + elementName + "'", sourceText, receivedText));
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Node value '" + receivedText + "': OK");
+        }
+    }
+
+    /**
+     * Handle attribute during validation.
+     * @param elementName
+     * @param receivedAttribute
+     * @param sourceAttributes
+     * @param context
+     */
+    private void doAttribute(String elementName, Attribute receivedAttribute, List<Attribute> sourceAttributes, TestContext context) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Validating attribute: " + receivedAttribute.localName + " (" + receivedAttribute.namespaceUri + ")");
+        }
+
+        Attribute sourceAttribute = sourceAttributes.stream()
+                .filter(attribute -> attribute.localName.equals(receivedAttribute.localName) &&
+                        ObjectUtils.nullSafeEquals(attribute.namespaceUri, receivedAttribute.namespaceUri))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Attribute validation failed for element '"
+                        + elementName + "', unknown attribute "
+                        + receivedAttribute.localName + " (" + receivedAttribute.namespaceUri + ")"));
+
+        String receivedValue = receivedAttribute.value;
+        String sourceValue = sourceAttribute.value;
+
+        if (StringUtils.hasText(sourceValue) && sourceValue.trim().equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Attribute: '" + receivedAttribute.localName + "' is ignored by placeholder '" +
+                        CitrusSettings.IGNORE_PLACEHOLDER + "'");
+            }
+            return;
+        }
+
+        if (StringUtils.hasText(sourceValue) && ValidationMatcherUtils.isValidationMatcherExpression(sourceValue.trim())) {
+            ValidationMatcherUtils.resolveValidationMatcher(sourceAttribute.nodeName,
+                    receivedValue.trim(),
+                    sourceValue.trim(),
+                    context);
+        } else if (receivedValue.contains(":") && sourceValue.contains(":")) {
+            doNamespaceQualifiedAttributeValidation(receivedAttribute, sourceAttribute);
+        } else {
+            Assert.isTrue(receivedValue.equals(sourceValue),
+                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
+                            + receivedAttribute.localName + "'", sourceValue, receivedValue));
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Attribute '" + receivedAttribute.localName + "'='" + receivedValue + "': OK");
+        }
+    }
+
+    /**
+     * Perform validation on namespace qualified attribute values. This includes the validation of namespace presence
+     * and equality.
+     * @param receivedAttribute
+     * @param sourceAttribute
+     */
+    private void doNamespaceQualifiedAttributeValidation(Attribute receivedAttribute, Attribute sourceAttribute) {
+        String receivedValue = receivedAttribute.value;
+        String sourceValue = sourceAttribute.value;
+
+        if (receivedAttribute.valueNamespaceUri != null) {
+            if (sourceAttribute.valueNamespaceUri != null) {
+                Assert.isTrue(sourceAttribute.valueNamespaceUri.equals(receivedAttribute.valueNamespaceUri),
+                        ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute value namespace '"
+                                + receivedValue + "'", sourceAttribute.valueNamespaceUri, receivedAttribute.valueNamespaceUri));
+
+                // remove namespace prefixes as they must not form equality
+                receivedValue = receivedValue.substring(receivedValue.indexOf(':') + 1);
+                sourceValue = sourceValue.substring(sourceValue.indexOf(':') + 1);
+            } else {
+                throw new ValidationException("Received attribute value '" + receivedAttribute.localName + "' describes namespace qualified attribute value," +
+                        " control value '" + sourceValue + "' does not");
+            }
+        }
+
+        Assert.isTrue(receivedValue.equals(sourceValue),
+                ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
+                        + receivedAttribute.localName + "'", sourceValue, receivedValue));
+    }
+
+    /**
+     * Reads attributes of current element. Namespace declarations are not reported as attributes by the reader.
+     * @param reader
+     * @return
+     */
+    private List<Attribute> getAttributes(XMLStreamReader reader) {
+        List<Attribute> attributes = new ArrayList<>(reader.getAttributeCount());
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String localName = reader.getAttributeLocalName(i);
+            String value = reader.getAttributeValue(i);
+
+            String valueNamespaceUri = null;
+            if (value.contains(":")) {
+                valueNamespaceUri = reader.getNamespaceURI(value.substring(0, value.indexOf(':')));
+            }
+
+            attributes.add(new Attribute(StringUtils.hasLength(reader.getAttributeNamespace(i)) ? reader.getAttributeNamespace(i) : null,
+                    localName, StringUtils.hasLength(prefix) ? prefix + ":" + localName : localName, value, valueNamespaceUri));
+        }
+
+        return attributes;
+    }
+
+    /**
+     * Advances reader to next element start or end. Text content on the way is added to given text buffer. Whitespace
+     * only text, comments and processing instructions are skipped.
+     * @param reader
+     * @param text
+     * @return
+     * @throws XMLStreamException
+     */
+    private int nextTag(XMLStreamReader reader, StringBuilder text) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                case XMLStreamConstants.END_ELEMENT:
+                    return event;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                    if (!reader.isWhiteSpace()) {
+                        text.append(reader.getText());
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        return XMLStreamConstants.END_DOCUMENT;
+    }
+
+    /**
+     * Skips element the reader is currently positioned on. Reader is positioned on the element end afterwards.
+     * @param reader
+     * @throws XMLStreamException
+     */
+    private void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        skip(reader, 1);
+    }
+
+    /**
+     * Skips remaining content of an element after its start. Given event is the event the reader is currently
+     * positioned on, either the start of a child element or the end of the element.
+     * @param reader
+     * @param event
+     * @throws XMLStreamException
+     */
+    private void finishElement(XMLStreamReader reader, int event) throws XMLStreamException {
+        if (event == XMLStreamConstants.START_ELEMENT) {
+            skip(reader, 2);
+        }
+    }
+
+    private void skip(XMLStreamReader reader, int open) throws XMLStreamException {
+        while (open > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                open++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                open--;
+            }
+        }
+    }
+
+    /**
+     * Counts current element and all following sibling elements. Reader is positioned on the start of the current
+     * element and on the end of the parent element afterwards.
+     * @param reader
+     * @return
+     * @throws XMLStreamException
+     */
+    private int countSiblings(XMLStreamReader reader) throws XMLStreamException {
+        int count = 0;
+        int event = XMLStreamConstants.START_ELEMENT;
+        while (event == XMLStreamConstants.START_ELEMENT) {
+            count++;
+            skipElement(reader);
+            event = nextTag(reader, new StringBuilder());
+        }
+
+        return count;
+    }
+
+    private static String getNamespaceUri(XMLStreamReader reader) {
+        return StringUtils.hasLength(reader.getNamespaceURI()) ? reader.getNamespaceURI() : null;
+    }
+
+    private static String getNodeName(XMLStreamReader reader) {
+        return StringUtils.hasLength(reader.getPrefix()) ? reader.getPrefix() + ":" + reader.getLocalName() : reader.getLocalName();
+    }
+
+    private static void close(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                LOG.warn("Failed to close XML stream reader", e);
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Attribute read from element start.
+     */
+    private static final class Attribute {
+        private final String namespaceUri;
+        private final String localName;
+        private final String nodeName;
+        private final String value;
+
+        /** Namespace bound to the prefix of a namespace qualified attribute value */
+        private final String valueNamespaceUri;
+
+        Attribute(String namespaceUri, String localName, String nodeName, String value, String valueNamespaceUri) {
+            this.namespaceUri = namespaceUri;
+            this.localName = localName;
+            this.nodeName = nodeName;
+            this.value = value;
+            this.valueNamespaceUri = valueNamespaceUri;
+        }
+    }
+}
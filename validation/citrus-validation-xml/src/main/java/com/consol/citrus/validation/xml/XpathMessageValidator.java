@@ -60,7 +60,7 @@ public class XpathMessageValidator extends AbstractMessageValidator<XpathMessage
 
         LOG.debug("Start XPath element validation ...");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = XMLUtils.parseMessagePayload(receivedMessage);
         NamespaceContext namespaceContext = getNamespaceContextBuilder(context)
                 .buildContext(receivedMessage, validationContext.getNamespaces());
 
@@ -1,45 +1,56 @@
 package com.consol.citrus.validation.xml.schema;
 
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.XmlValidationHelper;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.util.IsJsonPredicate;
 import com.consol.citrus.util.IsXmlPredicate;
 import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.validation.SchemaValidator;
 import com.consol.citrus.validation.xml.XmlMessageValidationContext;
 import com.consol.citrus.xml.XsdSchemaRepository;
-import com.consol.citrus.xml.schema.WsdlXsdSchema;
-import com.consol.citrus.xml.schema.XsdSchemaCollection;
+import com.consol.citrus.xml.schema.XsdSchemaValidatorCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.StringUtils;
 import org.springframework.xml.validation.XmlValidator;
-import org.springframework.xml.validation.XmlValidatorFactory;
 import org.springframework.xml.xsd.XsdSchema;
+import org.w3c.dom.DOMImplementation;
 import org.w3c.dom.Document;
 import org.xml.sax.SAXParseException;
 
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-
 public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidationContext> {
 
     /** Logger */
     private Logger log = LoggerFactory.getLogger(XmlSchemaValidation.class);
 
-    /** Transformer factory */
-    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+    /** StAX input factory reading the root element of streamed payloads */
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    /** DOM implementation creating root element documents for schema mapping */
+    private static final DOMImplementation DOM_IMPLEMENTATION = createDomImplementation();
+
+    /** Cache of compiled schema validators */
+    private XsdSchemaValidatorCache validatorCache = XsdSchemaValidatorCache.getInstance();
+
+    /** Minimum received payload length for streaming schema validation, negative value disables streaming */
+    private int streamingThreshold = CitrusSettings.getXmlStreamingValidationThreshold();
 
     /**
      * Validate message with a XML schema.
@@ -60,7 +71,11 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
         }
 
         try {
-            Document doc = XMLUtils.parseMessagePayload(message.getPayload(String.class));
+            String payload = message.getPayload(String.class);
+            boolean streaming = streamingThreshold >= 0 && payload.length() >= streamingThreshold;
+
+            // streaming mode only reads the root element for schema mapping, the payload is validated as stream source
+            Document doc = streaming ? readRootElement(payload) : XMLUtils.parseMessagePayload(message);
 
             if (!StringUtils.hasText(doc.getFirstChild().getNamespaceURI())) {
                 return;
@@ -72,7 +87,7 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
             XsdSchemaRepository schemaRepository = null;
             List<XsdSchemaRepository> schemaRepositories = XmlValidationHelper.getSchemaRepositories(context);
             if (validationContext.getSchema() != null) {
-                validator = context.getReferenceResolver().resolve(validationContext.getSchema(), XsdSchema.class).createValidator();
+                validator = validatorCache.getValidator(context.getReferenceResolver().resolve(validationContext.getSchema(), XsdSchema.class));
             } else if (validationContext.getSchemaRepository() != null) {
                 schemaRepository = context.getReferenceResolver().resolve(validationContext.getSchemaRepository(), XsdSchemaRepository.class);
             } else if (schemaRepositories.size() == 1) {
@@ -89,29 +104,11 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
                     throw new CitrusRuntimeException(String.format("Unable to find proper XML schema definition for element '%s(%s)' in schema repository '%s'", doc.getFirstChild().getLocalName(), doc.getFirstChild().getNamespaceURI(), schemaRepository.getName()));
                 }
 
-                List<Resource> schemas = new ArrayList<>();
-                for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
-                    if (xsdSchema instanceof XsdSchemaCollection) {
-                        schemas.addAll(((XsdSchemaCollection) xsdSchema).getSchemaResources());
-                    } else if (xsdSchema instanceof WsdlXsdSchema) {
-                        schemas.addAll(((WsdlXsdSchema) xsdSchema).getSchemaResources());
-                    } else {
-                        synchronized (transformerFactory) {
-                            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                            try {
-                                transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
-                            } catch (TransformerException e) {
-                                throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
-                            }
-                            schemas.add(new ByteArrayResource(bos.toByteArray()));
-                        }
-                    }
-                }
-
-                validator = XmlValidatorFactory.createValidator(schemas.toArray(new Resource[schemas.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+                validator = validatorCache.getValidator(schemaRepository);
             }
 
-            SAXParseException[] results = validator.validate(new DOMSource(doc));
+            Source source = streaming ? new StreamSource(new StringReader(payload)) : new DOMSource(doc);
+            SAXParseException[] results = validator.validate(source);
             if (results.length == 0) {
                 log.info("XML schema validation successful: All values OK");
             } else {
@@ -133,6 +130,63 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
         }
     }
 
+    /**
+     * Reads the root element of given payload with a StAX reader and creates a document holding only this root element.
+     * The document is sufficient for schema mapping strategies that resolve the schema by root element name and namespace.
+     * @param payload
+     * @return
+     */
+    private Document readRootElement(String payload) {
+        XMLStreamReader reader = null;
+        try {
+            reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(payload));
+            while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+                // skip prolog
+            }
+
+            if (!reader.isStartElement()) {
+                throw new CitrusRuntimeException("Missing root element in XML payload");
+            }
+
+            String qualifiedName = StringUtils.hasText(reader.getPrefix()) ? reader.getPrefix() + ":" + reader.getLocalName() : reader.getLocalName();
+            return DOM_IMPLEMENTATION.createDocument(reader.getNamespaceURI(), qualifiedName, null);
+        } catch (XMLStreamException e) {
+            throw new CitrusRuntimeException("Failed to read XML payload", e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    log.warn("Failed to close XML stream reader", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the minimum received payload length for streaming schema validation. Negative value disables streaming.
+     * @param streamingThreshold
+     */
+    public void setStreamingThreshold(int streamingThreshold) {
+        this.streamingThreshold = streamingThreshold;
+    }
+
+    /**
+     * Gets the streaming threshold.
+     * @return
+     */
+    public int getStreamingThreshold() {
+        return streamingThreshold;
+    }
+
+    /**
+     * Sets the validator cache.
+     * @param validatorCache
+     */
+    public void setValidatorCache(XsdSchemaValidatorCache validatorCache) {
+        this.validatorCache = validatorCache;
+    }
+
     /**
      * Validate message with a DTD.
      *
@@ -153,4 +207,22 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
     public boolean supportsMessageType(String messageType, Message message) {
         return "XML".equals(messageType) || (message != null && IsXmlPredicate.getInstance().test(message.getPayload(String.class)));
     }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private static DOMImplementation createDomImplementation() {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            return factory.newDocumentBuilder().getDOMImplementation();
+        } catch (ParserConfigurationException e) {
+            throw new CitrusRuntimeException("Failed to create DOM implementation", e);
+        }
+    }
 }
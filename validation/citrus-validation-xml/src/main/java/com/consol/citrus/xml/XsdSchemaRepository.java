@@ -21,12 +21,14 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.common.InitializingPhase;
 import com.consol.citrus.common.Named;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.xml.schema.TargetNamespaceSchemaMappingStrategy;
 import com.consol.citrus.xml.schema.WsdlXsdSchema;
 import com.consol.citrus.xml.schema.XsdSchemaMappingStrategy;
+import com.consol.citrus.xml.schema.XsdSchemaValidatorCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
@@ -89,11 +91,27 @@ public class XsdSchemaRepository implements Named, InitializingPhase {
             addCitrusSchema("citrus-ssh-message");
             addCitrusSchema("citrus-rmi-message");
             addCitrusSchema("citrus-jmx-message");
+
+            if (CitrusSettings.isXmlSchemaValidatorWarmup() && !schemas.isEmpty()) {
+                warmUp();
+            }
         } catch (SAXException | ParserConfigurationException | IOException e) {
             throw new CitrusRuntimeException("Failed to initialize Xsd schema repository", e);
         }
     }
 
+    /**
+     * Compiles the validator for all schemas in this repository so the first schema validation does not pay the
+     * grammar compilation cost. Warm-up is optional so compilation errors are postponed to the schema validation.
+     */
+    private void warmUp() {
+        try {
+            XsdSchemaValidatorCache.getInstance().getValidator(this);
+        } catch (RuntimeException e) {
+            LOG.warn(String.format("Failed to compile XML schema validator for schema repository '%s': %s", name, e.getMessage()));
+        }
+    }
+
     /**
      * Adds Citrus message schema to repository if available on classpath.
      * @param schemaName The name of the schema within the citrus schema package
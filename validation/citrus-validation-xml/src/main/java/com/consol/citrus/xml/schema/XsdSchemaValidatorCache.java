@@ -0,0 +1,258 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml.schema;
+
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.xml.XsdSchemaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.xml.validation.XmlValidator;
+import org.springframework.xml.validation.XmlValidatorFactory;
+import org.springframework.xml.xsd.XsdSchema;
+
+/**
+ * Cache holding compiled XML schema validators. Compiling the schema grammar is expensive especially for WSDL embedded
+ * schemas so validators are compiled once per resolved schema set and shared across validations. Compiled validators
+ * are thread safe.
+ *
+ * Cache keys are the schema instances a validator has been compiled from. Schema repositories changing their schema
+ * list automatically resolve to a new cache entry. The cache is bounded and evicts the least recently used validator
+ * so schemas and validators of outdated schema sets are released. The maximum size is configurable via
+ * {@link CitrusSettings#getXmlSchemaValidatorCacheSize()}.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public final class XsdSchemaValidatorCache {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(XsdSchemaValidatorCache.class);
+
+    /** Singleton instance */
+    private static final XsdSchemaValidatorCache INSTANCE = new XsdSchemaValidatorCache();
+
+    /** Maximum number of cached validators */
+    private final int maxSize;
+
+    /** Compiled validators per schema set in access order, guarded by this cache instance */
+    private final Map<List<XsdSchema>, XmlValidator> validators;
+
+    /** Transformer factory */
+    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+
+    /** Cache statistics */
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong compilations = new AtomicLong();
+    private final AtomicLong compileTime = new AtomicLong();
+
+    /**
+     * Default constructor using cache size from settings.
+     */
+    public XsdSchemaValidatorCache() {
+        this(CitrusSettings.getXmlSchemaValidatorCacheSize());
+    }
+
+    /**
+     * Constructor using maximum number of cached validators.
+     * @param maxSize
+     */
+    public XsdSchemaValidatorCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new CitrusRuntimeException(String.format("Invalid XML schema validator cache size: %s", maxSize));
+        }
+
+        this.maxSize = maxSize;
+        this.validators = new LinkedHashMap<List<XsdSchema>, XmlValidator>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<XsdSchema>, XmlValidator> eldest) {
+                return size() > XsdSchemaValidatorCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the singleton instance.
+     * @return
+     */
+    public static XsdSchemaValidatorCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets compiled validator for given schema. Compiles the validator on first access.
+     * @param schema
+     * @return
+     */
+    public XmlValidator getValidator(XsdSchema schema) {
+        return getValidator(Collections.singletonList(schema), () -> schema.createValidator());
+    }
+
+    /**
+     * Gets compiled validator for all schemas in given schema repository. Compiles the validator on first access.
+     * @param schemaRepository
+     * @return
+     */
+    public XmlValidator getValidator(XsdSchemaRepository schemaRepository) {
+        List<XsdSchema> schemas = new ArrayList<>(schemaRepository.getSchemas());
+        return getValidator(schemas, () -> XmlValidatorFactory.createValidator(getSchemaResources(schemas), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI));
+    }
+
+    /**
+     * Gets cached validator or compiles a new one for given schema set. Compilation takes place outside the cache lock
+     * so concurrent validations of other schema sets are not blocked. When two threads compile the same schema set
+     * concurrently the first validator added to the cache wins.
+     * @param schemas
+     * @param compiler
+     * @return
+     */
+    private XmlValidator getValidator(List<XsdSchema> schemas, ValidatorCompiler compiler) {
+        synchronized (this) {
+            XmlValidator validator = validators.get(schemas);
+            if (validator != null) {
+                hits.incrementAndGet();
+                return validator;
+            }
+        }
+
+        long start = System.nanoTime();
+        XmlValidator compiled;
+        try {
+            compiled = compiler.compile();
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to compile XML schema validator", e);
+        }
+
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        compilations.incrementAndGet();
+        compileTime.addAndGet(duration);
+        LOG.debug(String.format("Compiled XML schema validator for %s schema(s) in %s ms", schemas.size(), duration));
+
+        synchronized (this) {
+            XmlValidator existing = validators.putIfAbsent(schemas, compiled);
+            return existing != null ? existing : compiled;
+        }
+    }
+
+    /**
+     * Collects schema resources of given schemas. Schema collections and WSDL schemas contribute all their schema
+     * resources, other schemas are serialized from their source.
+     * @param schemas
+     * @return
+     */
+    private Resource[] getSchemaResources(List<XsdSchema> schemas) {
+        List<Resource> resources = new ArrayList<>();
+        for (XsdSchema xsdSchema : schemas) {
+            if (xsdSchema instanceof XsdSchemaCollection) {
+                resources.addAll(((XsdSchemaCollection) xsdSchema).getSchemaResources());
+            } else if (xsdSchema instanceof WsdlXsdSchema) {
+                resources.addAll(((WsdlXsdSchema) xsdSchema).getSchemaResources());
+            } else {
+                synchronized (transformerFactory) {
+                    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                    try {
+                        transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
+                    } catch (TransformerException e) {
+                        throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
+                    }
+                    resources.add(new ByteArrayResource(bos.toByteArray()));
+                }
+            }
+        }
+
+        return resources.toArray(new Resource[0]);
+    }
+
+    /**
+     * Removes all compiled validators and resets statistics.
+     */
+    public synchronized void clear() {
+        validators.clear();
+        hits.set(0L);
+        compilations.set(0L);
+        compileTime.set(0L);
+    }
+
+    /**
+     * Gets the number of cached validators.
+     * @return
+     */
+    public synchronized int size() {
+        return validators.size();
+    }
+
+    /**
+     * Gets the maximum number of cached validators.
+     * @return
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of cache hits.
+     * @return
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of compiled validators.
+     * @return
+     */
+    public long getCompilations() {
+        return compilations.get();
+    }
+
+    /**
+     * Gets the total compile time in milliseconds.
+     * @return
+     */
+    public long getCompileTime() {
+        return compileTime.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("XsdSchemaValidatorCache[size=%s, hits=%s, compilations=%s, compileTime=%sms]",
+                size(), getHits(), getCompilations(), getCompileTime());
+    }
+
+    /**
+     * Compiles a new validator.
+     */
+    @FunctionalInterface
+    private interface ValidatorCompiler {
+        XmlValidator compile() throws IOException;
+    }
+}
@@ -26,15 +26,22 @@ import javax.xml.xpath.XPathFactory;
 import javax.xml.xpath.XPathFactoryConfigurationException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
+import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
+import org.springframework.util.xml.SimpleNamespaceContext;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
@@ -58,6 +65,19 @@ public abstract class XPathUtils {
     /** Dynamic namespace prefix */
     private static final String DYNAMIC_NS_PREFIX = "dns";
 
+    /** Maximum number of compiled expressions cached per thread */
+    private static final int CACHE_SIZE = CitrusSettings.getXPathCacheSize();
+
+    /** Compiled expressions and factories are not thread safe so each thread uses its own instances */
+    private static final ThreadLocal<ExpressionCache> EXPRESSION_CACHE = ThreadLocal.withInitial(ExpressionCache::new);
+
+    /** Incremented on clear so that thread local caches get invalidated on next access */
+    private static final AtomicInteger CACHE_GENERATION = new AtomicInteger();
+
+    /** Cache statistics */
+    private static final LongAdder CACHE_HITS = new LongAdder();
+    private static final LongAdder CACHE_MISSES = new LongAdder();
+
     /**
      * Prevent instantiation.
      */
@@ -269,7 +289,7 @@ public abstract class XPathUtils {
     /**
      * Construct a xPath expression instance with given expression string and namespace context.
      * If namespace context is not specified a default context is built from the XML node
-     * that is evaluated against.
+     * that is evaluated against. Compiled expressions are cached per thread.
      * @param xPathExpression
      * @param nsContext
      * @return
@@ -277,7 +297,40 @@ public abstract class XPathUtils {
      */
     private static XPathExpression buildExpression(String xPathExpression, NamespaceContext nsContext)
             throws XPathExpressionException {
-        XPath xpath = createXPathFactory().newXPath();
+        ExpressionCache cache = EXPRESSION_CACHE.get();
+        if (cache.generation != CACHE_GENERATION.get()) {
+            cache = new ExpressionCache();
+            EXPRESSION_CACHE.set(cache);
+        }
+
+        if (CACHE_SIZE <= 0) {
+            return compile(cache.getXPathFactory(), xPathExpression, nsContext);
+        }
+
+        ExpressionKey key = new ExpressionKey(xPathExpression, nsContext);
+        XPathExpression expression = cache.get(key);
+        if (expression != null) {
+            CACHE_HITS.increment();
+            return expression;
+        }
+
+        CACHE_MISSES.increment();
+        expression = compile(cache.getXPathFactory(), xPathExpression, nsContext);
+        cache.put(key, expression);
+        return expression;
+    }
+
+    /**
+     * Compiles given expression string with namespace context using the xpath factory.
+     * @param factory
+     * @param xPathExpression
+     * @param nsContext
+     * @return
+     * @throws XPathExpressionException
+     */
+    private static XPathExpression compile(XPathFactory factory, String xPathExpression, NamespaceContext nsContext)
+            throws XPathExpressionException {
+        XPath xpath = factory.newXPath();
 
         if (nsContext != null) {
             xpath.setNamespaceContext(nsContext);
@@ -286,6 +339,31 @@ public abstract class XPathUtils {
         return xpath.compile(xPathExpression);
     }
 
+    /**
+     * Removes all cached compiled expressions and xpath factories and resets cache statistics.
+     */
+    public static void clearCache() {
+        CACHE_GENERATION.incrementAndGet();
+        CACHE_HITS.reset();
+        CACHE_MISSES.reset();
+    }
+
+    /**
+     * Gets the number of expressions served from the compiled expression cache.
+     * @return
+     */
+    public static long getCacheHits() {
+        return CACHE_HITS.sum();
+    }
+
+    /**
+     * Gets the number of expressions that had to be compiled because of a cache miss.
+     * @return
+     */
+    public static long getCacheMisses() {
+        return CACHE_MISSES.sum();
+    }
+
     /**
      * Method to find out whether an expression is of XPath nature or custom dot notation syntax.
      * @param expression the expression string to check.
@@ -316,7 +394,7 @@ public abstract class XPathUtils {
      * Creates new xpath factory which is not thread safe per definition.
      * @return
      */
-    private synchronized static XPathFactory createXPathFactory() {
+    private static XPathFactory createXPathFactory() {
         XPathFactory factory = null;
 
         // read system property and see if there is a factory set
@@ -349,4 +427,92 @@ public abstract class XPathUtils {
         return factory;
     }
 
+    /**
+     * Thread local least recently used cache of compiled expressions. Also holds the xpath factory of the thread.
+     */
+    private static final class ExpressionCache extends LinkedHashMap<ExpressionKey, XPathExpression> {
+        private final int generation = CACHE_GENERATION.get();
+        private XPathFactory xPathFactory;
+
+        ExpressionCache() {
+            super(16, 0.75f, true);
+        }
+
+        XPathFactory getXPathFactory() {
+            if (xPathFactory == null) {
+                xPathFactory = createXPathFactory();
+            }
+
+            return xPathFactory;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ExpressionKey, XPathExpression> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    }
+
+    /**
+     * Cache key combining expression string and namespace context. Namespace bindings of simple namespace contexts
+     * are compared by value as these contexts are usually built freshly for each validation. Other namespace
+     * context implementations are compared by identity.
+     */
+    private static final class ExpressionKey {
+        private final String expression;
+        private final Object namespaces;
+
+        ExpressionKey(String expression, NamespaceContext nsContext) {
+            this.expression = expression;
+
+            if (nsContext instanceof SimpleNamespaceContext) {
+                Map<String, String> bindings = new HashMap<>();
+                Iterator<String> prefixes = ((SimpleNamespaceContext) nsContext).getBoundPrefixes();
+                while (prefixes.hasNext()) {
+                    String prefix = prefixes.next();
+                    bindings.put(prefix, nsContext.getNamespaceURI(prefix));
+                }
+                this.namespaces = bindings;
+            } else {
+                this.namespaces = nsContext != null ? new IdentityKey(nsContext) : null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ExpressionKey)) {
+                return false;
+            }
+            ExpressionKey that = (ExpressionKey) o;
+            return expression.equals(that.expression) && Objects.equals(namespaces, that.namespaces);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(expression, namespaces);
+        }
+    }
+
+    /**
+     * Compares wrapped object by identity.
+     */
+    private static final class IdentityKey {
+        private final Object value;
+
+        IdentityKey(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey && ((IdentityKey) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+    }
 }
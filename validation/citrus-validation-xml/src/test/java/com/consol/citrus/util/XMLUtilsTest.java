@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.util.Map;
 
+import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
 import org.mockito.Mockito;
 import org.testng.Assert;
@@ -390,4 +391,16 @@ public class XMLUtilsTest {
         Assert.assertEquals(XMLUtils.omitXmlDeclaration(""), "");
         Assert.assertEquals(XMLUtils.omitXmlDeclaration("Test"), "Test");
     }
+
+    @Test
+    public void testParseMessagePayloadCached() {
+        DefaultMessage message = new DefaultMessage("<root><element>Hello</element></root>");
+
+        Document doc = XMLUtils.parseMessagePayload(message);
+        Assert.assertEquals(doc.getDocumentElement().getLocalName(), "root");
+        Assert.assertSame(XMLUtils.parseMessagePayload(message), doc);
+
+        message.setPayload("<other/>");
+        Assert.assertEquals(XMLUtils.parseMessagePayload(message).getDocumentElement().getLocalName(), "other");
+    }
 }
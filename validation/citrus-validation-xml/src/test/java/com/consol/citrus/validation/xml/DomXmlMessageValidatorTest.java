@@ -205,6 +205,52 @@ public class DomXmlMessageValidatorTest extends UnitTestSupport {
         validator.validateXMLSchema(message, context, new XmlMessageValidationContext());
     }
 
+    @Test
+    public void validateXMLSchemaStreaming() throws Exception {
+        Message message = new DefaultMessage("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                "<!-- comment -->" +
+                "<message xmlns='http://citrusframework.org/test'>"
+                        + "<correlationId>Kx1R123456789</correlationId>"
+                        + "<bookingId>Bx1G987654321</bookingId>"
+                        + "<test>Hello TestFramework</test>"
+                    + "</message>");
+
+        XmlSchemaValidation schemaValidation = new XmlSchemaValidation();
+        schemaValidation.setStreamingThreshold(0);
+
+        XsdSchemaRepository schemaRepository = new XsdSchemaRepository();
+        SimpleXsdSchema schema = new SimpleXsdSchema(new ClassPathResource("com/consol/citrus/validation/test.xsd"));
+        schema.afterPropertiesSet();
+
+        schemaRepository.getSchemas().add(schema);
+
+        context.getReferenceResolver().bind("schemaRepository", schemaRepository);
+
+        schemaValidation.validate(message, context, new XmlMessageValidationContext());
+    }
+
+    @Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = ".*Invalid content was found starting with element '\\{\"http://citrusframework.org/test\":wrong\\}'.*")
+    public void validateXMLSchemaStreamingError() throws Exception {
+        Message message = new DefaultMessage("<message xmlns='http://citrusframework.org/test'>"
+                        + "<correlationId>Kx1R123456789</correlationId>"
+                        + "<wrong>Bx1G987654321</wrong>"
+                        + "<test>Hello TestFramework</test>"
+                    + "</message>");
+
+        XmlSchemaValidation schemaValidation = new XmlSchemaValidation();
+        schemaValidation.setStreamingThreshold(0);
+
+        XsdSchemaRepository schemaRepository = new XsdSchemaRepository();
+        SimpleXsdSchema schema = new SimpleXsdSchema(new ClassPathResource("com/consol/citrus/validation/test.xsd"));
+        schema.afterPropertiesSet();
+
+        schemaRepository.getSchemas().add(schema);
+
+        context.getReferenceResolver().bind("schemaRepository", schemaRepository);
+
+        schemaValidation.validate(message, context, new XmlMessageValidationContext());
+    }
+
     @Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = ".*Invalid content was found starting with element '\\{\"http://citrusframework.org/test\":wrong\\}'.*")
     public void validateXMLSchemaNestedWithNamespaceInRootError() throws Exception {
         Message message = new DefaultMessage("<SOAP-ENV:Envelope xmlns:SOAP-ENV=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns=\"http://citrusframework.org/test\">" +
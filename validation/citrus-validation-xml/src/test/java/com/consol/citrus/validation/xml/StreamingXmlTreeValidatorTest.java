@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.xml;
+
+import com.consol.citrus.UnitTestSupport;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.DefaultMessage;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class StreamingXmlTreeValidatorTest extends UnitTestSupport {
+
+    private static final String RECEIVED = "<root xmlns='http://citrusframework.org/test' xmlns:ns1='http://citrusframework.org/ns1'>\n" +
+            "    <element attributeA='attribute-value' attributeB='attribute-value' type='ns1:Type'>\n" +
+            "        <sub-element attribute='A'>text-value</sub-element>\n" +
+            "        <!-- comment -->\n" +
+            "        <sub-element attribute='B'>text-value</sub-element>\n" +
+            "        <ns1:sub-element>namespace-value</ns1:sub-element>\n" +
+            "    </element>\n" +
+            "    <text>Hello <![CDATA[Citrus]]>!</text>\n" +
+            "</root>";
+
+    @DataProvider
+    public Object[][] controlPayloads() {
+        return new Object[][] {
+            new Object[] { RECEIVED, true },
+            new Object[] { "<root xmlns='http://citrusframework.org/test' xmlns:ns1='http://citrusframework.org/ns1'>" +
+                    "<element attributeA='attribute-value' attributeB='attribute-value' type='ns1:Type'>" +
+                        "<sub-element attribute='A'>text-value</sub-element>" +
+                        "<sub-element attribute='B'>text-value</sub-element>" +
+                        "<ns1:sub-element>namespace-value</ns1:sub-element>" +
+                    "</element>" +
+                    "<text>Hello Citrus!</text>" +
+                "</root>", true },
+            new Object[] { "<root xmlns='http://citrusframework.org/test' xmlns:ns='http://citrusframework.org/ns1'>" +
+                    "<element attributeB='@ignore@' attributeA='@startsWith(attribute-)@' type='ns:Type'>@ignore@</element>" +
+                    "<text>@startsWith(Hello)@</text>" +
+                "</root>", true },
+            new Object[] { RECEIVED.replace("text-value</sub-element>\n        <ns1", "other-value</sub-element>\n        <ns1"), false },
+            new Object[] { RECEIVED.replace("attribute='B'", "attribute='C'"), false },
+            new Object[] { RECEIVED.replace("attributeB='attribute-value'", ""), false },
+            new Object[] { RECEIVED.replace("<ns1:sub-element>namespace-value</ns1:sub-element>", ""), false },
+            new Object[] { RECEIVED.replace("<ns1:sub-element>namespace-value</ns1:sub-element>",
+                    "<ns1:sub-element>namespace-value</ns1:sub-element><sub-element/>"), false },
+            new Object[] { RECEIVED.replace("<ns1:sub-element>namespace-value</ns1:sub-element>",
+                    "<sub-element>namespace-value</sub-element>"), false },
+            new Object[] { RECEIVED.replace("xmlns:ns1='http://citrusframework.org/ns1'", "xmlns:ns1='http://citrusframework.org/other'"), false },
+            new Object[] { RECEIVED.replace("<text>", "<other>").replace("</text>", "</other>"), false },
+            new Object[] { RECEIVED.replace("Citrus", "Test"), false },
+            new Object[] { RECEIVED.replace("<text>Hello <![CDATA[Citrus]]>!</text>", "<text>@ignore@</text>"), true }
+        };
+    }
+
+    @Test(dataProvider = "controlPayloads")
+    public void testSameResultAsDomValidation(String controlPayload, boolean valid) {
+        DomXmlMessageValidator domValidator = new DomXmlMessageValidator();
+        domValidator.setStreamingThreshold(-1);
+
+        DomXmlMessageValidator streamingValidator = new DomXmlMessageValidator();
+        streamingValidator.setStreamingThreshold(0);
+
+        Assert.assertEquals(isValid(domValidator, controlPayload), valid);
+        Assert.assertEquals(isValid(streamingValidator, controlPayload), valid);
+    }
+
+    @Test
+    public void testChildElementCountMismatch() {
+        try {
+            new StreamingXmlTreeValidator().validate("<root><a/><b/><c><d/></c></root>", "<root><a/></root>", context);
+            Assert.fail("Missing validation error");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Number of child elements not equal for element 'root'"));
+            Assert.assertTrue(e.getMessage().contains("expected '1' but was '3'"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSupports() {
+        XmlMessageValidationContext validationContext = new XmlMessageValidationContext();
+        Assert.assertTrue(StreamingXmlTreeValidator.supports(RECEIVED, RECEIVED, validationContext));
+        Assert.assertFalse(StreamingXmlTreeValidator.supports("<!DOCTYPE root><root/>", "<root/>", validationContext));
+
+        validationContext = new XmlMessageValidationContext.Builder()
+                .ignore("//element")
+                .build();
+        Assert.assertFalse(StreamingXmlTreeValidator.supports(RECEIVED, RECEIVED, validationContext));
+    }
+
+    private boolean isValid(DomXmlMessageValidator validator, String controlPayload) {
+        try {
+            validator.validateMessage(new DefaultMessage(RECEIVED), new DefaultMessage(controlPayload), context, new XmlMessageValidationContext());
+            return true;
+        } catch (ValidationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml.schema;
+
+import javax.xml.transform.stream.StreamSource;
+import java.io.StringReader;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.xml.XsdSchemaRepository;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.xml.validation.XmlValidator;
+import org.springframework.xml.xsd.SimpleXsdSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class XsdSchemaValidatorCacheTest {
+
+    @Test
+    public void testSchemaValidatorCache() throws Exception {
+        XsdSchemaValidatorCache cache = new XsdSchemaValidatorCache();
+
+        SimpleXsdSchema schema = new SimpleXsdSchema(new ClassPathResource("com/consol/citrus/validation/test.xsd"));
+        schema.afterPropertiesSet();
+
+        XmlValidator validator = cache.getValidator(schema);
+        Assert.assertSame(cache.getValidator(schema), validator);
+
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertEquals(cache.getCompilations(), 1L);
+        Assert.assertEquals(cache.getHits(), 1L);
+
+        cache.clear();
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertEquals(cache.getHits(), 0L);
+        Assert.assertNotSame(cache.getValidator(schema), validator);
+        Assert.assertEquals(cache.getCompilations(), 1L);
+    }
+
+    @Test
+    public void testSchemaRepositoryValidatorCache() throws Exception {
+        XsdSchemaValidatorCache cache = new XsdSchemaValidatorCache();
+
+        XsdSchemaRepository schemaRepository = new XsdSchemaRepository();
+        schemaRepository.getLocations().add("classpath:com/consol/citrus/validation/test.xsd");
+        schemaRepository.initialize();
+
+        XmlValidator validator = cache.getValidator(schemaRepository);
+        Assert.assertSame(cache.getValidator(schemaRepository), validator);
+        Assert.assertEquals(validator.validate(new StreamSource(new StringReader("<message xmlns=\"http://citrusframework.org/test\">" +
+                "<correlationId>Kx1R123456789</correlationId><bookingId>Bx1G987654321</bookingId><test>Hello TestFramework</test></message>"))).length, 0);
+
+        SimpleXsdSchema schema = new SimpleXsdSchema(new ClassPathResource("com/consol/citrus/validation/sample.xsd"));
+        schema.afterPropertiesSet();
+        schemaRepository.getSchemas().add(schema);
+
+        Assert.assertNotSame(cache.getValidator(schemaRepository), validator);
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(cache.getCompilations(), 2L);
+    }
+
+    @Test
+    public void testSchemaValidatorCacheBounded() throws Exception {
+        XsdSchemaValidatorCache cache = new XsdSchemaValidatorCache(1);
+
+        SimpleXsdSchema schema = new SimpleXsdSchema(new ClassPathResource("com/consol/citrus/validation/test.xsd"));
+        schema.afterPropertiesSet();
+        SimpleXsdSchema sample = new SimpleXsdSchema(new ClassPathResource("com/consol/citrus/validation/sample.xsd"));
+        sample.afterPropertiesSet();
+
+        XmlValidator validator = cache.getValidator(schema);
+        cache.getValidator(sample);
+        Assert.assertEquals(cache.size(), 1);
+
+        Assert.assertNotSame(cache.getValidator(schema), validator);
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertEquals(cache.getCompilations(), 3L);
+        Assert.assertEquals(cache.getHits(), 0L);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testInvalidCacheSize() {
+        new XsdSchemaValidatorCache(0);
+    }
+
+    @Test
+    public void testSchemaRepositoryWarmUp() throws Exception {
+        XsdSchemaRepository schemaRepository = new XsdSchemaRepository();
+        schemaRepository.getLocations().add("classpath:com/consol/citrus/validation/test.xsd");
+        schemaRepository.initialize();
+
+        long compilations = XsdSchemaValidatorCache.getInstance().getCompilations();
+        XsdSchemaValidatorCache.getInstance().getValidator(schemaRepository);
+        Assert.assertEquals(XsdSchemaValidatorCache.getInstance().getCompilations(), compilations);
+    }
+}
@@ -98,9 +98,45 @@ public class XPathUtilsTest {
         Assert.assertEquals(XPathUtils.evaluateAsString(personNode, "/person/@status", namespaceContext), "single");
     }
 
+    @Test
+    public void testCompiledExpressionCache() {
+        Document personNode = XMLUtils.parseMessagePayload("<ns1:person xmlns:ns1=\"http://citrusframework.org/ns1\" xmlns:ns2=\"http://citrusframework.org/ns2\">" +
+                    "<ns1:name>foo</ns1:name>" +
+                    "<ns2:name>bar</ns2:name>" +
+                "</ns1:person>");
+
+        XPathUtils.clearCache();
+
+        SimpleNamespaceContext namespaceContext = new SimpleNamespaceContext();
+        namespaceContext.bindNamespaceUri("ns", "http://citrusframework.org/ns1");
+        Assert.assertEquals(XPathUtils.evaluateAsString(personNode, "/ns:person/ns:name", namespaceContext), "foo");
+        Assert.assertEquals(XPathUtils.getCacheMisses(), 1L);
+        Assert.assertEquals(XPathUtils.getCacheHits(), 0L);
+
+        namespaceContext = new SimpleNamespaceContext();
+        namespaceContext.bindNamespaceUri("ns", "http://citrusframework.org/ns1");
+        Assert.assertEquals(XPathUtils.evaluateAsString(personNode, "/ns:person/ns:name", namespaceContext), "foo");
+        Assert.assertEquals(XPathUtils.getCacheMisses(), 1L);
+        Assert.assertEquals(XPathUtils.getCacheHits(), 1L);
+
+        SimpleNamespaceContext otherNamespaceContext = new SimpleNamespaceContext();
+        otherNamespaceContext.bindNamespaceUri("ns", "http://citrusframework.org/ns2");
+        otherNamespaceContext.bindNamespaceUri("ns1", "http://citrusframework.org/ns1");
+        Assert.assertEquals(XPathUtils.evaluateAsString(personNode, "/ns1:person/ns:name", otherNamespaceContext), "bar");
+        Assert.assertEquals(XPathUtils.getCacheMisses(), 2L);
+
+        XPathUtils.clearCache();
+        Assert.assertEquals(XPathUtils.getCacheHits(), 0L);
+        Assert.assertEquals(XPathUtils.getCacheMisses(), 0L);
+
+        Assert.assertEquals(XPathUtils.evaluateAsString(personNode, "/ns:person/ns:name", namespaceContext), "foo");
+        Assert.assertEquals(XPathUtils.getCacheMisses(), 1L);
+    }
+
     @Test(priority = 1)
     public void testCustomXPathFactory() {
         System.setProperty(XPathFactory.DEFAULT_PROPERTY_NAME + ":" + XPathFactory.DEFAULT_OBJECT_MODEL_URI, "");
+        XPathUtils.clearCache();
         testEvaluate();
     }
 }